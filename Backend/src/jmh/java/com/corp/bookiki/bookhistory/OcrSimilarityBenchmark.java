@@ -0,0 +1,133 @@
+package com.corp.bookiki.bookhistory;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.corp.bookiki.bookhistory.service.OcrSimilarityAnalyzer;
+
+/**
+ * OCR 결과 비교 성능 측정
+ * 기존 구현(전체 DP 행렬 + 이전 결과 전수 비교)과 상한 편집 거리 + BK-tree 구현을 한글 책등 텍스트로 비교함
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class OcrSimilarityBenchmark {
+
+	private static final String[] TITLES = {
+		"자바의 정석", "이것이 자바다", "객체지향의 사실과 오해", "클린 코드", "리팩터링 2판",
+		"토비의 스프링 3.1", "자바 ORM 표준 JPA 프로그래밍", "스프링 부트와 AWS로 혼자 구현하는 웹 서비스",
+		"혼자 공부하는 파이썬", "모던 자바 인 액션", "이펙티브 자바 3판", "오브젝트", "데이터 중심 애플리케이션 설계",
+		"대규모 시스템 설계 기초", "가상 면접 사례로 배우는 대규모 시스템 설계 기초", "HTTP 완벽 가이드",
+		"그림으로 배우는 HTTP & Network Basic", "운영체제 아주 쉬운 세 가지 이야기", "컴퓨터 구조와 운영체제",
+		"알고리즘 문제 해결 전략", "이것이 취업을 위한 코딩 테스트다", "Real MySQL 8.0", "도메인 주도 설계",
+		"테스트 주도 개발", "실용주의 프로그래머", "소프트웨어 장인", "함께 자라기", "프로그래머의 뇌",
+		"코딩 인터뷰 완전 분석", "쏙쏙 들어오는 함수형 코딩", "엘레강트 오브젝트", "헤드 퍼스트 디자인 패턴"
+	};
+
+	// 스테이션 카메라 한 대가 한 번에 인식하는 책등 수
+	@Param({"8", "32", "128"})
+	private int spineCount;
+
+	private List<String> previousOcrResults;
+	private List<String> currentOcrResults;
+
+	@Setup
+	public void setUp() {
+		Random random = new Random(42);
+		previousOcrResults = new ArrayList<>(spineCount);
+		currentOcrResults = new ArrayList<>(spineCount);
+
+		for (int i = 0; i < spineCount; i++) {
+			String title = TITLES[i % TITLES.length] + (i >= TITLES.length ? " " + (i / TITLES.length + 1) + "권" : "");
+			previousOcrResults.add(addOcrNoise(title, random));
+			// 대부분은 같은 책이 다시 인식되고, 일부만 새로 꽂힌 책
+			currentOcrResults.add(random.nextInt(10) < 8 ? addOcrNoise(title, random) : randomSpine(random));
+		}
+	}
+
+	@Benchmark
+	public List<String> legacy() {
+		return currentOcrResults.stream()
+			.filter(currentText -> previousOcrResults.stream()
+				.noneMatch(existingText -> legacyIsOcrResultSimilar(existingText, currentText)))
+			.collect(Collectors.toList());
+	}
+
+	@Benchmark
+	public List<String> boundedWithBkTree() {
+		return OcrSimilarityAnalyzer.findNewOcrTexts(previousOcrResults, currentOcrResults);
+	}
+
+	// OCR 오인식 흉내: 한 글자 치환/누락/공백 삽입
+	private static String addOcrNoise(String text, Random random) {
+		StringBuilder sb = new StringBuilder(text);
+		int edits = random.nextInt(3);
+		for (int i = 0; i < edits && sb.length() > 1; i++) {
+			int position = random.nextInt(sb.length());
+			switch (random.nextInt(3)) {
+				case 0 -> sb.setCharAt(position, randomHangul(random));
+				case 1 -> sb.deleteCharAt(position);
+				default -> sb.insert(position, ' ');
+			}
+		}
+		return sb.toString();
+	}
+
+	private static String randomSpine(Random random) {
+		int length = 4 + random.nextInt(16);
+		StringBuilder sb = new StringBuilder(length);
+		for (int i = 0; i < length; i++) {
+			sb.append(randomHangul(random));
+		}
+		return sb.toString();
+	}
+
+	private static char randomHangul(Random random) {
+		return (char)(0xAC00 + random.nextInt(11172));
+	}
+
+	// 기존 BookReturnService.OcrSimilarityAnalyzer 구현
+	private static boolean legacyIsOcrResultSimilar(String existingText, String newText) {
+		if (existingText == null || newText == null) {
+			return false;
+		}
+		if (Math.abs(existingText.length() - newText.length()) > 2) {
+			return false;
+		}
+		int distance = legacyLevenshteinDistance(existingText, newText);
+		int maxLength = Math.max(existingText.length(), newText.length());
+		double normalizedDistance = (double)distance / maxLength;
+		double threshold = maxLength <= 3 ? 0.33 : maxLength <= 5 ? 0.4 : 0.5;
+		return normalizedDistance <= threshold;
+	}
+
+	private static int legacyLevenshteinDistance(String s1, String s2) {
+		int[][] dp = new int[s1.length() + 1][s2.length() + 1];
+		for (int i = 0; i <= s1.length(); i++) {
+			dp[i][0] = i;
+		}
+		for (int j = 0; j <= s2.length(); j++) {
+			dp[0][j] = j;
+		}
+		for (int i = 1; i <= s1.length(); i++) {
+			for (int j = 1; j <= s2.length(); j++) {
+				int cost = s1.charAt(i - 1) == s2.charAt(j - 1) ? 0 : 1;
+				dp[i][j] = Math.min(Math.min(dp[i - 1][j] + 1, dp[i][j - 1] + 1), dp[i - 1][j - 1] + cost);
+			}
+		}
+		return dp[s1.length()][s2.length()];
+	}
+}
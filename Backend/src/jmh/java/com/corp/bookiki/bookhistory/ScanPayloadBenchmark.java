@@ -0,0 +1,79 @@
+package com.corp.bookiki.bookhistory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import com.corp.bookiki.bookhistory.dto.BookReturnRequest;
+import com.corp.bookiki.bookhistory.dto.ScanSnapshot;
+import com.corp.bookiki.bookhistory.service.ScanPayloadCodec;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 스캔 요청 파싱 비용 비교 (JSON -> 박싱된 컬렉션 vs 바이너리 -> int 배열)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ScanPayloadBenchmark {
+
+	@Param({"3", "20"})
+	private int shelfCount;
+
+	@Param({"40"})
+	private int booksPerShelf;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	private byte[] json;
+	private byte[] binary;
+
+	@Setup
+	public void setUp() throws Exception {
+		Random random = new Random(42);
+		Map<String, List<Integer>> shelfBookItemsMap = new LinkedHashMap<>();
+		shelfBookItemsMap.put("0", List.of(0));
+		int nextId = 1000;
+		for (int shelf = 1; shelf <= shelfCount; shelf++) {
+			List<Integer> ids = new ArrayList<>();
+			for (int i = 0; i < booksPerShelf; i++) {
+				nextId += 1 + random.nextInt(5);
+				ids.add(nextId);
+			}
+			shelfBookItemsMap.put(String.valueOf(shelf), ids);
+		}
+		List<String> ocrResults = List.of("클린 코드", "객체지향의 사실과 오해", "토비의 스프링 3.1", "자바 ORM 표준 JPA 프로그래밍");
+
+		Map<String, Object> payload = new LinkedHashMap<>();
+		payload.put("stationId", "floor2-camera1");
+		payload.put("ocrResults", ocrResults);
+		payload.put("shelfBookItemsMap", shelfBookItemsMap);
+
+		json = objectMapper.writeValueAsString(payload).getBytes(StandardCharsets.UTF_8);
+		binary = ScanPayloadCodec.encode(objectMapper.readValue(json, BookReturnRequest.class));
+		System.out.printf("%n[payload] shelves=%d, json=%d bytes, binary=%d bytes%n", shelfCount, json.length, binary.length);
+	}
+
+	@Benchmark
+	public ScanSnapshot json() throws Exception {
+		return ScanSnapshot.from(objectMapper.readValue(json, BookReturnRequest.class));
+	}
+
+	@Benchmark
+	public ScanSnapshot binary() {
+		return ScanPayloadCodec.decode(binary);
+	}
+}
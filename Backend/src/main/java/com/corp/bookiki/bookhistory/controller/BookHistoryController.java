@@ -16,6 +16,7 @@ import com.corp.bookiki.bookhistory.dto.BookHistoryResponse;
 import com.corp.bookiki.bookhistory.enitity.PeriodType;
 import com.corp.bookiki.bookhistory.service.BookHistoryService;
 import com.corp.bookiki.global.annotation.CurrentUser;
+import com.corp.bookiki.global.dto.CursorResponse;
 import com.corp.bookiki.global.error.code.ErrorCode;
 import com.corp.bookiki.global.error.dto.ErrorResponse;
 import com.corp.bookiki.global.error.exception.BookHistoryException;
@@ -135,6 +136,91 @@ public class BookHistoryController {
 		);
 	}
 
+	@Operation(
+		summary = "관리자용 도서 대출 기록 커서 조회",
+		description = "관리자 대출 기록을 최근 대출 순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회하며, 전체 개수는 세지 않습니다."
+	)
+	@ApiResponses({
+		@ApiResponse(
+			responseCode = "200",
+			description = "조회 성공",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = CursorResponse.class, subTypes = {BookHistoryResponse.class})
+			)
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "잘못된 입력값 또는 커서",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = ErrorResponse.class)
+			)
+		)
+	})
+	@GetMapping("/admin/book-histories/cursor")
+	public ResponseEntity<CursorResponse<BookHistoryResponse>> getAdminBookHistoriesByCursor(
+		@Parameter(description = "조회 기간 타입") @RequestParam PeriodType periodType,
+		@Parameter(description = "시작일 (YYYY-MM-DD, CUSTOM 타입일 때 필수)")
+		@RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+		@Parameter(description = "종료일 (YYYY-MM-DD, CUSTOM 타입일 때 필수)")
+		@RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+		@Parameter(description = "사용자 이름") @RequestParam(required = false) String userName,
+		@Parameter(description = "회사 ID") @RequestParam(required = false) String companyId,
+		@Parameter(description = "연체 여부") @RequestParam(required = false) Boolean overdue,
+		@Parameter(description = "이전 응답의 nextCursor (첫 조회 시 생략)") @RequestParam(required = false) String cursor,
+		@Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size
+	) {
+		LocalDate start = getStartDate(periodType, startDate);
+		LocalDate end = getEndDate(periodType, endDate);
+
+		return ResponseEntity.ok(
+			bookHistoryService.getAdminBookHistoriesByCursor(start, end, userName, companyId, overdue, cursor, size)
+		);
+	}
+
+	@Operation(
+		summary = "관리자용 도서 대출 기록 도서 검색",
+		description = "기간 내 대출 기록 중 도서 제목 또는 저자에 키워드가 포함된 기록을 최근 대출 순으로 조회합니다."
+	)
+	@ApiResponses({
+		@ApiResponse(
+			responseCode = "200",
+			description = "조회 성공",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = Page.class)
+			)
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "잘못된 입력값",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = ErrorResponse.class)
+			)
+		)
+	})
+	@GetMapping("/admin/book-histories/search")
+	public ResponseEntity<Page<BookHistoryResponse>> searchAdminBookHistories(
+		@Parameter(description = "조회 기간 타입") @RequestParam PeriodType periodType,
+		@Parameter(description = "시작일 (YYYY-MM-DD, CUSTOM 타입일 때 필수)")
+		@RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+		@Parameter(description = "종료일 (YYYY-MM-DD, CUSTOM 타입일 때 필수)")
+		@RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+		@Parameter(description = "도서 제목 또는 저자") @RequestParam String keyword,
+		@Parameter(description = "전체 개수를 캐시/추정 값으로 받을지 여부 (true면 totalApproximate로 표시)")
+		@RequestParam(defaultValue = "false") boolean approximateTotal,
+		Pageable pageable
+	) {
+		LocalDate start = getStartDate(periodType, startDate);
+		LocalDate end = getEndDate(periodType, endDate);
+
+		return ResponseEntity.ok(
+			bookHistoryService.searchAdminBookHistories(start, end, keyword, pageable, approximateTotal)
+		);
+	}
+
 	@Operation(
 		summary = "사용자용 도서 대출 기록 조회",
 		description = "사용자가 자신의 도서 대출 기록을 조회합니다."
@@ -199,6 +285,8 @@ public class BookHistoryController {
 		@Parameter(description = "종료일 (YYYY-MM-DD, CUSTOM 타입일 때 필수)")
 		@RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
 		@Parameter(description = "연체 여부로 필터링") @RequestParam(required = false) Boolean overdue,
+		@Parameter(description = "전체 개수를 캐시/추정 값으로 받을지 여부 (true면 totalApproximate로 표시)")
+		@RequestParam(defaultValue = "false") boolean approximateTotal,
 		Pageable pageable
 	) {
 
@@ -206,7 +294,51 @@ public class BookHistoryController {
 		LocalDate end = getEndDate(periodType, endDate);
 
 		return ResponseEntity.ok(
-			bookHistoryService.getUserBookHistories(authUser.getId(), start, end, overdue, pageable)
+			bookHistoryService.getUserBookHistories(authUser.getId(), start, end, overdue, pageable, approximateTotal)
+		);
+	}
+
+	@Operation(
+		summary = "사용자용 도서 대출 기록 도서 검색",
+		description = "사용자의 기간 내 대출 기록 중 도서 제목 또는 저자에 키워드가 포함된 기록을 조회합니다."
+	)
+	@ApiResponses({
+		@ApiResponse(
+			responseCode = "200",
+			description = "조회 성공",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = Page.class)
+			)
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "잘못된 입력값",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = ErrorResponse.class)
+			)
+		)
+	})
+	@GetMapping("/user/book-histories/search")
+	public ResponseEntity<Page<BookHistoryResponse>> searchUserBookHistories(
+		@CurrentUser AuthUser authUser,
+		@Parameter(description = "조회 기간 타입") @RequestParam PeriodType periodType,
+		@Parameter(description = "시작일 (YYYY-MM-DD, CUSTOM 타입일 때 필수)")
+		@RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+		@Parameter(description = "종료일 (YYYY-MM-DD, CUSTOM 타입일 때 필수)")
+		@RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+		@Parameter(description = "도서 제목 또는 저자") @RequestParam(required = false) String keyword,
+		@Parameter(description = "전체 개수를 캐시/추정 값으로 받을지 여부 (true면 totalApproximate로 표시)")
+		@RequestParam(defaultValue = "false") boolean approximateTotal,
+		Pageable pageable
+	) {
+		LocalDate start = getStartDate(periodType, startDate);
+		LocalDate end = getEndDate(periodType, endDate);
+
+		return ResponseEntity.ok(
+			bookHistoryService.searchUserBookHistories(authUser.getId(), start, end, keyword, pageable,
+				approximateTotal)
 		);
 	}
 
@@ -8,6 +8,7 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.corp.bookiki.bookhistory.dto.BookFavoriteRankingResponse;
 import com.corp.bookiki.bookhistory.dto.BookRankingResponse;
 import com.corp.bookiki.bookhistory.service.BookRankingService;
 
@@ -55,4 +56,23 @@ public class BookRankingController {
 	public ResponseEntity<List<BookRankingResponse>> getBookRanking() {
 		return ResponseEntity.ok(bookRankingService.getBookRanking());
 	}
+
+	@Operation(
+		summary = "도서 좋아요 순위 조회",
+		description = "최근 한달간 좋아요가 가장 많은 도서 TOP 10을 조회합니다."
+	)
+	@ApiResponses({
+		@ApiResponse(
+			responseCode = "200",
+			description = "랭킹 조회 성공",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = BookFavoriteRankingResponse.class)
+			)
+		)
+	})
+	@GetMapping("/favorites")
+	public ResponseEntity<List<BookFavoriteRankingResponse>> getFavoriteRanking() {
+		return ResponseEntity.ok(bookRankingService.getFavoriteRanking());
+	}
 }
@@ -1,13 +1,18 @@
 package com.corp.bookiki.bookhistory.controller;
 
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.corp.bookiki.bookhistory.dto.BookReturnRequest;
-import com.corp.bookiki.bookhistory.service.BookReturnService;
+import com.corp.bookiki.bookhistory.dto.ScanQueueMetricsResponse;
+import com.corp.bookiki.bookhistory.dto.ScanSnapshot;
+import com.corp.bookiki.bookhistory.service.ScanIngestionQueue;
+import com.corp.bookiki.bookhistory.service.ScanPayloadCodec;
 import com.corp.bookiki.global.error.dto.ErrorResponse;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -27,19 +32,20 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class BookReturnController {
 
-	private final BookReturnService bookReturnService;
+	private final ScanIngestionQueue scanIngestionQueue;
 
 	@Operation(
 		summary = "도서 반납 스캔 결과 처리",
 		description = """
             QR 코드 및 OCR 스캔 결과를 이용하여 도서 반납을 처리합니다.
             책장별로 반납된 도서 목록을 전달하여 올바른 카테고리의 책장에 반납되었는지 검증합니다.
+            스캔 결과는 처리 큐에 등록된 뒤 비동기로 처리되며, 같은 스테이션의 대기 중인 스캔은 최신 스캔으로 대체됩니다.
             """
 	)
 	@ApiResponses({
 		@ApiResponse(
-			responseCode = "200",
-			description = "반납 처리 성공",
+			responseCode = "202",
+			description = "반납 처리 요청 접수",
 			content = @Content(
 				mediaType = "application/json",
 				examples = @ExampleObject(
@@ -65,15 +71,15 @@ public class BookReturnController {
 			)
 		),
 		@ApiResponse(
-			responseCode = "404",
-			description = "도서 또는 책장을 찾을 수 없음",
+			responseCode = "503",
+			description = "스캔 처리 대기열이 가득 참 또는 카메라/통신 오류 (대기열에 넣지 않음)",
 			content = @Content(
 				mediaType = "application/json",
 				schema = @Schema(implementation = ErrorResponse.class)
 			)
 		)
 	})
-	@PostMapping("/scan")
+	@PostMapping(value = "/scan", consumes = MediaType.APPLICATION_JSON_VALUE)
 	public ResponseEntity<Void> processScanResult(
 		@RequestBody BookReturnRequest request
 	) {
@@ -84,8 +90,68 @@ public class BookReturnController {
 			log.debug("Shelf key: " + key + ", value: " + value)
 		);
 
-		bookReturnService.processScanResults(request);
+		scanIngestionQueue.enqueue(request);
 
-		return ResponseEntity.ok().build();
+		return ResponseEntity.accepted().build();
+	}
+
+	@Operation(
+		summary = "도서 반납 스캔 결과 처리 (바이너리)",
+		description = """
+            스캔 스테이션용 압축 형식(application/x-bookiki-scan)으로 스캔 결과를 전달합니다.
+            책장/도서 ID는 varint로, OCR 결과는 길이가 붙은 UTF-8 문자열로 인코딩되며 처리 방식은 JSON 요청과 동일합니다.
+            형식: 'B' 'K' 1 | 스테이션ID | 카메라 상태 | 책장 수 (책장ID, 도서 수, 도서ID 차이(zigzag)...) | OCR 수 (길이, UTF-8...)
+            """
+	)
+	@ApiResponses({
+		@ApiResponse(
+			responseCode = "202",
+			description = "반납 처리 요청 접수"
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "잘못된 형식",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = ErrorResponse.class)
+			)
+		),
+		@ApiResponse(
+			responseCode = "503",
+			description = "스캔 처리 대기열이 가득 참 또는 카메라/통신 오류 (대기열에 넣지 않음)",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = ErrorResponse.class)
+			)
+		)
+	})
+	@PostMapping(value = "/scan", consumes = {ScanPayloadCodec.MEDIA_TYPE, MediaType.APPLICATION_OCTET_STREAM_VALUE})
+	public ResponseEntity<Void> processBinaryScanResult(
+		@RequestBody byte[] payload
+	) {
+		ScanSnapshot snapshot = ScanPayloadCodec.decode(payload);
+		log.debug("Binary scan - station: {}, shelves: {}, ocr: {}, bytes: {}",
+			snapshot.getStationId(), snapshot.getShelfCount(), snapshot.getOcrResults().size(), payload.length);
+
+		scanIngestionQueue.enqueue(snapshot);
+
+		return ResponseEntity.accepted().build();
+	}
+
+	@Operation(
+		summary = "스캔 처리 큐 상태 조회",
+		description = "대기 중인 스캔 수, 합쳐지거나 거절된 스캔 수, 처리 지연 시간을 조회합니다."
+	)
+	@ApiResponse(
+		responseCode = "200",
+		description = "조회 성공",
+		content = @Content(
+			mediaType = "application/json",
+			schema = @Schema(implementation = ScanQueueMetricsResponse.class)
+		)
+	)
+	@GetMapping("/scan/metrics")
+	public ResponseEntity<ScanQueueMetricsResponse> getScanQueueMetrics() {
+		return ResponseEntity.ok(scanIngestionQueue.getMetrics());
 	}
 }
\ No newline at end of file
@@ -0,0 +1,139 @@
+package com.corp.bookiki.bookhistory.controller;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.corp.bookiki.bookhistory.dto.BorrowAnalyticsBookResponse;
+import com.corp.bookiki.bookhistory.dto.BorrowTrendResponse;
+import com.corp.bookiki.bookhistory.enitity.PeriodType;
+import com.corp.bookiki.bookhistory.enitity.TrendInterval;
+import com.corp.bookiki.bookhistory.service.BorrowAnalyticsService;
+import com.corp.bookiki.global.error.dto.ErrorResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Tag(name = "대출 통계 API", description = "일별 대출 집계로 계산하는 관리자 통계 API")
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+@Slf4j
+public class BorrowAnalyticsController {
+
+	private final BorrowAnalyticsService borrowAnalyticsService;
+
+	@Operation(
+		summary = "기간별 대출 많은 도서 조회",
+		description = "기간 내 대출 횟수가 많은 도서를 조회합니다. 같은 도서 정보의 여러 권은 합산하며, 오늘 대출은 집계 주기(기본 5분)만큼 늦게 반영됩니다."
+	)
+	@ApiResponses({
+		@ApiResponse(
+			responseCode = "200",
+			description = "조회 성공",
+			content = @Content(
+				mediaType = "application/json",
+				array = @ArraySchema(schema = @Schema(implementation = BorrowAnalyticsBookResponse.class))
+			)
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "잘못된 조회 기간",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = ErrorResponse.class)
+			)
+		),
+		@ApiResponse(
+			responseCode = "403",
+			description = "관리자 권한 없음",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = ErrorResponse.class)
+			)
+		)
+	})
+	@GetMapping("/books/top")
+	public ResponseEntity<List<BorrowAnalyticsBookResponse>> getTopBooks(
+		@Parameter(description = "조회 기간 타입") @RequestParam PeriodType periodType,
+		@Parameter(description = "시작일 (YYYY-MM-DD, CUSTOM 타입일 때 필수)")
+		@RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+		@Parameter(description = "종료일 (YYYY-MM-DD, CUSTOM 타입일 때 필수)")
+		@RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+		@Parameter(description = "조회할 도서 수 (최대 100)", example = "10")
+		@RequestParam(defaultValue = "10") int size
+	) {
+		LocalDate start = getStartDate(periodType, startDate);
+		LocalDate end = getEndDate(periodType, endDate);
+		log.info("대출 많은 도서 조회 - 기간: {} ~ {}, 개수: {}", start, end, size);
+		return ResponseEntity.ok(borrowAnalyticsService.getTopBooks(start, end, size));
+	}
+
+	@Operation(
+		summary = "카테고리별 대출 추이 조회",
+		description = "기간 내 카테고리별 대출 횟수를 일/주/월 구간으로 조회합니다. 대출이 없는 구간과 카테고리도 0으로 포함합니다."
+	)
+	@ApiResponses({
+		@ApiResponse(
+			responseCode = "200",
+			description = "조회 성공",
+			content = @Content(
+				mediaType = "application/json",
+				array = @ArraySchema(schema = @Schema(implementation = BorrowTrendResponse.class))
+			)
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "잘못된 조회 기간",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = ErrorResponse.class)
+			)
+		),
+		@ApiResponse(
+			responseCode = "403",
+			description = "관리자 권한 없음",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = ErrorResponse.class)
+			)
+		)
+	})
+	@GetMapping("/categories/trend")
+	public ResponseEntity<List<BorrowTrendResponse>> getCategoryTrend(
+		@Parameter(description = "조회 기간 타입") @RequestParam PeriodType periodType,
+		@Parameter(description = "시작일 (YYYY-MM-DD, CUSTOM 타입일 때 필수)")
+		@RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate startDate,
+		@Parameter(description = "종료일 (YYYY-MM-DD, CUSTOM 타입일 때 필수)")
+		@RequestParam(required = false) @DateTimeFormat(pattern = "yyyy-MM-dd") LocalDate endDate,
+		@Parameter(description = "구간 단위") @RequestParam(defaultValue = "DAY") TrendInterval interval
+	) {
+		LocalDate start = getStartDate(periodType, startDate);
+		LocalDate end = getEndDate(periodType, endDate);
+		log.info("카테고리별 대출 추이 조회 - 기간: {} ~ {}, 단위: {}", start, end, interval);
+		return ResponseEntity.ok(borrowAnalyticsService.getCategoryTrend(start, end, interval));
+	}
+
+	// CUSTOM이 아니면 기간 타입으로 계산 (시작일/종료일 검증은 서비스에서 함)
+	private LocalDate getStartDate(PeriodType periodType, LocalDate startDate) {
+		return periodType == PeriodType.CUSTOM ? startDate : periodType.getStartDate();
+	}
+
+	private LocalDate getEndDate(PeriodType periodType, LocalDate endDate) {
+		return periodType == PeriodType.CUSTOM ? endDate : LocalDate.now();
+	}
+}
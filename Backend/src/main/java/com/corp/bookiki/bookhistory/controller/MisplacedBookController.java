@@ -0,0 +1,68 @@
+package com.corp.bookiki.bookhistory.controller;
+
+import java.util.List;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.corp.bookiki.bookhistory.dto.MisplacedBookResponse;
+import com.corp.bookiki.bookhistory.service.MisplacedBookIndex;
+import com.corp.bookiki.global.error.dto.ErrorResponse;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+@Tag(name = "오배치 도서 API", description = "카테고리가 다른 책장에 꽂힌 도서 조회 API")
+@RestController
+@RequestMapping("/api/admin/misplaced-books")
+@RequiredArgsConstructor
+@Slf4j
+public class MisplacedBookController {
+
+	private final MisplacedBookIndex misplacedBookIndex;
+
+	@Operation(
+		summary = "잘못 꽂힌 도서 조회",
+		description = "스캔 결과 카테고리가 다른 책장에 꽂혀 있는 도서를 조회합니다. 책장 ID를 지정하면 해당 책장만 조회합니다."
+	)
+	@ApiResponses({
+		@ApiResponse(
+			responseCode = "200",
+			description = "조회 성공",
+			content = @Content(
+				mediaType = "application/json",
+				array = @ArraySchema(schema = @Schema(implementation = MisplacedBookResponse.class))
+			)
+		),
+		@ApiResponse(
+			responseCode = "403",
+			description = "관리자 권한 없음",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = ErrorResponse.class)
+			)
+		)
+	})
+	@GetMapping
+	public ResponseEntity<List<MisplacedBookResponse>> getMisplacedBooks(
+		@Parameter(description = "책장 ID", example = "3")
+		@RequestParam(required = false) Integer shelfId
+	) {
+		List<MisplacedBookResponse> responses = shelfId == null
+			? misplacedBookIndex.findAll()
+			: misplacedBookIndex.findByShelfId(shelfId);
+		log.info("잘못 꽂힌 도서 조회 - 책장: {}, 도서 수: {}", shelfId, responses.size());
+		return ResponseEntity.ok(responses);
+	}
+}
@@ -3,6 +3,8 @@ package com.corp.bookiki.bookhistory.dto;
 import java.util.List;
 import java.util.Map;
 
+import com.corp.bookiki.bookhistory.service.StationScanState;
+
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -22,4 +24,14 @@ public class BookReturnRequest {
 		example = "{\"1\": [1, 2], \"2\": [3]}"
 	)
 	private Map<Integer, List<Integer>> shelfBookItemsMap;
+
+	@Schema(
+		description = "스캔 스테이션(책장 카메라) ID, 생략 시 기본 스테이션으로 처리",
+		example = "floor2-camera1"
+	)
+	private String stationId;
+
+	public String resolveStationId() {
+		return stationId == null || stationId.isBlank() ? StationScanState.DEFAULT_STATION_ID : stationId;
+	}
 }
@@ -0,0 +1,50 @@
+package com.corp.bookiki.bookhistory.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(
+	name = "BorrowAnalyticsBookResponse",
+	description = "기간 내 도서별 대출 횟수 응답"
+)
+public class BorrowAnalyticsBookResponse {
+
+	@Schema(
+		description = "도서 정보 ID",
+		example = "12"
+	)
+	private Integer bookInformationId;
+
+	@Schema(
+		description = "도서 제목",
+		example = "스프링 부트와 AWS로 혼자 구현하는 웹 서비스"
+	)
+	private String title;
+
+	@Schema(
+		description = "도서 저자",
+		example = "이동욱"
+	)
+	private String author;
+
+	@Schema(
+		description = "도서 카테고리 코드",
+		example = "0"
+	)
+	private Integer category;
+
+	@Schema(
+		description = "도서 이미지 URL",
+		example = "https://example.com/book-cover.jpg"
+	)
+	private String image;
+
+	@Schema(
+		description = "기간 내 대출 횟수 (같은 도서 정보의 모든 도서 합계)",
+		example = "42"
+	)
+	private Long borrowCount;
+}
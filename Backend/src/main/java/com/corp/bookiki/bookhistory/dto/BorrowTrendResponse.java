@@ -0,0 +1,32 @@
+package com.corp.bookiki.bookhistory.dto;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(
+	name = "BorrowTrendResponse",
+	description = "구간별 카테고리 대출 추이 응답"
+)
+public class BorrowTrendResponse {
+
+	@Schema(
+		description = "구간 시작일 (주별은 월요일, 월별은 1일)",
+		example = "2025-01-06"
+	)
+	private LocalDate periodStart;
+
+	@Schema(
+		description = "구간 전체 대출 횟수",
+		example = "85"
+	)
+	private Long totalCount;
+
+	@Schema(description = "카테고리별 대출 횟수 (모든 카테고리와 미분류 포함)")
+	private List<CategoryBorrowCountResponse> categories;
+}
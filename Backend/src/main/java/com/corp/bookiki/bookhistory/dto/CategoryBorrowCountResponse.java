@@ -0,0 +1,32 @@
+package com.corp.bookiki.bookhistory.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+@Schema(
+	name = "CategoryBorrowCountResponse",
+	description = "카테고리별 대출 횟수"
+)
+public class CategoryBorrowCountResponse {
+
+	@Schema(
+		description = "카테고리 코드 (미분류는 null)",
+		example = "0"
+	)
+	private Integer category;
+
+	@Schema(
+		description = "카테고리 이름",
+		example = "컴퓨터과학"
+	)
+	private String categoryName;
+
+	@Schema(
+		description = "대출 횟수",
+		example = "17"
+	)
+	private Long borrowCount;
+}
@@ -0,0 +1,52 @@
+package com.corp.bookiki.bookhistory.dto;
+
+import java.time.LocalDateTime;
+
+import com.corp.bookiki.bookhistory.enitity.MisplacedBookEntity;
+import com.corp.bookiki.bookinformation.entity.Category;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(
+	name = "MisplacedBookResponse",
+	description = "잘못 꽂힌 도서 응답"
+)
+public class MisplacedBookResponse {
+
+	@Schema(description = "도서 아이템 ID", example = "100")
+	private Integer bookItemId;
+
+	@Schema(description = "도서 제목", example = "클린 코드")
+	private String title;
+
+	@Schema(description = "도서가 발견된 책장 ID", example = "3")
+	private Integer shelfId;
+
+	@Schema(description = "도서가 발견된 책장의 카테고리", example = "LITERATURE")
+	private Category shelfCategory;
+
+	@Schema(description = "도서 카테고리 (꽂혀야 하는 책장의 카테고리)", example = "COMPUTER_SCIENCE")
+	private Category expectedCategory;
+
+	@Schema(description = "도서를 발견한 스테이션 ID", example = "default")
+	private String stationId;
+
+	@Schema(description = "발견 시각", example = "2024-01-23T10:00:00")
+	private LocalDateTime detectedAt;
+
+	public static MisplacedBookResponse from(MisplacedBookEntity entity) {
+		return MisplacedBookResponse.builder()
+			.bookItemId(entity.getBookItemId())
+			.title(entity.getBookItem().getBookInformation().getTitle())
+			.shelfId(entity.getShelfId())
+			.shelfCategory(Category.ofCode(entity.getShelfCategory()))
+			.expectedCategory(Category.ofCode(entity.getExpectedCategory()))
+			.stationId(entity.getStationId())
+			.detectedAt(entity.getDetectedAt())
+			.build();
+	}
+}
@@ -0,0 +1,40 @@
+package com.corp.bookiki.bookhistory.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(description = "스캔 처리 큐 상태 응답")
+public class ScanQueueMetricsResponse {
+	@Schema(description = "처리 대기 중인 스테이션 수", example = "2")
+	private int depth;
+
+	@Schema(description = "큐 최대 크기", example = "64")
+	private int capacity;
+
+	@Schema(description = "누적 접수 스캔 수", example = "1200")
+	private long enqueued;
+
+	@Schema(description = "최신 스캔으로 대체되어 버려진 스캔 수", example = "35")
+	private long coalesced;
+
+	@Schema(description = "큐가 가득 차 거절된 스캔 수", example = "0")
+	private long dropped;
+
+	@Schema(description = "처리 완료된 스캔 수", example = "1160")
+	private long processed;
+
+	@Schema(description = "처리 중 오류가 발생한 스캔 수", example = "5")
+	private long failed;
+
+	@Schema(description = "마지막 스캔의 대기 시간 (ms)", example = "12")
+	private long lastLagMillis;
+
+	@Schema(description = "최대 대기 시간 (ms)", example = "870")
+	private long maxLagMillis;
+
+	@Schema(description = "마지막 스캔 처리 시간 (ms)", example = "45")
+	private long lastProcessingMillis;
+}
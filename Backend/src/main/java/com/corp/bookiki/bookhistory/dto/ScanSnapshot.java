@@ -0,0 +1,84 @@
+package com.corp.bookiki.bookhistory.dto;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.corp.bookiki.global.error.code.ErrorCode;
+import com.corp.bookiki.global.error.exception.BookHistoryException;
+
+import lombok.Getter;
+
+/**
+ * 반납 처리용 스캔 결과 (JSON/바이너리 요청 공통)
+ * 책장별 도서 ID를 박싱 없이 int 배열로 보관함
+ */
+@Getter
+public class ScanSnapshot {
+
+	// 카메라 상태를 담는 책장 ID (JSON 요청에서 0번 책장의 첫 값이 카메라 상태)
+	public static final int CAMERA_STATUS_SHELF_ID = 0;
+
+	private final String stationId;
+	private final int cameraStatus;
+	private final int[] shelfIds;
+	// shelfIds[i] 책장에서 인식된 도서 아이템 ID
+	private final int[][] shelfBookItemIds;
+	private final List<String> ocrResults;
+
+	public ScanSnapshot(String stationId, int cameraStatus, int[] shelfIds, int[][] shelfBookItemIds,
+		List<String> ocrResults) {
+		if (shelfIds.length != shelfBookItemIds.length) {
+			throw new BookHistoryException(ErrorCode.INVALID_INPUT_VALUE);
+		}
+		this.stationId = stationId;
+		this.cameraStatus = cameraStatus;
+		this.shelfIds = shelfIds;
+		this.shelfBookItemIds = shelfBookItemIds;
+		this.ocrResults = ocrResults != null ? ocrResults : new ArrayList<>();
+	}
+
+	/**
+	 * JSON 요청 변환 (0번 책장은 카메라 상태로 사용하고 책장 목록에서는 제외)
+	 */
+	public static ScanSnapshot from(BookReturnRequest request) {
+		Map<Integer, List<Integer>> shelfBookItemsMap = request.getShelfBookItemsMap();
+		if (shelfBookItemsMap == null) {
+			throw new BookHistoryException(ErrorCode.INVALID_INPUT_VALUE);
+		}
+		List<Integer> status = shelfBookItemsMap.get(CAMERA_STATUS_SHELF_ID);
+		if (status == null || status.isEmpty() || status.get(0) == null) {
+			throw new BookHistoryException(ErrorCode.INVALID_INPUT_VALUE);
+		}
+
+		int shelfCount = shelfBookItemsMap.size() - 1;
+		int[] shelfIds = new int[shelfCount];
+		int[][] shelfBookItemIds = new int[shelfCount][];
+		int index = 0;
+		for (Map.Entry<Integer, List<Integer>> entry : shelfBookItemsMap.entrySet()) {
+			if (entry.getKey() == CAMERA_STATUS_SHELF_ID) {
+				continue;
+			}
+			shelfIds[index] = entry.getKey();
+			shelfBookItemIds[index] = toIntArray(entry.getValue());
+			index++;
+		}
+
+		return new ScanSnapshot(request.resolveStationId(), status.get(0), shelfIds, shelfBookItemIds,
+			request.getOcrResults());
+	}
+
+	public int getShelfCount() {
+		return shelfIds.length;
+	}
+
+	private static int[] toIntArray(List<Integer> ids) {
+		if (ids == null) {
+			return new int[0];
+		}
+		return ids.stream()
+			.filter(id -> id != null)
+			.mapToInt(Integer::intValue)
+			.toArray();
+	}
+}
@@ -0,0 +1,50 @@
+package com.corp.bookiki.bookhistory.enitity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 x 도서 정보별 대출 횟수 집계
+ * 대출 기록에서 BorrowRollupService가 날짜 단위로 다시 계산해 채우며, 통계 조회는 대출 기록 대신 이 테이블만 읽음
+ */
+@Entity
+@Table(
+	name = "book_borrow_daily",
+	uniqueConstraints = {
+		@UniqueConstraint(
+			name = "uk_borrow_date_book_information",
+			columnNames = {"borrow_date", "book_information_id"}
+		)
+	},
+	indexes = {
+		@Index(name = "idx_book_borrow_daily_book_information", columnList = "book_information_id")
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BookBorrowDailyEntity {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Integer id;
+
+	@Column(name = "borrow_date", nullable = false)
+	private LocalDate borrowDate;
+
+	@Column(name = "book_information_id", nullable = false)
+	private Integer bookInformationId;
+
+	@Column(name = "borrow_count", nullable = false)
+	private Integer borrowCount;
+}
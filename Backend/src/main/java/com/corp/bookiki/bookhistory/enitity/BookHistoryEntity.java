@@ -14,6 +14,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -23,7 +24,13 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "book_histories")
+@Table(
+	name = "book_histories",
+	indexes = {
+		// 기간 조회와 최근 대출 순 커서 조회 (InnoDB 보조 인덱스는 PK를 포함하므로 (borrowed_at, id) 순서)
+		@Index(name = "idx_borrowed_at", columnList = "borrowed_at")
+	}
+)
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BookHistoryEntity {
@@ -0,0 +1,48 @@
+package com.corp.bookiki.bookhistory.enitity;
+
+import java.time.LocalDate;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일별 x 카테고리별 대출 횟수 집계 (도서 정보별 집계를 카테고리로 다시 묶은 값)
+ */
+@Entity
+@Table(
+	name = "category_borrow_daily",
+	uniqueConstraints = {
+		@UniqueConstraint(
+			name = "uk_borrow_date_category",
+			columnNames = {"borrow_date", "category"}
+		)
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class CategoryBorrowDailyEntity {
+
+	// 카테고리가 지정되지 않은 도서 (유니크 제약에 NULL을 쓰지 않기 위한 값)
+	public static final int NO_CATEGORY = -1;
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Integer id;
+
+	@Column(name = "borrow_date", nullable = false)
+	private LocalDate borrowDate;
+
+	@Column(name = "category", nullable = false)
+	private Integer category;
+
+	@Column(name = "borrow_count", nullable = false)
+	private Integer borrowCount;
+}
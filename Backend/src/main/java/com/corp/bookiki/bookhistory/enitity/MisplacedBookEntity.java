@@ -0,0 +1,78 @@
+package com.corp.bookiki.bookhistory.enitity;
+
+import java.time.LocalDateTime;
+
+import com.corp.bookiki.bookitem.entity.BookItemEntity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 카테고리가 다른 책장에 꽂힌 도서
+ * 도서 한 권은 한 책장에만 있을 수 있으므로 도서 아이템 ID를 키로 사용하고, 다른 책장에서 다시 발견되면 위치만 갱신함
+ */
+@Entity
+@Table(
+	name = "misplaced_books",
+	indexes = {
+		@Index(name = "idx_misplaced_shelf", columnList = "shelf_id")
+	}
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class MisplacedBookEntity {
+
+	@Id
+	@Column(name = "book_item_id")
+	private Integer bookItemId;
+
+	// 조회용 연관관계 (저장은 bookItemId로만 함)
+	@ManyToOne(fetch = FetchType.LAZY)
+	@JoinColumn(name = "book_item_id", insertable = false, updatable = false)
+	private BookItemEntity bookItem;
+
+	@Column(name = "shelf_id", nullable = false)
+	private Integer shelfId;
+
+	// 도서가 발견된 책장의 카테고리
+	@Column(name = "shelf_category")
+	private Integer shelfCategory;
+
+	// 도서 카테고리 (= 꽂혀야 하는 책장의 카테고리)
+	@Column(name = "expected_category")
+	private Integer expectedCategory;
+
+	@Column(name = "station_id", length = 64)
+	private String stationId;
+
+	@Column(name = "detected_at", nullable = false)
+	private LocalDateTime detectedAt;
+
+	@Builder
+	public MisplacedBookEntity(Integer bookItemId, Integer shelfId, Integer shelfCategory, Integer expectedCategory,
+		String stationId, LocalDateTime detectedAt) {
+		this.bookItemId = bookItemId;
+		this.shelfId = shelfId;
+		this.shelfCategory = shelfCategory;
+		this.expectedCategory = expectedCategory;
+		this.stationId = stationId;
+		this.detectedAt = detectedAt;
+	}
+
+	public void relocate(Integer shelfId, Integer shelfCategory, String stationId, LocalDateTime detectedAt) {
+		this.shelfId = shelfId;
+		this.shelfCategory = shelfCategory;
+		this.stationId = stationId;
+		this.detectedAt = detectedAt;
+	}
+}
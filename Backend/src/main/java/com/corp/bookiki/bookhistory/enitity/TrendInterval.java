@@ -0,0 +1,29 @@
+package com.corp.bookiki.bookhistory.enitity;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+import lombok.Getter;
+
+@Getter
+public enum TrendInterval {
+	DAY("일별"),
+	WEEK("주별"),
+	MONTH("월별");
+
+	private final String description;
+
+	TrendInterval(String description) {
+		this.description = description;
+	}
+
+	// 날짜가 속한 구간의 시작일 (주는 월요일부터)
+	public LocalDate startOf(LocalDate date) {
+		return switch (this) {
+			case DAY -> date;
+			case WEEK -> date.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+			case MONTH -> date.withDayOfMonth(1);
+		};
+	}
+}
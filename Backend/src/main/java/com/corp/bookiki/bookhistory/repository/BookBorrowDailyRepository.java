@@ -0,0 +1,52 @@
+package com.corp.bookiki.bookhistory.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.corp.bookiki.bookhistory.enitity.BookBorrowDailyEntity;
+
+@Repository
+public interface BookBorrowDailyRepository extends JpaRepository<BookBorrowDailyEntity, Integer> {
+
+	@Query("SELECT MAX(d.borrowDate) FROM BookBorrowDailyEntity d")
+	Optional<LocalDate> findLastBorrowDate();
+
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM BookBorrowDailyEntity d WHERE d.borrowDate BETWEEN :startDate AND :endDate")
+	int deleteByBorrowDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+	// 기간 내 대출 기록을 날짜 x 도서 정보로 묶어 저장 (borrowed_at 인덱스로 기간만 읽음)
+	@Modifying
+	@Query(value = """
+		INSERT INTO book_borrow_daily (borrow_date, book_information_id, borrow_count)
+		SELECT CAST(bh.borrowed_at AS DATE), bi.book_information_id, COUNT(*)
+		FROM book_histories bh
+		JOIN book_items bi ON bh.book_item_id = bi.id
+		WHERE bh.borrowed_at >= :start AND bh.borrowed_at < :end
+		GROUP BY CAST(bh.borrowed_at AS DATE), bi.book_information_id
+		""", nativeQuery = true)
+	int insertRollup(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end);
+
+	// 기간 내 도서 정보별 대출 횟수 합계 (대출 많은 순)
+	@Query("""
+		SELECT d.bookInformationId, SUM(d.borrowCount)
+		FROM BookBorrowDailyEntity d
+		WHERE d.borrowDate BETWEEN :startDate AND :endDate
+		GROUP BY d.bookInformationId
+		ORDER BY SUM(d.borrowCount) DESC, d.bookInformationId
+		""")
+	List<Object[]> sumByBookInformation(
+		@Param("startDate") LocalDate startDate,
+		@Param("endDate") LocalDate endDate,
+		Limit limit
+	);
+}
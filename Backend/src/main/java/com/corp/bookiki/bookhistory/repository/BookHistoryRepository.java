@@ -7,12 +7,18 @@ import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.QueryHint;
+
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 public interface BookHistoryRepository extends JpaRepository<BookHistoryEntity, Integer> {
 
@@ -43,6 +49,52 @@ public interface BookHistoryRepository extends JpaRepository<BookHistoryEntity,
 		Pageable pageable
 	);
 
+	// searchBookHistoryWithCount의 한 페이지만 조회 (전체 개수는 countSearchBookHistory로 따로 조회해 캐시)
+	@Query("""
+        SELECT bh
+        FROM BookHistoryEntity bh
+        JOIN FETCH bh.bookItem bi
+        JOIN FETCH bi.bookInformation bi_info
+        JOIN FETCH bh.user u
+        WHERE bh.borrowedAt BETWEEN :startDate AND :endDate
+        AND (:keyword IS NULL
+            OR bi_info.title LIKE %:keyword%
+            OR bi_info.author LIKE %:keyword%)
+        """)
+	List<BookHistoryEntity> searchBookHistory(
+		@Param("startDate") LocalDateTime startDate,
+		@Param("endDate") LocalDateTime endDate,
+		@Param("keyword") String keyword,
+		Pageable pageable
+	);
+
+	@Query("""
+        SELECT COUNT(bh)
+        FROM BookHistoryEntity bh
+        JOIN bh.bookItem bi
+        JOIN bi.bookInformation bi_info
+        WHERE bh.borrowedAt BETWEEN :startDate AND :endDate
+        AND (:keyword IS NULL
+            OR bi_info.title LIKE %:keyword%
+            OR bi_info.author LIKE %:keyword%)
+        """)
+	long countSearchBookHistory(
+		@Param("startDate") LocalDateTime startDate,
+		@Param("endDate") LocalDateTime endDate,
+		@Param("keyword") String keyword
+	);
+
+	// FULLTEXT 검색 결과 한 페이지 조회 (순서는 호출하는 쪽에서 맞춤)
+	@Query("""
+        SELECT bh
+        FROM BookHistoryEntity bh
+        JOIN FETCH bh.bookItem bi
+        JOIN FETCH bi.bookInformation
+        JOIN FETCH bh.user
+        WHERE bh.id IN :ids
+        """)
+	List<BookHistoryEntity> findAllWithDetailsByIds(@Param("ids") Collection<Integer> ids);
+
 	@Query("""
         SELECT bh
         FROM BookHistoryEntity bh
@@ -122,6 +174,45 @@ public interface BookHistoryRepository extends JpaRepository<BookHistoryEntity,
 		Pageable pageable
 	);
 
+	// searchUserBookHistoryWithCount의 한 페이지만 조회 (전체 개수는 countSearchUserBookHistory로 따로 조회해 캐시)
+	@Query("""
+        SELECT bh
+        FROM BookHistoryEntity bh
+        JOIN FETCH bh.bookItem bi
+        JOIN FETCH bi.bookInformation bi_info
+        JOIN FETCH bh.user u
+        WHERE bh.user.id = :userId
+        AND bh.borrowedAt BETWEEN :startDate AND :endDate
+        AND (:keyword IS NULL
+            OR bi_info.title LIKE %:keyword%
+            OR bi_info.author LIKE %:keyword%)
+        """)
+	List<BookHistoryEntity> searchUserBookHistory(
+		@Param("userId") Integer userId,
+		@Param("startDate") LocalDateTime startDate,
+		@Param("endDate") LocalDateTime endDate,
+		@Param("keyword") String keyword,
+		Pageable pageable
+	);
+
+	@Query("""
+        SELECT COUNT(bh)
+        FROM BookHistoryEntity bh
+        JOIN bh.bookItem bi
+        JOIN bi.bookInformation bi_info
+        WHERE bh.user.id = :userId
+        AND bh.borrowedAt BETWEEN :startDate AND :endDate
+        AND (:keyword IS NULL
+            OR bi_info.title LIKE %:keyword%
+            OR bi_info.author LIKE %:keyword%)
+        """)
+	long countSearchUserBookHistory(
+		@Param("userId") Integer userId,
+		@Param("startDate") LocalDateTime startDate,
+		@Param("endDate") LocalDateTime endDate,
+		@Param("keyword") String keyword
+	);
+
 	@Query("""
         SELECT bh 
         FROM BookHistoryEntity bh 
@@ -163,6 +254,32 @@ public interface BookHistoryRepository extends JpaRepository<BookHistoryEntity,
 		Pageable pageable
 	);
 
+	// 관리자용 대출 기록 커서 기반 조회 (최근 대출 순으로 (lastBorrowedAt, lastId) 다음부터, COUNT 조회 없음)
+	@Query("""
+    SELECT bh 
+    FROM BookHistoryEntity bh 
+    JOIN FETCH bh.bookItem bi 
+    JOIN FETCH bi.bookInformation bi_info
+    JOIN FETCH bh.user u
+    WHERE bh.borrowedAt BETWEEN :startDate AND :endDate
+    AND (:userName IS NULL OR u.userName LIKE %:userName%)
+    AND (:companyId IS NULL OR u.companyId = :companyId)
+    AND (:overdue IS NULL OR bh.overdue = :overdue)
+    AND (:lastBorrowedAt IS NULL OR bh.borrowedAt < :lastBorrowedAt
+        OR (bh.borrowedAt = :lastBorrowedAt AND bh.id < :lastId))
+    ORDER BY bh.borrowedAt DESC, bh.id DESC
+    """)
+	List<BookHistoryEntity> findAllBookHistoriesForAdminBefore(
+		@Param("startDate") LocalDateTime startDate,
+		@Param("endDate") LocalDateTime endDate,
+		@Param("userName") String userName,
+		@Param("companyId") String companyId,
+		@Param("overdue") Boolean overdue,
+		@Param("lastBorrowedAt") LocalDateTime lastBorrowedAt,
+		@Param("lastId") Integer lastId,
+		Limit limit
+	);
+
 	@Query(value = """
         SELECT bh 
         FROM BookHistoryEntity bh 
@@ -188,6 +305,39 @@ public interface BookHistoryRepository extends JpaRepository<BookHistoryEntity,
 		Pageable pageable
 	);
 
+	// findAllForUser의 한 페이지만 조회 (전체 개수는 countAllForUser로 따로 조회해 캐시)
+	@Query("""
+        SELECT bh
+        FROM BookHistoryEntity bh
+        JOIN FETCH bh.bookItem bi
+        JOIN FETCH bi.bookInformation bi_info
+        JOIN FETCH bh.user u
+        WHERE bh.user.id = :userId
+        AND bh.borrowedAt BETWEEN :startDate AND :endDate
+        AND (:overdue IS NULL OR bh.overdue = :overdue)
+        """)
+	List<BookHistoryEntity> findPageForUser(
+		@Param("userId") Integer userId,
+		@Param("startDate") LocalDateTime startDate,
+		@Param("endDate") LocalDateTime endDate,
+		@Param("overdue") Boolean overdue,
+		Pageable pageable
+	);
+
+	@Query("""
+        SELECT COUNT(bh)
+        FROM BookHistoryEntity bh
+        WHERE bh.user.id = :userId
+        AND bh.borrowedAt BETWEEN :startDate AND :endDate
+        AND (:overdue IS NULL OR bh.overdue = :overdue)
+        """)
+	long countAllForUser(
+		@Param("userId") Integer userId,
+		@Param("startDate") LocalDateTime startDate,
+		@Param("endDate") LocalDateTime endDate,
+		@Param("overdue") Boolean overdue
+	);
+
 	@Query("""
         SELECT bh
         FROM BookHistoryEntity bh
@@ -232,6 +382,50 @@ public interface BookHistoryRepository extends JpaRepository<BookHistoryEntity,
 		@Param("endDate") LocalDateTime endDate
 	);
 
+	// 대출 순위 카운터 재구성용 (기간 내 대출 기록을 한 번에 읽음)
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+	@Query("SELECT bh.bookItem.id, bh.borrowedAt FROM BookHistoryEntity bh WHERE bh.borrowedAt >= :since")
+	Stream<Object[]> streamBookItemIdAndBorrowedAtSince(@Param("since") LocalDateTime since);
+
+	// 함께 대출된 도서 색인 재구성용 (사용자별 대출 순서대로 도서 정보 ID를 읽음)
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+	@Query("SELECT bh.user.id, bi.bookInformation.id FROM BookHistoryEntity bh JOIN bh.bookItem bi " +
+		"WHERE bh.borrowedAt >= :since ORDER BY bh.borrowedAt, bh.id")
+	Stream<Object[]> streamUserIdAndBookInformationIdSince(@Param("since") LocalDateTime since);
+
+	// 사용자 추천의 기준이 되는 기간 내 대출 도서 정보 ID (최근 대출 순, 중복 없이)
+	@Query("SELECT bi.bookInformation.id FROM BookHistoryEntity bh JOIN bh.bookItem bi " +
+		"WHERE bh.user.id = :userId AND bh.borrowedAt BETWEEN :startDateTime AND :endDateTime " +
+		"GROUP BY bi.bookInformation.id ORDER BY MAX(bh.borrowedAt) DESC")
+	List<Integer> findRecentBookInformationIdsForUser(
+		@Param("userId") Integer userId,
+		@Param("startDateTime") LocalDateTime startDateTime,
+		@Param("endDateTime") LocalDateTime endDateTime,
+		Limit limit
+	);
+
+	// 반납된 도서들의 열린 대출 이력을 한 번에 종료
+	@Modifying(flushAutomatically = true)
+	@Query("""
+        UPDATE BookHistoryEntity bh
+        SET bh.returnedAt = :returnedAt
+        WHERE bh.bookItem.id IN :bookItemIds
+        AND bh.returnedAt IS NULL
+        """)
+	int returnAllByBookItemIds(
+		@Param("bookItemIds") Collection<Integer> bookItemIds,
+		@Param("returnedAt") LocalDateTime returnedAt
+	);
+
+	// 도서 정보별 전체 대출 횟수 [bookInformationId, count]
+	@Query("""
+        SELECT bi.bookInformation.id, COUNT(bh)
+        FROM BookHistoryEntity bh
+        JOIN bh.bookItem bi
+        GROUP BY bi.bookInformation.id
+        """)
+	List<Object[]> countBorrowsGroupByBookInformation();
+
 	Integer countByUserIdAndReturnedAtIsNull(Integer userId);
 
 	Optional<BookHistoryEntity> findByBookItemIdAndReturnedAtIsNull(Integer bookItemId);
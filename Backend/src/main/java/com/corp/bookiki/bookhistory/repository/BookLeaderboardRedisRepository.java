@@ -0,0 +1,140 @@
+package com.corp.bookiki.bookhistory.repository;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대출/좋아요 순위를 Redis sorted set에 저장하여 모든 노드가 같은 순위를 보도록 함
+ * key = "LEADERBOARD:" + 순위 종류 + ":" + yyyyMMdd (일 단위, member = 도서 아이템 ID, score = 횟수)
+ * 최근 N일 순위는 일 단위 key를 ZUNIONSTORE로 합친 key("...:LAST" + N + ":" + yyyyMMdd)를 잠깐 두고 읽음
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class BookLeaderboardRedisRepository {
+
+	private static final String KEY_PREFIX = "LEADERBOARD:";
+	private static final DateTimeFormatter DAY_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+	private static final String SEEDING = "SEEDING";
+	private static final String SEEDED = "SEEDED";
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 해당 날짜 key의 횟수 변경과 만료 시간 설정을 파이프라인으로 한 번에 보냄 (왕복 1회)
+	 * @param delta 좋아요 취소처럼 되돌릴 때는 음수
+	 */
+	public void increment(String board, int bookItemId, LocalDate day, int delta, long ttlSeconds) {
+		String key = dailyKey(board, day);
+		String member = String.valueOf(bookItemId);
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			StringRedisConnection commands = (StringRedisConnection) connection;
+			commands.zIncrBy(key, delta, member);
+			commands.expire(key, ttlSeconds);
+			return null;
+		});
+	}
+
+	/**
+	 * 하루치 횟수를 덮어씀 (시작 시 DB 기록으로 채울 때 사용)
+	 * 오늘 key는 다른 노드가 ZINCRBY로 올리고 있으므로 지우지 않고, 임시 key에 채운 뒤 도서별 큰 값으로 합침
+	 * (DB를 읽은 뒤 더해진 횟수는 남기고, DB에 이미 있는 횟수를 두 번 세지 않음)
+	 */
+	public void replaceDaily(String board, Map<LocalDate, Map<Integer, Integer>> countsByDay, LocalDate today,
+		long ttlSeconds) {
+		if (countsByDay.isEmpty()) {
+			return;
+		}
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			StringRedisConnection commands = (StringRedisConnection) connection;
+			countsByDay.forEach((day, counts) -> {
+				String key = dailyKey(board, day);
+				if (day.isBefore(today)) {
+					commands.del(key);
+					counts.forEach((bookItemId, count) -> commands.zAdd(key, count, String.valueOf(bookItemId)));
+				} else {
+					String seedKey = key + ":SEED";
+					commands.del(seedKey);
+					counts.forEach((bookItemId, count) -> commands.zAdd(seedKey, count, String.valueOf(bookItemId)));
+					commands.zUnionStore(key, Aggregate.MAX, new int[] {1, 1}, key, seedKey);
+					commands.del(seedKey);
+				}
+				commands.expire(key, ttlSeconds);
+			});
+			return null;
+		});
+	}
+
+	/**
+	 * 최근 days일 상위 도서 (score 내림차순)
+	 * 합친 key가 남아 있으면 그대로 읽고, 없으면 일 단위 key를 합쳐 unionTtlSeconds 동안 둠
+	 */
+	public Set<ZSetOperations.TypedTuple<String>> findTop(String board, LocalDate today, int days, int limit,
+		long unionTtlSeconds) {
+		String unionKey = KEY_PREFIX + board + ":LAST" + days + ":" + DAY_FORMAT.format(today);
+		Set<ZSetOperations.TypedTuple<String>> top = redisTemplate.opsForZSet()
+			.reverseRangeWithScores(unionKey, 0, limit - 1);
+		if (top != null && !top.isEmpty()) {
+			return top;
+		}
+
+		String[] dailyKeys = new String[days];
+		for (int i = 0; i < days; i++) {
+			dailyKeys[i] = dailyKey(board, today.minusDays(i));
+		}
+		redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+			StringRedisConnection commands = (StringRedisConnection) connection;
+			commands.zUnionStore(unionKey, dailyKeys);
+			commands.expire(unionKey, unionTtlSeconds);
+			return null;
+		});
+		log.debug("순위 key를 다시 합쳤습니다. Key: {}", unionKey);
+
+		top = redisTemplate.opsForZSet().reverseRangeWithScores(unionKey, 0, limit - 1);
+		return top != null ? top : Set.of();
+	}
+
+	/**
+	 * 여러 노드 중 한 노드만 DB 기록으로 채우도록 선점 (선점한 노드만 true)
+	 * 채우는 도중 노드가 죽어도 lockSeconds가 지나면 다른 노드가 다시 채울 수 있음
+	 */
+	public boolean claimSeeding(String board, long lockSeconds) {
+		return Boolean.TRUE.equals(redisTemplate.opsForValue()
+			.setIfAbsent(seededKey(board), SEEDING, Duration.ofSeconds(lockSeconds)));
+	}
+
+	/**
+	 * 다 채웠다는 표시 (ttlSeconds 동안은 다시 채우지 않음)
+	 */
+	public void markSeeded(String board, long ttlSeconds) {
+		redisTemplate.opsForValue().set(seededKey(board), SEEDED, Duration.ofSeconds(ttlSeconds));
+	}
+
+	/**
+	 * 채우다 실패하면 선점을 풀어 다음에 시작하는 노드가 다시 채우도록 함
+	 */
+	public void releaseSeeding(String board) {
+		redisTemplate.delete(seededKey(board));
+	}
+
+	private String seededKey(String board) {
+		return KEY_PREFIX + board + ":SEEDED";
+	}
+
+	private String dailyKey(String board, LocalDate day) {
+		return KEY_PREFIX + board + ":" + DAY_FORMAT.format(day);
+	}
+}
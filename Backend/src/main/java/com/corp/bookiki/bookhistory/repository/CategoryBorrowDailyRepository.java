@@ -0,0 +1,34 @@
+package com.corp.bookiki.bookhistory.repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.corp.bookiki.bookhistory.enitity.CategoryBorrowDailyEntity;
+
+@Repository
+public interface CategoryBorrowDailyRepository extends JpaRepository<CategoryBorrowDailyEntity, Integer> {
+
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM CategoryBorrowDailyEntity d WHERE d.borrowDate BETWEEN :startDate AND :endDate")
+	int deleteByBorrowDateBetween(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+	// 도서 정보별 집계를 카테고리로 다시 묶음 (대출 기록은 읽지 않음)
+	@Modifying
+	@Query(value = """
+		INSERT INTO category_borrow_daily (borrow_date, category, borrow_count)
+		SELECT d.borrow_date, COALESCE(info.category, -1), SUM(d.borrow_count)
+		FROM book_borrow_daily d
+		JOIN book_informations info ON d.book_information_id = info.id
+		WHERE d.borrow_date BETWEEN :startDate AND :endDate
+		GROUP BY d.borrow_date, COALESCE(info.category, -1)
+		""", nativeQuery = true)
+	int insertRollup(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+
+	List<CategoryBorrowDailyEntity> findByBorrowDateBetweenOrderByBorrowDate(LocalDate startDate, LocalDate endDate);
+}
@@ -0,0 +1,54 @@
+package com.corp.bookiki.bookhistory.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import com.corp.bookiki.bookhistory.enitity.MisplacedBookEntity;
+
+@Repository
+public interface MisplacedBookRepository extends JpaRepository<MisplacedBookEntity, Integer> {
+
+	@Query("""
+		SELECT m
+		FROM MisplacedBookEntity m
+		JOIN FETCH m.bookItem bi
+		JOIN FETCH bi.bookInformation
+		ORDER BY m.shelfId, m.detectedAt
+		""")
+	List<MisplacedBookEntity> findAllWithBookInformation();
+
+	@Query("""
+		SELECT m
+		FROM MisplacedBookEntity m
+		JOIN FETCH m.bookItem bi
+		JOIN FETCH bi.bookInformation
+		WHERE m.shelfId = :shelfId
+		ORDER BY m.detectedAt
+		""")
+	List<MisplacedBookEntity> findAllWithBookInformationByShelfId(@Param("shelfId") Integer shelfId);
+
+	// 책장에서 빠진 도서 (다른 책장으로 옮겨진 경우는 이미 갱신되었으므로 지우지 않음)
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM MisplacedBookEntity m WHERE m.shelfId = :shelfId AND m.bookItemId IN :bookItemIds")
+	int deleteByShelfIdAndBookItemIds(@Param("shelfId") Integer shelfId, @Param("bookItemIds") Collection<Integer> bookItemIds);
+
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM MisplacedBookEntity m WHERE m.bookItemId IN :bookItemIds")
+	int deleteByBookItemIds(@Param("bookItemIds") Collection<Integer> bookItemIds);
+
+	// 책장을 처음 스캔했을 때 이번 스캔에 없는 도서
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM MisplacedBookEntity m WHERE m.shelfId = :shelfId AND m.bookItemId NOT IN :bookItemIds")
+	int deleteByShelfIdAndBookItemIdsNotIn(@Param("shelfId") Integer shelfId,
+		@Param("bookItemIds") Collection<Integer> bookItemIds);
+
+	@Modifying(flushAutomatically = true)
+	@Query("DELETE FROM MisplacedBookEntity m WHERE m.shelfId = :shelfId")
+	int deleteByShelfId(@Param("shelfId") Integer shelfId);
+}
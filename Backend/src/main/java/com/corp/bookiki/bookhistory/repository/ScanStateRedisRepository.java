@@ -0,0 +1,107 @@
+package com.corp.bookiki.bookhistory.repository;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.corp.bookiki.bookhistory.service.StationScanState;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스테이션별 스캔 상태를 Redis에 저장하여 어느 노드에서든 스케줄러가 조회할 수 있도록 함
+ * key = "SCAN:STATION:" + 스테이션ID + (":SHELF" | ":OCR")
+ * 잘못 꽂힌 도서는 스테이션과 무관하게 DB(misplaced_books)에 저장함
+ * 저장은 MULTI/EXEC로 묶어 다른 노드가 책장 해시를 지운 직후의 빈 상태를 읽지 않도록 함
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class ScanStateRedisRepository {
+
+	private static final String STATIONS_KEY = "SCAN:STATIONS";
+	private static final String KEY_PREFIX = "SCAN:STATION:";
+	private static final String OCR_DELIMITER = "\n";
+
+	private final StringRedisTemplate redisTemplate;
+
+	public void save(StationScanState state) {
+		String stationId = state.getStationId();
+
+		Map<String, String> shelves = state.getShelfScanDiffEngine().getShelfIds().stream()
+			.collect(Collectors.toMap(
+				String::valueOf,
+				shelfId -> Arrays.stream(state.getShelfScanDiffEngine().getSnapshot(shelfId))
+					.mapToObj(String::valueOf)
+					.collect(Collectors.joining(","))
+			));
+
+		String ocr = String.join(OCR_DELIMITER, state.getPreviousOcrResults());
+
+		redisTemplate.execute(new SessionCallback<List<Object>>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> List<Object> execute(RedisOperations<K, V> redisOperations) {
+				RedisOperations<String, String> operations = (RedisOperations<String, String>)redisOperations;
+				operations.multi();
+				operations.delete(shelfKey(stationId));
+				if (!shelves.isEmpty()) {
+					operations.opsForHash().putAll(shelfKey(stationId), shelves);
+				}
+				operations.opsForValue().set(ocrKey(stationId), ocr);
+				operations.opsForSet().add(STATIONS_KEY, stationId);
+				return operations.exec();
+			}
+		});
+		log.debug("스캔 상태가 Redis에 저장되었습니다. Station: {}", stationId);
+	}
+
+	public Optional<StationScanState> findByStationId(String stationId) {
+		Map<Object, Object> shelves = redisTemplate.opsForHash().entries(shelfKey(stationId));
+		String ocr = redisTemplate.opsForValue().get(ocrKey(stationId));
+
+		if (shelves.isEmpty() && ocr == null) {
+			return Optional.empty();
+		}
+
+		StationScanState state = new StationScanState(stationId);
+		shelves.forEach((shelfId, ids) ->
+			state.getShelfScanDiffEngine().restore(Integer.parseInt((String)shelfId), parseIds((String)ids))
+		);
+		if (ocr != null && !ocr.isEmpty()) {
+			state.updatePreviousOcrResults(Arrays.asList(ocr.split(OCR_DELIMITER)));
+		}
+		return Optional.of(state);
+	}
+
+	public Set<String> findAllStationIds() {
+		Set<String> stationIds = redisTemplate.opsForSet().members(STATIONS_KEY);
+		return stationIds != null ? stationIds : Set.of();
+	}
+
+	private int[] parseIds(String ids) {
+		if (ids == null || ids.isEmpty()) {
+			return new int[0];
+		}
+		return Arrays.stream(ids.split(","))
+			.mapToInt(Integer::parseInt)
+			.toArray();
+	}
+
+	private String shelfKey(String stationId) {
+		return KEY_PREFIX + stationId + ":SHELF";
+	}
+
+	private String ocrKey(String stationId) {
+		return KEY_PREFIX + stationId + ":OCR";
+	}
+}
@@ -0,0 +1,368 @@
+package com.corp.bookiki.bookhistory.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.corp.bookiki.bookhistory.repository.BookHistoryRepository;
+import com.corp.bookiki.bookitem.entity.BookStatus;
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 최근 한 달(한 달 전 같은 날짜부터 오늘까지) 도서별 대출 횟수와 상위 도서 목록
+ * 도서 아이템 ID를 인덱스로 하는 배열에 도서별 일 단위 링 버퍼(32칸)를 두고, 대출될 때마다 오늘 칸을 증가시킴
+ * 날짜가 바뀌면 지난 칸을 비우고 상위 목록을 다시 계산하며, 그 사이에는 대출 횟수가 늘기만 하므로 상위 목록을 증가분으로만 갱신함
+ * 시작 시 최근 한 달 대출 기록을 잠금 밖에서 읽어 새로 만든 뒤 바꿔 끼우고, 그동안 받은 변경은 바꾼 뒤 다시 반영함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookBorrowCounter {
+
+	public static final int TOP_SIZE = 10;
+
+	// 링 버퍼 칸 수 (한 달 전 같은 날짜부터 오늘까지는 최대 32일)
+	private static final int RING_DAYS = 32;
+
+	// 다시 반영할 변경 중 삭제를 나타내는 날짜 값
+	private static final long REMOVED = Long.MIN_VALUE;
+
+	private final BookHistoryRepository bookHistoryRepository;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private Counts counts = new Counts(LocalDate.now().toEpochDay());
+
+	// 대출 횟수 내림차순 (같으면 ID 오름차순) 상위 도서
+	private final int[] topIds = new int[TOP_SIZE];
+	private int topSize;
+
+	// 다시 불러오는 동안 반영한 변경 (새 카운터에 다시 반영함)
+	private List<Change> pendingDuringLoad;
+
+	private volatile boolean ready;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void load() {
+		long startedAt = System.currentTimeMillis();
+		lock.writeLock().lock();
+		try {
+			pendingDuringLoad = new ArrayList<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		Counts loaded = new Counts(LocalDate.now().toEpochDay());
+		int[] count = new int[1];
+		LocalDateTime since = LocalDate.ofEpochDay(loaded.start).atStartOfDay();
+		try (Stream<Object[]> rows = bookHistoryRepository.streamBookItemIdAndBorrowedAtSince(since)) {
+			rows.forEach(row -> {
+				loaded.add((Integer) row[0], ((LocalDateTime) row[1]).toLocalDate().toEpochDay());
+				count[0]++;
+			});
+		} catch (RuntimeException e) {
+			lock.writeLock().lock();
+			try {
+				pendingDuringLoad = null;
+			} finally {
+				lock.writeLock().unlock();
+			}
+			throw e;
+		}
+
+		lock.writeLock().lock();
+		try {
+			// 불러온 기록보다 늦게 커밋된 대출/삭제를 잃지 않도록 불러오는 동안 받은 변경을 순서대로 다시 반영
+			// (조회 시작 직전에 커밋된 대출은 한 번 더 셀 수 있으나, 순위용이므로 잃는 쪽보다 나음)
+			for (Change change : pendingDuringLoad) {
+				if (change.day == REMOVED) {
+					loaded.remove(change.bookItemId);
+				} else {
+					loaded.advance(change.day);
+					loaded.add(change.bookItemId, change.day);
+				}
+			}
+			pendingDuringLoad = null;
+			counts = loaded;
+			rebuildTop();
+			ready = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+		log.info("대출 순위 카운터 로드 완료 - 대출 기록: {}, {}ms", count[0], System.currentTimeMillis() - startedAt);
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	/**
+	 * 대출 한 건 반영 (기간이 지난 대출은 무시)
+	 */
+	public void record(int bookItemId, LocalDateTime borrowedAt) {
+		if (bookItemId < 0) {
+			return;
+		}
+		long day = borrowedAt.toLocalDate().toEpochDay();
+		lock.writeLock().lock();
+		try {
+			if (counts.advance(day)) {
+				rebuildTop();
+			}
+			if (counts.add(bookItemId, day)) {
+				updateTop(bookItemId);
+			}
+			if (pendingDuringLoad != null) {
+				pendingDuringLoad.add(new Change(bookItemId, day));
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 삭제된 도서는 순위에서 제외
+	 */
+	public void remove(int bookItemId) {
+		lock.writeLock().lock();
+		try {
+			if (pendingDuringLoad != null) {
+				pendingDuringLoad.add(new Change(bookItemId, REMOVED));
+			}
+			if (counts.remove(bookItemId)) {
+				rebuildTop();
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 최근 한 달 대출 상위 도서 (대출 횟수가 0인 도서는 포함하지 않음)
+	 */
+	public Ranking top() {
+		long day = LocalDate.now().toEpochDay();
+		lock.readLock().lock();
+		try {
+			if (day <= counts.today) {
+				return snapshot();
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		// 날짜가 바뀐 뒤 첫 조회에서 지난 칸을 비움
+		lock.writeLock().lock();
+		try {
+			if (counts.advance(day)) {
+				rebuildTop();
+			}
+			return snapshot();
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	public int getCount(int bookItemId) {
+		lock.readLock().lock();
+		try {
+			return counts.get(bookItemId);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 대출/반납은 도서 상태 변경 이벤트로 함께 발행되며, AVAILABLE -> BORROWED만 대출로 셈
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookStatusChanged(BookStatusChangedEvent event) {
+		if (event.isDeleted()) {
+			event.getBookItemIds().forEach(this::remove);
+			return;
+		}
+		if (event.getFromStatus() != BookStatus.AVAILABLE || event.getToStatus() != BookStatus.BORROWED) {
+			return;
+		}
+		LocalDateTime now = LocalDateTime.now();
+		event.getBookItemIds().forEach(bookItemId -> record(bookItemId, now));
+	}
+
+	private Ranking snapshot() {
+		int[] ids = Arrays.copyOf(topIds, topSize);
+		int[] topCounts = new int[topSize];
+		for (int i = 0; i < topSize; i++) {
+			topCounts[i] = counts.totals[ids[i]];
+		}
+		return new Ranking(ids, topCounts);
+	}
+
+	private void rebuildTop() {
+		topSize = 0;
+		int[] totals = counts.totals;
+		for (int bookItemId = 0; bookItemId < totals.length; bookItemId++) {
+			if (totals[bookItemId] > 0) {
+				updateTop(bookItemId);
+			}
+		}
+	}
+
+	// 대출 횟수가 늘어난 도서를 상위 목록에 넣거나 위치를 올림
+	private void updateTop(int bookItemId) {
+		int position = -1;
+		for (int i = 0; i < topSize; i++) {
+			if (topIds[i] == bookItemId) {
+				position = i;
+				break;
+			}
+		}
+		if (position < 0) {
+			if (topSize < TOP_SIZE) {
+				position = topSize++;
+			} else if (ranksHigher(bookItemId, topIds[TOP_SIZE - 1])) {
+				position = TOP_SIZE - 1;
+			} else {
+				return;
+			}
+			topIds[position] = bookItemId;
+		}
+		while (position > 0 && ranksHigher(topIds[position], topIds[position - 1])) {
+			int previous = topIds[position - 1];
+			topIds[position - 1] = topIds[position];
+			topIds[position] = previous;
+			position--;
+		}
+	}
+
+	private boolean ranksHigher(int bookItemId, int otherId) {
+		int[] totals = counts.totals;
+		return totals[bookItemId] > totals[otherId] || (totals[bookItemId] == totals[otherId] && bookItemId < otherId);
+	}
+
+	private static int slot(long day) {
+		return (int) Math.floorMod(day, (long) RING_DAYS);
+	}
+
+	// 기간의 첫날 (한 달 전 같은 날짜, 없으면 그 달 마지막 날)
+	private static long windowStart(long day) {
+		return LocalDate.ofEpochDay(day).minusMonths(1).toEpochDay();
+	}
+
+	/**
+	 * 도서별 일 단위 대출 횟수와 기간 내 합계
+	 */
+	private static class Counts {
+		// 도서별 일 단위 대출 횟수 (칸 = epoch day % RING_DAYS), 대출 기록이 없는 도서는 null
+		private int[][] rings = new int[1024][];
+
+		// 도서별 기간 내 대출 횟수 (링 버퍼 합계)
+		private int[] totals = new int[1024];
+
+		// 가장 최근 칸의 날짜와 기간의 첫날 (epoch day)
+		private long today;
+		private long start;
+
+		Counts(long today) {
+			this.today = today;
+			this.start = windowStart(today);
+		}
+
+		int get(int bookItemId) {
+			return bookItemId >= 0 && bookItemId < totals.length ? totals[bookItemId] : 0;
+		}
+
+		// 기간 안의 대출이면 반영 후 true
+		boolean add(int bookItemId, long day) {
+			if (day < start || day > today) {
+				return false;
+			}
+			if (bookItemId >= totals.length) {
+				int size = Math.max(bookItemId + 1, totals.length * 2);
+				totals = Arrays.copyOf(totals, size);
+				rings = Arrays.copyOf(rings, size);
+			}
+			int[] ring = rings[bookItemId];
+			if (ring == null) {
+				ring = new int[RING_DAYS];
+				rings[bookItemId] = ring;
+			}
+			ring[slot(day)]++;
+			totals[bookItemId]++;
+			return true;
+		}
+
+		// 대출 기록이 있던 도서면 비우고 true
+		boolean remove(int bookItemId) {
+			if (get(bookItemId) == 0) {
+				return false;
+			}
+			totals[bookItemId] = 0;
+			rings[bookItemId] = null;
+			return true;
+		}
+
+		// 새 날짜까지 기간에서 빠진 칸을 비움 (하루에 한 번, 대출 기록이 있는 도서만 확인), 날짜가 바뀌었으면 true
+		boolean advance(long day) {
+			if (day <= today) {
+				return false;
+			}
+			long newStart = windowStart(day);
+			long expired = Math.min(newStart - start, RING_DAYS);
+			for (int bookItemId = 0; bookItemId < rings.length; bookItemId++) {
+				int[] ring = rings[bookItemId];
+				if (ring == null) {
+					continue;
+				}
+				for (long expiredDay = start; expiredDay < start + expired; expiredDay++) {
+					int slot = slot(expiredDay);
+					totals[bookItemId] -= ring[slot];
+					ring[slot] = 0;
+				}
+				if (totals[bookItemId] == 0) {
+					rings[bookItemId] = null;
+				}
+			}
+			today = day;
+			start = newStart;
+			return true;
+		}
+	}
+
+	// 다시 불러오는 동안 반영한 대출(날짜) 또는 삭제(REMOVED)
+	private static class Change {
+		private final int bookItemId;
+		private final long day;
+
+		Change(int bookItemId, long day) {
+			this.bookItemId = bookItemId;
+			this.day = day;
+		}
+	}
+
+	/**
+	 * 상위 도서 ID와 대출 횟수 (같은 순서)
+	 */
+	@Getter
+	public static class Ranking {
+		private final int[] bookItemIds;
+		private final int[] counts;
+
+		public Ranking(int[] bookItemIds, int[] counts) {
+			this.bookItemIds = bookItemIds;
+			this.counts = counts;
+		}
+	}
+}
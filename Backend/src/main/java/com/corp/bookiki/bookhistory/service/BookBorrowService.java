@@ -2,6 +2,7 @@ package com.corp.bookiki.bookhistory.service;
 
 import java.time.LocalDateTime;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -9,9 +10,12 @@ import com.corp.bookiki.bookhistory.dto.BookBorrowResponse;
 import com.corp.bookiki.bookhistory.enitity.BookHistoryEntity;
 import com.corp.bookiki.bookhistory.repository.BookHistoryRepository;
 import com.corp.bookiki.bookitem.entity.BookItemEntity;
+import com.corp.bookiki.bookitem.entity.BookStatus;
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
 import com.corp.bookiki.bookitem.repository.BookItemRepository;
 import com.corp.bookiki.global.error.code.ErrorCode;
 import com.corp.bookiki.global.error.exception.BookHistoryException;
+import com.corp.bookiki.recommendation.service.CoBorrowIndex;
 import com.corp.bookiki.user.entity.UserEntity;
 import com.corp.bookiki.user.repository.UserRepository;
 
@@ -26,6 +30,9 @@ public class BookBorrowService {
 	private final BookItemRepository bookItemRepository;
 	private final UserRepository userRepository;
 	private final BookHistoryService bookHistoryService;
+	private final ApplicationEventPublisher eventPublisher;
+	private final BookLeaderboardService bookLeaderboardService;
+	private final CoBorrowIndex coBorrowIndex;
 
 	public BookBorrowResponse borrowBook(Integer userId, Integer bookItemId) {
 		BookItemEntity bookItem = bookItemRepository.findById(bookItemId)
@@ -46,6 +53,9 @@ public class BookBorrowService {
 		bookItem.borrow();
 
 		BookHistoryEntity savedHistory = bookHistoryRepository.save(history);
+		eventPublisher.publishEvent(BookStatusChangedEvent.of(bookItemId, BookStatus.AVAILABLE, BookStatus.BORROWED));
+		bookLeaderboardService.recordBorrow(bookItemId);
+		coBorrowIndex.recordBorrow(userId, bookItem);
 
 		return BookBorrowResponse.from(savedHistory);
 	}
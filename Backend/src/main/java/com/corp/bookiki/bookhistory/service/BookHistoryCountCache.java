@@ -0,0 +1,132 @@
+package com.corp.bookiki.bookhistory.service;
+
+import java.util.List;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
+import com.corp.bookiki.global.dto.ApproximatePage;
+
+/**
+ * 대출 기록 페이지 조회의 전체 개수 캐시
+ * 조회 조건을 키로 COUNT 결과를 짧게(ttl) 보관하고, 대출/반납/연체 처리가 커밋되면 모든 항목을 무효화함
+ * 무효화된 항목은 지우지 않고 남겨 두어, 정확한 개수가 필요 없는 요청(approximate)에서 이전 개수로 응답할 때 씀
+ */
+@Component
+public class BookHistoryCountCache {
+
+	@Value("${bookiki.history.count-cache.ttl-seconds:30}")
+	private long ttlSeconds;
+
+	@Value("${bookiki.history.count-cache.max-entries:10000}")
+	private int maxEntries;
+
+	private final Map<String, Entry> entries = new ConcurrentHashMap<>();
+
+	// 대출 기록이 바뀔 때마다 증가, 다른 버전에서 센 개수는 정확하지 않은 것으로 봄
+	private final AtomicLong version = new AtomicLong();
+
+	/**
+	 * 조회 이름과 조건으로 만든 캐시 키 (null과 빈 문자열은 같은 조건)
+	 */
+	public static String key(String query, Object... params) {
+		StringJoiner key = new StringJoiner("|", query + "|", "");
+		for (Object param : params) {
+			String value = param == null ? "" : param.toString().trim();
+			key.add(value);
+		}
+		return key.toString();
+	}
+
+	/**
+	 * 한 페이지 조회 결과에 전체 개수를 붙임
+	 * 마지막 페이지면 개수를 세지 않고, 캐시가 유효하면 캐시 값을 씀
+	 * approximate면 무효화되었거나 만료된 이전 개수, 그것도 없으면 현재 페이지로 추정한 개수를 쓰고 COUNT 조회를 하지 않음
+	 * @param counter 전체 개수 조회 (캐시로 처리하지 못할 때만 호출)
+	 */
+	public <T> Page<T> toPage(List<T> content, Pageable pageable, String key, boolean approximate,
+		LongSupplier counter) {
+		if (pageable.isUnpaged()) {
+			return new ApproximatePage<>(content, pageable, content.size(), false);
+		}
+
+		long offset = pageable.getOffset();
+		long current = version.get();
+		if (content.size() < pageable.getPageSize() && (offset == 0 || !content.isEmpty())) {
+			long total = offset + content.size();
+			put(key, total, current);
+			return new ApproximatePage<>(content, pageable, total, false);
+		}
+
+		Entry entry = entries.get(key);
+		if (entry != null && entry.version == current && System.nanoTime() < entry.expiresAt) {
+			return new ApproximatePage<>(content, pageable, entry.count, false);
+		}
+
+		if (approximate) {
+			// 꽉 찬 페이지면 다음 페이지가 있다고 봄
+			long lowerBound = offset + content.size() + (content.isEmpty() ? 0 : 1);
+			long total = entry == null ? lowerBound : Math.max(entry.count, lowerBound);
+			return new ApproximatePage<>(content, pageable, total, true);
+		}
+
+		long total = counter.getAsLong();
+		put(key, total, current);
+		return new ApproximatePage<>(content, pageable, total, false);
+	}
+
+	/**
+	 * 대출 기록이 바뀐 뒤 호출 (트랜잭션 안이면 커밋된 뒤 무효화)
+	 */
+	public void invalidate() {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			version.incrementAndGet();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				version.incrementAndGet();
+			}
+		});
+	}
+
+	// 대출/반납은 도서 상태 변경 이벤트로 함께 발행됨
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookStatusChanged(BookStatusChangedEvent event) {
+		version.incrementAndGet();
+	}
+
+	// 개수를 세기 시작한 시점의 버전으로 저장해, 세는 동안 바뀐 기록이 있으면 바로 무효가 되게 함
+	private void put(String key, long count, long countedVersion) {
+		if (entries.size() >= maxEntries && !entries.containsKey(key)) {
+			entries.clear();
+		}
+		entries.put(key, new Entry(count, countedVersion,
+			System.nanoTime() + TimeUnit.SECONDS.toNanos(ttlSeconds)));
+	}
+
+	private static class Entry {
+		private final long count;
+		private final long version;
+		private final long expiresAt;
+
+		private Entry(long count, long version, long expiresAt) {
+			this.count = count;
+			this.version = version;
+			this.expiresAt = expiresAt;
+		}
+	}
+}
@@ -4,8 +4,14 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -13,11 +19,14 @@ import org.springframework.transaction.annotation.Transactional;
 import com.corp.bookiki.bookhistory.dto.BookHistoryResponse;
 import com.corp.bookiki.bookhistory.enitity.BookHistoryEntity;
 import com.corp.bookiki.bookhistory.repository.BookHistoryRepository;
+import com.corp.bookiki.bookinformation.repository.BookInformationFulltextRepository;
 import com.corp.bookiki.bookitem.entity.BookItemEntity;
+import com.corp.bookiki.global.dto.CursorResponse;
 import com.corp.bookiki.global.error.code.ErrorCode;
 import com.corp.bookiki.global.error.exception.BookHistoryException;
 import com.corp.bookiki.loanpolicy.entity.LoanPolicyEntity;
 import com.corp.bookiki.loanpolicy.service.LoanPolicyService;
+import com.corp.bookiki.util.CursorUtil;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +38,8 @@ import lombok.extern.slf4j.Slf4j;
 public class BookHistoryService {
 	private final BookHistoryRepository bookHistoryRepository;
 	private final LoanPolicyService loanPolicyService;
+	private final BookInformationFulltextRepository bookInformationFulltextRepository;
+	private final BookHistoryCountCache bookHistoryCountCache;
 
 	public Page<BookHistoryResponse> getAdminBookHistories(
 		LocalDate startDate,
@@ -57,6 +68,83 @@ public class BookHistoryService {
 		}
 	}
 
+	/**
+	 * 관리자용 대출 기록 커서 기반 조회 (최근 대출 순)
+	 * 마지막으로 받은 기록의 (대출일시, ID) 다음부터 조회하므로 뒤쪽 목록도 첫 목록과 같은 비용으로 조회됨
+	 */
+	@Transactional(readOnly = true)
+	public CursorResponse<BookHistoryResponse> getAdminBookHistoriesByCursor(
+		LocalDate startDate,
+		LocalDate endDate,
+		String userName,
+		String companyId,
+		Boolean overdue,
+		String cursor,
+		int size
+	) {
+		CursorUtil.Cursor last = CursorUtil.decodeWithSortKey(cursor);
+		int limit = CursorUtil.size(size);
+		List<BookHistoryEntity> histories = bookHistoryRepository.findAllBookHistoriesForAdminBefore(
+			startDate.atStartOfDay(), endDate.atTime(23, 59, 59), userName, companyId, overdue,
+			last == null ? null : last.getSortKey(), last == null ? null : last.getId(), Limit.of(limit + 1));
+		return CursorResponse.of(histories, limit,
+			history -> CursorUtil.encode(history.getBorrowedAt(), history.getId()), BookHistoryResponse::from);
+	}
+
+	public Page<BookHistoryResponse> searchAdminBookHistories(
+		LocalDate startDate,
+		LocalDate endDate,
+		String keyword,
+		Pageable pageable
+	) {
+		return searchAdminBookHistories(startDate, endDate, keyword, pageable, false);
+	}
+
+	/**
+	 * 관리자용 대출 기록 도서 검색 (제목/저자)
+	 * FULLTEXT 검색을 사용할 수 있으면 MATCH ... AGAINST로, 아니면 LIKE 조회로 처리
+	 * LIKE 조회의 전체 개수는 조건별로 캐시하며, approximateTotal이면 캐시/추정 개수를 씀
+	 */
+	@Transactional(readOnly = true)
+	public Page<BookHistoryResponse> searchAdminBookHistories(
+		LocalDate startDate,
+		LocalDate endDate,
+		String keyword,
+		Pageable pageable,
+		boolean approximateTotal
+	) {
+		LocalDateTime startDateTime = startDate.atStartOfDay();
+		LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
+
+		String query = bookInformationFulltextRepository.isAvailable()
+			? BookInformationFulltextRepository.toBooleanQuery(keyword)
+			: null;
+		if (query == null) {
+			String like = normalizeKeyword(keyword);
+			List<BookHistoryEntity> histories = bookHistoryRepository.searchBookHistory(
+				startDateTime, endDateTime, like, pageable);
+			String key = BookHistoryCountCache.key("searchBookHistory", startDateTime, endDateTime, like);
+			return bookHistoryCountCache.toPage(histories, pageable, key, approximateTotal,
+					() -> bookHistoryRepository.countSearchBookHistory(startDateTime, endDateTime, like))
+				.map(BookHistoryResponse::from);
+		}
+
+		List<Integer> ids = bookInformationFulltextRepository.findBookHistoryIds(
+			startDateTime, endDateTime, query, pageable.getOffset(), pageable.getPageSize());
+		long total = bookInformationFulltextRepository.countBookHistories(startDateTime, endDateTime, query);
+
+		Map<Integer, BookHistoryEntity> histories = ids.isEmpty()
+			? Map.of()
+			: bookHistoryRepository.findAllWithDetailsByIds(ids).stream()
+				.collect(Collectors.toMap(BookHistoryEntity::getId, Function.identity()));
+		List<BookHistoryResponse> content = ids.stream()
+			.map(histories::get)
+			.filter(Objects::nonNull)
+			.map(BookHistoryResponse::from)
+			.collect(Collectors.toList());
+		return new PageImpl<>(content, pageable, total);
+	}
+
 	public List<BookHistoryResponse> getCurrentBorrowedBooks(Integer userId, Boolean overdue) {
 		try {
 			log.debug("현재 대출 중인 도서 조회 시작 - 사용자ID: {}, 연체만 조회: {}", userId, overdue);
@@ -78,6 +166,21 @@ public class BookHistoryService {
 		LocalDate endDate,
 		Boolean overdue,
 		Pageable pageable
+	) {
+		return getUserBookHistories(userId, startDate, endDate, overdue, pageable, false);
+	}
+
+	/**
+	 * 사용자 대출 기록 조회
+	 * 전체 개수는 조건별로 캐시하며, approximateTotal이면 캐시/추정 개수를 씀
+	 */
+	public Page<BookHistoryResponse> getUserBookHistories(
+		Integer userId,
+		LocalDate startDate,
+		LocalDate endDate,
+		Boolean overdue,
+		Pageable pageable,
+		boolean approximateTotal
 	) {
 		try {
 			log.debug("사용자 대출 기록 조회 시작 - 사용자ID: {}, 시작일: {}, 종료일: {}, 연체여부: {}",
@@ -86,8 +189,11 @@ public class BookHistoryService {
 			LocalDateTime startDateTime = startDate.atStartOfDay();
 			LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
 
-			Page<BookHistoryEntity> histories = bookHistoryRepository.findAllForUser(
+			List<BookHistoryEntity> content = bookHistoryRepository.findPageForUser(
 				userId, startDateTime, endDateTime, overdue, pageable);
+			String key = BookHistoryCountCache.key("findAllForUser", userId, startDateTime, endDateTime, overdue);
+			Page<BookHistoryEntity> histories = bookHistoryCountCache.toPage(content, pageable, key, approximateTotal,
+				() -> bookHistoryRepository.countAllForUser(userId, startDateTime, endDateTime, overdue));
 
 			log.debug("사용자 대출 기록 조회 완료 - 총 {} 건", histories.getTotalElements());
 
@@ -98,6 +204,31 @@ public class BookHistoryService {
 		}
 	}
 
+	/**
+	 * 사용자 대출 기록 도서 검색 (제목/저자)
+	 * 전체 개수는 조건별로 캐시하며, approximateTotal이면 캐시/추정 개수를 씀
+	 */
+	@Transactional(readOnly = true)
+	public Page<BookHistoryResponse> searchUserBookHistories(
+		Integer userId,
+		LocalDate startDate,
+		LocalDate endDate,
+		String keyword,
+		Pageable pageable,
+		boolean approximateTotal
+	) {
+		LocalDateTime startDateTime = startDate.atStartOfDay();
+		LocalDateTime endDateTime = endDate.atTime(23, 59, 59);
+		String like = normalizeKeyword(keyword);
+
+		List<BookHistoryEntity> histories = bookHistoryRepository.searchUserBookHistory(
+			userId, startDateTime, endDateTime, like, pageable);
+		String key = BookHistoryCountCache.key("searchUserBookHistory", userId, startDateTime, endDateTime, like);
+		return bookHistoryCountCache.toPage(histories, pageable, key, approximateTotal,
+				() -> bookHistoryRepository.countSearchUserBookHistory(userId, startDateTime, endDateTime, like))
+			.map(BookHistoryResponse::from);
+	}
+
 	public List<BookHistoryEntity> checkOneDayBeforeReturn() {
 		Integer loanPeriod = loanPolicyService.getCurrentPolicy().getLoanPeriod();
 
@@ -125,4 +256,9 @@ public class BookHistoryService {
 		Integer maxBooks = loanPolicyService.getCurrentPolicy().getMaxBooks();
 		return maxBooks-count;
 	}
+
+	// 앞뒤 공백은 LIKE 결과를 바꾸지 않도록 지우고, 빈 검색어는 조건 없음(null)으로 처리
+	private static String normalizeKeyword(String keyword) {
+		return keyword == null || keyword.isBlank() ? null : keyword.trim();
+	}
 }
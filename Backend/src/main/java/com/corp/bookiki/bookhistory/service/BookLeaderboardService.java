@@ -0,0 +1,171 @@
+package com.corp.bookiki.bookhistory.service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.corp.bookiki.bookhistory.repository.BookHistoryRepository;
+import com.corp.bookiki.bookhistory.repository.BookLeaderboardRedisRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 노드가 함께 쓰는 대출/좋아요 순위 (Redis 사용 시에만 동작)
+ * 대출/좋아요가 커밋된 뒤 오늘 key에 반영하며, Redis 오류는 대출/좋아요 처리에 영향을 주지 않도록 기록만 남김
+ * 대출 순위는 처음 켤 때 최근 기간의 대출 기록으로 채우고, 좋아요 순위는 켠 뒤부터 쌓임 (취소하면 되돌림)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookLeaderboardService {
+
+	public static final String BORROW = "BORROW";
+	public static final String FAVORITE = "FAVORITE";
+
+	private static final long SECONDS_PER_DAY = 24L * 60 * 60;
+	// 채우는 도중 노드가 죽었을 때 다른 노드가 다시 채우기까지 기다리는 시간
+	private static final long SEED_LOCK_SECONDS = 10 * 60;
+
+	private final BookLeaderboardRedisRepository bookLeaderboardRedisRepository;
+	private final BookHistoryRepository bookHistoryRepository;
+
+	@Value("${bookiki.leaderboard.redis-enabled:false}")
+	private boolean enabled;
+
+	@Value("${bookiki.leaderboard.window-days:30}")
+	private int windowDays;
+
+	@Value("${bookiki.leaderboard.union-ttl-seconds:60}")
+	private long unionTtlSeconds;
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void seedBorrows() {
+		if (!enabled || !bookLeaderboardRedisRepository.claimSeeding(BORROW, SEED_LOCK_SECONDS)) {
+			return;
+		}
+		long startedAt = System.currentTimeMillis();
+		LocalDate today = LocalDate.now();
+		Map<LocalDate, Map<Integer, Integer>> countsByDay = new HashMap<>();
+		try (Stream<Object[]> rows = bookHistoryRepository.streamBookItemIdAndBorrowedAtSince(
+			windowStart(today).atStartOfDay())) {
+			rows.forEach(row -> countsByDay
+				.computeIfAbsent(((LocalDateTime) row[1]).toLocalDate(), day -> new HashMap<>())
+				.merge((Integer) row[0], 1, Integer::sum));
+			bookLeaderboardRedisRepository.replaceDaily(BORROW, countsByDay, today, ttlSeconds());
+		} catch (RuntimeException e) {
+			bookLeaderboardRedisRepository.releaseSeeding(BORROW);
+			throw e;
+		}
+		// 기간이 지나면 채운 key가 모두 만료되므로 그때까지만 다시 채우지 않음
+		bookLeaderboardRedisRepository.markSeeded(BORROW, ttlSeconds());
+		log.info("대출 순위 Redis 초기화 완료 - 일수: {}, {}ms", countsByDay.size(), System.currentTimeMillis() - startedAt);
+	}
+
+	public void recordBorrow(int bookItemId) {
+		record(BORROW, bookItemId);
+	}
+
+	/**
+	 * @param bookItemId 같은 도서 정보의 대표 도서 아이템 ID (좋아요는 도서 정보 단위)
+	 */
+	public void recordFavorite(int bookItemId) {
+		record(FAVORITE, bookItemId);
+	}
+
+	/**
+	 * 좋아요 취소 시 좋아요했던 날의 key에서 되돌림 (기간이 지난 좋아요는 이미 순위에 없으므로 무시)
+	 * @param bookItemId recordFavorite에 넘긴 것과 같은 대표 도서 아이템 ID
+	 * @param favoritedAt 취소한 좋아요를 추가한 시각
+	 */
+	public void recordUnfavorite(int bookItemId, LocalDateTime favoritedAt) {
+		LocalDate today = LocalDate.now();
+		LocalDate day = favoritedAt.toLocalDate();
+		if (day.isBefore(windowStart(today))) {
+			return;
+		}
+		record(FAVORITE, bookItemId, day.isAfter(today) ? today : day, -1);
+	}
+
+	/**
+	 * 최근 기간 상위 도서 (합친 key를 잠깐 두고 읽으므로 최대 union-ttl-seconds만큼 늦게 반영될 수 있음)
+	 */
+	public BookBorrowCounter.Ranking top(String board, int limit) {
+		Set<ZSetOperations.TypedTuple<String>> top = bookLeaderboardRedisRepository.findTop(
+			board, LocalDate.now(), windowDays, limit, unionTtlSeconds);
+		int[] bookItemIds = new int[top.size()];
+		int[] counts = new int[top.size()];
+		int i = 0;
+		for (ZSetOperations.TypedTuple<String> entry : top) {
+			int count = entry.getScore() == null ? 0 : entry.getScore().intValue();
+			// 모두 취소된 좋아요처럼 0 이하로 남은 항목은 순위에서 제외 (score 내림차순이므로 이후도 모두 0 이하)
+			if (count <= 0) {
+				break;
+			}
+			bookItemIds[i] = Integer.parseInt(entry.getValue());
+			counts[i] = count;
+			i++;
+		}
+		return new BookBorrowCounter.Ranking(Arrays.copyOf(bookItemIds, i), Arrays.copyOf(counts, i));
+	}
+
+	private void record(String board, int bookItemId) {
+		record(board, bookItemId, LocalDate.now(), 1);
+	}
+
+	private void record(String board, int bookItemId, LocalDate day, int delta) {
+		if (!enabled) {
+			return;
+		}
+		// 지난 날의 key는 그날 기준으로 남은 기간만큼만 유지
+		long ttlSeconds = ttlSeconds() - ChronoUnit.DAYS.between(day, LocalDate.now()) * SECONDS_PER_DAY;
+		runAfterCommit(() -> {
+			try {
+				bookLeaderboardRedisRepository.increment(board, bookItemId, day, delta, ttlSeconds);
+			} catch (RuntimeException e) {
+				log.warn("순위 반영 실패 - 종류: {}, 도서 아이템: {}", board, bookItemId, e);
+			}
+		});
+	}
+
+	private LocalDate windowStart(LocalDate today) {
+		return today.minusDays(windowDays - 1);
+	}
+
+	// 일 단위 key는 기간이 지나면 합칠 일이 없으므로 하루 여유를 두고 만료
+	private long ttlSeconds() {
+		return (windowDays + 1) * SECONDS_PER_DAY;
+	}
+
+	private void runAfterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
+	}
+}
@@ -1,18 +1,23 @@
 package com.corp.bookiki.bookhistory.service;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.corp.bookiki.bookhistory.dto.BookFavoriteRankingResponse;
 import com.corp.bookiki.bookhistory.dto.BookRankingResponse;
 import com.corp.bookiki.bookhistory.repository.BookHistoryRepository;
+import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
 import com.corp.bookiki.bookitem.entity.BookItemEntity;
 import com.corp.bookiki.bookitem.repository.BookItemRepository;
-import com.corp.bookiki.global.error.code.ErrorCode;
-import com.corp.bookiki.global.error.exception.BookHistoryException;
+import com.corp.bookiki.favorite.repository.FavoriteRepository;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -24,34 +29,148 @@ public class BookRankingService {
 
 	private final BookHistoryRepository bookHistoryRepository;
 	private final BookItemRepository bookItemRepository;
+	private final BookBorrowCounter bookBorrowCounter;
+	private final BookLeaderboardService bookLeaderboardService;
+	private final FavoriteRepository favoriteRepository;
 
+	/**
+	 * 최근 한 달 대출 순위
+	 * Redis 순위를 사용하면 모든 노드가 같은 순위를 보고, 아니면 노드별 메모리 카운터에서 읽음
+	 * 도서 정보는 한 번에 조회함 (카운터 로드 전에는 대출 기록을 집계)
+	 */
 	@Transactional(readOnly = true)
 	public List<BookRankingResponse> getBookRanking() {
+		BookBorrowCounter.Ranking ranking = findSharedRanking(BookLeaderboardService.BORROW);
+		if (ranking == null) {
+			if (!bookBorrowCounter.isReady()) {
+				return getBookRankingFromHistories();
+			}
+			ranking = bookBorrowCounter.top();
+		}
+
+		int[] bookItemIds = ranking.getBookItemIds();
+		if (bookItemIds.length == 0) {
+			return List.of();
+		}
+
+		List<Integer> ids = new ArrayList<>(bookItemIds.length);
+		for (int bookItemId : bookItemIds) {
+			ids.add(bookItemId);
+		}
+		Map<Integer, BookItemEntity> bookItems = findBookItems(ids);
+
+		List<BookRankingResponse> responses = new ArrayList<>(bookItemIds.length);
+		for (int i = 0; i < bookItemIds.length; i++) {
+			BookItemEntity bookItem = bookItems.get(bookItemIds[i]);
+			if (bookItem == null) {
+				continue;
+			}
+			BookInformationEntity bookInformation = bookItem.getBookInformation();
+			responses.add(toResponse(bookItemIds[i], bookInformation.getTitle(), bookInformation,
+				(long) ranking.getCounts()[i]));
+		}
+		return responses;
+	}
+
+	/**
+	 * 최근 한 달 좋아요 순위 (같은 도서 정보의 도서들은 한 번으로 셈)
+	 * Redis 순위를 사용하지 않으면 좋아요 기록을 집계함
+	 */
+	@Transactional(readOnly = true)
+	public List<BookFavoriteRankingResponse> getFavoriteRanking() {
+		BookBorrowCounter.Ranking ranking = findSharedRanking(BookLeaderboardService.FAVORITE);
+		if (ranking == null) {
+			List<Object[]> rows = favoriteRepository.findTopFavoritedSince(LocalDateTime.now().minusMonths(1),
+				Limit.of(BookBorrowCounter.TOP_SIZE));
+			int[] bookItemIds = new int[rows.size()];
+			int[] counts = new int[rows.size()];
+			for (int i = 0; i < rows.size(); i++) {
+				bookItemIds[i] = ((Number) rows.get(i)[0]).intValue();
+				counts[i] = ((Number) rows.get(i)[1]).intValue();
+			}
+			ranking = new BookBorrowCounter.Ranking(bookItemIds, counts);
+		}
+
+		int[] bookItemIds = ranking.getBookItemIds();
+		List<Integer> ids = new ArrayList<>(bookItemIds.length);
+		for (int bookItemId : bookItemIds) {
+			ids.add(bookItemId);
+		}
+		Map<Integer, BookItemEntity> bookItems = findBookItems(ids);
+
+		List<BookFavoriteRankingResponse> responses = new ArrayList<>(bookItemIds.length);
+		for (int i = 0; i < bookItemIds.length; i++) {
+			BookItemEntity bookItem = bookItems.get(bookItemIds[i]);
+			if (bookItem == null) {
+				continue;
+			}
+			BookInformationEntity bookInformation = bookItem.getBookInformation();
+			responses.add(new BookFavoriteRankingResponse(
+				bookItemIds[i],
+				bookInformation.getTitle(),
+				bookInformation.getAuthor(),
+				bookInformation.getCategory(),
+				bookInformation.getImage(),
+				(long) ranking.getCounts()[i]
+			));
+		}
+		return responses;
+	}
+
+	// Redis 순위를 사용하지 않거나 Redis 오류면 null (노드별 순위로 대신함)
+	private BookBorrowCounter.Ranking findSharedRanking(String board) {
+		if (!bookLeaderboardService.isEnabled()) {
+			return null;
+		}
+		try {
+			return bookLeaderboardService.top(board, BookBorrowCounter.TOP_SIZE);
+		} catch (RuntimeException e) {
+			log.warn("Redis 순위 조회 실패 - 종류: {}", board, e);
+			return null;
+		}
+	}
+
+	private List<BookRankingResponse> getBookRankingFromHistories() {
 		LocalDateTime endDate = LocalDateTime.now();
 		LocalDateTime startDate = endDate.minusMonths(1);
 
 		log.info("Getting book ranking for period - Start: {}, End: {}", startDate, endDate);
 
 		List<Object[]> rankings = bookHistoryRepository.findTopMostBorrowedBooks(startDate, endDate);
+		Map<Integer, BookItemEntity> bookItems = findBookItems(rankings.stream()
+			.map(result -> ((Number) result[0]).intValue())
+			.collect(Collectors.toList()));
 
 		return rankings.stream()
+			.filter(result -> bookItems.containsKey(((Number) result[0]).intValue()))
 			.map(result -> {
 				Integer bookItemId = ((Number) result[0]).intValue();
 				String title = (String) result[1];
 				Long borrowCount = ((Number) result[2]).longValue();
 
-				BookItemEntity bookItem = bookItemRepository.findByIdWithBookInformation(bookItemId)
-					.orElseThrow(() -> new BookHistoryException(ErrorCode.BOOK_ITEM_NOT_FOUND));
-
-				return new BookRankingResponse(
-					bookItemId,
-					title,
-					bookItem.getBookInformation().getAuthor(),
-					bookItem.getBookInformation().getCategory(),
-					bookItem.getBookInformation().getImage(),
-					borrowCount
-				);
+				return toResponse(bookItemId, title, bookItems.get(bookItemId).getBookInformation(), borrowCount);
 			})
 			.collect(Collectors.toList());
 	}
-}
\ No newline at end of file
+
+	// 순위 도서의 도서 정보를 한 번에 조회 (삭제된 도서는 제외됨)
+	private Map<Integer, BookItemEntity> findBookItems(List<Integer> bookItemIds) {
+		if (bookItemIds.isEmpty()) {
+			return Map.of();
+		}
+		return bookItemRepository.findAllWithBookInformationByIds(bookItemIds).stream()
+			.collect(Collectors.toMap(BookItemEntity::getId, Function.identity()));
+	}
+
+	private static BookRankingResponse toResponse(Integer bookItemId, String title,
+		BookInformationEntity bookInformation, Long borrowCount) {
+		return new BookRankingResponse(
+			bookItemId,
+			title,
+			bookInformation.getAuthor(),
+			bookInformation.getCategory(),
+			bookInformation.getImage(),
+			borrowCount
+		);
+	}
+}
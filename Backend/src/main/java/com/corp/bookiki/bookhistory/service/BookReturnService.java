@@ -1,32 +1,40 @@
 package com.corp.bookiki.bookhistory.service;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
-import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.corp.bookiki.bookhistory.dto.BookReturnRequest;
-import com.corp.bookiki.bookhistory.enitity.BookHistoryEntity;
+import com.corp.bookiki.bookhistory.dto.MisplacedBookResponse;
+import com.corp.bookiki.bookhistory.dto.ScanSnapshot;
 import com.corp.bookiki.bookhistory.repository.BookHistoryRepository;
+import com.corp.bookiki.bookinformation.service.BookTitleMatcher;
 import com.corp.bookiki.bookitem.entity.BookItemEntity;
 import com.corp.bookiki.bookitem.entity.BookStatus;
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
 import com.corp.bookiki.bookitem.repository.BookItemRepository;
 import com.corp.bookiki.global.error.code.ErrorCode;
 import com.corp.bookiki.global.error.exception.BookHistoryException;
-import com.corp.bookiki.global.error.exception.BookItemException;
 import com.corp.bookiki.global.error.exception.ShelfException;
 import com.corp.bookiki.notice.service.NoticeService;
 import com.corp.bookiki.notification.entity.NotificationInformation;
 import com.corp.bookiki.notification.service.NotificationService;
 import com.corp.bookiki.shelf.entity.ShelfEntity;
 import com.corp.bookiki.shelf.repository.ShelfRepository;
+import com.corp.bookiki.util.QGramIndex;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,130 +50,116 @@ public class BookReturnService {
 	private final ShelfRepository shelfRepository;
 	private final NotificationService notificationService;
 	private final NoticeService noticeService;
-	private static List<BookItemEntity> mismatchedBooks;
-	private static Map<Integer, List<Integer>> shelfBookItemsMap;
-
-	// OCR 결과 유사성 분석을 위한 내부 클래스
-	private static class OcrSimilarityAnalyzer {
-		/**
-		 * Levenshtein Distance 알고리즘 구현
-		 * @param s1 첫 번째 문자열
-		 * @param s2 두 번째 문자열
-		 * @return 두 문자열 간 편집 거리
-		 */
-		public static int calculateLevenshteinDistance(String s1, String s2) {
-			// null 체크
-			if (s1 == null) return s2 == null ? 0 : s2.length();
-			if (s2 == null) return s1.length();
-
-			// 2차원 DP 테이블 초기화
-			int[][] dp = new int[s1.length() + 1][s2.length() + 1];
-
-			// 초기 값 설정
-			for (int i = 0; i <= s1.length(); i++) {
-				dp[i][0] = i;
-			}
-			for (int j = 0; j <= s2.length(); j++) {
-				dp[0][j] = j;
-			}
-
-			// DP 테이블 채우기
-			for (int i = 1; i <= s1.length(); i++) {
-				for (int j = 1; j <= s2.length(); j++) {
-					int cost = (s1.charAt(i - 1) == s2.charAt(j - 1)) ? 0 : 1;
-					dp[i][j] = Math.min(
-						Math.min(dp[i - 1][j] + 1, dp[i][j - 1] + 1),
-						dp[i - 1][j - 1] + cost
-					);
-				}
-			}
-
-			return dp[s1.length()][s2.length()];
-		}
-
-		/**
-		 * OCR 결과 유사성 판단 메서드
-		 * @param existingText 기존 텍스트
-		 * @param newText 새 텍스트
-		 * @return 유사성 여부
-		 */
-		public static boolean isOcrResultSimilar(String existingText, String newText) {
-			// null 체크
-			if (existingText == null || newText == null) {
-				return false;
-			}
-
-			// 길이 차이가 큰 경우 다른 텍스트로 판단
-			if (Math.abs(existingText.length() - newText.length()) > 2) {
-				return false;
-			}
-
-			// Levenshtein Distance 계산
-			int distance = calculateLevenshteinDistance(existingText, newText);
-
-			// 문자열 길이에 따른 유사성 임계값 계산
-			int maxLength = Math.max(existingText.length(), newText.length());
-			double similarityThreshold;
-
-			if (maxLength <= 3) {
-				// 짧은 문자열의 경우 더 엄격한 기준
-				similarityThreshold = 0.33; // 1/3
-			} else if (maxLength <= 5) {
-				similarityThreshold = 0.4; // 2/5
-			} else {
-				// 긴 문자열의 경우 좀 더 관대한 기준
-				similarityThreshold = 0.5; // 1/2
-			}
+	private final ScanStateStore scanStateStore;
+	private final BookTitleMatcher bookTitleMatcher;
+	private final MisplacedBookIndex misplacedBookIndex;
+	private final ApplicationEventPublisher eventPublisher;
 
-			// 정규화된 편집 거리 계산
-			double normalizedDistance = (double) distance / maxLength;
+	// OCR 텍스트로 도서를 찾을 때 고려할 제목 후보 수
+	private static final int OCR_MATCH_LIMIT = 5;
 
-			return normalizedDistance <= similarityThreshold;
-		}
-	}
+	// 분실 의심 도서 확인 시 IN 조건 한 번에 넣는 최대 도서 수
+	private static final int LOST_BOOK_CHUNK_SIZE = 1000;
 
-	private List<String> previousOcrResults = new ArrayList<>();
+	// 이 유사도 이상인 제목만 OCR 자동 반납 대상으로 봄
+	@Value("${bookiki.scan.ocr-match.threshold:0.85}")
+	private double ocrMatchThreshold;
 
 	public void processScanResults(BookReturnRequest bookReturnRequest) {
-		shelfBookItemsMap = bookReturnRequest.getShelfBookItemsMap();
-		Integer status = shelfBookItemsMap.get(0).get(0);
+		processScanResults(ScanSnapshot.from(bookReturnRequest));
+	}
 
-		if(status != 0) {
+	/**
+	 * 카메라/통신 오류가 보고된 스캔이면 관리자에게 알리고 CAMERA_ERROR로 거절
+	 */
+	public void validateCameraStatus(ScanSnapshot snapshot) {
+		if(snapshot.getCameraStatus() != 0) {
 			notificationService.addCameraErrorNotification(NotificationInformation.CAMERA_ERROR);
 			throw new BookHistoryException(ErrorCode.CAMERA_ERROR);
 		}
+	}
 
-		// 1. Shelf별로 도서 반납 처리 및 카테고리 검증
-		List<BookItemEntity> returnedBooks = processReturnsByShelf(
-			shelfBookItemsMap
-		);
-
-		// 2. OCR 결과 분석
-		List<String> newOcrTexts = analyzeOcrChanges(
-			bookReturnRequest.getOcrResults()
-		);
+	/**
+	 * 스캔 결과 반납 처리 (JSON/바이너리 요청 공통)
+	 * @param snapshot 책장별 도서 아이템 ID와 OCR 결과
+	 */
+	public void processScanResults(ScanSnapshot snapshot) {
+		validateCameraStatus(snapshot);
+
+		// 같은 스테이션의 스캔은 트랜잭션이 끝날 때까지 순차 처리 (Redis 사용 시 다른 노드와도 순차 처리)
+		String stationId = snapshot.getStationId();
+		Lock lock = scanStateStore.lockFor(stationId);
+		lock.lock();
+		String stationLockToken;
+		try {
+			stationLockToken = scanStateStore.acquireStationLock(stationId);
+		} catch (RuntimeException e) {
+			lock.unlock();
+			throw e;
+		}
+		Runnable unlock = () -> {
+			try {
+				scanStateStore.releaseStationLock(stationId, stationLockToken);
+			} finally {
+				lock.unlock();
+			}
+		};
+		boolean releaseOnCompletion = unlockAfterCompletion(unlock);
+		try {
+			StationScanState state = scanStateStore.getOrLoad(stationId);
+
+			// 1. Shelf별로 이전 스캔과 달라진 도서만 반납 처리 및 카테고리 검증
+			List<BookItemEntity> returnedBooks = processReturnsByShelf(
+				state,
+				snapshot
+			);
+
+			// 2. OCR 결과 분석
+			List<String> newOcrTexts = analyzeOcrChanges(
+				state,
+				snapshot.getOcrResults()
+			);
+
+			// 3. 반납된 도서가 없고 새로운 OCR 결과가 있다면 제목으로 반납을 시도하고, 실패한 경우만 관리자에게 알림
+			if (returnedBooks.isEmpty() && !newOcrTexts.isEmpty()) {
+				for(String newOcrText : newOcrTexts) {
+					if (!returnByOcrText(newOcrText)) {
+						notificationService.addQrScanErrorNotification(NotificationInformation.QR_SCAN_ERROR, newOcrText);
+					}
+				}
+			}
 
-		// 3. 반납된 도서가 없고 새로운 OCR 결과가 있다면 관리자에게 알림
-		if (returnedBooks.isEmpty() && !newOcrTexts.isEmpty()) {
-			for(String newOcrText : newOcrTexts) {
-				notificationService.addQrScanErrorNotification(NotificationInformation.QR_SCAN_ERROR, newOcrText);
+			runAfterCommit(() -> scanStateStore.save(state));
+		} finally {
+			if (!releaseOnCompletion) {
+				unlock.run();
 			}
 		}
 	}
 
-	private List<BookItemEntity> processReturnsByShelf(Map<Integer, List<Integer>> shelfBookItemsMap) {
-		if (shelfBookItemsMap.isEmpty()) {
+	private List<BookItemEntity> processReturnsByShelf(StationScanState state, ScanSnapshot snapshot) {
+		if (snapshot.getShelfCount() == 0) {
 			return new ArrayList<>();
 		}
 
 		List<BookItemEntity> allReturnedBooks = new ArrayList<>();
+		ShelfScanDiffEngine shelfScanDiffEngine = state.getShelfScanDiffEngine();
+
+		for (int i = 0; i < snapshot.getShelfCount(); i++) {
+			ShelfScanDiffEngine.Delta delta = shelfScanDiffEngine.diff(
+				snapshot.getShelfIds()[i],
+				snapshot.getShelfBookItemIds()[i]
+			);
+			// 첫 스캔은 바뀐 도서가 없어도 이전 기록을 정리하도록 처리함
+			if (delta.isEmpty() && !delta.isInitial()) {
+				continue;
+			}
+			List<BookItemEntity> shelfBooks = validateAndReturnBooks(state, delta);
+			allReturnedBooks.addAll(shelfBooks);
 
-		shelfBookItemsMap.entrySet().stream()
-			.filter(entry -> entry.getKey() != 0)
-			.forEach(entry -> {
-				List<BookItemEntity> shelfBooks = validateAndReturnBooks(entry.getKey(), entry.getValue());
-				allReturnedBooks.addAll(shelfBooks);
-			});
+			// 트랜잭션이 커밋된 뒤에만 스냅샷을 확정하여, 실패한 스캔은 다음 스캔에서 다시 처리되도록 함
+			runAfterCommit(() -> shelfScanDiffEngine.accept(delta));
+		}
 
 		allReturnedBooks.forEach(bookItem ->
 			notificationService.addFavoriteBookAvailableNotification(
@@ -178,92 +172,175 @@ public class BookReturnService {
 		return allReturnedBooks;
 	}
 
-	private List<BookItemEntity> validateAndReturnBooks(Integer shelfId, List<Integer> bookItemIds) {
-		if (bookItemIds == null || bookItemIds.isEmpty()) {
+	private List<BookItemEntity> validateAndReturnBooks(StationScanState state, ShelfScanDiffEngine.Delta delta) {
+		Integer shelfId = delta.getShelfId();
+
+		// 이전 스냅샷이 없으면 그 사이 책장에서 빠진 도서를 알 수 없으므로, 이번 스캔에 없는 도서의 오배치 기록을 지움
+		if (delta.isInitial()) {
+			misplacedBookIndex.retainOnShelf(shelfId, delta.getSnapshot());
+		}
+
+		// 책장에서 빠진 도서는 더 이상 잘못 꽂힌 도서가 아님
+		if (!delta.hasAdded()) {
+			misplacedBookIndex.update(state.getStationId(), shelfId, null, new int[0], delta.getRemoved());
 			return new ArrayList<>();
 		}
 
 		ShelfEntity shelf = shelfRepository.findById(shelfId)
 			.orElseThrow(() -> new ShelfException(ErrorCode.SHELF_NOT_FOUND));
 
-		List<BookItemEntity> allBooks = bookItemRepository.findAllById(bookItemIds);
+		// 카테고리는 메모리 맵으로 비교하므로 도서 정보를 조인하지 않음
+		misplacedBookIndex.update(state.getStationId(), shelfId, shelf.getCategory(), delta.getAdded(), delta.getRemoved());
 
-		mismatchedBooks = allBooks.stream()
-			.filter(book -> !Objects.equals(book.getBookInformation().getCategory(), shelf.getCategory()))
-			.collect(Collectors.toList());
+		// 새로 꽂힌 도서만 조회
+		List<BookItemEntity> addedBooks = bookItemRepository.findAllById(
+			Arrays.stream(delta.getAdded()).boxed().collect(Collectors.toList())
+		);
 
-		List<BookItemEntity> borrowedBooks = allBooks.stream()
+		List<BookItemEntity> borrowedBooks = addedBooks.stream()
 			.filter(book -> book.getBookStatus() == BookStatus.BORROWED && !book.getDeleted())
 			.collect(Collectors.toList());
 
-		borrowedBooks.forEach(this::processReturn);
+		returnBooks(borrowedBooks.stream()
+			.map(BookItemEntity::getId)
+			.collect(Collectors.toList()));
 
 		return borrowedBooks;
 	}
 
-	public void mismatchedBooksAlarms() {
-		if(!mismatchedBooks.isEmpty()) {
-			String titles = mismatchedBooks.stream()
-				.map(book -> book.getBookInformation().getTitle())
-				.collect(Collectors.joining(", "));
-			notificationService.addBooKArrangementNotification(NotificationInformation.BOOK_ARRANGEMENT, titles);
+	private void runAfterCommit(Runnable action) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			action.run();
+			return;
 		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCommit() {
+				action.run();
+			}
+		});
 	}
 
-	public void lostBooksAlarms() {
-		List<Integer> bookItemIds = shelfBookItemsMap.entrySet().stream()
-			.filter(entry -> entry.getKey() != 0)
-			.flatMap(entry -> entry.getValue().stream())
+	// 트랜잭션 안에서 호출된 경우 커밋/롤백이 끝난 뒤 락을 해제 (true 반환 시 호출자가 직접 해제하지 않음)
+	private boolean unlockAfterCompletion(Runnable unlock) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return false;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				unlock.run();
+			}
+		});
+		return true;
+	}
+
+	public void mismatchedBooksAlarms() {
+		List<String> titles = misplacedBookIndex.findAll().stream()
+			.map(MisplacedBookResponse::getTitle)
 			.collect(Collectors.toList());
 
-		List<Integer> availableBookItemIds = bookItemRepository.findIdsByBookStatusAndDeletedFalse(BookStatus.AVAILABLE);
+		if(!titles.isEmpty()) {
+			notificationService.addBooKArrangementNotification(NotificationInformation.BOOK_ARRANGEMENT, String.join(", ", titles));
+		}
+	}
 
-		// 성능을 위해 Set으로 변환
-		Set<Integer> availableIdsSet = new HashSet<>(availableBookItemIds);
+	public void lostBooksAlarms() {
+		int[] bookItemIds = scanStateStore.getAllStates().stream()
+			.flatMapToInt(state -> Arrays.stream(state.getShelfScanDiffEngine().getAllSnapshotBookItemIds()))
+			.distinct()
+			.toArray();
+
+		// 다른 노드의 대출/반납도 반영되도록 책장에서 확인된 도서만 나눠서 DB에서 상태를 확인 (전체 도서를 읽지 않음)
+		Set<Integer> availableIds = new HashSet<>();
+		for (int from = 0; from < bookItemIds.length; from += LOST_BOOK_CHUNK_SIZE) {
+			List<Integer> chunk = Arrays.stream(bookItemIds, from, Math.min(from + LOST_BOOK_CHUNK_SIZE, bookItemIds.length))
+				.boxed()
+				.collect(Collectors.toList());
+			availableIds.addAll(bookItemRepository.findIdsByIdInAndBookStatusAndDeletedFalse(chunk, BookStatus.AVAILABLE));
+		}
 
-		// availableIdsSet에 없는 bookItemIds를 찾음 (= 분실 의심 도서)
-		List<Integer> lostBookItemIds = bookItemIds.stream()
-			.filter(id -> !availableIdsSet.contains(id))
+		// 책장에서 확인된 도서 중 대출 가능 상태가 아닌 도서 (= 분실 의심 도서)
+		List<Integer> lostBookItemIds = Arrays.stream(bookItemIds)
+			.filter(id -> !availableIds.contains(id))
+			.boxed()
 			.collect(Collectors.toList());
 
 		notificationService.addLostBookNotification(lostBookItemIds);
 	}
 
-	public void processReturn(BookItemEntity bookItemEntity) {
-		bookItemEntity.returnBook();
+	/**
+	 * 여러 도서를 한 번에 반납 처리
+	 * 도서별 대출 이력을 불러오지 않고, 열린 대출 이력 종료와 도서 상태 변경을 각각 한 번의 UPDATE로 처리
+	 * @param bookItemIds 반납할 도서 아이템 ID 목록
+	 * @return 반납 처리된 도서 수
+	 */
+	public int returnBooks(Collection<Integer> bookItemIds) {
+		if (bookItemIds == null || bookItemIds.isEmpty()) {
+			return 0;
+		}
 
-		BookHistoryEntity latestHistory = bookItemEntity.getBookHistories().stream()
-			.filter(history -> history.getReturnedAt() == null)
-			.max(Comparator.comparing(BookHistoryEntity::getBorrowedAt))
-			.orElseThrow(() -> new BookItemException(ErrorCode.INVALID_BOOK_STATUS));
+		LocalDateTime now = LocalDateTime.now();
+		int closedHistories = bookHistoryRepository.returnAllByBookItemIds(bookItemIds, now);
+		int returnedBooks = bookItemRepository.updateBookStatusByIds(bookItemIds, BookStatus.BORROWED, BookStatus.AVAILABLE, now);
 
-		latestHistory.returnBook();
+		eventPublisher.publishEvent(BookStatusChangedEvent.of(bookItemIds, BookStatus.BORROWED, BookStatus.AVAILABLE));
 
+		if (closedHistories != returnedBooks) {
+			log.warn("반납 처리된 도서 수와 종료된 대출 이력 수가 다릅니다. 도서: {}, 이력: {}", returnedBooks, closedHistories);
+		}
+		return returnedBooks;
 	}
 
-	private List<String> analyzeOcrChanges(List<String> currentOcrResults) {
+	/**
+	 * QR을 읽지 못한 도서를 OCR 텍스트로 반납 처리
+	 * 임계값 이상으로 유사한 제목의 대출 중인 도서가 정확히 한 권일 때만 반납함 (여러 권이면 어느 책인지 알 수 없음)
+	 * @param ocrText OCR 텍스트
+	 * @return 반납 처리 여부
+	 */
+	private boolean returnByOcrText(String ocrText) {
+		List<QGramIndex.Match> matches = bookTitleMatcher.match(ocrText, OCR_MATCH_LIMIT, ocrMatchThreshold);
+		if (matches.isEmpty()) {
+			return false;
+		}
+
+		List<Integer> bookInformationIds = matches.stream()
+			.map(QGramIndex.Match::getId)
+			.collect(Collectors.toList());
+		List<BookItemEntity> borrowedBooks = bookItemRepository.findByBookInformationIdsAndStatus(
+			bookInformationIds, BookStatus.BORROWED);
+
+		if (borrowedBooks.size() != 1) {
+			log.info("OCR 텍스트로 반납할 도서를 특정할 수 없습니다. OCR: {}, 후보 도서 수: {}", ocrText, borrowedBooks.size());
+			return false;
+		}
+
+		BookItemEntity bookItem = borrowedBooks.get(0);
+		if (returnBooks(List.of(bookItem.getId())) == 0) {
+			return false;
+		}
+		log.info("OCR 텍스트로 반납 처리 - OCR: {}, 도서: {} ({})", ocrText, bookItem.getBookInformation().getTitle(), bookItem.getId());
+
+		notificationService.addFavoriteBookAvailableNotification(
+			NotificationInformation.FAVORITE_BOOK_AVAILABLE,
+			bookItem.getBookInformation().getTitle(),
+			bookItem.getId()
+		);
+		return true;
+	}
+
+	private List<String> analyzeOcrChanges(StationScanState state, List<String> currentOcrResults) {
 		if (currentOcrResults == null || currentOcrResults.isEmpty()) {
 			return new ArrayList<>();
 		}
 
+		List<String> previousOcrResults = state.getPreviousOcrResults();
 		List<String> newOcrTexts = new ArrayList<>();
 
 		if (currentOcrResults.size() > previousOcrResults.size()) {
-			newOcrTexts = findNewOcrTexts(currentOcrResults);
+			newOcrTexts = OcrSimilarityAnalyzer.findNewOcrTexts(previousOcrResults, currentOcrResults);
 		}
-		this.previousOcrResults = new ArrayList<>(currentOcrResults);
+		state.updatePreviousOcrResults(currentOcrResults);
 		return newOcrTexts;
 	}
-
-	private List<String> findNewOcrTexts(List<String> currentOcrResults) {
-		return currentOcrResults.stream()
-			.filter(currentText ->
-				// 기존 OCR 결과와 유사하지 않은 텍스트만 필터링
-				previousOcrResults.stream()
-					.noneMatch(existingText ->
-						OcrSimilarityAnalyzer.isOcrResultSimilar(existingText, currentText)
-					)
-			)
-			.collect(Collectors.toList());
-	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,139 @@
+package com.corp.bookiki.bookhistory.service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.corp.bookiki.bookhistory.dto.BorrowAnalyticsBookResponse;
+import com.corp.bookiki.bookhistory.dto.BorrowTrendResponse;
+import com.corp.bookiki.bookhistory.dto.CategoryBorrowCountResponse;
+import com.corp.bookiki.bookhistory.enitity.CategoryBorrowDailyEntity;
+import com.corp.bookiki.bookhistory.enitity.TrendInterval;
+import com.corp.bookiki.bookhistory.repository.BookBorrowDailyRepository;
+import com.corp.bookiki.bookhistory.repository.CategoryBorrowDailyRepository;
+import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookinformation.entity.Category;
+import com.corp.bookiki.bookinformation.repository.BookInformationRepository;
+import com.corp.bookiki.global.error.code.ErrorCode;
+import com.corp.bookiki.global.error.exception.BookHistoryException;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 대출 통계 (일별 집계 테이블만 읽음)
+ * 1년 조회도 도서 정보별 집계는 대출이 있던 날 x 도서 수, 카테고리 추이는 최대 366일 x 11행만 읽음
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BorrowAnalyticsService {
+
+	public static final int MAX_TOP_SIZE = 100;
+
+	private static final Category[] CATEGORIES = Category.values();
+
+	private final BookBorrowDailyRepository bookBorrowDailyRepository;
+	private final CategoryBorrowDailyRepository categoryBorrowDailyRepository;
+	private final BookInformationRepository bookInformationRepository;
+
+	/**
+	 * 기간 내 대출이 많은 도서 정보 (같은 도서 정보의 여러 권은 합산)
+	 */
+	@Transactional(readOnly = true)
+	public List<BorrowAnalyticsBookResponse> getTopBooks(LocalDate startDate, LocalDate endDate, int size) {
+		validatePeriod(startDate, endDate);
+		int limit = Math.min(Math.max(size, 1), MAX_TOP_SIZE);
+
+		List<Object[]> rows = bookBorrowDailyRepository.sumByBookInformation(startDate, endDate, Limit.of(limit));
+		if (rows.isEmpty()) {
+			return List.of();
+		}
+		List<Integer> ids = rows.stream()
+			.map(row -> ((Number) row[0]).intValue())
+			.collect(Collectors.toList());
+		Map<Integer, BookInformationEntity> bookInformations = bookInformationRepository.findAllById(ids).stream()
+			.collect(Collectors.toMap(BookInformationEntity::getId, Function.identity()));
+
+		List<BorrowAnalyticsBookResponse> responses = new ArrayList<>(rows.size());
+		for (Object[] row : rows) {
+			BookInformationEntity bookInformation = bookInformations.get(((Number) row[0]).intValue());
+			// 집계 후 삭제된 도서 정보는 제외
+			if (bookInformation == null) {
+				continue;
+			}
+			responses.add(new BorrowAnalyticsBookResponse(
+				bookInformation.getId(),
+				bookInformation.getTitle(),
+				bookInformation.getAuthor(),
+				bookInformation.getCategory(),
+				bookInformation.getImage(),
+				((Number) row[1]).longValue()
+			));
+		}
+		return responses;
+	}
+
+	/**
+	 * 구간별 카테고리 대출 추이 (대출이 없는 구간과 카테고리도 0으로 포함)
+	 */
+	@Transactional(readOnly = true)
+	public List<BorrowTrendResponse> getCategoryTrend(LocalDate startDate, LocalDate endDate, TrendInterval interval) {
+		validatePeriod(startDate, endDate);
+
+		// 구간 시작일 -> 카테고리 코드별 대출 횟수 (마지막 칸은 미분류)
+		Map<LocalDate, long[]> buckets = new LinkedHashMap<>();
+		for (LocalDate date = interval.startOf(startDate); !date.isAfter(endDate); date = next(date, interval)) {
+			buckets.put(date, new long[CATEGORIES.length + 1]);
+		}
+
+		for (CategoryBorrowDailyEntity row : categoryBorrowDailyRepository
+			.findByBorrowDateBetweenOrderByBorrowDate(startDate, endDate)) {
+			int category = row.getCategory();
+			int slot = category >= 0 && category < CATEGORIES.length ? category : CATEGORIES.length;
+			buckets.get(interval.startOf(row.getBorrowDate()))[slot] += row.getBorrowCount();
+		}
+
+		List<BorrowTrendResponse> responses = new ArrayList<>(buckets.size());
+		buckets.forEach((periodStart, counts) -> {
+			List<CategoryBorrowCountResponse> categories = new ArrayList<>(counts.length);
+			long total = 0;
+			for (int i = 0; i < counts.length; i++) {
+				boolean uncategorized = i == CATEGORIES.length;
+				categories.add(new CategoryBorrowCountResponse(
+					uncategorized ? null : CATEGORIES[i].getCode(),
+					uncategorized ? "미분류" : CATEGORIES[i].getCategoryName(),
+					counts[i]
+				));
+				total += counts[i];
+			}
+			responses.add(new BorrowTrendResponse(periodStart, total, categories));
+		});
+		return responses;
+	}
+
+	private static LocalDate next(LocalDate periodStart, TrendInterval interval) {
+		return switch (interval) {
+			case DAY -> periodStart.plusDays(1);
+			case WEEK -> periodStart.plusWeeks(1);
+			case MONTH -> periodStart.plusMonths(1);
+		};
+	}
+
+	private static void validatePeriod(LocalDate startDate, LocalDate endDate) {
+		if (startDate == null || endDate == null) {
+			throw new BookHistoryException(ErrorCode.INVALID_INPUT_VALUE_NO_DATE);
+		}
+		if (startDate.isAfter(endDate)) {
+			throw new BookHistoryException(ErrorCode.INVALID_INPUT_VALUE_AFTER_DATE);
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package com.corp.bookiki.bookhistory.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.corp.bookiki.global.lock.RedisLock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대출 일별 집계 작업 (시작 시 백필, 전날 확정, 오늘 주기 갱신)
+ * 같은 날짜 범위를 지우고 다시 넣으므로 여러 노드가 같은 작업을 동시에 실행하지 않도록 작업마다 Redis 락을 잡은 노드만 실행하고, 나머지는 건너뜀
+ * 전날 확정은 마지막으로 확정한 날짜를 Redis에 남기며, 락 때문에 건너뛰었거나 실패했으면 오늘 갱신 주기에서 다시 시도함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BorrowRollupSchedular {
+
+	private static final String BACKFILL_LOCK = "ROLLUP:BORROW:BACKFILL";
+	private static final String FINALIZE_LOCK = "ROLLUP:BORROW:FINALIZE";
+	private static final String TODAY_LOCK = "ROLLUP:BORROW:TODAY";
+
+	// 마지막으로 확정한 날짜 (이 날짜까지는 자정이 지난 뒤 다시 계산됨)
+	private static final String FINALIZED_DATE_KEY = "ROLLUP:BORROW:FINALIZED_DATE";
+
+	// 한 번에 다시 계산하는 최대 일 수 (한 트랜잭션이 너무 커지지 않도록 나눔)
+	private static final int BACKFILL_CHUNK_DAYS = 31;
+
+	private final BorrowRollupService borrowRollupService;
+	private final RedisLock redisLock;
+	private final StringRedisTemplate redisTemplate;
+
+	@Value("${bookiki.analytics.rollup.backfill-days:365}")
+	private int backfillDays;
+
+	@Value("${bookiki.analytics.rollup.lock-lease-ms:600000}")
+	private long lockLeaseMillis;
+
+	/**
+	 * 시작 시 마지막 집계일부터 오늘까지 채움 (집계가 없으면 backfill-days 전부터, 확정되지 않은 날이 있으면 그날부터)
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void backfill() {
+		runLocked(BACKFILL_LOCK, "백필", this::backfillLocked);
+	}
+
+	private void backfillLocked() {
+		LocalDate today = LocalDate.now();
+		LocalDate yesterday = today.minusDays(1);
+		LocalDate lastDate = borrowRollupService.findLastRollupDate();
+		LocalDate startDate;
+		if (lastDate == null) {
+			startDate = today.minusDays(backfillDays - 1L);
+		} else {
+			LocalDate finalizedDate = findFinalizedDate();
+			LocalDate firstOpenDate = finalizedDate == null ? yesterday : finalizedDate.plusDays(1);
+			startDate = firstOpenDate.isBefore(lastDate) ? firstOpenDate : lastDate;
+		}
+		log.info("대출 일별 집계 백필 - 기간: {} ~ {}", startDate, today);
+		rollupRange(startDate, today);
+		markFinalized(yesterday);
+	}
+
+	// 자정이 지난 뒤 전날 집계 확정 (자정 직전 대출이 오늘 주기 집계에서 빠졌을 수 있음)
+	@Scheduled(cron = "${bookiki.analytics.rollup.nightly-cron:0 10 0 * * *}")
+	public void rollupYesterday() {
+		runLocked(FINALIZE_LOCK, "전날 확정", this::finalizeLocked);
+	}
+
+	@Scheduled(fixedDelayString = "${bookiki.analytics.rollup.incremental-delay-ms:300000}",
+		initialDelayString = "${bookiki.analytics.rollup.incremental-delay-ms:300000}")
+	public void rollupToday() {
+		// 전날 확정이 건너뛰어졌거나 실패했으면 다시 시도
+		if (isFinalizePending()) {
+			runLocked(FINALIZE_LOCK, "전날 확정", this::finalizeLocked);
+		}
+		// 대출 여부는 노드마다 따로 알고 있으므로, 건너뛴 노드는 다음 주기에 다시 시도함
+		runLocked(TODAY_LOCK, "오늘 갱신", borrowRollupService::rollupTodayIfChanged);
+	}
+
+	// 마지막 확정일 다음 날부터 전날까지 다시 계산 (확정일을 모르면 전날만)
+	private void finalizeLocked() {
+		if (!isFinalizePending()) {
+			return;
+		}
+		LocalDate yesterday = LocalDate.now().minusDays(1);
+		LocalDate finalizedDate = findFinalizedDate();
+		LocalDate startDate = finalizedDate == null ? yesterday : finalizedDate.plusDays(1);
+		log.info("전날 대출 집계 확정 - 기간: {} ~ {}", startDate, yesterday);
+		rollupRange(startDate, yesterday);
+		markFinalized(yesterday);
+	}
+
+	private void rollupRange(LocalDate startDate, LocalDate endDate) {
+		for (LocalDate from = startDate; !from.isAfter(endDate); from = from.plusDays(BACKFILL_CHUNK_DAYS)) {
+			LocalDate to = from.plusDays(BACKFILL_CHUNK_DAYS - 1L);
+			borrowRollupService.rollup(from, to.isAfter(endDate) ? endDate : to);
+		}
+	}
+
+	private boolean isFinalizePending() {
+		LocalDate finalizedDate = findFinalizedDate();
+		return finalizedDate == null || finalizedDate.isBefore(LocalDate.now().minusDays(1));
+	}
+
+	private LocalDate findFinalizedDate() {
+		String value = redisTemplate.opsForValue().get(FINALIZED_DATE_KEY);
+		return value == null ? null : LocalDate.parse(value);
+	}
+
+	private void markFinalized(LocalDate date) {
+		redisTemplate.opsForValue().set(FINALIZED_DATE_KEY, date.toString());
+	}
+
+	// 다른 노드가 같은 작업을 실행 중이면 건너뜀 (먼저 끝난 노드의 결과를 이어받으므로 백필은 마지막 집계일부터만 다시 계산됨)
+	private void runLocked(String lockName, String job, Runnable task) {
+		String token = redisLock.tryLock(lockName, Duration.ofMillis(lockLeaseMillis));
+		if (token == null) {
+			log.info("다른 노드에서 대출 집계 중이므로 건너뜀 - {}", job);
+			return;
+		}
+		try {
+			task.run();
+		} finally {
+			redisLock.unlock(lockName, token);
+		}
+	}
+}
@@ -0,0 +1,81 @@
+package com.corp.bookiki.bookhistory.service;
+
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.corp.bookiki.bookhistory.repository.BookBorrowDailyRepository;
+import com.corp.bookiki.bookhistory.repository.CategoryBorrowDailyRepository;
+import com.corp.bookiki.bookitem.entity.BookStatus;
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 대출 기록 일별 집계 (book_borrow_daily, category_borrow_daily)
+ * 날짜 범위의 집계를 지우고 대출 기록에서 다시 계산하므로 같은 범위를 여러 번 실행해도 결과가 같음
+ * 오늘 집계는 대출이 있을 때만 주기적으로 다시 계산하고, 자정이 지나면 전날 집계를 확정함 (BorrowRollupSchedular)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BorrowRollupService {
+
+	private final BookBorrowDailyRepository bookBorrowDailyRepository;
+	private final CategoryBorrowDailyRepository categoryBorrowDailyRepository;
+
+	// 마지막 집계 이후 대출이 있었는지
+	private final AtomicBoolean dirty = new AtomicBoolean(true);
+
+	/**
+	 * startDate ~ endDate (포함) 집계를 다시 계산
+	 * @return 저장한 도서 정보별 집계 행 수
+	 */
+	@Transactional
+	public int rollup(LocalDate startDate, LocalDate endDate) {
+		long startedAt = System.currentTimeMillis();
+		categoryBorrowDailyRepository.deleteByBorrowDateBetween(startDate, endDate);
+		bookBorrowDailyRepository.deleteByBorrowDateBetween(startDate, endDate);
+		int rows = bookBorrowDailyRepository.insertRollup(startDate.atStartOfDay(),
+			endDate.plusDays(1).atStartOfDay());
+		int categoryRows = categoryBorrowDailyRepository.insertRollup(startDate, endDate);
+		log.info("대출 일별 집계 - 기간: {} ~ {}, 도서 {}행, 카테고리 {}행, {}ms", startDate, endDate, rows, categoryRows,
+			System.currentTimeMillis() - startedAt);
+		return rows;
+	}
+
+	/**
+	 * 오늘 집계 갱신 (마지막 집계 이후 대출이 없으면 건너뜀)
+	 */
+	@Transactional
+	public boolean rollupTodayIfChanged() {
+		if (!dirty.getAndSet(false)) {
+			return false;
+		}
+		try {
+			LocalDate today = LocalDate.now();
+			rollup(today, today);
+			return true;
+		} catch (RuntimeException e) {
+			dirty.set(true);
+			throw e;
+		}
+	}
+
+	@Transactional(readOnly = true)
+	public LocalDate findLastRollupDate() {
+		return bookBorrowDailyRepository.findLastBorrowDate().orElse(null);
+	}
+
+	// 대출/반납은 도서 상태 변경 이벤트로 함께 발행되며, AVAILABLE -> BORROWED만 대출로 봄
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookStatusChanged(BookStatusChangedEvent event) {
+		if (event.getFromStatus() == BookStatus.AVAILABLE && event.getToStatus() == BookStatus.BORROWED) {
+			dirty.set(true);
+		}
+	}
+}
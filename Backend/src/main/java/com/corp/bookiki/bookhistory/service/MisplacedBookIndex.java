@@ -0,0 +1,141 @@
+package com.corp.bookiki.bookhistory.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.corp.bookiki.bookhistory.dto.MisplacedBookResponse;
+import com.corp.bookiki.bookhistory.enitity.MisplacedBookEntity;
+import com.corp.bookiki.bookhistory.repository.MisplacedBookRepository;
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
+import com.corp.bookiki.bookitem.service.BookCategoryMap;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 잘못 꽂힌 도서 색인 (DB 영속화)
+ * 스캔에서 책장별로 달라진 도서만 반영하므로, 모든 스테이션/책장의 오배치 도서를 오배치 도서 수만큼만 조회해 알림과 관리자 조회에 사용함
+ */
+@Service
+@Transactional
+@RequiredArgsConstructor
+@Slf4j
+public class MisplacedBookIndex {
+
+	private final MisplacedBookRepository misplacedBookRepository;
+	private final BookCategoryMap bookCategoryMap;
+
+	/**
+	 * 책장 스캔 변경분 반영
+	 * @param stationId 스테이션 ID
+	 * @param shelfId 책장 ID
+	 * @param shelfCategory 책장 카테고리 (없으면 모든 도서를 올바르게 꽂힌 것으로 봄)
+	 * @param added 새로 꽂힌 도서 아이템 ID
+	 * @param removed 책장에서 빠진 도서 아이템 ID
+	 * @return 새로 꽂힌 도서 중 잘못 꽂힌 도서 수
+	 */
+	public int update(String stationId, Integer shelfId, Integer shelfCategory, int[] added, int[] removed) {
+		if (removed.length > 0) {
+			misplacedBookRepository.deleteByShelfIdAndBookItemIds(shelfId, boxed(removed));
+		}
+		if (added.length == 0) {
+			return 0;
+		}
+
+		int[] categories = bookCategoryMap.getCategories(added);
+		List<Integer> misplaced = new ArrayList<>();
+		List<Integer> placed = new ArrayList<>();
+		Map<Integer, Integer> expectedCategories = new HashMap<>();
+		for (int i = 0; i < added.length; i++) {
+			Integer category = categories[i] == BookCategoryMap.NO_CATEGORY ? null : categories[i];
+			if (shelfCategory == null || Objects.equals(category, shelfCategory)) {
+				placed.add(added[i]);
+			} else {
+				misplaced.add(added[i]);
+				expectedCategories.put(added[i], category);
+			}
+		}
+
+		// 올바른 책장으로 옮겨진 도서는 이전 책장의 스캔을 기다리지 않고 바로 제외
+		if (!placed.isEmpty()) {
+			misplacedBookRepository.deleteByBookItemIds(placed);
+		}
+		if (misplaced.isEmpty()) {
+			return 0;
+		}
+
+		LocalDateTime now = LocalDateTime.now();
+		Map<Integer, MisplacedBookEntity> existing = misplacedBookRepository.findAllById(misplaced).stream()
+			.collect(Collectors.toMap(MisplacedBookEntity::getBookItemId, Function.identity()));
+
+		List<MisplacedBookEntity> entities = new ArrayList<>(misplaced.size());
+		for (Integer bookItemId : misplaced) {
+			MisplacedBookEntity entity = existing.get(bookItemId);
+			if (entity != null) {
+				entity.relocate(shelfId, shelfCategory, stationId, now);
+			} else {
+				entity = MisplacedBookEntity.builder()
+					.bookItemId(bookItemId)
+					.shelfId(shelfId)
+					.shelfCategory(shelfCategory)
+					.expectedCategory(expectedCategories.get(bookItemId))
+					.stationId(stationId)
+					.detectedAt(now)
+					.build();
+			}
+			entities.add(entity);
+		}
+		misplacedBookRepository.saveAll(entities);
+		return misplaced.size();
+	}
+
+	/**
+	 * 이전 스냅샷 없이 처음 스캔한 책장의 기록 정리 (재시작/상태 내림 사이에 빠진 도서는 removed로 오지 않음)
+	 * @param bookItemIds 이번 스캔에서 책장에 있던 도서 아이템 ID
+	 */
+	public void retainOnShelf(Integer shelfId, int[] bookItemIds) {
+		if (bookItemIds.length == 0) {
+			misplacedBookRepository.deleteByShelfId(shelfId);
+			return;
+		}
+		misplacedBookRepository.deleteByShelfIdAndBookItemIdsNotIn(shelfId, boxed(bookItemIds));
+	}
+
+	// 삭제된 도서는 삭제와 같은 트랜잭션에서 제외 (트랜잭션 밖에서 발행된 경우 바로 제외)
+	@TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT, fallbackExecution = true)
+	public void onBookStatusChanged(BookStatusChangedEvent event) {
+		if (event.isDeleted()) {
+			misplacedBookRepository.deleteByBookItemIds(event.getBookItemIds());
+		}
+	}
+
+	@Transactional(readOnly = true)
+	public List<MisplacedBookResponse> findAll() {
+		return misplacedBookRepository.findAllWithBookInformation().stream()
+			.map(MisplacedBookResponse::from)
+			.collect(Collectors.toList());
+	}
+
+	@Transactional(readOnly = true)
+	public List<MisplacedBookResponse> findByShelfId(Integer shelfId) {
+		return misplacedBookRepository.findAllWithBookInformationByShelfId(shelfId).stream()
+			.map(MisplacedBookResponse::from)
+			.collect(Collectors.toList());
+	}
+
+	private static List<Integer> boxed(int[] ids) {
+		return Arrays.stream(ids).boxed().collect(Collectors.toList());
+	}
+}
@@ -0,0 +1,93 @@
+package com.corp.bookiki.bookhistory.service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import com.corp.bookiki.util.BkTree;
+import com.corp.bookiki.util.LevenshteinDistance;
+
+// OCR 결과 유사성 분석 (이전 스캔의 OCR 결과와 비교해 새로 등장한 텍스트를 찾음)
+public final class OcrSimilarityAnalyzer {
+
+	// 이전 OCR 결과가 이보다 적으면 BK-tree를 만들지 않고 바로 비교하는 편이 빠름
+	private static final int BK_TREE_THRESHOLD = 16;
+
+	// 길이 차이가 이보다 크면 다른 텍스트로 판단
+	private static final int MAX_LENGTH_DIFFERENCE = 2;
+
+	private OcrSimilarityAnalyzer() {
+	}
+
+	/**
+	 * OCR 결과 유사성 판단 메서드
+	 * @param existingText 기존 텍스트
+	 * @param newText 새 텍스트
+	 * @return 유사성 여부
+	 */
+	public static boolean isOcrResultSimilar(String existingText, String newText) {
+		// null 체크
+		if (existingText == null || newText == null) {
+			return false;
+		}
+
+		// 길이 차이가 큰 경우 다른 텍스트로 판단
+		if (Math.abs(existingText.length() - newText.length()) > MAX_LENGTH_DIFFERENCE) {
+			return false;
+		}
+
+		int maxLength = Math.max(existingText.length(), newText.length());
+
+		// 허용 거리를 넘는지만 알면 되므로 상한을 둔 편집 거리 계산
+		int distance = LevenshteinDistance.distance(existingText, newText, maxAllowedDistance(maxLength));
+
+		// 정규화된 편집 거리 계산
+		double normalizedDistance = (double) distance / maxLength;
+
+		return normalizedDistance <= similarityThreshold(maxLength);
+	}
+
+	/**
+	 * 이전 OCR 결과 중 유사한 것이 하나도 없는 새 텍스트 조회
+	 * @param previousOcrResults 이전 스캔의 OCR 결과
+	 * @param currentOcrResults 이번 스캔의 OCR 결과
+	 * @return 새로 등장한 OCR 텍스트
+	 */
+	public static List<String> findNewOcrTexts(List<String> previousOcrResults, List<String> currentOcrResults) {
+		if (previousOcrResults.size() < BK_TREE_THRESHOLD) {
+			return currentOcrResults.stream()
+				.filter(currentText -> previousOcrResults.stream()
+					.noneMatch(existingText -> isOcrResultSimilar(existingText, currentText)))
+				.collect(Collectors.toList());
+		}
+
+		BkTree tree = new BkTree();
+		previousOcrResults.forEach(tree::add);
+
+		return currentOcrResults.stream()
+			.filter(currentText -> currentText == null || tree.search(currentText, searchRadius(currentText)).stream()
+				.noneMatch(existingText -> isOcrResultSimilar(existingText, currentText)))
+			.collect(Collectors.toList());
+	}
+
+	// 문자열 길이에 따른 유사성 임계값 계산
+	static double similarityThreshold(int maxLength) {
+		if (maxLength <= 3) {
+			// 짧은 문자열의 경우 더 엄격한 기준
+			return 0.33; // 1/3
+		} else if (maxLength <= 5) {
+			return 0.4; // 2/5
+		}
+		// 긴 문자열의 경우 좀 더 관대한 기준
+		return 0.5; // 1/2
+	}
+
+	// 임계값을 만족할 수 있는 최대 편집 거리 (실수 오차를 고려해 올림)
+	static int maxAllowedDistance(int maxLength) {
+		return (int) Math.ceil(similarityThreshold(maxLength) * maxLength);
+	}
+
+	// 길이 차이 허용 범위 안의 가장 긴 상대 문자열 기준으로 탐색 반경 결정
+	private static int searchRadius(String text) {
+		return maxAllowedDistance(text.length() + MAX_LENGTH_DIFFERENCE);
+	}
+}
@@ -33,6 +33,7 @@ public class OverdueService {
 	private final UserRepository userRepository;
 	private final LoanPolicyRepository loanPolicyRepository;
 	private final NotificationService notificationService;
+	private final BookHistoryCountCache bookHistoryCountCache;
 
 	public void processOverdueBooks() {
 		LoanPolicyEntity loanPolicy = loanPolicyRepository.findById(1)
@@ -44,6 +45,11 @@ public class OverdueService {
 		for (BookHistoryEntity history : overdueHistories) {
 			processOverdueBook(history, loanPolicy);
 		}
+
+		// 연체 여부로 거른 대출 기록 개수가 바뀜
+		if (!overdueHistories.isEmpty()) {
+			bookHistoryCountCache.invalidate();
+		}
 	}
 
 	private void processOverdueBook(BookHistoryEntity history, LoanPolicyEntity loanPolicy) {
@@ -0,0 +1,187 @@
+package com.corp.bookiki.bookhistory.service;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.corp.bookiki.bookhistory.dto.BookReturnRequest;
+import com.corp.bookiki.bookhistory.dto.ScanQueueMetricsResponse;
+import com.corp.bookiki.bookhistory.dto.ScanSnapshot;
+import com.corp.bookiki.global.error.code.ErrorCode;
+import com.corp.bookiki.global.error.exception.BookHistoryException;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스캔 결과 비동기 처리 큐
+ * 스테이션별로 가장 최근 스캔 하나만 대기시키고(latest-wins), 전용 워커 스레드가 순서대로 반납 처리함
+ * 카메라/통신 오류가 보고된 스캔은 대기열에 넣지 않고 요청에서 바로 CAMERA_ERROR로 거절함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScanIngestionQueue {
+
+	private final BookReturnService bookReturnService;
+	private final ScanPayloadRecorder scanPayloadRecorder;
+
+	@Value("${bookiki.scan.queue.capacity:64}")
+	private int capacity;
+
+	private final ReentrantLock lock = new ReentrantLock();
+	private final Condition notEmpty = lock.newCondition();
+
+	// key: 스테이션ID, 삽입 순서대로 처리
+	private final LinkedHashMap<String, PendingScan> pending = new LinkedHashMap<>();
+
+	private final AtomicLong enqueuedCount = new AtomicLong();
+	private final AtomicLong coalescedCount = new AtomicLong();
+	private final AtomicLong droppedCount = new AtomicLong();
+	private final AtomicLong processedCount = new AtomicLong();
+	private final AtomicLong failedCount = new AtomicLong();
+	private final AtomicLong lastLagMillis = new AtomicLong();
+	private final AtomicLong maxLagMillis = new AtomicLong();
+	private final AtomicLong lastProcessingMillis = new AtomicLong();
+
+	private volatile boolean running;
+	private Thread worker;
+
+	@PostConstruct
+	void start() {
+		running = true;
+		worker = new Thread(this::drain, "bookiki-scan-worker");
+		worker.setDaemon(true);
+		worker.start();
+	}
+
+	@PreDestroy
+	void stop() {
+		running = false;
+		worker.interrupt();
+	}
+
+	/**
+	 * 스캔 결과를 큐에 등록
+	 * 같은 스테이션의 처리 대기 중인 스캔이 있으면 새 스캔으로 교체하고, 큐가 가득 차거나 카메라 오류면 거절
+	 */
+	public void enqueue(BookReturnRequest request) {
+		enqueue(ScanSnapshot.from(request));
+	}
+
+	public void enqueue(ScanSnapshot snapshot) {
+		// 카메라 오류 스캔이 대기 중인 정상 스캔을 덮어쓰지 않도록 큐에 넣기 전에 확인
+		bookReturnService.validateCameraStatus(snapshot);
+		scanPayloadRecorder.record(snapshot);
+
+		String stationId = snapshot.getStationId();
+		lock.lock();
+		try {
+			PendingScan previous = pending.get(stationId);
+			if (previous != null) {
+				// 아직 처리되지 않은 이전 스캔은 버리고 가장 최근 스냅샷만 처리
+				pending.put(stationId, new PendingScan(snapshot, previous.firstEnqueuedAt));
+				coalescedCount.incrementAndGet();
+			} else if (pending.size() >= capacity) {
+				droppedCount.incrementAndGet();
+				log.warn("스캔 큐가 가득 차 스캔 결과를 버립니다. Station: {}, Depth: {}", stationId, pending.size());
+				throw new BookHistoryException(ErrorCode.SCAN_QUEUE_FULL);
+			} else {
+				pending.put(stationId, new PendingScan(snapshot, System.currentTimeMillis()));
+				notEmpty.signal();
+			}
+			enqueuedCount.incrementAndGet();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	private void drain() {
+		while (running) {
+			PendingScan scan;
+			try {
+				scan = take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+
+			long startedAt = System.currentTimeMillis();
+			long lag = startedAt - scan.firstEnqueuedAt;
+			lastLagMillis.set(lag);
+			maxLagMillis.accumulateAndGet(lag, Math::max);
+
+			try {
+				bookReturnService.processScanResults(scan.snapshot);
+				processedCount.incrementAndGet();
+			} catch (Exception e) {
+				failedCount.incrementAndGet();
+				log.error("스캔 결과 처리 중 오류 발생 - Station: {}", scan.snapshot.getStationId(), e);
+			} finally {
+				lastProcessingMillis.set(System.currentTimeMillis() - startedAt);
+			}
+		}
+	}
+
+	private PendingScan take() throws InterruptedException {
+		lock.lockInterruptibly();
+		try {
+			while (pending.isEmpty()) {
+				notEmpty.await(1, TimeUnit.SECONDS);
+				if (!running) {
+					throw new InterruptedException();
+				}
+			}
+			Iterator<Map.Entry<String, PendingScan>> iterator = pending.entrySet().iterator();
+			PendingScan scan = iterator.next().getValue();
+			iterator.remove();
+			return scan;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public int getDepth() {
+		lock.lock();
+		try {
+			return pending.size();
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public ScanQueueMetricsResponse getMetrics() {
+		return ScanQueueMetricsResponse.builder()
+			.depth(getDepth())
+			.capacity(capacity)
+			.enqueued(enqueuedCount.get())
+			.coalesced(coalescedCount.get())
+			.dropped(droppedCount.get())
+			.processed(processedCount.get())
+			.failed(failedCount.get())
+			.lastLagMillis(lastLagMillis.get())
+			.maxLagMillis(maxLagMillis.get())
+			.lastProcessingMillis(lastProcessingMillis.get())
+			.build();
+	}
+
+	private static class PendingScan {
+		private final ScanSnapshot snapshot;
+		// 합쳐진 스캔 중 가장 먼저 들어온 시각 (처리 지연 측정용)
+		private final long firstEnqueuedAt;
+
+		private PendingScan(ScanSnapshot snapshot, long firstEnqueuedAt) {
+			this.snapshot = snapshot;
+			this.firstEnqueuedAt = firstEnqueuedAt;
+		}
+	}
+}
@@ -0,0 +1,175 @@
+package com.corp.bookiki.bookhistory.service;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.corp.bookiki.bookhistory.dto.BookReturnRequest;
+import com.corp.bookiki.bookhistory.dto.ScanSnapshot;
+import com.corp.bookiki.global.error.code.ErrorCode;
+import com.corp.bookiki.global.error.exception.BookHistoryException;
+
+/**
+ * 스캔 결과 바이너리 형식 (application/x-bookiki-scan)
+ *
+ * <pre>
+ * magic 'B' 'K', version(1 byte)
+ * varint 스테이션ID 길이, UTF-8 스테이션ID (길이 0이면 기본 스테이션)
+ * varint 카메라 상태 (0: 정상)
+ * varint 책장 수
+ *   varint 책장ID, varint 도서 수, 도서 수만큼 zigzag varint (직전 도서ID와의 차이)
+ * varint OCR 결과 수
+ *   varint 바이트 길이, UTF-8 텍스트
+ * </pre>
+ * 정렬된 도서 ID는 차이가 작아 대부분 1바이트로 표현되고, 디코딩 결과는 바로 int 배열이 됨
+ */
+public final class ScanPayloadCodec {
+
+	public static final String MEDIA_TYPE = "application/x-bookiki-scan";
+
+	private static final byte MAGIC_0 = 'B';
+	private static final byte MAGIC_1 = 'K';
+	private static final byte VERSION = 1;
+
+	private static final int MAX_STRING_BYTES = 1024;
+
+	private ScanPayloadCodec() {
+	}
+
+	public static ScanSnapshot decode(byte[] payload) {
+		if (payload == null || payload.length < 3
+			|| payload[0] != MAGIC_0 || payload[1] != MAGIC_1 || payload[2] != VERSION) {
+			throw new BookHistoryException(ErrorCode.INVALID_INPUT_VALUE);
+		}
+
+		Reader reader = new Reader(payload, 3);
+		String stationId = reader.readString();
+		int cameraStatus = reader.readVarint();
+
+		// 항목마다 최소 1바이트이므로 남은 길이보다 큰 개수는 잘못된 요청 (큰 배열 할당 방지)
+		int shelfCount = reader.readCount();
+		int[] shelfIds = new int[shelfCount];
+		int[][] shelfBookItemIds = new int[shelfCount][];
+		for (int i = 0; i < shelfCount; i++) {
+			shelfIds[i] = reader.readVarint();
+			int bookCount = reader.readCount();
+			int[] bookItemIds = new int[bookCount];
+			int previous = 0;
+			for (int j = 0; j < bookCount; j++) {
+				previous += zigzagDecode(reader.readVarint());
+				bookItemIds[j] = previous;
+			}
+			shelfBookItemIds[i] = bookItemIds;
+		}
+
+		int ocrCount = reader.readCount();
+		List<String> ocrResults = new ArrayList<>(ocrCount);
+		for (int i = 0; i < ocrCount; i++) {
+			ocrResults.add(reader.readString());
+		}
+
+		if (reader.position != payload.length) {
+			throw new BookHistoryException(ErrorCode.INVALID_INPUT_VALUE);
+		}
+
+		return new ScanSnapshot(stationId.isBlank() ? StationScanState.DEFAULT_STATION_ID : stationId,
+			cameraStatus, shelfIds, shelfBookItemIds, ocrResults);
+	}
+
+	public static byte[] encode(ScanSnapshot snapshot) {
+		ByteArrayOutputStream out = new ByteArrayOutputStream(64 + snapshot.getShelfCount() * 16);
+		out.write(MAGIC_0);
+		out.write(MAGIC_1);
+		out.write(VERSION);
+		writeString(out, snapshot.getStationId());
+		writeVarint(out, snapshot.getCameraStatus());
+
+		writeVarint(out, snapshot.getShelfCount());
+		for (int i = 0; i < snapshot.getShelfCount(); i++) {
+			writeVarint(out, snapshot.getShelfIds()[i]);
+			int[] bookItemIds = snapshot.getShelfBookItemIds()[i];
+			writeVarint(out, bookItemIds.length);
+			int previous = 0;
+			for (int bookItemId : bookItemIds) {
+				writeVarint(out, zigzagEncode(bookItemId - previous));
+				previous = bookItemId;
+			}
+		}
+
+		writeVarint(out, snapshot.getOcrResults().size());
+		for (String ocrResult : snapshot.getOcrResults()) {
+			writeString(out, ocrResult);
+		}
+		return out.toByteArray();
+	}
+
+	public static byte[] encode(BookReturnRequest request) {
+		return encode(ScanSnapshot.from(request));
+	}
+
+	private static int zigzagEncode(int value) {
+		return (value << 1) ^ (value >> 31);
+	}
+
+	private static int zigzagDecode(int value) {
+		return (value >>> 1) ^ -(value & 1);
+	}
+
+	private static void writeVarint(ByteArrayOutputStream out, int value) {
+		while ((value & ~0x7F) != 0) {
+			out.write((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		out.write(value);
+	}
+
+	private static void writeString(ByteArrayOutputStream out, String value) {
+		byte[] bytes = value == null ? new byte[0] : value.getBytes(StandardCharsets.UTF_8);
+		writeVarint(out, bytes.length);
+		out.write(bytes, 0, bytes.length);
+	}
+
+	private static class Reader {
+		private final byte[] buffer;
+		private int position;
+
+		private Reader(byte[] buffer, int position) {
+			this.buffer = buffer;
+			this.position = position;
+		}
+
+		private int readVarint() {
+			int value = 0;
+			for (int shift = 0; shift < 35; shift += 7) {
+				if (position >= buffer.length) {
+					throw new BookHistoryException(ErrorCode.INVALID_INPUT_VALUE);
+				}
+				byte b = buffer[position++];
+				value |= (b & 0x7F) << shift;
+				if ((b & 0x80) == 0) {
+					return value;
+				}
+			}
+			throw new BookHistoryException(ErrorCode.INVALID_INPUT_VALUE);
+		}
+
+		private int readCount() {
+			int count = readVarint();
+			if (count < 0 || count > buffer.length - position) {
+				throw new BookHistoryException(ErrorCode.INVALID_INPUT_VALUE);
+			}
+			return count;
+		}
+
+		private String readString() {
+			int length = readCount();
+			if (length > MAX_STRING_BYTES) {
+				throw new BookHistoryException(ErrorCode.INVALID_INPUT_VALUE);
+			}
+			String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+			position += length;
+			return value;
+		}
+	}
+}
@@ -0,0 +1,98 @@
+package com.corp.bookiki.bookhistory.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.corp.bookiki.bookhistory.dto.ScanSnapshot;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스캔 요청 기록기
+ * bookiki.scan.record.path가 설정된 경우에만 접수된 스캔 요청을 JSON 한 줄씩 파일에 추가함 (부하 측정 시 재생용)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScanPayloadRecorder {
+
+	private final ObjectMapper objectMapper;
+
+	@Value("${bookiki.scan.record.path:}")
+	private String recordPath;
+
+	private BufferedWriter writer;
+
+	@PostConstruct
+	void open() {
+		if (recordPath == null || recordPath.isBlank()) {
+			return;
+		}
+		try {
+			writer = Files.newBufferedWriter(Path.of(recordPath), StandardCharsets.UTF_8,
+				StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+			log.info("스캔 요청 기록 시작 - {}", recordPath);
+		} catch (IOException e) {
+			log.warn("스캔 요청 기록 파일을 열 수 없습니다. Path: {}", recordPath, e);
+		}
+	}
+
+	public boolean isEnabled() {
+		return writer != null;
+	}
+
+	// JSON 요청과 같은 형식으로 기록 (바이너리 요청도 동일하게 재생 가능)
+	public synchronized void record(ScanSnapshot snapshot) {
+		if (writer == null) {
+			return;
+		}
+		try {
+			writer.write(objectMapper.writeValueAsString(toRequestJson(snapshot)));
+			writer.newLine();
+			writer.flush();
+		} catch (IOException e) {
+			log.warn("스캔 요청 기록 실패 - Station: {}", snapshot.getStationId(), e);
+		}
+	}
+
+	private static Map<String, Object> toRequestJson(ScanSnapshot snapshot) {
+		Map<Integer, int[]> shelfBookItemsMap = new LinkedHashMap<>();
+		shelfBookItemsMap.put(ScanSnapshot.CAMERA_STATUS_SHELF_ID, new int[] {snapshot.getCameraStatus()});
+		for (int i = 0; i < snapshot.getShelfCount(); i++) {
+			shelfBookItemsMap.put(snapshot.getShelfIds()[i], snapshot.getShelfBookItemIds()[i]);
+		}
+
+		Map<String, Object> json = new LinkedHashMap<>();
+		json.put("stationId", snapshot.getStationId());
+		json.put("ocrResults", snapshot.getOcrResults());
+		json.put("shelfBookItemsMap", shelfBookItemsMap);
+		return json;
+	}
+
+	@PreDestroy
+	synchronized void close() {
+		if (writer == null) {
+			return;
+		}
+		try {
+			writer.close();
+		} catch (IOException e) {
+			log.warn("스캔 요청 기록 파일 닫기 실패", e);
+		} finally {
+			writer = null;
+		}
+	}
+}
@@ -0,0 +1,173 @@
+package com.corp.bookiki.bookhistory.service;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.corp.bookiki.bookhistory.repository.ScanStateRedisRepository;
+import com.corp.bookiki.global.error.code.ErrorCode;
+import com.corp.bookiki.global.error.exception.BookHistoryException;
+import com.corp.bookiki.global.lock.RedisLock;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스테이션ID별 스캔 상태 저장소 (스테이션 단위 락 스트라이핑 + 선택적 Redis 영속화 + 메모리 상한)
+ * Redis를 사용하면 스테이션 락도 Redis에 잡아, 여러 노드가 같은 스테이션의 스캔을 동시에 처리하지 않도록 함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ScanStateStore {
+
+	// 다른 노드가 같은 스테이션을 처리 중일 때 다시 시도하는 간격
+	private static final long LOCK_RETRY_MILLIS = 50;
+
+	private final ScanStateRedisRepository scanStateRedisRepository;
+	private final RedisLock redisLock;
+
+	private final Map<String, StationScanState> states = new ConcurrentHashMap<>();
+
+	@Value("${bookiki.scan.state.redis-enabled:false}")
+	private boolean redisEnabled;
+
+	@Value("${bookiki.scan.state.lock-stripes:16}")
+	private int lockStripes;
+
+	@Value("${bookiki.scan.state.max-memory-bytes:16777216}")
+	private long maxMemoryBytes;
+
+	// 스테이션 락을 잡은 노드가 죽어도 이 시간이 지나면 풀림 (스캔 한 건의 처리 시간보다 충분히 길게)
+	@Value("${bookiki.scan.state.lock-lease-ms:30000}")
+	private long lockLeaseMillis;
+
+	// 다른 노드가 같은 스테이션을 처리 중일 때 기다리는 최대 시간
+	@Value("${bookiki.scan.state.lock-wait-ms:5000}")
+	private long lockWaitMillis;
+
+	private Lock[] locks;
+
+	@PostConstruct
+	void initLocks() {
+		locks = new Lock[Math.max(1, lockStripes)];
+		for (int i = 0; i < locks.length; i++) {
+			locks[i] = new ReentrantLock();
+		}
+	}
+
+	// 같은 스테이션의 스캔은 순차 처리하고, 다른 스테이션은 서로 막지 않도록 스테이션ID로 락을 분산
+	public Lock lockFor(String stationId) {
+		return locks[Math.floorMod(stationId.hashCode(), locks.length)];
+	}
+
+	/**
+	 * 여러 노드 사이의 스테이션 락 획득 (lockFor로 노드 안의 락을 잡은 뒤 호출)
+	 * @return 해제에 쓸 토큰, Redis를 사용하지 않으면 null
+	 * @throws BookHistoryException 기다리는 동안 다른 노드가 락을 놓지 않으면 SCAN_STATION_BUSY
+	 */
+	public String acquireStationLock(String stationId) {
+		if (!redisEnabled) {
+			return null;
+		}
+		long deadline = System.currentTimeMillis() + lockWaitMillis;
+		while (true) {
+			String token = redisLock.tryLock(stationLockName(stationId), Duration.ofMillis(lockLeaseMillis));
+			if (token != null) {
+				return token;
+			}
+			if (System.currentTimeMillis() >= deadline) {
+				throw new BookHistoryException(ErrorCode.SCAN_STATION_BUSY);
+			}
+			try {
+				Thread.sleep(LOCK_RETRY_MILLIS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new BookHistoryException(ErrorCode.SCAN_STATION_BUSY);
+			}
+		}
+	}
+
+	public void releaseStationLock(String stationId, String token) {
+		if (redisEnabled) {
+			redisLock.unlock(stationLockName(stationId), token);
+		}
+	}
+
+	/**
+	 * 스테이션 상태 조회 (없으면 Redis에서 복원하거나 새로 생성)
+	 * Redis를 사용하는 경우 다른 노드가 처리한 결과를 반영하기 위해 항상 Redis의 상태를 기준으로 함
+	 */
+	public StationScanState getOrLoad(String stationId) {
+		if (redisEnabled) {
+			StationScanState loaded = scanStateRedisRepository.findByStationId(stationId)
+				.orElseGet(() -> states.getOrDefault(stationId, new StationScanState(stationId)));
+			states.put(stationId, loaded);
+			return loaded;
+		}
+		return states.computeIfAbsent(stationId, StationScanState::new);
+	}
+
+	// 스캔 처리가 끝난 상태를 저장하고 메모리 상한을 넘으면 오래된 스테이션부터 정리
+	public void save(StationScanState state) {
+		state.touch();
+		states.put(state.getStationId(), state);
+		if (redisEnabled) {
+			scanStateRedisRepository.save(state);
+		}
+		evictOverBudget(state.getStationId());
+	}
+
+	// 스케줄러용 전체 스테이션 상태 (Redis 사용 시 다른 노드의 스테이션까지 포함)
+	public Collection<StationScanState> getAllStates() {
+		if (!redisEnabled) {
+			return states.values();
+		}
+		return scanStateRedisRepository.findAllStationIds().stream()
+			.map(stationId -> scanStateRedisRepository.findByStationId(stationId)
+				.orElseGet(() -> states.get(stationId)))
+			.filter(state -> state != null)
+			.collect(Collectors.toList());
+	}
+
+	private static String stationLockName(String stationId) {
+		return "SCAN:STATION:" + stationId;
+	}
+
+	private void evictOverBudget(String currentStationId) {
+		long totalBytes = states.values().stream()
+			.mapToLong(StationScanState::estimateBytes)
+			.sum();
+		if (totalBytes <= maxMemoryBytes) {
+			return;
+		}
+
+		List<StationScanState> candidates = states.values().stream()
+			.filter(state -> !state.getStationId().equals(currentStationId))
+			.sorted(Comparator.comparingLong(StationScanState::getLastUpdatedAt))
+			.collect(Collectors.toList());
+
+		for (StationScanState candidate : candidates) {
+			if (totalBytes <= maxMemoryBytes) {
+				break;
+			}
+			states.remove(candidate.getStationId());
+			totalBytes -= candidate.estimateBytes();
+			if (redisEnabled) {
+				log.debug("메모리 상한 초과로 스캔 상태를 메모리에서 내립니다. Station: {}", candidate.getStationId());
+			} else {
+				log.warn("메모리 상한 초과로 스캔 상태를 삭제합니다. Station: {}", candidate.getStationId());
+			}
+		}
+	}
+}
@@ -0,0 +1,161 @@
+package com.corp.bookiki.bookhistory.service;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import lombok.Getter;
+
+// 책장별 마지막 스캔 스냅샷을 기억하고, 새 스캔과의 차이(추가/제거된 도서)만 계산하는 엔진 (스테이션마다 하나씩 생성)
+public class ShelfScanDiffEngine {
+
+	private static final int[] EMPTY = new int[0];
+
+	// key: 책장ID, value: 정렬 및 중복 제거된 도서 아이템ID 배열
+	private final Map<Integer, int[]> snapshots = new ConcurrentHashMap<>();
+
+	/**
+	 * 마지막으로 확정된 스냅샷과 새 스캔 결과를 비교
+	 * @param shelfId 책장 ID
+	 * @param bookItemIds 이번 스캔에서 인식된 도서 아이템 ID 목록
+	 * @return 추가/제거된 도서 아이템 ID (스냅샷은 accept 호출 전까지 갱신되지 않음)
+	 */
+	public Delta diff(int shelfId, int[] bookItemIds) {
+		int[] current = normalize(bookItemIds);
+		int[] previous = snapshots.get(shelfId);
+		return merge(shelfId, previous == null ? EMPTY : previous, current, previous == null);
+	}
+
+	public Delta diff(int shelfId, Collection<Integer> bookItemIds) {
+		return diff(shelfId, toIntArray(bookItemIds));
+	}
+
+	// 처리가 끝난 스캔 결과를 다음 비교 기준으로 확정
+	public void accept(Delta delta) {
+		snapshots.put(delta.getShelfId(), delta.getSnapshot());
+	}
+
+	// 외부 저장소(Redis)에서 불러온 스냅샷 복원
+	public void restore(int shelfId, int[] bookItemIds) {
+		snapshots.put(shelfId, normalize(bookItemIds));
+	}
+
+	public Set<Integer> getShelfIds() {
+		return snapshots.keySet();
+	}
+
+	// 스냅샷이 차지하는 대략적인 메모리 크기 (byte)
+	public long estimateBytes() {
+		return snapshots.values().stream()
+			.mapToLong(ids -> 16L + 4L * ids.length)
+			.sum();
+	}
+
+	public int[] getSnapshot(int shelfId) {
+		return snapshots.getOrDefault(shelfId, EMPTY).clone();
+	}
+
+	// 모든 책장에서 마지막으로 확인된 도서 아이템 ID (분실 도서 판별용)
+	public int[] getAllSnapshotBookItemIds() {
+		return normalize(snapshots.values().stream()
+			.flatMapToInt(Arrays::stream)
+			.toArray());
+	}
+
+	public void clear() {
+		snapshots.clear();
+	}
+
+	private static Delta merge(int shelfId, int[] previous, int[] current, boolean initial) {
+		int[] added = new int[current.length];
+		int[] removed = new int[previous.length];
+		int addedCount = 0;
+		int removedCount = 0;
+		int i = 0;
+		int j = 0;
+
+		// 두 배열 모두 정렬되어 있으므로 한 번의 병합으로 차집합을 구함
+		while (i < previous.length && j < current.length) {
+			if (previous[i] == current[j]) {
+				i++;
+				j++;
+			} else if (previous[i] < current[j]) {
+				removed[removedCount++] = previous[i++];
+			} else {
+				added[addedCount++] = current[j++];
+			}
+		}
+		while (i < previous.length) {
+			removed[removedCount++] = previous[i++];
+		}
+		while (j < current.length) {
+			added[addedCount++] = current[j++];
+		}
+
+		return new Delta(
+			shelfId,
+			Arrays.copyOf(added, addedCount),
+			Arrays.copyOf(removed, removedCount),
+			current,
+			initial
+		);
+	}
+
+	private static int[] normalize(int[] ids) {
+		if (ids == null || ids.length == 0) {
+			return EMPTY;
+		}
+		int[] sorted = ids.clone();
+		Arrays.sort(sorted);
+		int size = 1;
+		for (int i = 1; i < sorted.length; i++) {
+			if (sorted[i] != sorted[size - 1]) {
+				sorted[size++] = sorted[i];
+			}
+		}
+		return size == sorted.length ? sorted : Arrays.copyOf(sorted, size);
+	}
+
+	private static int[] toIntArray(Collection<Integer> ids) {
+		if (ids == null || ids.isEmpty()) {
+			return EMPTY;
+		}
+		return ids.stream()
+			.filter(id -> id != null)
+			.mapToInt(Integer::intValue)
+			.toArray();
+	}
+
+	@Getter
+	public static class Delta {
+		private final int shelfId;
+		private final int[] added;
+		private final int[] removed;
+		private final int[] snapshot;
+
+		// 비교할 이전 스냅샷이 없는 첫 스캔 (재시작/상태 내림 이후에는 그 사이 빠진 도서를 removed로 알 수 없음)
+		private final boolean initial;
+
+		private Delta(int shelfId, int[] added, int[] removed, int[] snapshot, boolean initial) {
+			this.shelfId = shelfId;
+			this.added = added;
+			this.removed = removed;
+			this.snapshot = snapshot;
+			this.initial = initial;
+		}
+
+		public boolean hasAdded() {
+			return added.length > 0;
+		}
+
+		public boolean hasRemoved() {
+			return removed.length > 0;
+		}
+
+		public boolean isEmpty() {
+			return !hasAdded() && !hasRemoved();
+		}
+	}
+}
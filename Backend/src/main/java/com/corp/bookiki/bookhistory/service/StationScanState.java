@@ -0,0 +1,39 @@
+package com.corp.bookiki.bookhistory.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import lombok.Getter;
+
+// 스캔 스테이션(책장 카메라) 하나가 가지는 스캔 상태
+@Getter
+public class StationScanState {
+
+	public static final String DEFAULT_STATION_ID = "default";
+
+	private final String stationId;
+	private final ShelfScanDiffEngine shelfScanDiffEngine = new ShelfScanDiffEngine();
+
+	private volatile List<String> previousOcrResults = new ArrayList<>();
+	private volatile long lastUpdatedAt = System.currentTimeMillis();
+
+	public StationScanState(String stationId) {
+		this.stationId = stationId;
+	}
+
+	public void updatePreviousOcrResults(List<String> ocrResults) {
+		this.previousOcrResults = new ArrayList<>(ocrResults);
+	}
+
+	public void touch() {
+		this.lastUpdatedAt = System.currentTimeMillis();
+	}
+
+	// 스테이션 상태가 차지하는 대략적인 메모리 크기 (byte)
+	public long estimateBytes() {
+		long ocrBytes = previousOcrResults.stream()
+			.mapToLong(text -> 40L + 2L * text.length())
+			.sum();
+		return shelfScanDiffEngine.estimateBytes() + ocrBytes;
+	}
+}
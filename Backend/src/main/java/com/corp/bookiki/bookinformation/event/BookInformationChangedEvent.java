@@ -0,0 +1,35 @@
+package com.corp.bookiki.bookinformation.event;
+
+import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+
+import lombok.Getter;
+
+/**
+ * 도서 정보 변경 이벤트 (등록/분류 변경)
+ * 트랜잭션 커밋 후 검색/자동완성/맞춤법/제목 매칭 색인과 분류 맵 등 메모리 상태를 갱신하는 데 사용
+ */
+@Getter
+public class BookInformationChangedEvent {
+
+	private final BookInformationEntity bookInformation;
+
+	// false면 이미 등록된 도서 정보의 분류만 바뀜
+	private final boolean added;
+
+	private BookInformationChangedEvent(BookInformationEntity bookInformation, boolean added) {
+		this.bookInformation = bookInformation;
+		this.added = added;
+	}
+
+	public static BookInformationChangedEvent added(BookInformationEntity bookInformation) {
+		return new BookInformationChangedEvent(bookInformation, true);
+	}
+
+	public static BookInformationChangedEvent categoryChanged(BookInformationEntity bookInformation) {
+		return new BookInformationChangedEvent(bookInformation, false);
+	}
+
+	public boolean isCategoryChanged() {
+		return !added;
+	}
+}
@@ -0,0 +1,207 @@
+package com.corp.bookiki.bookinformation.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import com.corp.bookiki.bookitem.enums.SearchType;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * MySQL FULLTEXT(ngram parser) 기반 도서 검색
+ * LIKE '%키워드%'는 인덱스를 사용할 수 없으므로, book_informations에 ngram FULLTEXT 인덱스를 만들고 MATCH ... AGAINST로 조회함
+ * 인덱스는 db/fulltext-indexes.sql로 미리 만들어 두고, 시작 시에는 인덱스가 모두 있는지만 확인함
+ * bookiki.search.fulltext.enabled=true이고 MySQL에 인덱스가 모두 있을 때만 사용하며, 그 외(H2, 인덱스 없음 등)에는 기존 LIKE 조회를 사용함
+ * MATCH의 컬럼 목록은 FULLTEXT 인덱스의 컬럼 목록과 같아야 하므로 조회별로 인덱스를 따로 둠
+ * 조회 결과는 ID만 반환하고, 엔티티는 호출하는 쪽에서 ID로 한 번에 불러옴
+ */
+@Slf4j
+@Repository
+@RequiredArgsConstructor
+public class BookInformationFulltextRepository {
+
+	// db/fulltext-indexes.sql로 만드는 인덱스
+	private static final List<String> INDEXES = List.of(
+		"ft_book_info_title",
+		"ft_book_info_author",
+		"ft_book_info_publisher",
+		"ft_book_info_title_description",
+		"ft_book_info_title_author",
+		"ft_book_info_title_author_publisher"
+	);
+
+	// MySQL ngram_token_size 기본값 (이보다 짧은 단어는 FULLTEXT로 찾을 수 없음)
+	private static final int NGRAM_TOKEN_SIZE = 2;
+
+	// OR 조건은 FULLTEXT 인덱스를 쓰지 못하므로 UNION으로 나눔
+	private static final String ADMIN_INFORMATION_IDS = """
+		SELECT id FROM book_informations WHERE MATCH(title, author, publisher) AGAINST(:query IN BOOLEAN MODE)
+		UNION
+		SELECT id FROM book_informations WHERE isbn LIKE :isbn""";
+
+	private static final String HISTORY_INFORMATION_IDS = """
+		SELECT id FROM book_informations WHERE MATCH(title, author) AGAINST(:query IN BOOLEAN MODE)""";
+
+	private final NamedParameterJdbcTemplate jdbcTemplate;
+
+	@Value("${bookiki.search.fulltext.enabled:false}")
+	private boolean enabled;
+
+	private volatile boolean available;
+
+	// 인덱스 생성은 테이블 쓰기를 막으므로 시작 시 만들지 않고 확인만 함
+	@EventListener(ApplicationReadyEvent.class)
+	public void verifyIndexes() {
+		if (!enabled) {
+			return;
+		}
+		String product = jdbcTemplate.getJdbcTemplate().execute(
+			(ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+		if (product == null || !product.toLowerCase().contains("mysql")) {
+			log.warn("FULLTEXT 검색은 MySQL에서만 사용할 수 있어 LIKE 조회를 사용합니다. DB: {}", product);
+			return;
+		}
+
+		List<String> existing = jdbcTemplate.queryForList("""
+			SELECT DISTINCT INDEX_NAME FROM information_schema.STATISTICS
+			WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'book_informations' AND INDEX_TYPE = 'FULLTEXT'
+			AND INDEX_NAME IN (:names)
+			""", new MapSqlParameterSource("names", INDEXES), String.class);
+		List<String> missing = INDEXES.stream()
+			.filter(name -> !existing.contains(name))
+			.toList();
+		if (!missing.isEmpty()) {
+			log.warn("FULLTEXT 인덱스가 없어 LIKE 조회를 사용합니다. db/fulltext-indexes.sql을 실행하세요. 없는 인덱스: {}", missing);
+			return;
+		}
+		available = true;
+		log.info("FULLTEXT 검색 사용");
+	}
+
+	public boolean isAvailable() {
+		return available;
+	}
+
+	/**
+	 * 키워드를 BOOLEAN MODE 질의로 변환
+	 * 공백으로 나눈 단어를 모두 포함(+)하고, 각 단어는 구문("...")으로 묶어 ngram이 연속된 경우만 찾도록 함
+	 * @return FULLTEXT로 찾을 수 없는 키워드(한 글자 등)면 null
+	 */
+	public static String toBooleanQuery(String keyword) {
+		if (keyword == null) {
+			return null;
+		}
+		StringBuilder query = new StringBuilder();
+		for (String token : keyword.trim().split("\\s+")) {
+			String cleaned = token.replaceAll("[+\\-<>()~*\"@]", "");
+			if (cleaned.length() < NGRAM_TOKEN_SIZE) {
+				return null;
+			}
+			if (query.length() > 0) {
+				query.append(' ');
+			}
+			query.append("+\"").append(cleaned).append('"');
+		}
+		return query.length() == 0 ? null : query.toString();
+	}
+
+	public List<Integer> findBookItemIds(SearchType type, String query, long offset, int limit) {
+		return jdbcTemplate.queryForList("""
+			SELECT item.id FROM book_items item
+			JOIN book_informations info ON info.id = item.book_information_id
+			WHERE item.deleted = false
+			AND MATCH(%s) AGAINST(:query IN BOOLEAN MODE)
+			ORDER BY item.id
+			LIMIT :limit OFFSET :offset
+			""".formatted(columns(type)), pageParams(query, offset, limit), Integer.class);
+	}
+
+	public long countBookItems(SearchType type, String query) {
+		Long count = jdbcTemplate.queryForObject("""
+			SELECT COUNT(*) FROM book_items item
+			JOIN book_informations info ON info.id = item.book_information_id
+			WHERE item.deleted = false
+			AND MATCH(%s) AGAINST(:query IN BOOLEAN MODE)
+			""".formatted(columns(type)), new MapSqlParameterSource("query", query), Long.class);
+		return count == null ? 0 : count;
+	}
+
+	// 관리자 도서 검색 (제목/저자/출판사 FULLTEXT + ISBN 부분 일치), 최신 도서부터
+	public List<Integer> findBookItemIdsForAdmin(String query, String keyword, long offset, int limit) {
+		return jdbcTemplate.queryForList("""
+			SELECT item.id FROM book_items item
+			WHERE item.deleted = false
+			AND item.book_information_id IN (%s)
+			ORDER BY item.id DESC
+			LIMIT :limit OFFSET :offset
+			""".formatted(ADMIN_INFORMATION_IDS), pageParams(query, offset, limit)
+			.addValue("isbn", "%" + keyword + "%"), Integer.class);
+	}
+
+	public long countBookItemsForAdmin(String query, String keyword) {
+		Long count = jdbcTemplate.queryForObject("""
+			SELECT COUNT(*) FROM book_items item
+			WHERE item.deleted = false
+			AND item.book_information_id IN (%s)
+			""".formatted(ADMIN_INFORMATION_IDS), new MapSqlParameterSource("query", query)
+			.addValue("isbn", "%" + keyword + "%"), Long.class);
+		return count == null ? 0 : count;
+	}
+
+	// 기간 내 대출 이력 중 제목/저자가 일치하는 이력, 최근 대출부터
+	public List<Integer> findBookHistoryIds(LocalDateTime startDate, LocalDateTime endDate, String query,
+		long offset, int limit) {
+		return jdbcTemplate.queryForList("""
+			SELECT bh.id FROM book_histories bh
+			JOIN book_items bi ON bi.id = bh.book_item_id
+			WHERE bh.borrowed_at BETWEEN :startDate AND :endDate
+			AND bi.book_information_id IN (%s)
+			ORDER BY bh.borrowed_at DESC, bh.id DESC
+			LIMIT :limit OFFSET :offset
+			""".formatted(HISTORY_INFORMATION_IDS), pageParams(query, offset, limit)
+			.addValue("startDate", startDate)
+			.addValue("endDate", endDate), Integer.class);
+	}
+
+	public long countBookHistories(LocalDateTime startDate, LocalDateTime endDate, String query) {
+		Long count = jdbcTemplate.queryForObject("""
+			SELECT COUNT(*) FROM book_histories bh
+			JOIN book_items bi ON bi.id = bh.book_item_id
+			WHERE bh.borrowed_at BETWEEN :startDate AND :endDate
+			AND bi.book_information_id IN (%s)
+			""".formatted(HISTORY_INFORMATION_IDS), new MapSqlParameterSource("query", query)
+			.addValue("startDate", startDate)
+			.addValue("endDate", endDate), Long.class);
+		return count == null ? 0 : count;
+	}
+
+	private static String columns(SearchType type) {
+		switch (type) {
+			case TITLE:
+				return "info.title";
+			case AUTHOR:
+				return "info.author";
+			case PUBLISHER:
+				return "info.publisher";
+			case KEYWORD:
+				return "info.title, info.description";
+			default:
+				throw new IllegalArgumentException("FULLTEXT 검색을 지원하지 않는 유형입니다: " + type);
+		}
+	}
+
+	private static MapSqlParameterSource pageParams(String query, long offset, int limit) {
+		return new MapSqlParameterSource("query", query)
+			.addValue("offset", offset)
+			.addValue("limit", limit);
+	}
+}
@@ -1,13 +1,39 @@
 package com.corp.bookiki.bookinformation.repository;
 
+import java.util.List;
+import java.util.stream.Stream;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
 
+import jakarta.persistence.QueryHint;
+
 @Repository
 public interface BookInformationRepository extends JpaRepository<BookInformationEntity, Integer> {
 
 	// Isbn을 이용한 책 정보 불러오기
 	BookInformationEntity findByIsbn(String isbn);
+
+	// 제목 색인용 [id, title] 목록 (설명 등 큰 컬럼은 불러오지 않음)
+	@Query("SELECT b.id, b.title FROM BookInformationEntity b")
+	List<Object[]> findAllIdAndTitle();
+
+	// 검색 색인용 [id, title, author, publisher, description] 스트림
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+	@Query("SELECT b.id, b.title, b.author, b.publisher, b.description FROM BookInformationEntity b ORDER BY b.id")
+	Stream<Object[]> streamSearchFields();
+
+	// 자동완성 색인용 [id, title, author, publisher] 스트림
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+	@Query("SELECT b.id, b.title, b.author, b.publisher FROM BookInformationEntity b ORDER BY b.id")
+	Stream<Object[]> streamSuggestFields();
+
+	// 검색 집계용 [id, category] 스트림 (분류가 있는 도서 정보만)
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+	@Query("SELECT b.id, b.category FROM BookInformationEntity b WHERE b.category IS NOT NULL ORDER BY b.id")
+	Stream<Object[]> streamCategories();
 }
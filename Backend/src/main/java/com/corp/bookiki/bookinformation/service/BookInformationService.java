@@ -8,6 +8,7 @@ import com.corp.bookiki.recommendation.service.GeminiService;
 import org.apache.commons.lang3.StringUtils;
 import org.json.JSONObject;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -19,6 +20,7 @@ import org.springframework.web.util.UriComponentsBuilder;
 
 import com.corp.bookiki.bookinformation.dto.BookInformationResponse;
 import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookinformation.event.BookInformationChangedEvent;
 import com.corp.bookiki.bookinformation.repository.BookInformationRepository;
 import com.corp.bookiki.global.error.code.ErrorCode;
 import com.corp.bookiki.global.error.exception.BookInformationException;
@@ -46,6 +48,7 @@ public class BookInformationService {
 	private final BookInformationRepository bookInformationRepository;
 	private final ObjectMapper objectMapper;
 	private final GeminiService geminiService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	// 책 정보를 추가하는 메서드
 	@Transactional
@@ -59,6 +62,8 @@ public class BookInformationService {
 			BookInformationEntity newBookInfo = callNaverBookApi(isbn);
 			geminiService.getCategoryForBook(newBookInfo);
 			bookInformationRepository.save(newBookInfo); // 새로운 BookInformation 저장
+			// 제목 매칭/검색/자동완성/맞춤법 색인은 커밋된 뒤 이벤트로 반영
+			eventPublisher.publishEvent(BookInformationChangedEvent.added(newBookInfo));
 			return BookInformationResponse.from(newBookInfo);
 		} catch (BookInformationException e) {
 			throw new BookInformationException(ErrorCode.BOOK_INFO_NOT_FOUND);
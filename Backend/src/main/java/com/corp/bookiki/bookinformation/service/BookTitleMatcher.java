@@ -0,0 +1,72 @@
+package com.corp.bookiki.bookinformation.service;
+
+import java.util.List;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookinformation.event.BookInformationChangedEvent;
+import com.corp.bookiki.bookinformation.repository.BookInformationRepository;
+import com.corp.bookiki.util.QGramIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 제목 유사 검색 (OCR로 읽은 책등 텍스트 -> 도서 정보)
+ * 애플리케이션 시작 시 전체 제목으로 색인을 만들고, 이후 추가되는 도서 정보는 색인에 바로 반영함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookTitleMatcher {
+
+	// 자모 3-gram (음절 하나가 2~3개의 자모로 분해되므로 대략 음절 하나 정도의 단위)
+	private static final int Q = 3;
+
+	// 편집 거리로 다시 계산할 후보 수
+	private static final int CANDIDATE_LIMIT = 32;
+
+	private final BookInformationRepository bookInformationRepository;
+
+	private final QGramIndex index = new QGramIndex(Q, CANDIDATE_LIMIT);
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void loadIndex() {
+		long startedAt = System.currentTimeMillis();
+		List<Object[]> titles = bookInformationRepository.findAllIdAndTitle();
+		for (Object[] row : titles) {
+			index.add((Integer) row[0], (String) row[1]);
+		}
+		log.info("도서 제목 색인 완료 - {}건, {}ms", index.size(), System.currentTimeMillis() - startedAt);
+	}
+
+	public void add(BookInformationEntity bookInformation) {
+		if (bookInformation == null || bookInformation.getId() == null) {
+			return;
+		}
+		index.add(bookInformation.getId(), bookInformation.getTitle());
+	}
+
+	// 도서 정보 등록이 커밋된 뒤 색인에 추가
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookInformationChanged(BookInformationChangedEvent event) {
+		if (event.isAdded()) {
+			add(event.getBookInformation());
+		}
+	}
+
+	/**
+	 * OCR 텍스트와 유사한 도서 정보 조회
+	 * @param text OCR 텍스트
+	 * @param limit 최대 결과 수
+	 * @param minSimilarity 최소 유사도 (0~1)
+	 * @return 유사도 내림차순 결과 (id: 도서 정보 ID)
+	 */
+	public List<QGramIndex.Match> match(String text, int limit, double minSimilarity) {
+		return index.search(text, limit, minSimilarity);
+	}
+}
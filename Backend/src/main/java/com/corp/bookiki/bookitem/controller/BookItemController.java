@@ -3,9 +3,11 @@ package com.corp.bookiki.bookitem.controller;
 import com.corp.bookiki.bookitem.dto.*;
 import com.corp.bookiki.bookitem.enums.SearchType;
 import com.corp.bookiki.bookitem.service.BookItemService;
+import com.corp.bookiki.global.dto.CursorResponse;
 import com.corp.bookiki.global.error.dto.ErrorResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.ArraySchema;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -18,6 +20,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api")
 @RequiredArgsConstructor
@@ -57,6 +61,115 @@ public class BookItemController {
 		return ResponseEntity.ok(books);
 	}
 
+	@Operation(summary = "도서 검색 결과와 집계", description = "도서 아이템 목록 검색 결과 한 페이지와 결과 전체의 분류/상태/출판사별 도서 수를 함께 조회합니다. 키워드가 없으면 전체 도서를 집계합니다.")
+	@ApiResponses({
+		@ApiResponse(
+			responseCode = "200",
+			description = "도서 검색 및 집계 성공",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = BookFacetSearchResponse.class)
+			)
+		),
+		@ApiResponse(
+			responseCode = "404",
+			description = "도서 아이템 조회 결과가 없습니다.",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = ErrorResponse.class)
+			)
+		),
+		@ApiResponse(
+			responseCode = "503",
+			description = "검색 색인이 준비되지 않음",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = ErrorResponse.class)
+			)
+		)
+	})
+	@GetMapping("/books/search/facets")
+	public ResponseEntity<BookFacetSearchResponse> selectBooksWithFacets(
+		@RequestParam(defaultValue = "0") int page,
+		@RequestParam(defaultValue = "10") int size,
+		@RequestParam(defaultValue = "KEYWORD") SearchType type,
+		@RequestParam(required = false) String keyword,
+		@Parameter(description = "출판사 집계 개수 (최대 50)") @RequestParam(defaultValue = "10") int publisherSize
+	) {
+		return ResponseEntity.ok(bookItemService.selectBooksWithFacets(type, keyword, page, size, publisherSize));
+	}
+
+	@Operation(summary = "도서 목록 커서 조회", description = "무한 스크롤용 도서 목록을 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회하며, 전체 개수는 세지 않습니다.")
+	@ApiResponses({
+		@ApiResponse(
+			responseCode = "200",
+			description = "도서 목록 조회 성공",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = CursorResponse.class, subTypes = {BookItemListResponse.class})
+			)
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "잘못된 커서",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = ErrorResponse.class)
+			)
+		)
+	})
+	@GetMapping("/books/cursor")
+	public ResponseEntity<CursorResponse<BookItemListResponse>> selectBooksByCursor(
+		@Parameter(description = "이전 응답의 nextCursor (첫 조회 시 생략)")
+		@RequestParam(required = false) String cursor,
+
+		@Parameter(description = "조회 개수 (최대 100)", example = "20")
+		@RequestParam(defaultValue = "20") int size
+	) {
+		return ResponseEntity.ok(bookItemService.selectBooksByCursor(cursor, size));
+	}
+
+	@Operation(summary = "검색어 자동완성", description = "입력 중인 검색어로 시작하는 제목/저자/출판사를 대출 횟수가 많은 순으로 추천합니다.")
+	@ApiResponses({
+		@ApiResponse(
+			responseCode = "200",
+			description = "자동완성 조회 성공 (추천할 검색어가 없으면 빈 목록)",
+			content = @Content(
+				mediaType = "application/json",
+				array = @ArraySchema(schema = @Schema(implementation = BookSuggestResponse.class))
+			)
+		)
+	})
+	@GetMapping("/books/suggest")
+	public ResponseEntity<List<BookSuggestResponse>> suggestBooks(
+		@Parameter(description = "입력 중인 검색어", example = "클린")
+		@RequestParam(required = false) String keyword,
+
+		@Parameter(description = "최대 개수 (최대 20)", example = "10")
+		@RequestParam(defaultValue = "10") int size
+	) {
+		return ResponseEntity.ok(bookItemService.suggestBooks(keyword, size));
+	}
+
+	@Operation(summary = "검색어 맞춤법 교정", description = "검색 결과가 없을 때, 도서 제목/저자/출판사에 없는 단어를 가장 가까운 단어로 바꾼 검색어를 알려줍니다.")
+	@ApiResponses({
+		@ApiResponse(
+			responseCode = "200",
+			description = "교정 검색어 조회 성공 (교정할 단어가 없으면 suggestion이 null)",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = BookSpellingResponse.class)
+			)
+		)
+	})
+	@GetMapping("/books/spelling")
+	public ResponseEntity<BookSpellingResponse> correctSpelling(
+		@Parameter(description = "검색어", example = "자바의 정섞")
+		@RequestParam String keyword
+	) {
+		return ResponseEntity.ok(bookItemService.correctSpelling(keyword));
+	}
+
 	@Operation(summary = "도서 아이템 목록 조회", description = "페이지네이션과 정렬 조건을 통해 도서 아이템 목록을 조회합니다.")
 	@ApiResponses({
 		@ApiResponse(
@@ -232,6 +345,39 @@ public class BookItemController {
 		return ResponseEntity.ok(books);
 	}
 
+	@Operation(summary = "관리자 도서 목록 커서 조회", description = "관리자 도서 목록을 최근 등록 순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회하며, 전체 개수는 세지 않습니다.")
+	@ApiResponses({
+		@ApiResponse(
+			responseCode = "200",
+			description = "도서 목록 조회 성공",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = CursorResponse.class, subTypes = {BookAdminListResponse.class})
+			)
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "잘못된 커서",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = ErrorResponse.class)
+			)
+		)
+	})
+	@GetMapping("/admin/bookManage/cursor")
+	public ResponseEntity<CursorResponse<BookAdminListResponse>> selectBooksForAdminByCursor(
+		@Parameter(description = "제목/저자/출판사/ISBN 검색어")
+		@RequestParam(required = false) String keyword,
+
+		@Parameter(description = "이전 응답의 nextCursor (첫 조회 시 생략)")
+		@RequestParam(required = false) String cursor,
+
+		@Parameter(description = "조회 개수 (최대 100)", example = "20")
+		@RequestParam(defaultValue = "20") int size
+	) {
+		return ResponseEntity.ok(bookItemService.selectBooksForAdminByCursor(keyword, cursor, size));
+	}
+
 	@PatchMapping("/admin/bookManage/{id}/status")
 	@Operation(summary = "도서 상태 수정", description = "도서의 상태를 변경합니다.")
 	@ApiResponses({
@@ -0,0 +1,24 @@
+package com.corp.bookiki.bookitem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(
+	name = "BookFacetResponse",
+	description = "검색 결과의 항목별 도서 수"
+)
+public class BookFacetResponse {
+
+	@Schema(description = "필터 값 (분류는 분류 코드, 상태는 BookStatus, 출판사는 출판사 이름, 미분류는 null)", example = "0",
+		nullable = true)
+	private String value;
+
+	@Schema(description = "표시 이름", example = "컴퓨터과학")
+	private String name;
+
+	@Schema(description = "도서 수", example = "12")
+	private int count;
+}
@@ -0,0 +1,30 @@
+package com.corp.bookiki.bookitem.dto;
+
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(
+	name = "BookFacetSearchResponse",
+	description = "도서 검색 결과와 분류/상태/출판사별 도서 수"
+)
+public class BookFacetSearchResponse {
+
+	@Schema(description = "검색 결과 한 페이지")
+	private Page<BookItemListResponse> books;
+
+	@Schema(description = "분류별 도서 수 (분류 코드 순, 도서가 없는 분류 제외)")
+	private List<BookFacetResponse> categories;
+
+	@Schema(description = "상태별 도서 수")
+	private List<BookFacetResponse> statuses;
+
+	@Schema(description = "출판사별 도서 수 (도서 수 내림차순, 상위 일부)")
+	private List<BookFacetResponse> publishers;
+}
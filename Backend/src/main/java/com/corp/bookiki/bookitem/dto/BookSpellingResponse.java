@@ -0,0 +1,20 @@
+package com.corp.bookiki.bookitem.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(
+	name = "BookSpellingResponse",
+	description = "검색어 맞춤법 교정 응답"
+)
+public class BookSpellingResponse {
+
+	@Schema(description = "입력한 검색어", example = "자바의 정섞")
+	private String keyword;
+
+	@Schema(description = "교정한 검색어 (교정할 단어가 없으면 null)", example = "자바의 정석", nullable = true)
+	private String suggestion;
+}
@@ -0,0 +1,28 @@
+package com.corp.bookiki.bookitem.dto;
+
+import com.corp.bookiki.bookitem.enums.SearchType;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+@Schema(
+	name = "BookSuggestResponse",
+	description = "검색어 자동완성 응답"
+)
+public class BookSuggestResponse {
+
+	@Schema(description = "추천 검색어 유형 (도서 검색의 type으로 그대로 사용)", example = "TITLE")
+	private SearchType type;
+
+	@Schema(description = "추천 검색어", example = "클린 코드")
+	private String text;
+
+	@Schema(description = "도서 정보 ID (제목인 경우만)", example = "1", nullable = true)
+	private Integer bookInformationId;
+
+	@Schema(description = "대출 횟수 (저자/출판사는 해당 도서들의 합)", example = "12")
+	private Integer borrowCount;
+}
@@ -1,5 +1,7 @@
 package com.corp.bookiki.bookitem.enums;
 
 public enum SearchType {
-    TITLE, AUTHOR, PUBLISHER, KEYWORD
+    TITLE, AUTHOR, PUBLISHER, KEYWORD,
+    // 제목/저자 초성 (예: "ㅋㄹㅋㄷ" -> 클린 코드)
+    CHOSUNG
 }
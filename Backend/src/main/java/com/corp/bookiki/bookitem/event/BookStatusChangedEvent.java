@@ -0,0 +1,59 @@
+package com.corp.bookiki.bookitem.event;
+
+import java.util.Collection;
+import java.util.List;
+
+import com.corp.bookiki.bookitem.entity.BookStatus;
+
+import lombok.Getter;
+
+/**
+ * 도서 상태 변경 이벤트 (대출/반납/분실/등록/삭제)
+ * 트랜잭션 커밋 후 상태별 색인 등 메모리 상태를 갱신하는 데 사용
+ */
+@Getter
+public class BookStatusChangedEvent {
+
+	private final List<Integer> bookItemIds;
+
+	// 변경 전 상태 (null이면 상태와 관계없이 적용)
+	private final BookStatus fromStatus;
+
+	// 변경 후 상태 (null이면 삭제된 도서)
+	private final BookStatus toStatus;
+
+	// 새로 등록된 도서의 도서 정보 ID (등록 이벤트가 아니면 null)
+	private final Integer bookInformationId;
+
+	private BookStatusChangedEvent(Collection<Integer> bookItemIds, BookStatus fromStatus, BookStatus toStatus) {
+		this(bookItemIds, fromStatus, toStatus, null);
+	}
+
+	private BookStatusChangedEvent(Collection<Integer> bookItemIds, BookStatus fromStatus, BookStatus toStatus,
+		Integer bookInformationId) {
+		this.bookItemIds = List.copyOf(bookItemIds);
+		this.fromStatus = fromStatus;
+		this.toStatus = toStatus;
+		this.bookInformationId = bookInformationId;
+	}
+
+	public static BookStatusChangedEvent of(Collection<Integer> bookItemIds, BookStatus fromStatus, BookStatus toStatus) {
+		return new BookStatusChangedEvent(bookItemIds, fromStatus, toStatus);
+	}
+
+	public static BookStatusChangedEvent of(Integer bookItemId, BookStatus fromStatus, BookStatus toStatus) {
+		return new BookStatusChangedEvent(List.of(bookItemId), fromStatus, toStatus);
+	}
+
+	public static BookStatusChangedEvent added(Integer bookItemId, Integer bookInformationId, BookStatus status) {
+		return new BookStatusChangedEvent(List.of(bookItemId), null, status, bookInformationId);
+	}
+
+	public static BookStatusChangedEvent deleted(Integer bookItemId) {
+		return new BookStatusChangedEvent(List.of(bookItemId), null, null);
+	}
+
+	public boolean isDeleted() {
+		return toStatus == null;
+	}
+}
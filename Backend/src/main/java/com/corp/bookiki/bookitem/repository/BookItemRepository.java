@@ -1,25 +1,43 @@
 package com.corp.bookiki.bookitem.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.corp.bookiki.bookitem.entity.BookItemEntity;
 import com.corp.bookiki.bookitem.entity.BookStatus;
 
+import jakarta.persistence.QueryHint;
+
 import java.util.List;
 
 @Repository
 public interface BookItemRepository extends JpaRepository<BookItemEntity, Integer> {
 	Page<BookItemEntity> findByDeletedFalse(Pageable pageable);
 
+	// 커서 기반 목록 조회 (ID 오름차순으로 lastId 다음부터, COUNT 조회 없음)
+	@Query("""
+    SELECT item FROM BookItemEntity item
+    LEFT JOIN FETCH item.bookInformation
+    WHERE item.deleted = false
+    AND (:lastId IS NULL OR item.id > :lastId)
+    ORDER BY item.id
+    """)
+	List<BookItemEntity> findByDeletedFalseAfter(@Param("lastId") Integer lastId, Limit limit);
+
 	@Query(value = """
     SELECT item FROM BookItemEntity item 
     JOIN FETCH item.bookInformation info 
@@ -85,9 +103,85 @@ public interface BookItemRepository extends JpaRepository<BookItemEntity, Intege
 
 	List<Integer> findIdsByBookStatusAndDeletedFalse(BookStatus bookStatus);
 
+	// 주어진 도서 중 해당 상태인 도서 ID (분실 의심 도서 확인용)
+	@Query("SELECT bi.id FROM BookItemEntity bi WHERE bi.id IN :ids AND bi.bookStatus = :bookStatus AND bi.deleted = false")
+	List<Integer> findIdsByIdInAndBookStatusAndDeletedFalse(@Param("ids") Collection<Integer> ids,
+		@Param("bookStatus") BookStatus bookStatus);
+
+	// 상태 비트맵 로드용 [id, status] 스트림 (엔티티를 만들지 않도록 스칼라 값만 조회)
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+	@Query("SELECT bi.id, bi.bookStatus FROM BookItemEntity bi WHERE bi.deleted = false")
+	Stream<Object[]> streamIdAndStatusByDeletedFalse();
+
+	// 카테고리 맵 로드용 [id, category] 스트림
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+	@Query("SELECT bi.id, bi.bookInformation.category FROM BookItemEntity bi")
+	Stream<Object[]> streamIdAndCategory();
+
+	@Query("SELECT bi.id, bi.bookInformation.category FROM BookItemEntity bi WHERE bi.id IN :ids")
+	List<Object[]> findIdAndCategoryByIds(@Param("ids") Collection<Integer> ids);
+
+	// 카테고리 맵 갱신용 (삭제된 도서도 맵에 있으므로 함께 조회)
+	@Query("SELECT bi.id FROM BookItemEntity bi WHERE bi.bookInformation.id = :bookInformationId")
+	List<Integer> findIdsByBookInformationId(@Param("bookInformationId") Integer bookInformationId);
+
+	// 인기 도서 색인 로드용 [id, category, 전체 대출 횟수] 스트림
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+	@Query("SELECT bi.id, info.category, COUNT(bh.id) FROM BookItemEntity bi " +
+			"JOIN bi.bookInformation info " +
+			"LEFT JOIN BookHistoryEntity bh ON bi.id = bh.bookItem.id " +
+			"WHERE bi.deleted = false " +
+			"GROUP BY bi.id, info.category")
+	Stream<Object[]> streamIdCategoryAndBorrowCount();
+
+	// 검색 색인용 [id, bookInformationId] 스트림
+	@QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+	@Query("SELECT bi.id, bi.bookInformation.id FROM BookItemEntity bi WHERE bi.deleted = false ORDER BY bi.id")
+	Stream<Object[]> streamIdAndBookInformationIdByDeletedFalse();
+
+	// 검색 색인으로 찾은 도서 한 페이지 조회 (순서는 호출하는 쪽에서 맞춤)
+	@Query("SELECT bi FROM BookItemEntity bi JOIN FETCH bi.bookInformation WHERE bi.id IN :ids AND bi.deleted = false")
+	List<BookItemEntity> findAllWithBookInformationByIds(@Param("ids") Collection<Integer> ids);
+
+	// 관리자 도서 검색 결과 한 페이지 조회
+	@EntityGraph(attributePaths = {"bookInformation", "qrCode"})
+	List<BookItemEntity> findAllByIdIn(Collection<Integer> ids);
+
+	// 여러 도서의 상태를 한 번에 변경 (현재 상태가 fromStatus인 도서만)
+	@Modifying(flushAutomatically = true)
+	@Query("""
+        UPDATE BookItemEntity bi
+        SET bi.bookStatus = :toStatus, bi.updatedAt = :updatedAt
+        WHERE bi.id IN :ids
+        AND bi.bookStatus = :fromStatus
+        AND bi.deleted = false
+        """)
+	int updateBookStatusByIds(
+		@Param("ids") Collection<Integer> ids,
+		@Param("fromStatus") BookStatus fromStatus,
+		@Param("toStatus") BookStatus toStatus,
+		@Param("updatedAt") LocalDateTime updatedAt
+	);
+
+	// 도서 정보 ID 목록에 해당하는 특정 상태의 도서 조회
+	@Query("""
+        SELECT bi FROM BookItemEntity bi
+        JOIN FETCH bi.bookInformation info
+        WHERE info.id IN :bookInformationIds
+        AND bi.bookStatus = :status
+        AND bi.deleted = false
+        """)
+	List<BookItemEntity> findByBookInformationIdsAndStatus(
+		@Param("bookInformationIds") Collection<Integer> bookInformationIds,
+		@Param("status") BookStatus status
+	);
+
 	@Query("SELECT bi FROM BookItemEntity bi JOIN FETCH bi.bookInformation WHERE bi.id = :id")
 	Optional<BookItemEntity> findByIdWithBookInformation(@Param("id") Integer id);
 
+	@Query("SELECT bi.bookInformation.id FROM BookItemEntity bi WHERE bi.id = :id")
+	Optional<Integer> findBookInformationIdById(@Param("id") Integer id);
+
 	@EntityGraph(attributePaths = {"bookInformation", "qrCode"})
 	@Query(value = """
    SELECT item FROM BookItemEntity item 
@@ -103,6 +197,25 @@ public interface BookItemRepository extends JpaRepository<BookItemEntity, Intege
 		Pageable pageable
 	);
 
+	// 관리자 도서 목록 커서 기반 조회 (ID 내림차순으로 lastId 다음부터, COUNT 조회 없음)
+	@EntityGraph(attributePaths = {"bookInformation", "qrCode"})
+	@Query(value = """
+   SELECT item FROM BookItemEntity item 
+   WHERE item.deleted = false 
+   AND (:lastId IS NULL OR item.id < :lastId)
+   AND (:keyword IS NULL OR 
+       LOWER(item.bookInformation.title) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
+       LOWER(item.bookInformation.author) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
+       LOWER(item.bookInformation.publisher) LIKE LOWER(CONCAT('%', :keyword, '%')) OR
+       item.bookInformation.isbn LIKE CONCAT('%', :keyword, '%'))
+   ORDER BY item.id DESC
+   """)
+	List<BookItemEntity> findAllBooksForAdminBefore(
+		@Param("keyword") String keyword,
+		@Param("lastId") Integer lastId,
+		Limit limit
+	);
+
 	// AI 추천을 위한 키워드 기반 검색
 	@Query("""
         SELECT DISTINCT item FROM BookItemEntity item 
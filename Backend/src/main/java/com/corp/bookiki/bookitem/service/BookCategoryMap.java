@@ -0,0 +1,139 @@
+package com.corp.bookiki.bookitem.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookinformation.event.BookInformationChangedEvent;
+import com.corp.bookiki.bookitem.repository.BookItemRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 아이템ID -> 카테고리 코드 맵
+ * 도서 아이템 ID는 자동 증가 값이라 촘촘하므로 ID를 인덱스로 하는 byte 배열에 저장함 (도서 10만 권 = 약 100KB)
+ * 스캔마다 BookInformationEntity를 조인하지 않고 카테고리를 확인하기 위해 사용하며, 맵에 없는 도서만 DB에서 한 번에 조회해 채움
+ * 도서 정보의 카테고리가 바뀌면 커밋된 뒤 해당 도서 정보의 도서들을 새 카테고리로 바꿈
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookCategoryMap {
+
+	// 카테고리가 지정되지 않은 도서
+	public static final int NO_CATEGORY = -1;
+
+	// 배열 값: 0 = 아직 모름, 1 = 카테고리 없음, 그 외 = 카테고리 코드 + OFFSET
+	private static final byte UNKNOWN = 0;
+	private static final byte NONE = 1;
+	private static final int OFFSET = 2;
+
+	private final BookItemRepository bookItemRepository;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private byte[] categories = new byte[1024];
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void load() {
+		long startedAt = System.currentTimeMillis();
+		int[] count = new int[1];
+		try (Stream<Object[]> rows = bookItemRepository.streamIdAndCategory()) {
+			rows.forEach(row -> {
+				put((Integer) row[0], (Integer) row[1]);
+				count[0]++;
+			});
+		}
+		log.info("도서 카테고리 맵 로드 완료 - 도서: {}, {}ms", count[0], System.currentTimeMillis() - startedAt);
+	}
+
+	/**
+	 * 도서별 카테고리 코드 (카테고리가 없거나 존재하지 않는 도서는 NO_CATEGORY)
+	 * @param bookItemIds 도서 아이템 ID 목록
+	 * @return 입력과 같은 순서의 카테고리 코드
+	 */
+	public int[] getCategories(int[] bookItemIds) {
+		int[] result = new int[bookItemIds.length];
+		List<Integer> missing = new ArrayList<>();
+
+		lock.readLock().lock();
+		try {
+			for (int i = 0; i < bookItemIds.length; i++) {
+				byte value = valueOf(bookItemIds[i]);
+				if (value == UNKNOWN) {
+					missing.add(bookItemIds[i]);
+				}
+				result[i] = decode(value);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+
+		if (missing.isEmpty()) {
+			return result;
+		}
+
+		// 시작 후 추가된 도서 등 맵에 없는 도서만 한 번에 조회
+		bookItemRepository.findIdAndCategoryByIds(missing)
+			.forEach(row -> put((Integer) row[0], (Integer) row[1]));
+
+		lock.readLock().lock();
+		try {
+			for (int i = 0; i < bookItemIds.length; i++) {
+				result[i] = decode(valueOf(bookItemIds[i]));
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return result;
+	}
+
+	public int getCategory(int bookItemId) {
+		return getCategories(new int[] {bookItemId})[0];
+	}
+
+	public void put(int bookItemId, Integer category) {
+		if (bookItemId < 0) {
+			return;
+		}
+		lock.writeLock().lock();
+		try {
+			if (bookItemId >= categories.length) {
+				categories = Arrays.copyOf(categories, Math.max(bookItemId + 1, categories.length * 2));
+			}
+			categories[bookItemId] = category == null ? NONE : (byte) (category + OFFSET);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookInformationChanged(BookInformationChangedEvent event) {
+		if (!event.isCategoryChanged()) {
+			return;
+		}
+		BookInformationEntity bookInformation = event.getBookInformation();
+		for (Integer bookItemId : bookItemRepository.findIdsByBookInformationId(bookInformation.getId())) {
+			put(bookItemId, bookInformation.getCategory());
+		}
+	}
+
+	private byte valueOf(int bookItemId) {
+		return bookItemId >= 0 && bookItemId < categories.length ? categories[bookItemId] : UNKNOWN;
+	}
+
+	private static int decode(byte value) {
+		return value == UNKNOWN || value == NONE ? NO_CATEGORY : value - OFFSET;
+	}
+}
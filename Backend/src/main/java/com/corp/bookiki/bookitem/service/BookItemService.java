@@ -1,13 +1,23 @@
 package com.corp.bookiki.bookitem.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -16,20 +26,29 @@ import com.corp.bookiki.bookhistory.enitity.BookHistoryEntity;
 import com.corp.bookiki.bookhistory.repository.BookHistoryRepository;
 import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
 import com.corp.bookiki.bookinformation.entity.Category;
+import com.corp.bookiki.bookinformation.repository.BookInformationFulltextRepository;
 import com.corp.bookiki.bookinformation.repository.BookInformationRepository;
 import com.corp.bookiki.bookitem.dto.BookAdminDetailResponse;
 import com.corp.bookiki.bookitem.dto.BookAdminListResponse;
+import com.corp.bookiki.bookitem.dto.BookFacetResponse;
+import com.corp.bookiki.bookitem.dto.BookFacetSearchResponse;
 import com.corp.bookiki.bookitem.dto.BookItemDisplayResponse;
 import com.corp.bookiki.bookitem.dto.BookItemListResponse;
 import com.corp.bookiki.bookitem.dto.BookItemRequest;
 import com.corp.bookiki.bookitem.dto.BookItemResponse;
+import com.corp.bookiki.bookitem.dto.BookSpellingResponse;
+import com.corp.bookiki.bookitem.dto.BookSuggestResponse;
 import com.corp.bookiki.bookitem.entity.BookItemEntity;
 import com.corp.bookiki.bookitem.entity.BookStatus;
 import com.corp.bookiki.bookitem.enums.SearchType;
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
 import com.corp.bookiki.bookitem.repository.BookItemRepository;
+import com.corp.bookiki.global.dto.CursorResponse;
 import com.corp.bookiki.global.error.code.ErrorCode;
 import com.corp.bookiki.global.error.exception.BookItemException;
 
+import com.corp.bookiki.util.CursorUtil;
+
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
@@ -38,9 +57,25 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class BookItemService {
 
+	// 자동완성 최대 개수
+	private static final int MAX_SUGGEST_SIZE = 20;
+
+	// 추천 후보 도서 정보 수 (대출 가능한 도서가 없는 경우를 감안해 추천 개수보다 넉넉히 고름)
+	private static final int RECOMMENDATION_CANDIDATE_FACTOR = 3;
+
+	// 검색 집계에서 돌려줄 최대 출판사 수
+	private static final int MAX_PUBLISHER_FACET_SIZE = 50;
+
 	private final BookItemRepository bookItemRepository;
 	private final BookInformationRepository bookInformationRepository;
 	private final BookHistoryRepository bookHistoryRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final BookSearchIndex bookSearchIndex;
+	private final BookInformationFulltextRepository bookInformationFulltextRepository;
+	private final BookSuggestIndex bookSuggestIndex;
+	private final BookStatusBitmap bookStatusBitmap;
+	private final BookSpellingIndex bookSpellingIndex;
+	private final PopularBookIndex popularBookIndex;
 
 	@Transactional
 	public Page<BookItemDisplayResponse> selectBooksByKeyword(int page, int size, String sortBy, String direction,
@@ -56,6 +91,22 @@ public class BookItemService {
 		return books.map(BookItemDisplayResponse::from);
 	}
 
+	// 검색어 자동완성 (DB를 조회하지 않음)
+	public List<BookSuggestResponse> suggestBooks(String keyword, int size) {
+		if (keyword == null || keyword.isBlank()) {
+			return List.of();
+		}
+		return bookSuggestIndex.suggest(keyword, Math.min(Math.max(size, 1), MAX_SUGGEST_SIZE));
+	}
+
+	// 검색 결과가 없을 때 보여줄 교정 검색어 (DB를 조회하지 않음)
+	public BookSpellingResponse correctSpelling(String keyword) {
+		return BookSpellingResponse.builder()
+			.keyword(keyword)
+			.suggestion(bookSpellingIndex.correct(keyword))
+			.build();
+	}
+
 	@Transactional(readOnly = true)
 	public Page<BookItemListResponse> selectBooks(SearchType type, String keyword, int page, int size) {
 		PageRequest pageRequest = PageRequest.of(page, size);
@@ -64,6 +115,13 @@ public class BookItemService {
 		// keyword가 없으면 전체 목록 조회
 		if (keyword == null || keyword.trim().isEmpty()) {
 			books = bookItemRepository.findByDeletedFalse(pageRequest);
+		} else if (bookSearchIndex.isReady()) {
+			books = searchBooksByIndex(type, keyword, pageRequest);
+		} else if (type == SearchType.CHOSUNG) {
+			// 초성 검색은 색인으로만 처리 (LIKE로는 초성을 비교할 수 없음)
+			throw new BookItemException(ErrorCode.CHOSUNG_SEARCH_UNAVAILABLE);
+		} else if (canUseFulltext(keyword)) {
+			books = searchBooksByFulltext(type, keyword, pageRequest);
 		} else {
 			books = bookItemRepository.searchBooks(type.name(), keyword, pageRequest);
 		}
@@ -75,6 +133,131 @@ public class BookItemService {
 		return books.map(BookItemListResponse::from);
 	}
 
+	// 커서 기반 도서 목록 (무한 스크롤용, 페이지 위치와 관계없이 COUNT/OFFSET 없이 조회)
+	@Transactional(readOnly = true)
+	public CursorResponse<BookItemListResponse> selectBooksByCursor(String cursor, int size) {
+		CursorUtil.Cursor last = CursorUtil.decode(cursor);
+		int limit = CursorUtil.size(size);
+		List<BookItemEntity> bookItems = bookItemRepository.findByDeletedFalseAfter(
+			last == null ? null : last.getId(), Limit.of(limit + 1));
+		return CursorResponse.of(bookItems, limit, item -> CursorUtil.encode(item.getId()),
+			BookItemListResponse::from);
+	}
+
+	/**
+	 * 검색 결과 한 페이지와 결과 전체의 분류/상태/출판사별 도서 수
+	 * 색인 후보를 한 번 훑으며 분류/출판사를 세고, 상태별 수는 상태 비트맵과의 교집합 크기로 계산하므로 COUNT 조회가 없음
+	 * 키워드가 없으면 전체 도서를 집계함
+	 */
+	@Transactional(readOnly = true)
+	public BookFacetSearchResponse selectBooksWithFacets(SearchType type, String keyword, int page, int size,
+		int publisherSize) {
+		// 집계는 색인으로만 처리 (LIKE/FULLTEXT로는 항목마다 COUNT 조회가 필요함), 상태별 수는 상태 비트맵으로 셈
+		if (!bookSearchIndex.isReady() || !bookStatusBitmap.isReady()) {
+			throw new BookItemException(ErrorCode.FACET_SEARCH_UNAVAILABLE);
+		}
+		PageRequest pageRequest = PageRequest.of(page, size);
+		BookSearchIndex.ItemPage itemPage = bookSearchIndex.searchBookItemsWithFacets(type,
+			keyword == null ? null : keyword.trim(), pageRequest.getOffset(), pageRequest.getPageSize(),
+			Math.min(Math.max(publisherSize, 1), MAX_PUBLISHER_FACET_SIZE));
+		if (itemPage.getTotal() == 0) {
+			throw new BookItemException(ErrorCode.BOOK_SEARCH_NOT_FOUND);
+		}
+
+		List<Integer> ids = Arrays.stream(itemPage.getBookItemIds()).boxed().collect(Collectors.toList());
+		Page<BookItemEntity> books = toPage(ids,
+			ids.isEmpty() ? List.of() : bookItemRepository.findAllWithBookInformationByIds(ids),
+			pageRequest, itemPage.getTotal());
+
+		BookSearchIndex.Facets facets = itemPage.getFacets();
+		return BookFacetSearchResponse.builder()
+			.books(books.map(BookItemListResponse::from))
+			.categories(toCategoryFacets(facets.getCategoryCounts()))
+			.statuses(toStatusFacets(bookStatusBitmap.countByStatus(facets.getBookItemIds())))
+			.publishers(toPublisherFacets(facets.getPublishers(), facets.getPublisherCounts()))
+			.build();
+	}
+
+	// 마지막 칸은 미분류 (value = null)
+	private static List<BookFacetResponse> toCategoryFacets(int[] counts) {
+		List<BookFacetResponse> facets = new ArrayList<>();
+		Category[] categories = Category.values();
+		for (int i = 0; i < counts.length; i++) {
+			if (counts[i] == 0) {
+				continue;
+			}
+			boolean uncategorized = i == categories.length;
+			facets.add(BookFacetResponse.builder()
+				.value(uncategorized ? null : String.valueOf(categories[i].getCode()))
+				.name(uncategorized ? "미분류" : categories[i].getCategoryName())
+				.count(counts[i])
+				.build());
+		}
+		return facets;
+	}
+
+	// 분류 집계처럼 도서가 없는 상태는 제외
+	private static List<BookFacetResponse> toStatusFacets(Map<BookStatus, Integer> counts) {
+		return counts.entrySet().stream()
+			.filter(entry -> entry.getValue() > 0)
+			.map(entry -> BookFacetResponse.builder()
+				.value(entry.getKey().name())
+				.name(entry.getKey().name())
+				.count(entry.getValue())
+				.build())
+			.collect(Collectors.toList());
+	}
+
+	private static List<BookFacetResponse> toPublisherFacets(String[] publishers, int[] counts) {
+		List<BookFacetResponse> facets = new ArrayList<>(publishers.length);
+		for (int i = 0; i < publishers.length; i++) {
+			facets.add(BookFacetResponse.builder()
+				.value(publishers[i])
+				.name(publishers[i])
+				.count(counts[i])
+				.build());
+		}
+		return facets;
+	}
+
+	// 색인으로 찾은 도서 중 요청한 페이지의 도서만 조회
+	private Page<BookItemEntity> searchBooksByIndex(SearchType type, String keyword, PageRequest pageRequest) {
+		BookSearchIndex.ItemPage itemPage = bookSearchIndex.searchBookItems(
+			type, keyword.trim(), pageRequest.getOffset(), pageRequest.getPageSize());
+		List<Integer> ids = Arrays.stream(itemPage.getBookItemIds()).boxed().collect(Collectors.toList());
+		return toPage(ids, ids.isEmpty() ? List.of() : bookItemRepository.findAllWithBookInformationByIds(ids),
+			pageRequest, itemPage.getTotal());
+	}
+
+	private boolean canUseFulltext(String keyword) {
+		return bookInformationFulltextRepository.isAvailable()
+			&& BookInformationFulltextRepository.toBooleanQuery(keyword) != null;
+	}
+
+	private Page<BookItemEntity> searchBooksByFulltext(SearchType type, String keyword, PageRequest pageRequest) {
+		String query = BookInformationFulltextRepository.toBooleanQuery(keyword);
+		List<Integer> ids = bookInformationFulltextRepository.findBookItemIds(
+			type, query, pageRequest.getOffset(), pageRequest.getPageSize());
+		long total = bookInformationFulltextRepository.countBookItems(type, query);
+		return toPage(ids, ids.isEmpty() ? List.of() : bookItemRepository.findAllWithBookInformationByIds(ids),
+			pageRequest, total);
+	}
+
+	// ID 순서대로 정렬한 페이지 (IN 조회 결과는 순서를 보장하지 않음)
+	private static Page<BookItemEntity> toPage(List<Integer> ids, List<BookItemEntity> bookItems, Pageable pageable,
+		long total) {
+		return new PageImpl<>(orderByIds(ids, bookItems), pageable, total);
+	}
+
+	private static List<BookItemEntity> orderByIds(List<Integer> ids, List<BookItemEntity> bookItems) {
+		Map<Integer, BookItemEntity> bookItemsById = bookItems.stream()
+			.collect(Collectors.toMap(BookItemEntity::getId, Function.identity()));
+		return ids.stream()
+			.map(bookItemsById::get)
+			.filter(Objects::nonNull)
+			.collect(Collectors.toList());
+	}
+
 	@Transactional
 	public BookItemResponse getBookItemById(Integer id) {
 		BookItemEntity bookItem = bookItemRepository.findById(id)
@@ -96,6 +279,7 @@ public class BookItemService {
 		}
 
 		bookItem.delete();
+		eventPublisher.publishEvent(BookStatusChangedEvent.deleted(id));
 		return BookItemResponse.from(bookItem);
 	}
 
@@ -111,12 +295,46 @@ public class BookItemService {
 			.build();
 
 		BookItemEntity savedBookItem = bookItemRepository.save(bookItem);
+		eventPublisher.publishEvent(BookStatusChangedEvent.added(savedBookItem.getId(), bookInformation.getId(),
+			savedBookItem.getBookStatus()));
 
 		return BookItemResponse.from(savedBookItem);
 	}
 
+	/**
+	 * 대출 가능한 인기 도서 (전체 기간 대출 횟수 순)
+	 * 인기 도서 색인의 후보 중 대출 가능한 도서로 채우고, 후보가 모자라면 대출 기록을 집계함
+	 * @param category 카테고리 코드 (null이면 전체)
+	 */
 	@Transactional(readOnly = true)
 	public List<BookItemListResponse> getPopularBooksByCategory(Integer category, int limit) {
+		if (popularBookIndex.isReady() && limit <= popularBookIndex.getTopK()) {
+			int[] candidates = popularBookIndex.top(category);
+			Set<Integer> available = Arrays.stream(bookStatusBitmap.filterStatus(candidates, BookStatus.AVAILABLE))
+				.boxed()
+				.collect(Collectors.toSet());
+			List<Integer> ids = Arrays.stream(candidates)
+				.filter(available::contains)
+				.limit(limit)
+				.boxed()
+				.collect(Collectors.toList());
+
+			// 잘린 후보 안에서 다 채우지 못하면 후보 밖에 대출 가능한 도서가 있을 수 있음
+			if (ids.size() == limit || !popularBookIndex.isTruncated(category)) {
+				if (ids.isEmpty()) {
+					return List.of();
+				}
+				Map<Integer, BookItemEntity> bookItems = bookItemRepository.findAllWithBookInformationByIds(ids)
+					.stream()
+					.collect(Collectors.toMap(BookItemEntity::getId, Function.identity()));
+				return ids.stream()
+					.map(bookItems::get)
+					.filter(Objects::nonNull)
+					.map(BookItemListResponse::from)
+					.collect(Collectors.toList());
+			}
+		}
+
 		return bookItemRepository.findPopularBooks(category, BookStatus.AVAILABLE, PageRequest.of(0, limit))
 			.stream()
 			.map(BookItemListResponse::from)
@@ -135,7 +353,17 @@ public class BookItemService {
 	public Page<BookAdminListResponse> selectBooksForAdmin(String keyword, int page, int size) {
 		PageRequest pageRequest = PageRequest.of(page, size, Sort.by(Sort.Direction.DESC, "id"));
 
-		Page<BookItemEntity> bookItems = bookItemRepository.findAllBooksForAdmin(keyword, pageRequest);
+		Page<BookItemEntity> bookItems;
+		if (keyword != null && canUseFulltext(keyword)) {
+			String query = BookInformationFulltextRepository.toBooleanQuery(keyword);
+			String trimmed = keyword.trim();
+			List<Integer> ids = bookInformationFulltextRepository.findBookItemIdsForAdmin(
+				query, trimmed, pageRequest.getOffset(), pageRequest.getPageSize());
+			long total = bookInformationFulltextRepository.countBookItemsForAdmin(query, trimmed);
+			bookItems = toPage(ids, ids.isEmpty() ? List.of() : bookItemRepository.findAllByIdIn(ids), pageRequest, total);
+		} else {
+			bookItems = bookItemRepository.findAllBooksForAdmin(keyword, pageRequest);
+		}
 		log.info("조회된 도서 수: {}", bookItems.getContent().size());
 
 		Page<BookAdminListResponse> response = bookItems.map(item -> {
@@ -154,6 +382,17 @@ public class BookItemService {
 		return response;
 	}
 
+	// 관리자 도서 목록 커서 기반 조회 (최근 등록 순)
+	@Transactional(readOnly = true)
+	public CursorResponse<BookAdminListResponse> selectBooksForAdminByCursor(String keyword, String cursor, int size) {
+		CursorUtil.Cursor last = CursorUtil.decode(cursor);
+		int limit = CursorUtil.size(size);
+		List<BookItemEntity> bookItems = bookItemRepository.findAllBooksForAdminBefore(
+			keyword, last == null ? null : last.getId(), Limit.of(limit + 1));
+		return CursorResponse.of(bookItems, limit, item -> CursorUtil.encode(item.getId()),
+			BookAdminListResponse::new);
+	}
+
 	@Transactional
 	public void updateBookStatus(Integer id, BookStatus newStatus) {
 		BookItemEntity bookItem = bookItemRepository.findById(id)
@@ -175,11 +414,15 @@ public class BookItemService {
 				latestHistory.returnBook();
 			}
 		}
+		eventPublisher.publishEvent(BookStatusChangedEvent.of(id, null, bookItem.getBookStatus()));
 	}
 
 	// AI 추천용 메서드
 	@Transactional(readOnly = true)
 	public List<BookItemListResponse> getRecommendedBooksByKeywords(List<String> keywords, int limit) {
+		if (bookSearchIndex.isReady()) {
+			return getRecommendedBooksByIndex(keywords, limit);
+		}
 		Set<BookItemListResponse> recommendations = new LinkedHashSet<>();
 
 		for (String keyword : keywords) {
@@ -207,6 +450,85 @@ public class BookItemService {
 			.collect(Collectors.toList());
 	}
 
+	// 키워드 전체에 대한 관련도(BM25) 순으로 도서마다 대출 가능한 한 권씩 추천
+	private List<BookItemListResponse> getRecommendedBooksByIndex(List<String> keywords, int limit) {
+		int[] bookInformationIds = bookSearchIndex.rankBookInformationIds(keywords,
+			limit * RECOMMENDATION_CANDIDATE_FACTOR);
+		List<BookItemListResponse> recommendations = pickAvailableBooks(bookInformationIds, limit);
+		if (recommendations.isEmpty()) {
+			throw new BookItemException(ErrorCode.BOOK_SEARCH_NOT_FOUND);
+		}
+		return recommendations;
+	}
+
+	/**
+	 * 도서 아이템의 도서 정보 ID (검색 색인에 없으면 DB 조회)
+	 */
+	@Transactional(readOnly = true)
+	public int getBookInformationId(Integer bookItemId) {
+		int bookInformationId = bookSearchIndex.isReady() ? bookSearchIndex.getBookInformationId(bookItemId) : 0;
+		if (bookInformationId > 0) {
+			return bookInformationId;
+		}
+		return bookItemRepository.findBookInformationIdById(bookItemId)
+			.orElseThrow(() -> new BookItemException(ErrorCode.BOOK_ITEM_NOT_FOUND));
+	}
+
+	/**
+	 * 도서 정보 순서대로 도서마다 대출 가능한 한 권씩 (대출 가능한 도서가 없는 도서 정보는 건너뜀)
+	 * 검색 색인이 없으면 도서 정보 ID로 대출 가능한 도서를 한 번에 조회함
+	 */
+	@Transactional(readOnly = true)
+	public List<BookItemListResponse> getAvailableBooksByBookInformationIds(int[] bookInformationIds, int limit) {
+		if (bookInformationIds.length == 0 || limit <= 0) {
+			return List.of();
+		}
+		if (bookSearchIndex.isReady()) {
+			return pickAvailableBooks(bookInformationIds, limit);
+		}
+
+		Map<Integer, BookItemEntity> firstByInformation = new HashMap<>();
+		for (BookItemEntity bookItem : bookItemRepository.findByBookInformationIdsAndStatus(
+			Arrays.stream(bookInformationIds).boxed().collect(Collectors.toList()), BookStatus.AVAILABLE)) {
+			firstByInformation.merge(bookItem.getBookInformation().getId(), bookItem,
+				(kept, other) -> kept.getId() <= other.getId() ? kept : other);
+		}
+		return Arrays.stream(bookInformationIds)
+			.mapToObj(firstByInformation::get)
+			.filter(Objects::nonNull)
+			.limit(limit)
+			.map(BookItemListResponse::from)
+			.collect(Collectors.toList());
+	}
+
+	// 검색 색인의 도서 정보별 도서 목록에서 대출 가능한 가장 작은 ID를 고름
+	private List<BookItemListResponse> pickAvailableBooks(int[] bookInformationIds, int limit) {
+		int[][] itemsByInformation = new int[bookInformationIds.length][];
+		List<Integer> allItems = new ArrayList<>();
+		for (int i = 0; i < bookInformationIds.length; i++) {
+			itemsByInformation[i] = bookSearchIndex.getBookItemIds(bookInformationIds[i]);
+			Arrays.stream(itemsByInformation[i]).forEach(allItems::add);
+		}
+		Set<Integer> available = Arrays.stream(bookStatusBitmap.filterStatus(
+				allItems.stream().mapToInt(Integer::intValue).toArray(), BookStatus.AVAILABLE))
+			.boxed()
+			.collect(Collectors.toSet());
+
+		List<Integer> ids = new ArrayList<>();
+		for (int i = 0; i < itemsByInformation.length && ids.size() < limit; i++) {
+			Arrays.stream(itemsByInformation[i])
+				.filter(available::contains)
+				.findFirst()
+				.ifPresent(ids::add);
+		}
+		if (ids.isEmpty()) {
+			return List.of();
+		}
+		return orderByIds(ids, bookItemRepository.findAllWithBookInformationByIds(ids)).stream()
+			.map(BookItemListResponse::from)
+			.collect(Collectors.toList());
+	}
+
 	public BookAdminDetailResponse getBookAdminDetail(Integer bookItemId) {
 		// 1. BookItem 조회 (연관된 BookInformation도 함께 조회)
 		BookItemEntity bookItem = bookItemRepository.findById(bookItemId)
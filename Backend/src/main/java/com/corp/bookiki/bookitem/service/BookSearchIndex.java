@@ -0,0 +1,591 @@
+package com.corp.bookiki.bookitem.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookinformation.entity.Category;
+import com.corp.bookiki.bookinformation.event.BookInformationChangedEvent;
+import com.corp.bookiki.bookinformation.repository.BookInformationRepository;
+import com.corp.bookiki.bookitem.enums.SearchType;
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
+import com.corp.bookiki.bookitem.repository.BookItemRepository;
+import com.corp.bookiki.util.BigramIndex;
+import com.corp.bookiki.util.HangulUtil;
+import com.corp.bookiki.util.TopK;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 검색 색인 (제목/저자/출판사/설명 2-gram 역색인 + 도서 정보별 도서 아이템 목록)
+ * LIKE '%키워드%' 조회는 매번 전체 도서 정보를 읽으므로, 메모리 색인으로 도서 정보 ID를 찾은 뒤 해당 페이지의 도서만 DB에서 조회함
+ * 도서 정보/도서 아이템이 추가되거나 삭제되거나 도서 정보의 분류가 바뀌면 트랜잭션이 커밋된 뒤 색인에 반영함
+ * 불러오는 동안 커밋된 변경은 모아 두었다가 불러온 뒤 순서대로 반영함 (이미 읽은 행이 나중에 삭제되어도 색인에 남지 않음)
+ * 키워드는 공백과 문장부호를 제외하고 비교하며, 설명도 제목처럼 정규화한 원문을 보관해 2-gram 후보 중 키워드를 실제로 포함하는 도서만 남김
+ * 초성 검색을 위해 제목/저자를 초성으로 바꾼 문자열(HangulUtil.chosung)도 색인함
+ * 검색 결과는 필드별 BM25 점수에 가중치를 곱해 더한 관련도 순으로 정렬함
+ * 도서 정보별 분류/출판사 번호도 보관해, 검색 결과 전체의 분류/출판사별 도서 수를 후보를 한 번 훑으며 셈
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookSearchIndex {
+
+	private static final int[] EMPTY = new int[0];
+
+	// 관련도 점수의 필드 가중치 (제목 > 저자/출판사 > 설명)
+	private static final float TITLE_BOOST = 3f;
+	private static final float AUTHOR_BOOST = 2f;
+	private static final float DESCRIPTION_BOOST = 1f;
+
+	// 분류 코드 수 (분류 집계의 마지막 칸은 미분류)
+	private static final int CATEGORY_COUNT = Category.values().length;
+
+	private final BookInformationRepository bookInformationRepository;
+	private final BookItemRepository bookItemRepository;
+
+	@Value("${bookiki.search.index.enabled:true}")
+	private boolean enabled;
+
+	private final BigramIndex titles = new BigramIndex(true);
+	private final BigramIndex authors = new BigramIndex(true);
+	private final BigramIndex publishers = new BigramIndex(true);
+	private final BigramIndex descriptions = new BigramIndex(true);
+	private final BigramIndex titleChosungs = new BigramIndex(true);
+	private final BigramIndex authorChosungs = new BigramIndex(true);
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// key: 도서 정보 ID, value: 삭제되지 않은 도서 아이템 ID (오름차순)
+	private int[][] itemsByInformation = new int[0][];
+	// key: 도서 아이템 ID, value: 도서 정보 ID (0 = 없음), 삭제 이벤트에서 도서 정보를 찾기 위해 사용
+	private int[] informationByItem = new int[0];
+	// key: 도서 정보 ID, value: 분류 코드 + 1 (0 = 미분류)
+	private byte[] categoryByInformation = new byte[0];
+	// key: 도서 정보 ID, value: 출판사 번호 + 1 (0 = 없음)
+	private int[] publisherByInformation = new int[0];
+	// 출판사 번호 <-> 출판사 이름 (공백만 정리한 원문)
+	private final List<String> publisherNames = new ArrayList<>();
+	private final Map<String, Integer> publisherIds = new HashMap<>();
+	// 색인한 도서 정보 ID (불러오는 동안 등록된 도서 정보를 스트림과 이벤트에서 두 번 색인하지 않기 위해 사용)
+	private final RoaringBitmap indexedInformations = new RoaringBitmap();
+
+	// 불러오는 동안 커밋된 변경 (BookInformationChangedEvent/BookStatusChangedEvent, 불러온 뒤 순서대로 반영함)
+	private List<Object> pendingDuringLoad;
+
+	private volatile boolean ready;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void load() {
+		if (!enabled) {
+			return;
+		}
+		long startedAt = System.currentTimeMillis();
+		lock.writeLock().lock();
+		try {
+			pendingDuringLoad = new ArrayList<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		int[] itemCount = new int[1];
+		try {
+			try (Stream<Object[]> rows = bookInformationRepository.streamSearchFields()) {
+				rows.forEach(row -> addFields((Integer) row[0], (String) row[1], (String) row[2], (String) row[3],
+					(String) row[4]));
+			}
+			try (Stream<Object[]> rows = bookInformationRepository.streamCategories()) {
+				rows.forEach(row -> setCategory((Integer) row[0], (Integer) row[1]));
+			}
+			try (Stream<Object[]> rows = bookItemRepository.streamIdAndBookInformationIdByDeletedFalse()) {
+				rows.forEach(row -> {
+					addBookItem((Integer) row[0], (Integer) row[1]);
+					itemCount[0]++;
+				});
+			}
+		} catch (RuntimeException e) {
+			lock.writeLock().lock();
+			try {
+				pendingDuringLoad = null;
+			} finally {
+				lock.writeLock().unlock();
+			}
+			throw e;
+		}
+
+		lock.writeLock().lock();
+		try {
+			// 스트림이 읽은 행보다 늦게 커밋된 변경(예: 이미 읽은 도서의 삭제)을 잃지 않도록 불러오는 동안 받은 이벤트를 순서대로 반영
+			for (Object event : pendingDuringLoad) {
+				if (event instanceof BookInformationChangedEvent) {
+					applyBookInformationChanged((BookInformationChangedEvent) event);
+				} else {
+					applyBookStatusChanged((BookStatusChangedEvent) event);
+				}
+			}
+			pendingDuringLoad = null;
+			ready = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+		log.info("도서 검색 색인 완료 - 도서 정보: {}, 도서: {}, {}ms",
+			titles.size(), itemCount[0], System.currentTimeMillis() - startedAt);
+	}
+
+	public boolean isReady() {
+		return enabled && ready;
+	}
+
+	public void addBookInformation(BookInformationEntity bookInformation) {
+		if (bookInformation == null || bookInformation.getId() == null) {
+			return;
+		}
+		addFields(bookInformation.getId(), bookInformation.getTitle(), bookInformation.getAuthor(),
+			bookInformation.getPublisher(), bookInformation.getDescription());
+		setCategory(bookInformation.getId(), bookInformation.getCategory());
+	}
+
+	public void addBookItem(Integer bookItemId, Integer bookInformationId) {
+		if (bookItemId == null || bookInformationId == null) {
+			return;
+		}
+		lock.writeLock().lock();
+		try {
+			if (bookInformationId >= itemsByInformation.length) {
+				itemsByInformation = Arrays.copyOf(itemsByInformation,
+					Math.max(bookInformationId + 1, itemsByInformation.length * 2));
+			}
+			if (bookItemId >= informationByItem.length) {
+				informationByItem = Arrays.copyOf(informationByItem, Math.max(bookItemId + 1, informationByItem.length * 2));
+			}
+			int[] items = itemsByInformation[bookInformationId];
+			if (items == null) {
+				itemsByInformation[bookInformationId] = new int[] {bookItemId};
+			} else if (Arrays.binarySearch(items, bookItemId) < 0) {
+				int[] grown = Arrays.copyOf(items, items.length + 1);
+				grown[items.length] = bookItemId;
+				Arrays.sort(grown);
+				itemsByInformation[bookInformationId] = grown;
+			}
+			informationByItem[bookItemId] = bookInformationId;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 도서 정보 등록이 커밋된 뒤 색인에 추가하고, 분류가 바뀌면 분류 집계에 쓰는 분류만 바꿈
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookInformationChanged(BookInformationChangedEvent event) {
+		if (!deferDuringLoad(event)) {
+			applyBookInformationChanged(event);
+		}
+	}
+
+	private void applyBookInformationChanged(BookInformationChangedEvent event) {
+		BookInformationEntity bookInformation = event.getBookInformation();
+		if (event.isAdded()) {
+			addBookInformation(bookInformation);
+		} else {
+			setCategory(bookInformation.getId(), bookInformation.getCategory());
+		}
+	}
+
+	// 등록된 도서는 커밋된 뒤 검색 대상에 추가하고, 삭제된 도서는 커밋된 뒤 검색 대상에서 제외
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookStatusChanged(BookStatusChangedEvent event) {
+		if (!deferDuringLoad(event)) {
+			applyBookStatusChanged(event);
+		}
+	}
+
+	// 불러오는 중이면 이벤트를 모아 두고 true를 반환
+	private boolean deferDuringLoad(Object event) {
+		lock.writeLock().lock();
+		try {
+			if (pendingDuringLoad == null) {
+				return false;
+			}
+			pendingDuringLoad.add(event);
+			return true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void applyBookStatusChanged(BookStatusChangedEvent event) {
+		if (event.getBookInformationId() != null) {
+			event.getBookItemIds().forEach(bookItemId -> addBookItem(bookItemId, event.getBookInformationId()));
+			return;
+		}
+		if (!event.isDeleted()) {
+			return;
+		}
+		lock.writeLock().lock();
+		try {
+			for (Integer bookItemId : event.getBookItemIds()) {
+				if (bookItemId >= informationByItem.length || informationByItem[bookItemId] == 0) {
+					continue;
+				}
+				int bookInformationId = informationByItem[bookItemId];
+				int[] items = itemsByInformation[bookInformationId];
+				int index = Arrays.binarySearch(items, bookItemId);
+				if (index >= 0) {
+					int[] shrunk = new int[items.length - 1];
+					System.arraycopy(items, 0, shrunk, 0, index);
+					System.arraycopy(items, index + 1, shrunk, index, items.length - index - 1);
+					itemsByInformation[bookInformationId] = shrunk;
+				}
+				informationByItem[bookItemId] = 0;
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 도서 아이템의 도서 정보 ID
+	 * @return 색인에 없으면 0
+	 */
+	public int getBookInformationId(int bookItemId) {
+		lock.readLock().lock();
+		try {
+			return bookItemId >= 0 && bookItemId < informationByItem.length ? informationByItem[bookItemId] : 0;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 검색 유형에 맞는 도서 정보 ID
+	 * @return 도서 정보 ID 오름차순
+	 */
+	public int[] searchBookInformationIds(SearchType type, String keyword) {
+		switch (type) {
+			case TITLE:
+				return titles.search(keyword);
+			case AUTHOR:
+				return authors.search(keyword);
+			case PUBLISHER:
+				return publishers.search(keyword);
+			case KEYWORD:
+				return BigramIndex.union(titles.search(keyword), descriptions.search(keyword));
+			case CHOSUNG:
+				// 완성형 글자가 섞인 검색어도 초성으로 바꿔 비교 (예: "클ㄹ" -> "ㅋㄹ")
+				String chosung = HangulUtil.chosung(keyword);
+				return BigramIndex.union(titleChosungs.search(chosung), authorChosungs.search(chosung));
+			default:
+				return EMPTY;
+		}
+	}
+
+	/**
+	 * 검색 결과 도서 아이템 한 페이지 (관련도 순, 같은 도서 정보는 도서 아이템 ID 순)
+	 * 페이지에 필요한 만큼의 도서 정보만 상위 K개로 골라 정렬함
+	 * @param offset 건너뛸 도서 수
+	 * @param limit 페이지 크기
+	 */
+	public ItemPage searchBookItems(SearchType type, String keyword, long offset, int limit) {
+		return searchBookItems(searchBookInformationIds(type, keyword), type, keyword, offset, limit, null);
+	}
+
+	/**
+	 * 검색 결과 도서 아이템 한 페이지와 전체 결과의 분류/출판사별 도서 수
+	 * 키워드가 없으면 전체 도서가 대상이며 도서 정보 ID 순으로 정렬됨
+	 * @param publisherLimit 도서 수가 많은 순으로 돌려줄 출판사 수
+	 */
+	public ItemPage searchBookItemsWithFacets(SearchType type, String keyword, long offset, int limit,
+		int publisherLimit) {
+		int[] bookInformationIds = keyword == null || keyword.isBlank()
+			? allBookInformationIds()
+			: searchBookInformationIds(type, keyword);
+		return searchBookItems(bookInformationIds, type, keyword, offset, limit, Math.max(publisherLimit, 0));
+	}
+
+	// publisherLimit이 null이면 집계하지 않음
+	private ItemPage searchBookItems(int[] bookInformationIds, SearchType type, String keyword, long offset,
+		int limit, Integer publisherLimit) {
+		// 남은 도서 아이템이 있는 도서 정보만 순위를 매김
+		int[] candidates = new int[bookInformationIds.length];
+		int candidateCount = 0;
+		long total = 0;
+		Facets facets = null;
+		lock.readLock().lock();
+		try {
+			int[] categoryCounts = publisherLimit == null ? null : new int[CATEGORY_COUNT + 1];
+			int[] publisherCounts = publisherLimit == null ? null : new int[publisherNames.size() + 1];
+			RoaringBitmap bookItemIds = publisherLimit == null ? null : new RoaringBitmap();
+			for (int bookInformationId : bookInformationIds) {
+				int[] items = itemsOf(bookInformationId);
+				if (items.length == 0) {
+					continue;
+				}
+				candidates[candidateCount++] = bookInformationId;
+				total += items.length;
+				if (publisherLimit != null) {
+					int category = valueOf(categoryByInformation, bookInformationId);
+					categoryCounts[category == 0 ? CATEGORY_COUNT : category - 1] += items.length;
+					publisherCounts[valueOf(publisherByInformation, bookInformationId)] += items.length;
+					bookItemIds.addN(items, 0, items.length);
+				}
+			}
+			if (publisherLimit != null) {
+				facets = toFacets(categoryCounts, publisherCounts, bookItemIds, publisherLimit);
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		candidates = Arrays.copyOf(candidates, candidateCount);
+
+		int[] ranked = rank(type, keyword, candidates, (int) Math.min(candidateCount, offset + limit));
+
+		int[] page = new int[limit];
+		int pageSize = 0;
+		long skipped = 0;
+		lock.readLock().lock();
+		try {
+			for (int i = 0; i < ranked.length && pageSize < limit; i++) {
+				int[] items = itemsOf(ranked[i]);
+				for (int j = 0; j < items.length && pageSize < limit; j++) {
+					if (skipped++ >= offset) {
+						page[pageSize++] = items[j];
+					}
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return new ItemPage(Arrays.copyOf(page, pageSize), total, facets);
+	}
+
+	/**
+	 * 여러 키워드로 제목/저자/설명을 검색해 키워드별 BM25 점수 합이 높은 도서 정보 ID
+	 * @param limit 최대 개수
+	 * @return 점수 내림차순 도서 정보 ID
+	 */
+	public int[] rankBookInformationIds(List<String> keywords, int limit) {
+		int[] candidates = EMPTY;
+		for (String keyword : keywords) {
+			candidates = BigramIndex.union(candidates, BigramIndex.union(titles.search(keyword),
+				BigramIndex.union(authors.search(keyword), descriptions.search(keyword))));
+		}
+		float[] scores = new float[candidates.length];
+		for (String keyword : keywords) {
+			titles.score(candidates, keyword, TITLE_BOOST, scores);
+			authors.score(candidates, keyword, AUTHOR_BOOST, scores);
+			descriptions.score(candidates, keyword, DESCRIPTION_BOOST, scores);
+		}
+		return TopK.select(candidates, scores, limit);
+	}
+
+	/**
+	 * 도서 정보의 삭제되지 않은 도서 아이템 ID (오름차순)
+	 */
+	public int[] getBookItemIds(int bookInformationId) {
+		lock.readLock().lock();
+		try {
+			return itemsOf(bookInformationId).clone();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 검색 유형의 필드로 BM25 점수를 매겨 상위 k개를 고름
+	private int[] rank(SearchType type, String keyword, int[] candidates, int k) {
+		float[] scores = new float[candidates.length];
+		switch (type) {
+			case TITLE:
+				titles.score(candidates, keyword, TITLE_BOOST, scores);
+				break;
+			case AUTHOR:
+				authors.score(candidates, keyword, AUTHOR_BOOST, scores);
+				break;
+			case PUBLISHER:
+				publishers.score(candidates, keyword, AUTHOR_BOOST, scores);
+				break;
+			case KEYWORD:
+				titles.score(candidates, keyword, TITLE_BOOST, scores);
+				descriptions.score(candidates, keyword, DESCRIPTION_BOOST, scores);
+				break;
+			case CHOSUNG:
+				String chosung = HangulUtil.chosung(keyword);
+				titleChosungs.score(candidates, chosung, TITLE_BOOST, scores);
+				authorChosungs.score(candidates, chosung, AUTHOR_BOOST, scores);
+				break;
+			default:
+				break;
+		}
+		return TopK.select(candidates, scores, k);
+	}
+
+	// 도서 아이템이 있는 모든 도서 정보 ID (오름차순)
+	private int[] allBookInformationIds() {
+		lock.readLock().lock();
+		try {
+			int[] ids = new int[itemsByInformation.length];
+			int size = 0;
+			for (int id = 1; id < itemsByInformation.length; id++) {
+				if (itemsByInformation[id] != null && itemsByInformation[id].length > 0) {
+					ids[size++] = id;
+				}
+			}
+			return Arrays.copyOf(ids, size);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 읽기 잠금을 잡은 상태에서 호출, 출판사는 0(없음)을 빼고 도서 수 상위 publisherLimit개만 남김
+	private Facets toFacets(int[] categoryCounts, int[] publisherCounts, RoaringBitmap bookItemIds,
+		int publisherLimit) {
+		int[] ids = new int[publisherCounts.length];
+		float[] scores = new float[publisherCounts.length];
+		int size = 0;
+		for (int id = 1; id < publisherCounts.length; id++) {
+			if (publisherCounts[id] > 0) {
+				ids[size] = id;
+				scores[size++] = publisherCounts[id];
+			}
+		}
+		int[] top = TopK.select(Arrays.copyOf(ids, size), Arrays.copyOf(scores, size), publisherLimit);
+		String[] publishers = new String[top.length];
+		int[] counts = new int[top.length];
+		for (int i = 0; i < top.length; i++) {
+			publishers[i] = publisherNames.get(top[i] - 1);
+			counts[i] = publisherCounts[top[i]];
+		}
+		return new Facets(categoryCounts, publishers, counts, bookItemIds);
+	}
+
+	// 읽기 잠금을 잡은 상태에서 호출
+	private int[] itemsOf(int bookInformationId) {
+		if (bookInformationId < 0 || bookInformationId >= itemsByInformation.length
+			|| itemsByInformation[bookInformationId] == null) {
+			return EMPTY;
+		}
+		return itemsByInformation[bookInformationId];
+	}
+
+	// 이미 색인한 도서 정보는 건너뜀 (BigramIndex는 같은 ID를 두 번 추가하지 않아야 함)
+	private void addFields(Integer id, String title, String author, String publisher, String description) {
+		lock.writeLock().lock();
+		try {
+			if (!indexedInformations.checkedAdd(id)) {
+				return;
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+		setPublisher(id, publisher);
+		titles.add(id, title);
+		authors.add(id, author);
+		publishers.add(id, publisher);
+		titleChosungs.add(id, HangulUtil.chosung(title));
+		authorChosungs.add(id, HangulUtil.chosung(author));
+		if (description != null) {
+			descriptions.add(id, description);
+		}
+	}
+
+	private void setPublisher(int id, String publisher) {
+		String name = publisher == null ? "" : publisher.trim().replaceAll("\\s+", " ");
+		lock.writeLock().lock();
+		try {
+			int publisherId = 0;
+			if (!name.isEmpty()) {
+				publisherId = publisherIds.computeIfAbsent(name, key -> {
+					publisherNames.add(key);
+					return publisherNames.size();
+				});
+			}
+			if (id >= publisherByInformation.length) {
+				publisherByInformation = Arrays.copyOf(publisherByInformation,
+					Math.max(id + 1, publisherByInformation.length * 2));
+			}
+			publisherByInformation[id] = publisherId;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 알 수 없는 분류 코드는 미분류로 둠
+	private void setCategory(Integer id, Integer category) {
+		if (id == null) {
+			return;
+		}
+		lock.writeLock().lock();
+		try {
+			if (id >= categoryByInformation.length) {
+				categoryByInformation = Arrays.copyOf(categoryByInformation,
+					Math.max(id + 1, categoryByInformation.length * 2));
+			}
+			categoryByInformation[id] = category != null && category >= 0 && category < CATEGORY_COUNT
+				? (byte) (category + 1)
+				: 0;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private static int valueOf(byte[] values, int id) {
+		return id < values.length ? values[id] : 0;
+	}
+
+	private static int valueOf(int[] values, int id) {
+		return id < values.length ? values[id] : 0;
+	}
+
+	@Getter
+	public static class ItemPage {
+		private final int[] bookItemIds;
+		private final long total;
+		// 집계를 요청하지 않았으면 null
+		private final Facets facets;
+
+		public ItemPage(int[] bookItemIds, long total) {
+			this(bookItemIds, total, null);
+		}
+
+		public ItemPage(int[] bookItemIds, long total, Facets facets) {
+			this.bookItemIds = bookItemIds;
+			this.total = total;
+			this.facets = facets;
+		}
+	}
+
+	/**
+	 * 검색 결과 전체의 도서 수 집계
+	 * 상태별 수는 bookItemIds를 BookStatusBitmap과 교차해 계산함
+	 */
+	@Getter
+	public static class Facets {
+		// 분류 코드 순, 마지막 칸은 미분류
+		private final int[] categoryCounts;
+		// 도서 수 내림차순
+		private final String[] publishers;
+		private final int[] publisherCounts;
+		private final RoaringBitmap bookItemIds;
+
+		public Facets(int[] categoryCounts, String[] publishers, int[] publisherCounts, RoaringBitmap bookItemIds) {
+			this.categoryCounts = categoryCounts;
+			this.publishers = publishers;
+			this.publisherCounts = publisherCounts;
+			this.bookItemIds = bookItemIds;
+		}
+	}
+}
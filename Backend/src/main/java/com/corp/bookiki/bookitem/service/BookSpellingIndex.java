@@ -0,0 +1,116 @@
+package com.corp.bookiki.bookitem.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookinformation.event.BookInformationChangedEvent;
+import com.corp.bookiki.bookinformation.repository.BookInformationRepository;
+import com.corp.bookiki.util.SymmetricDeleteDictionary;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색어 맞춤법 교정 사전 ("이것을 찾으셨나요?")
+ * 제목/저자/출판사의 단어를 도서 수를 빈도로 하여 사전에 넣고, 검색어의 단어별로 사전에 없으면 가장 가까운 단어로 바꿈
+ * 도서 정보가 추가되면 해당 도서의 단어만 사전에 더함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookSpellingIndex {
+
+	// 자모 기준 최대 편집 거리와 삭제 변형을 만들 앞부분 길이 (한글 2~3글자)
+	private static final int MAX_DISTANCE = 2;
+	private static final int PREFIX_LENGTH = 7;
+
+	private final BookInformationRepository bookInformationRepository;
+
+	@Value("${bookiki.search.spelling.enabled:true}")
+	private boolean enabled;
+
+	private final SymmetricDeleteDictionary dictionary = new SymmetricDeleteDictionary(MAX_DISTANCE, PREFIX_LENGTH);
+
+	private volatile boolean ready;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void load() {
+		if (!enabled) {
+			return;
+		}
+		long startedAt = System.currentTimeMillis();
+		try (Stream<Object[]> rows = bookInformationRepository.streamSuggestFields()) {
+			rows.forEach(row -> addWords((String) row[1], (String) row[2], (String) row[3]));
+		}
+		ready = true;
+		log.info("맞춤법 교정 사전 완료 - 단어: {}, {}ms", dictionary.size(), System.currentTimeMillis() - startedAt);
+	}
+
+	public boolean isReady() {
+		return enabled && ready;
+	}
+
+	public void addBookInformation(BookInformationEntity bookInformation) {
+		if (!enabled || bookInformation == null) {
+			return;
+		}
+		addWords(bookInformation.getTitle(), bookInformation.getAuthor(), bookInformation.getPublisher());
+	}
+
+	// 도서 정보 등록이 커밋된 뒤 사전에 추가
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookInformationChanged(BookInformationChangedEvent event) {
+		if (event.isAdded()) {
+			addBookInformation(event.getBookInformation());
+		}
+	}
+
+	/**
+	 * 사전에 없는 단어를 가장 가까운 단어로 바꾼 검색어
+	 * @return 바꿀 단어가 없거나 사전이 준비되지 않았으면 null
+	 */
+	public String correct(String keyword) {
+		if (!isReady() || keyword == null || keyword.isBlank()) {
+			return null;
+		}
+		boolean corrected = false;
+		StringJoiner result = new StringJoiner(" ");
+		for (String word : keyword.trim().split("\\s+")) {
+			List<SymmetricDeleteDictionary.Suggestion> suggestions = dictionary.lookup(word, 1);
+			if (suggestions.isEmpty() || suggestions.get(0).getDistance() == 0) {
+				result.add(word);
+				continue;
+			}
+			result.add(suggestions.get(0).getWord());
+			corrected = true;
+		}
+		return corrected ? result.toString() : null;
+	}
+
+	// 한 도서에 같은 단어가 여러 번 나와도 빈도는 1만 더함
+	private void addWords(String... fields) {
+		Set<String> words = new HashSet<>();
+		for (String field : fields) {
+			if (field == null) {
+				continue;
+			}
+			for (String word : field.split("[^\\p{L}\\p{N}]+")) {
+				if (!word.isEmpty() && words.add(word.toLowerCase())) {
+					dictionary.add(word, 1);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,192 @@
+package com.corp.bookiki.bookitem.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.corp.bookiki.bookitem.entity.BookStatus;
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
+import com.corp.bookiki.bookitem.repository.BookItemRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 도서 상태별 ID 집합 (압축 비트맵)
+ * 시작 시 DB에서 불러오고, 이후에는 이 노드에서 커밋된 상태 변경 이벤트로 갱신하므로
+ * 검색 필터/상태별 수 등을 DB 전체 조회 없이 비트맵 연산으로 처리할 수 있음
+ * 다른 노드의 대출/반납은 반영되지 않으므로, 정확해야 하는 판단(분실 의심 도서)은 해당 도서만 DB에서 확인함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookStatusBitmap {
+
+	private final BookItemRepository bookItemRepository;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// 삭제되지 않은 도서만 보관
+	private final Map<BookStatus, RoaringBitmap> bitmaps = new EnumMap<>(BookStatus.class);
+
+	// 다시 불러오는 동안 커밋된 상태 변경 (새 비트맵에 다시 반영함)
+	private List<BookStatusChangedEvent> pendingDuringLoad;
+
+	// 처음 불러오기가 끝나기 전에는 비트맵이 비어 있으므로 상태별 수를 믿을 수 없음
+	private volatile boolean ready;
+
+	{
+		for (BookStatus status : BookStatus.values()) {
+			bitmaps.put(status, new RoaringBitmap());
+		}
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void load() {
+		long startedAt = System.currentTimeMillis();
+		lock.writeLock().lock();
+		try {
+			pendingDuringLoad = new ArrayList<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		Map<BookStatus, RoaringBitmap> loaded = new EnumMap<>(BookStatus.class);
+		for (BookStatus status : BookStatus.values()) {
+			loaded.put(status, new RoaringBitmap());
+		}
+		try (Stream<Object[]> rows = bookItemRepository.streamIdAndStatusByDeletedFalse()) {
+			rows.forEach(row -> loaded.get((BookStatus) row[1]).add((Integer) row[0]));
+		} catch (RuntimeException e) {
+			lock.writeLock().lock();
+			try {
+				pendingDuringLoad = null;
+			} finally {
+				lock.writeLock().unlock();
+			}
+			throw e;
+		}
+		loaded.values().forEach(RoaringBitmap::runOptimize);
+
+		lock.writeLock().lock();
+		try {
+			// 불러온 행보다 늦게 커밋된 변경을 덮어쓰지 않도록 불러오는 동안 받은 이벤트를 순서대로 다시 반영
+			for (BookStatusChangedEvent event : pendingDuringLoad) {
+				apply(loaded, event);
+			}
+			pendingDuringLoad = null;
+			bitmaps.putAll(loaded);
+			ready = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+		log.info("도서 상태 비트맵 로드 완료 - 대출 가능: {}, 대출 중: {}, 분실: {}, {}ms",
+			loaded.get(BookStatus.AVAILABLE).getCardinality(),
+			loaded.get(BookStatus.BORROWED).getCardinality(),
+			loaded.get(BookStatus.UNAVAILABLE).getCardinality(),
+			System.currentTimeMillis() - startedAt);
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	// 커밋된 변경만 반영 (트랜잭션 밖에서 발행된 경우 바로 반영)
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookStatusChanged(BookStatusChangedEvent event) {
+		lock.writeLock().lock();
+		try {
+			apply(bitmaps, event);
+			if (pendingDuringLoad != null) {
+				pendingDuringLoad.add(event);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private static void apply(Map<BookStatus, RoaringBitmap> target, BookStatusChangedEvent event) {
+		for (Integer bookItemId : event.getBookItemIds()) {
+			// 변경 전 상태가 지정된 경우, 실제로 그 상태였던 도서만 옮김 (조건부 UPDATE와 동일한 의미)
+			if (event.getFromStatus() != null && !target.get(event.getFromStatus()).contains(bookItemId)) {
+				continue;
+			}
+			target.values().forEach(bitmap -> bitmap.remove(bookItemId));
+			if (!event.isDeleted()) {
+				target.get(event.getToStatus()).add(bookItemId);
+			}
+		}
+	}
+
+	/**
+	 * 주어진 도서 중 해당 상태가 아닌 도서 ID (ANDNOT)
+	 */
+	public int[] excludeStatus(int[] bookItemIds, BookStatus status) {
+		RoaringBitmap candidates = RoaringBitmap.bitmapOf(sortedCopy(bookItemIds));
+		lock.readLock().lock();
+		try {
+			candidates.andNot(bitmaps.get(status));
+		} finally {
+			lock.readLock().unlock();
+		}
+		return candidates.toArray();
+	}
+
+	/**
+	 * 주어진 도서 중 해당 상태인 도서 ID (AND)
+	 */
+	public int[] filterStatus(int[] bookItemIds, BookStatus status) {
+		RoaringBitmap candidates = RoaringBitmap.bitmapOf(sortedCopy(bookItemIds));
+		lock.readLock().lock();
+		try {
+			candidates.and(bitmaps.get(status));
+		} finally {
+			lock.readLock().unlock();
+		}
+		return candidates.toArray();
+	}
+
+	/**
+	 * 주어진 도서의 상태별 수 (교집합 크기만 계산하므로 비트맵을 새로 만들지 않음)
+	 */
+	public Map<BookStatus, Integer> countByStatus(RoaringBitmap bookItemIds) {
+		Map<BookStatus, Integer> counts = new EnumMap<>(BookStatus.class);
+		lock.readLock().lock();
+		try {
+			for (BookStatus status : BookStatus.values()) {
+				counts.put(status, RoaringBitmap.andCardinality(bookItemIds, bitmaps.get(status)));
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+		return counts;
+	}
+
+	public int count(BookStatus status) {
+		lock.readLock().lock();
+		try {
+			return bitmaps.get(status).getCardinality();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 정렬된 입력이면 비트맵 생성이 더 빠름
+	private static int[] sortedCopy(int[] bookItemIds) {
+		int[] sorted = Arrays.copyOf(bookItemIds, bookItemIds.length);
+		Arrays.sort(sorted);
+		return sorted;
+	}
+}
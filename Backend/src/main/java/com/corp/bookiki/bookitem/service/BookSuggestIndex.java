@@ -0,0 +1,278 @@
+package com.corp.bookiki.bookitem.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.corp.bookiki.bookhistory.repository.BookHistoryRepository;
+import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookinformation.event.BookInformationChangedEvent;
+import com.corp.bookiki.bookinformation.repository.BookInformationRepository;
+import com.corp.bookiki.bookitem.dto.BookSuggestResponse;
+import com.corp.bookiki.bookitem.entity.BookStatus;
+import com.corp.bookiki.bookitem.enums.SearchType;
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
+import com.corp.bookiki.bookitem.repository.BookItemRepository;
+import com.corp.bookiki.util.HangulUtil;
+import com.corp.bookiki.util.WeightedPrefixIndex;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색어 자동완성 색인 (제목/저자/출판사 접두사 + 대출 횟수 가중치)
+ * 입력할 때마다 LIKE 검색을 하지 않도록 접두사가 일치하는 검색어 중 많이 대출된 순으로 추천함
+ * 제목은 도서 정보 ID, 저자/출판사는 이름별 ID로 색인하며 저자/출판사의 가중치는 해당 도서들의 대출 횟수 합
+ * 도서 정보가 추가되거나 도서가 대출되면 색인에 바로 반영함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BookSuggestIndex {
+
+	private final BookInformationRepository bookInformationRepository;
+	private final BookHistoryRepository bookHistoryRepository;
+	private final BookItemRepository bookItemRepository;
+	private final BookSearchIndex bookSearchIndex;
+
+	@Value("${bookiki.search.suggest.enabled:true}")
+	private boolean enabled;
+
+	private final WeightedPrefixIndex titles = new WeightedPrefixIndex();
+	private final Names authors = new Names();
+	private final Names publishers = new Names();
+
+	// key: 도서 정보 ID, value: 첫 번째 저자 이름 ID + 1 (0 = 없음)
+	private int[] authorByInformation = new int[0];
+	// 공동 저자가 있는 도서의 나머지 저자 이름 ID
+	private final Map<Integer, int[]> coAuthorsByInformation = new HashMap<>();
+	// key: 도서 정보 ID, value: 출판사 이름 ID + 1 (0 = 없음)
+	private int[] publisherByInformation = new int[0];
+
+	private volatile boolean ready;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	public void load() {
+		if (!enabled) {
+			return;
+		}
+		long startedAt = System.currentTimeMillis();
+		Map<Integer, Integer> borrowCounts = new HashMap<>();
+		for (Object[] row : bookHistoryRepository.countBorrowsGroupByBookInformation()) {
+			borrowCounts.put((Integer) row[0], ((Number) row[1]).intValue());
+		}
+		try (Stream<Object[]> rows = bookInformationRepository.streamSuggestFields()) {
+			rows.forEach(row -> {
+				Integer id = (Integer) row[0];
+				addFields(id, (String) row[1], (String) row[2], (String) row[3], borrowCounts.getOrDefault(id, 0));
+			});
+		}
+		synchronized (this) {
+			titles.flush();
+			authors.finishLoading();
+			publishers.finishLoading();
+		}
+		ready = true;
+		log.info("자동완성 색인 완료 - 제목: {}, 저자: {}, 출판사: {}, {}ms",
+			titles.size(), authors.index.size(), publishers.index.size(), System.currentTimeMillis() - startedAt);
+	}
+
+	public boolean isReady() {
+		return enabled && ready;
+	}
+
+	public void addBookInformation(BookInformationEntity bookInformation) {
+		if (!enabled || bookInformation == null || bookInformation.getId() == null) {
+			return;
+		}
+		addFields(bookInformation.getId(), bookInformation.getTitle(), bookInformation.getAuthor(),
+			bookInformation.getPublisher(), 0);
+	}
+
+	// 도서 정보 등록이 커밋된 뒤 색인에 추가
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookInformationChanged(BookInformationChangedEvent event) {
+		if (event.isAdded()) {
+			addBookInformation(event.getBookInformation());
+		}
+	}
+
+	// 대출이 커밋된 뒤 해당 도서의 제목/저자/출판사 가중치를 1씩 올림
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookStatusChanged(BookStatusChangedEvent event) {
+		if (!isReady() || event.getFromStatus() != BookStatus.AVAILABLE || event.getToStatus() != BookStatus.BORROWED) {
+			return;
+		}
+		for (Integer bookItemId : event.getBookItemIds()) {
+			int bookInformationId = bookSearchIndex.getBookInformationId(bookItemId);
+			if (bookInformationId == 0) {
+				bookInformationId = bookItemRepository.findBookInformationIdById(bookItemId).orElse(0);
+			}
+			if (bookInformationId > 0) {
+				recordBorrow(bookInformationId);
+			}
+		}
+	}
+
+	/**
+	 * 접두사가 일치하는 검색어를 대출 횟수 순으로 추천
+	 * @param keyword 입력 중인 검색어
+	 * @param limit 최대 개수
+	 * @return 색인이 준비되지 않았으면 빈 목록
+	 */
+	public List<BookSuggestResponse> suggest(String keyword, int limit) {
+		if (!isReady()) {
+			return List.of();
+		}
+		List<BookSuggestResponse> candidates = new ArrayList<>(limit * 3);
+		titles.suggest(keyword, limit).forEach(suggestion ->
+			candidates.add(toResponse(SearchType.TITLE, suggestion, suggestion.getPayload())));
+		authors.index.suggest(keyword, limit).forEach(suggestion ->
+			candidates.add(toResponse(SearchType.AUTHOR, suggestion, null)));
+		publishers.index.suggest(keyword, limit).forEach(suggestion ->
+			candidates.add(toResponse(SearchType.PUBLISHER, suggestion, null)));
+		candidates.sort(Comparator.comparing(BookSuggestResponse::getBorrowCount).reversed());
+
+		// 같은 제목의 도서가 여러 권이면 한 번만 추천
+		Set<String> seen = new HashSet<>();
+		List<BookSuggestResponse> result = new ArrayList<>(limit);
+		for (BookSuggestResponse candidate : candidates) {
+			if (result.size() == limit) {
+				break;
+			}
+			if (seen.add(candidate.getType() + ":" + HangulUtil.normalize(candidate.getText()))) {
+				result.add(candidate);
+			}
+		}
+		return result;
+	}
+
+	private synchronized void addFields(int id, String title, String author, String publisher, int borrowCount) {
+		titles.add(title, id, borrowCount);
+
+		if (id >= authorByInformation.length) {
+			authorByInformation = Arrays.copyOf(authorByInformation, Math.max(id + 1, authorByInformation.length * 2));
+			publisherByInformation = Arrays.copyOf(publisherByInformation, authorByInformation.length);
+		}
+		int[] authorIds = splitAuthors(author).stream()
+			.mapToInt(name -> authors.idOf(name, borrowCount))
+			.filter(nameId -> nameId >= 0)
+			.distinct()
+			.toArray();
+		if (authorIds.length > 0) {
+			authorByInformation[id] = authorIds[0] + 1;
+		}
+		if (authorIds.length > 1) {
+			coAuthorsByInformation.put(id, Arrays.copyOfRange(authorIds, 1, authorIds.length));
+		}
+		publisherByInformation[id] = publishers.idOf(publisher, borrowCount) + 1;
+	}
+
+	private synchronized void recordBorrow(int bookInformationId) {
+		titles.addWeight(bookInformationId, 1);
+		if (bookInformationId >= authorByInformation.length) {
+			return;
+		}
+		if (authorByInformation[bookInformationId] > 0) {
+			authors.index.addWeight(authorByInformation[bookInformationId] - 1, 1);
+		}
+		for (int authorId : coAuthorsByInformation.getOrDefault(bookInformationId, new int[0])) {
+			authors.index.addWeight(authorId, 1);
+		}
+		if (publisherByInformation[bookInformationId] > 0) {
+			publishers.index.addWeight(publisherByInformation[bookInformationId] - 1, 1);
+		}
+	}
+
+	// 네이버 도서 API의 저자 목록은 ", "로 구분됨
+	private static List<String> splitAuthors(String author) {
+		if (author == null || author.isBlank()) {
+			return List.of();
+		}
+		List<String> names = new ArrayList<>();
+		for (String name : author.split(",")) {
+			if (!name.isBlank()) {
+				names.add(name.trim());
+			}
+		}
+		return names;
+	}
+
+	private static BookSuggestResponse toResponse(SearchType type, WeightedPrefixIndex.Suggestion suggestion,
+		Integer bookInformationId) {
+		return BookSuggestResponse.builder()
+			.type(type)
+			.text(suggestion.getText())
+			.bookInformationId(bookInformationId)
+			.borrowCount(suggestion.getWeight())
+			.build();
+	}
+
+	/**
+	 * 저자/출판사 이름 색인
+	 * 초기 적재 중에는 이름별 ID와 가중치 합을 해시 맵으로 모았다가 한 번에 색인하고, 이후에는 색인에서 이름을 찾아 ID를 정함
+	 */
+	private static class Names {
+		private final WeightedPrefixIndex index = new WeightedPrefixIndex();
+
+		// 초기 적재 중에만 사용 (key: 정규화한 이름)
+		private Map<String, Integer> loadingIds = new HashMap<>();
+		private final List<String> loadingNames = new ArrayList<>();
+		private int[] loadingWeights = new int[1024];
+
+		private int count;
+
+		// @return 이름 ID (이름이 비어 있으면 -1)
+		private int idOf(String name, int weight) {
+			String key = HangulUtil.normalize(name);
+			if (key.isEmpty()) {
+				return -1;
+			}
+			if (loadingIds == null) {
+				int id = index.find(name);
+				if (id < 0) {
+					id = count++;
+					index.add(name.trim(), id, weight);
+				} else if (weight > 0) {
+					index.addWeight(id, weight);
+				}
+				return id;
+			}
+			Integer id = loadingIds.get(key);
+			if (id == null) {
+				id = count++;
+				loadingIds.put(key, id);
+				loadingNames.add(name.trim());
+				if (id == loadingWeights.length) {
+					loadingWeights = Arrays.copyOf(loadingWeights, id * 2);
+				}
+			}
+			loadingWeights[id] += weight;
+			return id;
+		}
+
+		private void finishLoading() {
+			for (int id = 0; id < loadingNames.size(); id++) {
+				index.add(loadingNames.get(id), id, loadingWeights[id]);
+			}
+			index.flush();
+			loadingIds = null;
+			loadingNames.clear();
+			loadingWeights = null;
+		}
+	}
+}
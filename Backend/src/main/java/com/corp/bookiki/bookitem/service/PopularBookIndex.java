@@ -0,0 +1,315 @@
+package com.corp.bookiki.bookitem.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.corp.bookiki.bookinformation.entity.Category;
+import com.corp.bookiki.bookitem.entity.BookStatus;
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
+import com.corp.bookiki.bookitem.repository.BookItemRepository;
+import com.corp.bookiki.util.BoundedTopK;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 카테고리별 전체 기간 대출 횟수 상위 도서 (인기 도서)
+ * 카테고리마다, 그리고 전체 도서에 대해 크기 top-k의 힙을 두고 대출될 때마다 해당 도서만 반영함 (O(log K))
+ * 대출 횟수는 도서 아이템 ID를 인덱스로 하는 배열에 두며, 대출 가능 여부는 조회할 때 BookStatusBitmap으로 거름
+ * 삭제로 힙에서 빠진 자리는 해당 카테고리 도서를 다시 훑어 채우고, 도서 정보의 카테고리 변경은 매일 다시 불러올 때 반영됨
+ * 다시 불러오는 동안 커밋된 상태 변경은 모아 두었다가 새 배열로 바꾼 뒤 순서대로 다시 반영함
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PopularBookIndex {
+
+	private static final int CATEGORY_COUNT = Category.values().length;
+
+	// 힙 번호: 카테고리 코드, 마지막 = 전체 도서 (미분류 도서는 전체에만 들어감)
+	private static final int ALL = CATEGORY_COUNT;
+
+	// 배열 값: -1 = 없는 도서 (삭제되었거나 모름)
+	private static final int ABSENT = -1;
+
+	// 카테고리 배열 값: 0 = 미분류, 그 외 = 카테고리 코드 + 1
+	private static final byte UNCATEGORIZED = 0;
+
+	// 잠금 밖에서 카테고리를 미리 조회하지 않은 도서
+	private static final byte UNRESOLVED = -1;
+
+	private final BookItemRepository bookItemRepository;
+	private final BookCategoryMap bookCategoryMap;
+
+	@Value("${bookiki.popular.top-k:100}")
+	private int topK;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	private int[] borrowCounts = new int[0];
+	private byte[] categories = new byte[0];
+	private BoundedTopK[] heaps;
+
+	// 다시 불러오는 동안 커밋된 상태 변경 (새 배열에 다시 반영함)
+	private List<BookStatusChangedEvent> pendingDuringLoad;
+
+	private volatile boolean ready;
+
+	@EventListener(ApplicationReadyEvent.class)
+	@Transactional(readOnly = true)
+	@Scheduled(cron = "${bookiki.popular.reload-cron:0 30 4 * * *}")
+	public void load() {
+		long startedAt = System.currentTimeMillis();
+		lock.writeLock().lock();
+		try {
+			pendingDuringLoad = new ArrayList<>();
+		} finally {
+			lock.writeLock().unlock();
+		}
+
+		int[] counts = new int[1024];
+		Arrays.fill(counts, ABSENT);
+		byte[] loadedCategories = new byte[1024];
+		int loaded = 0;
+
+		try (Stream<Object[]> rows = bookItemRepository.streamIdCategoryAndBorrowCount()) {
+			Iterator<Object[]> iterator = rows.iterator();
+			while (iterator.hasNext()) {
+				Object[] row = iterator.next();
+				int bookItemId = (Integer) row[0];
+				if (bookItemId >= counts.length) {
+					int size = Math.max(bookItemId + 1, counts.length * 2);
+					int previous = counts.length;
+					counts = Arrays.copyOf(counts, size);
+					Arrays.fill(counts, previous, size, ABSENT);
+					loadedCategories = Arrays.copyOf(loadedCategories, size);
+				}
+				counts[bookItemId] = ((Number) row[2]).intValue();
+				loadedCategories[bookItemId] = encode((Integer) row[1]);
+				loaded++;
+			}
+		} catch (RuntimeException e) {
+			lock.writeLock().lock();
+			try {
+				pendingDuringLoad = null;
+			} finally {
+				lock.writeLock().unlock();
+			}
+			throw e;
+		}
+
+		lock.writeLock().lock();
+		try {
+			borrowCounts = counts;
+			categories = loadedCategories;
+			heaps = new BoundedTopK[CATEGORY_COUNT + 1];
+			for (int i = 0; i < heaps.length; i++) {
+				heaps[i] = new BoundedTopK(topK, bookItemId -> borrowCounts[bookItemId]);
+			}
+			for (int bookItemId = 0; bookItemId < borrowCounts.length; bookItemId++) {
+				if (borrowCounts[bookItemId] != ABSENT) {
+					offer(bookItemId);
+				}
+			}
+			// 불러온 행보다 늦게 커밋된 변경을 잃지 않도록 불러오는 동안 받은 이벤트를 순서대로 다시 반영
+			// (조회 시작 직전에 커밋된 대출은 한 번 더 셀 수 있으나, 순위용이므로 잃는 쪽보다 나음)
+			for (BookStatusChangedEvent event : pendingDuringLoad) {
+				apply(event, unresolved(event));
+			}
+			pendingDuringLoad = null;
+			ready = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+		log.info("인기 도서 색인 로드 완료 - 도서: {}, {}ms", loaded, System.currentTimeMillis() - startedAt);
+	}
+
+	public boolean isReady() {
+		return ready;
+	}
+
+	public int getTopK() {
+		return topK;
+	}
+
+	/**
+	 * 대출 횟수 내림차순 인기 도서 후보 (대출 가능 여부와 관계없이 최대 top-k개)
+	 * @param category 카테고리 코드 (null이면 전체)
+	 */
+	public int[] top(Integer category) {
+		lock.readLock().lock();
+		try {
+			BoundedTopK heap = heapOf(category);
+			return heap == null ? new int[0] : heap.sorted();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 후보가 top-k개로 잘렸으면 true (false면 top()이 해당 카테고리의 모든 도서)
+	 */
+	public boolean isTruncated(Integer category) {
+		lock.readLock().lock();
+		try {
+			BoundedTopK heap = heapOf(category);
+			return heap != null && heap.isFull();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int getBorrowCount(int bookItemId) {
+		lock.readLock().lock();
+		try {
+			return bookItemId >= 0 && bookItemId < borrowCounts.length ? Math.max(borrowCounts[bookItemId], 0) : 0;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 대출(AVAILABLE -> BORROWED)이면 대출 횟수 증가, 새 도서는 0회로 추가, 삭제된 도서는 제외
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onBookStatusChanged(BookStatusChangedEvent event) {
+		// 카테고리를 모르는 도서는 잠금 밖에서 먼저 조회 (BookCategoryMap이 없으면 DB 조회)
+		byte[] resolved = unresolved(event);
+		if (ready && !event.isDeleted()) {
+			for (int i = 0; i < resolved.length; i++) {
+				int bookItemId = event.getBookItemIds().get(i);
+				if (!isTracked(bookItemId)) {
+					resolved[i] = encode(categoryOf(bookItemId));
+				}
+			}
+		}
+		lock.writeLock().lock();
+		try {
+			if (ready) {
+				apply(event, resolved);
+			}
+			if (pendingDuringLoad != null) {
+				pendingDuringLoad.add(event);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	// 쓰기 잠금을 잡은 상태에서 호출
+	private void apply(BookStatusChangedEvent event, byte[] resolved) {
+		boolean borrowed = event.getFromStatus() == BookStatus.AVAILABLE && event.getToStatus() == BookStatus.BORROWED;
+		List<Integer> bookItemIds = event.getBookItemIds();
+		for (int i = 0; i < bookItemIds.size(); i++) {
+			int bookItemId = bookItemIds.get(i);
+			if (event.isDeleted()) {
+				remove(bookItemId);
+				continue;
+			}
+			if (!isTrackedLocked(bookItemId)) {
+				// 잠금 밖에서 조회하지 못한 도서(그 사이 삭제되었거나 다시 반영하는 이벤트)는 잠금 안에서 조회
+				track(bookItemId, resolved[i] != UNRESOLVED ? resolved[i] : encode(categoryOf(bookItemId)));
+			} else if (!borrowed) {
+				continue;
+			}
+			if (borrowed) {
+				borrowCounts[bookItemId]++;
+			}
+			offer(bookItemId);
+		}
+	}
+
+	private static byte[] unresolved(BookStatusChangedEvent event) {
+		byte[] resolved = new byte[event.getBookItemIds().size()];
+		Arrays.fill(resolved, UNRESOLVED);
+		return resolved;
+	}
+
+	// 쓰기 잠금을 잡은 상태에서 호출
+	private void remove(int bookItemId) {
+		if (!isTrackedLocked(bookItemId)) {
+			return;
+		}
+		int category = categories[bookItemId] - 1;
+		borrowCounts[bookItemId] = ABSENT;
+		if (heaps[ALL].remove(bookItemId)) {
+			refill(ALL);
+		}
+		if (category >= 0 && heaps[category].remove(bookItemId)) {
+			refill(category);
+		}
+	}
+
+	// 힙에서 빠진 자리를 채우기 위해 해당 힙의 도서를 다시 훑음 (삭제 시에만)
+	private void refill(int heapIndex) {
+		BoundedTopK heap = heaps[heapIndex];
+		for (int bookItemId = 0; bookItemId < borrowCounts.length; bookItemId++) {
+			if (borrowCounts[bookItemId] != ABSENT && (heapIndex == ALL || categories[bookItemId] - 1 == heapIndex)) {
+				heap.offer(bookItemId);
+			}
+		}
+	}
+
+	private void offer(int bookItemId) {
+		heaps[ALL].offer(bookItemId);
+		int category = categories[bookItemId] - 1;
+		if (category >= 0) {
+			heaps[category].offer(bookItemId);
+		}
+	}
+
+	private void track(int bookItemId, byte category) {
+		if (bookItemId >= borrowCounts.length) {
+			int size = Math.max(bookItemId + 1, borrowCounts.length * 2);
+			int previous = borrowCounts.length;
+			borrowCounts = Arrays.copyOf(borrowCounts, size);
+			Arrays.fill(borrowCounts, previous, size, ABSENT);
+			categories = Arrays.copyOf(categories, size);
+		}
+		borrowCounts[bookItemId] = 0;
+		categories[bookItemId] = category;
+	}
+
+	private boolean isTracked(int bookItemId) {
+		lock.readLock().lock();
+		try {
+			return isTrackedLocked(bookItemId);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private boolean isTrackedLocked(int bookItemId) {
+		return bookItemId >= 0 && bookItemId < borrowCounts.length && borrowCounts[bookItemId] != ABSENT;
+	}
+
+	private Integer categoryOf(int bookItemId) {
+		int category = bookCategoryMap.getCategory(bookItemId);
+		return category == BookCategoryMap.NO_CATEGORY ? null : category;
+	}
+
+	private BoundedTopK heapOf(Integer category) {
+		if (heaps == null) {
+			return null;
+		}
+		if (category == null) {
+			return heaps[ALL];
+		}
+		return category >= 0 && category < CATEGORY_COUNT ? heaps[category] : null;
+	}
+
+	// 알 수 없는 카테고리 코드는 미분류로 둠
+	private static byte encode(Integer category) {
+		return category == null || category < 0 || category >= CATEGORY_COUNT ? UNCATEGORIZED : (byte) (category + 1);
+	}
+}
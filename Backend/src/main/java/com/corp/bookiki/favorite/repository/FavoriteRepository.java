@@ -1,11 +1,14 @@
 package com.corp.bookiki.favorite.repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
@@ -26,9 +29,22 @@ public interface FavoriteRepository extends JpaRepository<FavoriteEntity, Intege
 
 	void deleteByUserIdAndBookItemIdIn(Integer userId, List<Integer> bookItemIds);
 
+	// 같은 도서 정보의 좋아요를 추가한 시각 (좋아요하지 않았으면 null)
+	@Query("SELECT MIN(f.createdAt) FROM FavoriteEntity f " +
+		"WHERE f.user.id = :userId AND f.bookItem.id IN :bookItemIds")
+	LocalDateTime findFavoritedAt(@Param("userId") Integer userId, @Param("bookItemIds") List<Integer> bookItemIds);
+
 	int countByUserId(Integer userId);
 
 	@Query("SELECT f.user.id FROM FavoriteEntity f WHERE f.bookItem.id = :bookItemId")
 	List<Integer> findUserIdByBookItemId(Integer bookItemId);
 
+	// 기간 내 좋아요가 많은 도서 정보 (대표 도서 아이템 ID = 가장 작은 ID, 좋아요 수 = 좋아요한 사용자 수)
+	@Query("SELECT MIN(bi.id), COUNT(DISTINCT f.user.id) FROM FavoriteEntity f " +
+		"JOIN f.bookItem bi " +
+		"WHERE bi.deleted = false AND f.createdAt >= :since " +
+		"GROUP BY bi.bookInformation.id " +
+		"ORDER BY COUNT(DISTINCT f.user.id) DESC, MIN(bi.id)")
+	List<Object[]> findTopFavoritedSince(@Param("since") LocalDateTime since, Limit limit);
+
 }
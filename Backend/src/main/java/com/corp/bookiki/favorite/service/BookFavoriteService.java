@@ -1,7 +1,9 @@
 package com.corp.bookiki.favorite.service;
 
 import java.awt.print.Book;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -10,6 +12,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.corp.bookiki.bookhistory.service.BookLeaderboardService;
 import com.corp.bookiki.bookitem.entity.BookItemEntity;
 import com.corp.bookiki.bookitem.repository.BookItemRepository;
 import com.corp.bookiki.bookitem.service.BookItemService;
@@ -34,6 +37,7 @@ public class BookFavoriteService {
 	private final UserRepository userRepository;
 	private final BookItemRepository bookItemRepository;
 	private final BookItemService bookItemService;
+	private final BookLeaderboardService bookLeaderboardService;
 
 	// 특정 유저의 전체 좋아요 조회
 	@Transactional(readOnly = true)
@@ -84,13 +88,26 @@ public class BookFavoriteService {
 		// saveAll을 사용하여 한 번의 트랜잭션으로 모든 데이터 저장
 		favoriteRepository.saveAll(favoriteEntities);
 
+		// 좋아요 순위는 도서 정보 단위로 세므로 가장 작은 도서 아이템 ID를 대표로 사용
+		bookLeaderboardService.recordFavorite(bookItemList.stream()
+			.mapToInt(BookItemEntity::getId)
+			.min()
+			.getAsInt());
 	}
 
 	// 좋아요(같은 bookInformationId을 가진 모든 책) 삭제
 	@Transactional
 	public void deleteFavorite(Integer userId, Integer bookItemId) {
 		List<Integer> bookItemList = bookItemService.getBooksIdSameBookInformation(bookItemId);
+		LocalDateTime favoritedAt = bookLeaderboardService.isEnabled() && !bookItemList.isEmpty()
+			? favoriteRepository.findFavoritedAt(userId, bookItemList)
+			: null;
 		favoriteRepository.deleteByUserIdAndBookItemIdIn(userId, bookItemList);
+
+		// 추가할 때와 같은 대표 도서 아이템 ID로 되돌려 좋아요를 껐다 켜도 순위가 오르지 않도록 함
+		if (favoritedAt != null) {
+			bookLeaderboardService.recordUnfavorite(Collections.min(bookItemList), favoritedAt);
+		}
 	}
 
 	// 좋아요 여부 확인 후 좋아요 취소 or 좋아요 동작
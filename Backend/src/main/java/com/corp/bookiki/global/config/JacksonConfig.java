@@ -8,6 +8,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Sort;
 
+import com.corp.bookiki.global.dto.ApproximatePage;
+
 import com.fasterxml.jackson.core.JsonGenerator;
 import com.fasterxml.jackson.databind.JsonSerializer;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -43,6 +45,10 @@ public class JacksonConfig {
                 // totalPages
                 gen.writeNumberField("totalPages", page.getTotalPages());
 
+                // totalApproximate (캐시/추정 개수를 쓴 경우 true)
+                gen.writeBooleanField("totalApproximate",
+                    page instanceof ApproximatePage<?> approximatePage && approximatePage.isApproximate());
+
                 // pageable 정보
                 gen.writeObjectFieldStart("pageable");
                 gen.writeNumberField("page", page.getNumber());
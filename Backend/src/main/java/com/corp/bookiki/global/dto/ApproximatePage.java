@@ -0,0 +1,33 @@
+package com.corp.bookiki.global.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import lombok.Getter;
+
+/**
+ * 전체 개수가 정확하지 않을 수 있는 페이지
+ * 캐시된 이전 개수나 현재 페이지로 추정한 개수를 쓴 경우 approximate가 true이고, 응답의 totalApproximate로 전달됨
+ */
+@Getter
+public class ApproximatePage<T> extends PageImpl<T> {
+
+	private final boolean approximate;
+
+	public ApproximatePage(List<T> content, Pageable pageable, long total, boolean approximate) {
+		super(content, pageable, total);
+		this.approximate = approximate;
+	}
+
+	// PageImpl.map은 PageImpl을 새로 만들어 approximate가 사라지므로 다시 감쌈
+	@Override
+	public <U> Page<U> map(Function<? super T, ? extends U> converter) {
+		List<U> converted = getContent().stream().map(converter).collect(Collectors.toList());
+		return new ApproximatePage<>(converted, getPageable(), getTotalElements(), approximate);
+	}
+}
@@ -0,0 +1,45 @@
+package com.corp.bookiki.global.dto;
+
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 커서 기반 목록 응답
+ * 전체 개수를 세지 않고, 다음 목록이 있는지만 한 건 더 조회해서 판단함
+ */
+@Getter
+@Builder
+@Schema(description = "커서 기반 목록 응답")
+public class CursorResponse<T> {
+
+	@Schema(description = "목록")
+	private final List<T> content;
+
+	@Schema(description = "다음 목록 조회 시 전달할 커서 (마지막 목록이면 null)", example = "fDEyMw", nullable = true)
+	private final String nextCursor;
+
+	@Schema(description = "다음 목록 존재 여부", example = "true")
+	private final boolean hasNext;
+
+	/**
+	 * @param rows size + 1개까지 조회한 결과
+	 * @param size 요청한 개수
+	 * @param cursorOf 행의 커서
+	 * @param mapper 응답 변환
+	 */
+	public static <E, T> CursorResponse<T> of(List<E> rows, int size, Function<E, String> cursorOf,
+		Function<E, T> mapper) {
+		boolean hasNext = rows.size() > size;
+		List<E> page = hasNext ? rows.subList(0, size) : rows;
+		return CursorResponse.<T>builder()
+			.content(page.stream().map(mapper).collect(Collectors.toList()))
+			.nextCursor(hasNext ? cursorOf.apply(page.get(page.size() - 1)) : null)
+			.hasNext(hasNext)
+			.build();
+	}
+}
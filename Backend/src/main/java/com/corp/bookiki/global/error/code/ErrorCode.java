@@ -14,6 +14,7 @@ public enum ErrorCode {
 	UNAUTHORIZED(401, "인증되지 않은 접근입니다"),
 	FORBIDDEN(403, "권한이 없습니다"),
 	INVALID_ENUM_VALUE(400, "잘못된 상태값입니다"),
+	INVALID_CURSOR(400, "잘못된 커서입니다"),
 
 	// Auth & User
 	INVALID_TOKEN(401, "유효하지 않은 토큰입니다"),
@@ -65,6 +66,8 @@ public enum ErrorCode {
 	BOOK_ALREADY_DELETED(400, "이미 삭제된 도서입니다"),
 	DUPLICATE_BOOK_LOCATION(400, "이미 위치가 지정된 도서입니다"),
 	BOOK_SEARCH_NOT_FOUND(404, "도서 검색 결과가 없습니다."),
+	CHOSUNG_SEARCH_UNAVAILABLE(503, "초성 검색을 사용할 수 없습니다. 잠시 후 다시 시도해주세요."),
+	FACET_SEARCH_UNAVAILABLE(503, "검색 집계를 사용할 수 없습니다. 잠시 후 다시 시도해주세요."),
 	BOOK_ALREADY_RETURNED(400, "이미 반납된 도서입니다."),
 	NO_RANKING_DATA(404, "랭킹 데이터가 존재하지 않습니다."),
 	BOOK_NOT_LOST(400, "분실 처리된 도서가 아닙니다."),
@@ -140,7 +143,9 @@ public enum ErrorCode {
 	GEMINI_RESPONSE_ERROR(500, "Gemini 응답 오류가 발생했습니다."),
 
 	// 카메라/통신 관련
-	CAMERA_ERROR(503,"카메라 혹은 통신 오류가 발생하였습니다. 카메라 설치 환경을 확인 해주세요.");
+	CAMERA_ERROR(503,"카메라 혹은 통신 오류가 발생하였습니다. 카메라 설치 환경을 확인 해주세요."),
+	SCAN_QUEUE_FULL(503, "스캔 처리 대기열이 가득 찼습니다. 잠시 후 다시 시도해주세요."),
+	SCAN_STATION_BUSY(503, "다른 서버에서 같은 스테이션의 스캔을 처리 중입니다. 잠시 후 다시 시도해주세요.");
 
 	private final int status;
 	private final String message;
@@ -0,0 +1,54 @@
+package com.corp.bookiki.global.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 분산 락 (SET NX PX로 잡고, 자신의 토큰일 때만 삭제)
+ * 여러 노드 중 한 곳에서만 실행되어야 하는 작업에 사용하며, 락을 잡은 노드가 죽어도 만료 시간이 지나면 다른 노드가 잡을 수 있음
+ * key = "LOCK:" + 락 이름
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RedisLock {
+
+	private static final String KEY_PREFIX = "LOCK:";
+
+	// 만료 후 다른 노드가 잡은 락을 지우지 않도록 토큰이 같을 때만 삭제
+	private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+		Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * 락 획득 시도 (기다리지 않음)
+	 * @param leaseTime 작업이 끝나지 않아도 락이 풀리는 시간
+	 * @return 해제에 쓸 토큰, 다른 노드가 잡고 있으면 null
+	 */
+	public String tryLock(String name, Duration leaseTime) {
+		String token = UUID.randomUUID().toString();
+		Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + name, token, leaseTime);
+		return Boolean.TRUE.equals(acquired) ? token : null;
+	}
+
+	public void unlock(String name, String token) {
+		if (token == null) {
+			return;
+		}
+		Long deleted = redisTemplate.execute(UNLOCK_SCRIPT, List.of(KEY_PREFIX + name), token);
+		if (deleted == null || deleted == 0) {
+			log.warn("락이 이미 만료되어 다른 노드가 잡았을 수 있습니다. Lock: {}", name);
+		}
+	}
+}
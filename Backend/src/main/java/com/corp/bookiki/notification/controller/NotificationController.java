@@ -9,11 +9,13 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.corp.bookiki.favorite.dto.BookFavoriteResponse;
 import com.corp.bookiki.favorite.service.BookFavoriteService;
 import com.corp.bookiki.global.annotation.CurrentUser;
+import com.corp.bookiki.global.dto.CursorResponse;
 import com.corp.bookiki.global.error.dto.ErrorResponse;
 import com.corp.bookiki.notification.dto.NotificationResponse;
 import com.corp.bookiki.notification.service.NotificationService;
@@ -66,6 +68,42 @@ public class NotificationController {
 		return ResponseEntity.ok(notificationService.getUserNotifications(authUser.getId(), pageable));
 	}
 
+	@GetMapping("/cursor")
+	@Operation(summary = "사용자 알림 목록 커서 조회", description = "로그인한 사용자의 알림을 최신 순으로 조회합니다. 응답의 nextCursor를 다음 요청의 cursor로 전달하면 이어서 조회하며, 전체 개수는 세지 않습니다.")
+	@ApiResponses({
+		@ApiResponse(
+			responseCode = "200",
+			description = "알림 목록 조회 성공",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = CursorResponse.class, subTypes = {NotificationResponse.class})
+			)
+		),
+		@ApiResponse(
+			responseCode = "400",
+			description = "잘못된 커서",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = ErrorResponse.class)
+			)
+		),
+		@ApiResponse(
+			responseCode = "401",
+			description = "인증되지 않은 사용자",
+			content = @Content(
+				mediaType = "application/json",
+				schema = @Schema(implementation = ErrorResponse.class)
+			)
+		)
+	})
+	public ResponseEntity<CursorResponse<NotificationResponse>> getUserNotificationsByCursor(
+		@CurrentUser AuthUser authUser,
+		@Parameter(description = "이전 응답의 nextCursor (첫 조회 시 생략)") @RequestParam(required = false) String cursor,
+		@Parameter(description = "조회 개수 (최대 100)") @RequestParam(defaultValue = "20") int size) {
+
+		return ResponseEntity.ok(notificationService.getUserNotificationsByCursor(authUser.getId(), cursor, size));
+	}
+
 	@GetMapping("/unread")
 	@Operation(summary = "읽지 않은 알림 존재 여부 확인", description = "로그인한 사용자의 읽지 않은 알림이 있는지 확인합니다.")
 	@ApiResponses({
@@ -28,7 +28,9 @@ import lombok.NoArgsConstructor;
 		@Index(name = "idx_user_id", columnList = "user_id"),
 		@Index(name = "idx_notification_id", columnList = "notification_id"),
 		@Index(name = "idx_notification_status", columnList = "notification_status"),
-		@Index(name = "idx_created_at", columnList = "created_at")
+		@Index(name = "idx_created_at", columnList = "created_at"),
+		// 사용자별 최신 순 커서 조회 (InnoDB 보조 인덱스는 PK를 포함하므로 (user_id, created_at, id) 순서)
+		@Index(name = "idx_user_created_at", columnList = "user_id, created_at")
 	}
 )
 @Getter
@@ -1,10 +1,12 @@
 package com.corp.bookiki.notification.repository;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import javax.management.Notification;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -23,6 +25,21 @@ public interface NotificationRepository extends JpaRepository<NotificationEntity
 	@Query("SELECT n FROM NotificationEntity n WHERE n.user.id = :userId AND n.notificationStatus != 'DELETE'")
 	Page<NotificationEntity> findActiveNotificationsByUserId(@Param("userId") Integer userId, Pageable pageable);
 
+	// 삭제하지 않은 알림 커서 기반 조회 (최신 순으로 (lastCreatedAt, lastId) 다음부터, COUNT 조회 없음)
+	@Query("""
+		SELECT n FROM NotificationEntity n
+		WHERE n.user.id = :userId AND n.notificationStatus != 'DELETE'
+		AND (:lastCreatedAt IS NULL OR n.createdAt < :lastCreatedAt
+			OR (n.createdAt = :lastCreatedAt AND n.id < :lastId))
+		ORDER BY n.createdAt DESC, n.id DESC
+		""")
+	List<NotificationEntity> findActiveNotificationsByUserIdBefore(
+		@Param("userId") Integer userId,
+		@Param("lastCreatedAt") LocalDateTime lastCreatedAt,
+		@Param("lastId") Integer lastId,
+		Limit limit
+	);
+
 	@Query("SELECT n.createdAt FROM NotificationEntity n WHERE n.notificationType = :notificationType ORDER BY n.createdAt DESC LIMIT 1")
 	Optional<LocalDateTime> findLatestCreatedAtByNotificationType(@Param("notificationType") String notificationType);
 
@@ -7,6 +7,7 @@ import java.util.stream.Collectors;
 
 import javax.management.Notification;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -18,6 +19,7 @@ import com.corp.bookiki.bookitem.entity.BookItemEntity;
 import com.corp.bookiki.bookitem.repository.BookItemRepository;
 import com.corp.bookiki.bookitem.service.BookItemService;
 import com.corp.bookiki.favorite.service.BookFavoriteService;
+import com.corp.bookiki.global.dto.CursorResponse;
 import com.corp.bookiki.global.error.code.ErrorCode;
 import com.corp.bookiki.global.error.exception.NotificationException;
 import com.corp.bookiki.global.error.exception.UserException;
@@ -30,6 +32,7 @@ import com.corp.bookiki.user.entity.Role;
 import com.corp.bookiki.user.entity.UserEntity;
 import com.corp.bookiki.user.repository.UserRepository;
 import com.corp.bookiki.user.service.UserService;
+import com.corp.bookiki.util.CursorUtil;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -157,6 +160,18 @@ public class NotificationService {
 			.map(NotificationResponse::from);
 	}
 
+	// 특정 유저의 알림 커서 기반 조회 (최신 순, 무한 스크롤용)
+	@Transactional(readOnly = true)
+	public CursorResponse<NotificationResponse> getUserNotificationsByCursor(Integer userId, String cursor, int size) {
+		CursorUtil.Cursor last = CursorUtil.decodeWithSortKey(cursor);
+		int limit = CursorUtil.size(size);
+		List<NotificationEntity> notifications = notificationRepository.findActiveNotificationsByUserIdBefore(
+			userId, last == null ? null : last.getSortKey(), last == null ? null : last.getId(), Limit.of(limit + 1));
+		return CursorResponse.of(notifications, limit,
+			notification -> CursorUtil.encode(notification.getCreatedAt(), notification.getId()),
+			NotificationResponse::from);
+	}
+
 	// 알림 ID를 이용하여 알림 상세 조회
 	@Transactional(readOnly = true)
 	public NotificationResponse getNotification(Integer notificationId) {
@@ -30,4 +30,14 @@ public class RecommendationController {
                 recommendationService.getRecommendations(authUser.getId(), new RecommendationRequest())
         );
     }
+
+    @GetMapping("/books/{bookItemId}")
+    @Operation(summary = "함께 대출된 도서 추천", description = "이 책을 대출한 사용자들이 함께 대출한 도서를 추천합니다.")
+    public ResponseEntity<RecommendationResponse> getCoBorrowedBooks(
+            @PathVariable Integer bookItemId
+    ) {
+        return ResponseEntity.ok(
+                recommendationService.getCoBorrowedBooks(bookItemId, new RecommendationRequest().getLimit())
+        );
+    }
 }
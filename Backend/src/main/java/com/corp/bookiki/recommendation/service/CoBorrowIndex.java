@@ -0,0 +1,437 @@
+package com.corp.bookiki.recommendation.service;
+
+import com.corp.bookiki.bookhistory.repository.BookHistoryRepository;
+import com.corp.bookiki.bookitem.entity.BookItemEntity;
+import com.corp.bookiki.util.IntIntHashMap;
+import com.corp.bookiki.util.TopK;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Stream;
+
+/**
+ * 함께 대출된 도서 색인 ("이 책을 대출한 사용자가 함께 대출한 도서")
+ * 도서 정보 ID를 인덱스로 하는 배열에 도서별 함께 대출된 횟수(IntIntHashMap)를 두고,
+ * 코사인 유사도(함께 대출 수 / sqrt(각 도서의 대출자 수 곱)) 상위 N개를 이웃으로 미리 계산해 둠
+ * 시작 시와 매일 대출 기록으로 다시 만들고, 그 사이에는 대출이 커밋될 때마다 새로 대출한 도서의 이웃만 다시 계산하고
+ * 짝지어진 도서들의 이웃 목록에는 새로 대출한 도서 하나만 반영함 (도서마다 O(N))
+ * (대출자 수 변화로 인한 다른 도서의 유사도 변화는 다시 만들 때 반영됨)
+ */
+@Component
+@Slf4j
+@RequiredArgsConstructor
+public class CoBorrowIndex {
+
+    private static final int[] EMPTY = new int[0];
+
+    private final BookHistoryRepository bookHistoryRepository;
+
+    @Value("${bookiki.recommendation.co-borrow.history-days:365}")
+    private int historyDays;
+
+    // 도서별로 유지하는 이웃 수
+    @Value("${bookiki.recommendation.co-borrow.neighbours:20}")
+    private int neighbourCount;
+
+    // 이 횟수 미만으로 함께 대출된 도서는 우연으로 보고 이웃에서 제외
+    @Value("${bookiki.recommendation.co-borrow.min-co-count:2}")
+    private int minCoCount;
+
+    // 새로 대출한 도서와 짝지을 사용자의 최근 도서 수 (대출이 매우 많은 사용자의 비용 상한)
+    @Value("${bookiki.recommendation.co-borrow.max-titles-per-user:200}")
+    private int maxTitlesPerUser;
+
+    // 사용자 추천에 사용할 최근 대출 도서 수
+    @Value("${bookiki.recommendation.co-borrow.seed-titles:5}")
+    private int seedTitles;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Graph graph;
+
+    // 다시 만드는 동안 커밋된 대출 (새 색인에 다시 반영함)
+    private List<int[]> pendingDuringLoad;
+
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional(readOnly = true)
+    @Scheduled(cron = "${bookiki.recommendation.co-borrow.reload-cron:0 40 4 * * *}")
+    public void load() {
+        long startedAt = System.currentTimeMillis();
+        lock.writeLock().lock();
+        try {
+            pendingDuringLoad = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        Graph loaded = new Graph();
+        int count = 0;
+        try (Stream<Object[]> rows = bookHistoryRepository.streamUserIdAndBookInformationIdSince(
+                LocalDate.now().minusDays(historyDays).atStartOfDay())) {
+            Iterator<Object[]> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                Object[] row = iterator.next();
+                loaded.add((Integer) row[0], (Integer) row[1], false);
+                count++;
+            }
+        } catch (RuntimeException e) {
+            lock.writeLock().lock();
+            try {
+                pendingDuringLoad = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            throw e;
+        }
+        loaded.rebuildAll();
+
+        lock.writeLock().lock();
+        try {
+            for (int[] borrow : pendingDuringLoad) {
+                loaded.add(borrow[0], borrow[1], true);
+            }
+            pendingDuringLoad = null;
+            graph = loaded;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.info("함께 대출된 도서 색인 로드 완료 - 대출 기록: {}, 도서 정보: {}, {}ms",
+                count, loaded.titleCount(), System.currentTimeMillis() - startedAt);
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * 대출 한 건 반영 (트랜잭션 안이면 커밋된 뒤 반영)
+     */
+    public void recordBorrow(Integer userId, BookItemEntity bookItem) {
+        if (userId == null || bookItem == null || bookItem.getBookInformation() == null
+                || bookItem.getBookInformation().getId() == null) {
+            return;
+        }
+        int bookInformationId = bookItem.getBookInformation().getId();
+        runAfterCommit(() -> record(userId, bookInformationId));
+    }
+
+    private void record(int userId, int bookInformationId) {
+        if (userId < 0 || bookInformationId < 0) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            if (graph != null) {
+                graph.add(userId, bookInformationId, true);
+            }
+            if (pendingDuringLoad != null) {
+                pendingDuringLoad.add(new int[]{userId, bookInformationId});
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 이 도서를 대출한 사용자가 함께 대출한 도서 정보 ID (유사도 내림차순, 최대 limit개)
+     */
+    public int[] findNeighbours(int bookInformationId, int limit) {
+        lock.readLock().lock();
+        try {
+            if (graph == null) {
+                return EMPTY;
+            }
+            int[] neighbours = graph.neighbours(bookInformationId);
+            return Arrays.copyOf(neighbours, Math.min(limit, neighbours.length));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 기간 안에 대출한 도서(최근 대출 순 최대 seedTitles개)의 이웃을 유사도 합으로 모아 고른 도서 정보 ID (이미 대출한 도서는 제외)
+     * 기간 안에 대출한 도서가 없으면 빈 배열
+     */
+    public int[] recommendForUser(int userId, LocalDate startDate, LocalDate endDate, int limit) {
+        if (!ready) {
+            return EMPTY;
+        }
+        int[] seeds = bookHistoryRepository.findRecentBookInformationIdsForUser(userId, startDate.atStartOfDay(),
+                endDate.atTime(23, 59, 59), Limit.of(seedTitles)).stream().mapToInt(Integer::intValue).toArray();
+        if (seeds.length == 0) {
+            return EMPTY;
+        }
+        lock.readLock().lock();
+        try {
+            return graph == null ? EMPTY : graph.recommend(userId, seeds, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    /**
+     * 색인 본체 (잠금은 바깥에서 잡음)
+     */
+    private class Graph {
+
+        // 사용자별 대출한 도서 정보 ID (중복 없이 처음 대출한 순서)
+        private int[][] titlesByUser = new int[1024][];
+        private int[] titleCountByUser = new int[1024];
+
+        // 도서 정보별 대출한 사용자 수
+        private int[] borrowers = new int[1024];
+
+        // 도서 정보별 함께 대출된 도서 정보 -> 함께 대출한 사용자 수
+        private IntIntHashMap[] coCounts = new IntIntHashMap[1024];
+
+        // 도서 정보별 이웃 (유사도 내림차순)과 유사도
+        private int[][] neighbourIds = new int[1024][];
+        private float[][] neighbourScores = new float[1024][];
+
+        private int titleCount;
+
+        int titleCount() {
+            return titleCount;
+        }
+
+        // 사용자가 처음 대출한 도서면 사용자의 최근 도서들과 짝지음
+        void add(int userId, int bookInformationId, boolean refresh) {
+            ensureUser(userId);
+            ensureTitle(bookInformationId);
+            int[] titles = titlesByUser[userId];
+            int count = titleCountByUser[userId];
+            for (int i = 0; i < count; i++) {
+                if (titles[i] == bookInformationId) {
+                    return;
+                }
+            }
+
+            if (borrowers[bookInformationId]++ == 0) {
+                titleCount++;
+            }
+            for (int i = Math.max(0, count - maxTitlesPerUser); i < count; i++) {
+                int other = titles[i];
+                coCountsOf(bookInformationId).addTo(other, 1);
+                coCountsOf(other).addTo(bookInformationId, 1);
+                if (refresh) {
+                    offerNeighbour(other, bookInformationId);
+                }
+            }
+            if (refresh) {
+                rebuild(bookInformationId);
+            }
+
+            if (titles == null) {
+                titles = new int[4];
+            } else if (count == titles.length) {
+                titles = Arrays.copyOf(titles, count * 2);
+            }
+            titles[count] = bookInformationId;
+            titlesByUser[userId] = titles;
+            titleCountByUser[userId] = count + 1;
+        }
+
+        void rebuildAll() {
+            for (int bookInformationId = 0; bookInformationId < coCounts.length; bookInformationId++) {
+                if (coCounts[bookInformationId] != null) {
+                    rebuild(bookInformationId);
+                }
+            }
+        }
+
+        int[] neighbours(int bookInformationId) {
+            if (bookInformationId < 0 || bookInformationId >= neighbourIds.length
+                    || neighbourIds[bookInformationId] == null) {
+                return EMPTY;
+            }
+            return neighbourIds[bookInformationId];
+        }
+
+        // seeds의 이웃을 유사도 합으로 모음 (사용자가 색인에 없으면 제외할 도서 없음)
+        int[] recommend(int userId, int[] seeds, int limit) {
+            boolean known = userId >= 0 && userId < titleCountByUser.length;
+            int[] titles = known ? titlesByUser[userId] : EMPTY;
+            int count = known ? titleCountByUser[userId] : 0;
+
+            // 후보는 최대 seeds * neighbourCount개이므로 배열에서 직접 찾음
+            int[] candidates = new int[Math.max(1, seeds.length) * neighbourCount];
+            float[] scores = new float[candidates.length];
+            int size = 0;
+            for (int seed : seeds) {
+                int[] ids = neighbours(seed);
+                if (ids.length == 0) {
+                    continue;
+                }
+                float[] similarities = neighbourScores[seed];
+                for (int j = 0; j < ids.length; j++) {
+                    if (contains(titles, count, ids[j])) {
+                        continue;
+                    }
+                    int position = indexOf(candidates, size, ids[j]);
+                    if (position < 0) {
+                        position = size++;
+                        candidates[position] = ids[j];
+                    }
+                    scores[position] += similarities[j];
+                }
+            }
+            return TopK.select(Arrays.copyOf(candidates, size), Arrays.copyOf(scores, size), limit);
+        }
+
+        // 이웃 목록에 도서 하나의 유사도만 반영 (목록 크기 N에 대해 O(N))
+        private void offerNeighbour(int bookInformationId, int other) {
+            int together = coCounts[bookInformationId].get(other);
+            if (together < minCoCount) {
+                return;
+            }
+            float score = similarity(bookInformationId, other, together);
+            int[] ids = neighbourIds[bookInformationId] == null ? EMPTY : neighbourIds[bookInformationId];
+            float[] scores = neighbourScores[bookInformationId] == null
+                    ? new float[0] : neighbourScores[bookInformationId];
+
+            int position = indexOf(ids, ids.length, other);
+            if (position < 0) {
+                if (ids.length < neighbourCount) {
+                    position = ids.length;
+                    ids = Arrays.copyOf(ids, ids.length + 1);
+                    scores = Arrays.copyOf(scores, scores.length + 1);
+                } else if (ids.length > 0 && ranksHigher(score, other, scores[ids.length - 1], ids[ids.length - 1])) {
+                    position = ids.length - 1;
+                } else {
+                    return;
+                }
+                ids[position] = other;
+            }
+            scores[position] = score;
+
+            // 유사도 내림차순 (같으면 ID 오름차순) 위치로 옮김
+            while (position > 0
+                    && ranksHigher(scores[position], ids[position], scores[position - 1], ids[position - 1])) {
+                swap(ids, scores, position, position - 1);
+                position--;
+            }
+            while (position < ids.length - 1
+                    && ranksHigher(scores[position + 1], ids[position + 1], scores[position], ids[position])) {
+                swap(ids, scores, position, position + 1);
+                position++;
+            }
+            neighbourIds[bookInformationId] = ids;
+            neighbourScores[bookInformationId] = scores;
+        }
+
+        // 도서 하나의 이웃을 다시 계산
+        private void rebuild(int bookInformationId) {
+            IntIntHashMap counts = coCounts[bookInformationId];
+            if (counts == null) {
+                return;
+            }
+            int[] ids = new int[counts.size()];
+            float[] scores = new float[counts.size()];
+            int[] size = new int[1];
+            counts.forEach((other, together) -> {
+                if (together < minCoCount) {
+                    return;
+                }
+                ids[size[0]] = other;
+                scores[size[0]] = similarity(bookInformationId, other, together);
+                size[0]++;
+            });
+
+            int[] selected = TopK.select(Arrays.copyOf(ids, size[0]), Arrays.copyOf(scores, size[0]),
+                    neighbourCount);
+            float[] selectedScores = new float[selected.length];
+            for (int i = 0; i < selected.length; i++) {
+                selectedScores[i] = similarity(bookInformationId, selected[i], counts.get(selected[i]));
+            }
+            neighbourIds[bookInformationId] = selected;
+            neighbourScores[bookInformationId] = selectedScores;
+        }
+
+        // 코사인 유사도 (함께 대출한 사용자 수 / sqrt(각 도서의 대출자 수 곱))
+        private float similarity(int bookInformationId, int other, int together) {
+            return (float) (together / Math.sqrt((double) borrowers[bookInformationId] * borrowers[other]));
+        }
+
+        private IntIntHashMap coCountsOf(int bookInformationId) {
+            if (coCounts[bookInformationId] == null) {
+                coCounts[bookInformationId] = new IntIntHashMap();
+            }
+            return coCounts[bookInformationId];
+        }
+
+        private void ensureUser(int userId) {
+            if (userId >= titleCountByUser.length) {
+                int size = Math.max(userId + 1, titleCountByUser.length * 2);
+                titlesByUser = Arrays.copyOf(titlesByUser, size);
+                titleCountByUser = Arrays.copyOf(titleCountByUser, size);
+            }
+        }
+
+        private void ensureTitle(int bookInformationId) {
+            if (bookInformationId >= borrowers.length) {
+                int size = Math.max(bookInformationId + 1, borrowers.length * 2);
+                borrowers = Arrays.copyOf(borrowers, size);
+                coCounts = Arrays.copyOf(coCounts, size);
+                neighbourIds = Arrays.copyOf(neighbourIds, size);
+                neighbourScores = Arrays.copyOf(neighbourScores, size);
+            }
+        }
+    }
+
+    private static boolean ranksHigher(float score, int id, float otherScore, int otherId) {
+        return score > otherScore || (score == otherScore && id < otherId);
+    }
+
+    private static void swap(int[] ids, float[] scores, int i, int j) {
+        int id = ids[i];
+        ids[i] = ids[j];
+        ids[j] = id;
+        float score = scores[i];
+        scores[i] = scores[j];
+        scores[j] = score;
+    }
+
+    private static boolean contains(int[] values, int size, int value) {
+        return indexOf(values, size, value) >= 0;
+    }
+
+    private static int indexOf(int[] values, int size, int value) {
+        for (int i = 0; i < size; i++) {
+            if (values[i] == value) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
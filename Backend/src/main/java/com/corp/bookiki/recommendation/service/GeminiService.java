@@ -3,10 +3,12 @@ package com.corp.bookiki.recommendation.service;
 import com.corp.bookiki.bookhistory.dto.BookHistoryResponse;
 import com.corp.bookiki.bookinformation.dto.BookInformationResponse;
 import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookinformation.event.BookInformationChangedEvent;
 import com.corp.bookiki.global.error.code.ErrorCode;
 import com.corp.bookiki.global.error.exception.GeminiException;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.web.client.RestTemplate;
@@ -18,15 +20,18 @@ import java.util.stream.Collectors;
 @Slf4j
 public class GeminiService {
     private final RestTemplate restTemplate;
+    private final ApplicationEventPublisher eventPublisher;
     private final String apiKey;
     private final String apiUrl;
 
     public GeminiService(
             RestTemplate restTemplate,
+            ApplicationEventPublisher eventPublisher,
             @Value("${spring.ai.gemini.api-key}") String apiKey,
             @Value("${spring.ai.gemini.url}") String apiUrl
     ) {
         this.restTemplate = restTemplate;
+        this.eventPublisher = eventPublisher;
         this.apiKey = apiKey;
         this.apiUrl = apiUrl;
     }
@@ -77,6 +82,10 @@ public class GeminiService {
             // 응답에서 숫자만 추출
             String numberOnly = response.replaceAll("[^0-9]", "").trim();
             bookInfo.updateCategory(Integer.parseInt(numberOnly));
+            // 이미 저장된 도서 정보면 커밋된 뒤 검색 색인과 카테고리 맵에 새 분류를 반영 (새 도서 정보는 등록 이벤트로 반영)
+            if (bookInfo.getId() != null) {
+                eventPublisher.publishEvent(BookInformationChangedEvent.categoryChanged(bookInfo));
+            }
             return bookInfo;
         } catch (Exception e) {
             log.error("Failed to parse category from Gemini response: {}", response, e);
@@ -9,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 
@@ -28,21 +29,81 @@ import java.util.stream.Collectors;
 @Slf4j
 @RequiredArgsConstructor
 public class RecommendationService {
+    // 대출 가능한 도서가 없는 경우를 감안해 추천 개수보다 넉넉히 고르는 후보 배수
+    private static final int CANDIDATE_FACTOR = 3;
+
+    private static final String CO_BORROW_REASON = "함께 대출된 도서 기반 추천";
+    private static final String KEYWORD_REASON = "최근 대출 이력 기반 추천";
+    private static final String POPULAR_REASON = "인기 도서 기반 추천";
+
     private final BookItemService bookItemService;
     private final GeminiService geminiService;
     private final BookHistoryService bookHistoryService;
+    private final CoBorrowIndex coBorrowIndex;
+
+    // Gemini 키워드 추천은 함께 대출된 도서가 부족할 때만 보충으로 사용
+    @Value("${bookiki.recommendation.gemini-enabled:true}")
+    private boolean geminiEnabled;
 
+    /**
+     * 요청 기간에 대출한 도서와 함께 대출된 도서(메모리 색인)로 먼저 추천하고, 부족하면 키워드 추천(Gemini 사용 시)과 인기 도서로 채움
+     */
     public RecommendationResponse getRecommendations(Integer userId, RecommendationRequest request) {
-        try {
-            return getKeywordBasedRecommendations(userId, request);
-        } catch (BookItemException e) {
-            log.warn("키워드 검색 실패 - userId={}, error={}", userId, e.getMessage());
-            return getPopularBooksRecommendations(request.getLimit());
+        int limit = request.getLimit();
+        List<BookItemListResponse> recommendations = new ArrayList<>();
+        String reason = null;
+
+        if (coBorrowIndex.isReady()) {
+            int[] bookInformationIds = coBorrowIndex.recommendForUser(userId, request.getStartDate(),
+                    request.getEndDate(), limit * CANDIDATE_FACTOR);
+            merge(recommendations, bookItemService.getAvailableBooksByBookInformationIds(bookInformationIds, limit),
+                    limit);
+            log.info("함께 대출된 도서 기반 추천 - userId={}, 건수={}", userId, recommendations.size());
+            if (!recommendations.isEmpty()) {
+                reason = CO_BORROW_REASON;
+            }
+        }
+
+        if (recommendations.size() < limit && geminiEnabled) {
+            try {
+                int before = recommendations.size();
+                merge(recommendations, getKeywordBasedRecommendations(userId, request), limit);
+                if (reason == null && recommendations.size() > before) {
+                    reason = KEYWORD_REASON;
+                }
+            } catch (BookItemException e) {
+                log.warn("키워드 검색 실패 - userId={}, error={}", userId, e.getMessage());
+            }
         }
+
+        if (recommendations.size() < limit) {
+            merge(recommendations, getPopularBooksRecommendations(limit), limit);
+        }
+
+        // 추천된 도서 목록 상세 로깅
+        recommendations.forEach(book ->
+                log.info("추천 도서 - 제목: {}, 저자: {}, ID: {}",
+                        book.getTitle(),
+                        book.getAuthor(),
+                        book.getId())
+        );
+
+        return buildResponse(recommendations, reason != null ? reason : POPULAR_REASON);
+    }
+
+    /**
+     * 이 책을 대출한 사용자가 함께 대출한 도서 (색인이 준비되지 않았거나 함께 대출된 도서가 없으면 빈 목록)
+     */
+    @Transactional(readOnly = true)
+    public RecommendationResponse getCoBorrowedBooks(Integer bookItemId, int limit) {
+        int bookInformationId = bookItemService.getBookInformationId(bookItemId);
+        List<BookItemListResponse> books = bookItemService.getAvailableBooksByBookInformationIds(
+                coBorrowIndex.findNeighbours(bookInformationId, limit * CANDIDATE_FACTOR), limit);
+        return buildResponse(books, "이 책을 대출한 사용자가 함께 대출한 도서");
     }
 
     @Transactional(readOnly = true)
-    protected RecommendationResponse getKeywordBasedRecommendations(Integer userId, RecommendationRequest request) {
+    protected List<BookItemListResponse> getKeywordBasedRecommendations(Integer userId, RecommendationRequest request) {
         List<BookHistoryResponse> borrowHistory = bookHistoryService.getUserBookHistories(
                 userId,
                 request.getStartDate(),
@@ -64,36 +125,36 @@ public class RecommendationService {
         );
 
         log.info("키워드 기반 도서 검색 결과 - 건수={}", recommendations.size());
-
-        // 추천된 도서 목록 상세 로깅
-        recommendations.forEach(book ->
-                log.info("추천 도서 - 제목: {}, 저자: {}, ID: {}",
-                        book.getTitle(),
-                        book.getAuthor(),
-                        book.getId())
-        );
-
-        return buildResponse(recommendations, "최근 대출 이력 기반 추천");
+        return recommendations;
     }
 
     @Transactional(readOnly = true)
-    protected RecommendationResponse getPopularBooksRecommendations(int limit) {
+    protected List<BookItemListResponse> getPopularBooksRecommendations(int limit) {
         List<BookItemListResponse> popularBooks = bookItemService.getPopularBooksByCategory(
                 null,
                 limit
         );
 
         log.info("인기 도서 조회 결과 - 건수={}", popularBooks.size());
+        return popularBooks;
+    }
 
-        // 추천된 도서 목록 상세 로깅
-        popularBooks.forEach(book ->
-                log.info("추천 도서 - 제목: {}, 저자: {}, ID: {}",
-                        book.getTitle(),
-                        book.getAuthor(),
-                        book.getId())
-        );
-
-        return buildResponse(popularBooks, "인기 도서 기반 추천");
+    // 이미 담긴 도서(같은 ID 또는 같은 제목)는 건너뛰고 limit개까지 채움
+    private static void merge(List<BookItemListResponse> recommendations, List<BookItemListResponse> books, int limit) {
+        Set<Integer> ids = recommendations.stream()
+                .map(BookItemListResponse::getId)
+                .collect(Collectors.toSet());
+        Set<String> titles = recommendations.stream()
+                .map(BookItemListResponse::getTitle)
+                .collect(Collectors.toSet());
+        for (BookItemListResponse book : books) {
+            if (recommendations.size() >= limit) {
+                return;
+            }
+            if (ids.add(book.getId()) && titles.add(book.getTitle())) {
+                recommendations.add(book);
+            }
+        }
     }
 
     private RecommendationResponse buildResponse(List<BookItemListResponse> books, String reason) {
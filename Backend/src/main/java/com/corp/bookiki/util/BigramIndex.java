@@ -0,0 +1,292 @@
+package com.corp.bookiki.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 문자 2-gram 역색인 기반 부분 문자열 검색
+ * 한글 음절은 UTF-16 한 글자이므로 음절 단위 2-gram이 됨 (예: "자바의정석" -> 자바, 바의, 의정, 정석)
+ * 문서 목록은 문서 ID 오름차순 int 배열로 보관하고, 질의의 2-gram 목록을 짧은 것부터 교집합해 후보를 구함
+ * 원문을 보관하는 경우(verify) 교집합 결과를 실제 부분 문자열 여부로 한 번 더 거름
+ * 문서 길이(2-gram 수)와 (원문을 보관하는 경우) 문서별 gram 출현 횟수를 함께 보관해 검색 결과를 BM25로 점수화할 수 있음
+ */
+public class BigramIndex {
+
+	private static final int[] EMPTY = new int[0];
+
+	// BM25 파라미터 (일반적인 기본값)
+	private static final float K1 = 1.2f;
+	private static final float B = 0.75f;
+
+	private final boolean verify;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// key: 2-gram (앞 글자 << 16 | 뒤 글자) 또는 1-gram (글자), value: 문서 ID 목록
+	private final Map<Integer, Posting> postings = new HashMap<>();
+
+	// 검증용 정규화 문자열 (문서 ID가 인덱스)
+	private String[] texts = new String[0];
+
+	// 문서 길이 (2-gram 수, 문서 ID가 인덱스)
+	private int[] lengths = EMPTY;
+	private long totalLength;
+
+	private int documentCount;
+
+	/**
+	 * @param verify 원문을 보관해 2-gram이 모두 있지만 연속되지 않은 문서를 걸러낼지 여부
+	 */
+	public BigramIndex(boolean verify) {
+		this.verify = verify;
+	}
+
+	/**
+	 * 문서 추가 (문서 ID는 0 이상, 같은 ID를 두 번 추가하지 않음)
+	 */
+	public void add(int id, CharSequence text) {
+		String key = HangulUtil.normalize(text);
+		if (key.isEmpty() || id < 0) {
+			return;
+		}
+
+		lock.writeLock().lock();
+		try {
+			if (verify) {
+				if (id >= texts.length) {
+					texts = Arrays.copyOf(texts, Math.max(id + 1, texts.length * 2));
+				}
+				texts[id] = key;
+			}
+			if (id >= lengths.length) {
+				lengths = Arrays.copyOf(lengths, Math.max(id + 1, lengths.length * 2));
+			}
+			lengths[id] = Math.max(1, key.length() - 1);
+			totalLength += lengths[id];
+			// 같은 gram이 여러 번 나오면 한 번만 추가하고 횟수를 함께 보관
+			int[] grams = grams(key, true);
+			Arrays.sort(grams);
+			for (int i = 0, next; i < grams.length; i = next) {
+				next = i + 1;
+				while (next < grams.length && grams[next] == grams[i]) {
+					next++;
+				}
+				postings.computeIfAbsent(grams[i], g -> new Posting(verify)).add(id, next - i);
+			}
+			documentCount++;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 키워드를 (공백/문장부호를 제외하고) 부분 문자열로 포함하는 문서 ID
+	 * @return 문서 ID 오름차순
+	 */
+	public int[] search(CharSequence keyword) {
+		String key = HangulUtil.normalize(keyword);
+		if (key.isEmpty()) {
+			return EMPTY;
+		}
+
+		lock.readLock().lock();
+		try {
+			int[] grams = Arrays.stream(grams(key, false)).distinct().toArray();
+			Posting[] lists = new Posting[grams.length];
+			for (int i = 0; i < grams.length; i++) {
+				lists[i] = postings.get(grams[i]);
+				if (lists[i] == null) {
+					return EMPTY;
+				}
+			}
+			Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+			int[] result = Arrays.copyOf(lists[0].documents, lists[0].size);
+			int size = result.length;
+			for (int i = 1; i < lists.length && size > 0; i++) {
+				size = intersect(result, size, lists[i]);
+			}
+
+			if (verify && key.length() > 2) {
+				int kept = 0;
+				for (int i = 0; i < size; i++) {
+					if (texts[result[i]].contains(key)) {
+						result[kept++] = result[i];
+					}
+				}
+				size = kept;
+			}
+			return size == result.length ? result : Arrays.copyOf(result, size);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 키워드에 대한 BM25 점수를 더함
+	 * 질의의 2-gram을 단어로 보고, IDF는 2-gram의 문서 수로 계산함
+	 * 단어 빈도는 원문을 보관하면 색인 시 센 출현 횟수를, 보관하지 않으면 포함 여부(0/1)를 사용함
+	 * 문서 목록과 gram 목록을 함께 훑으므로 문서를 하나씩 찾지 않음
+	 * @param documents 점수를 매길 문서 ID (오름차순)
+	 * @param boost 필드 가중치
+	 * @param scores documents와 같은 순서의 점수 (결과를 더함)
+	 */
+	public void score(int[] documents, CharSequence keyword, float boost, float[] scores) {
+		String key = HangulUtil.normalize(keyword);
+		if (key.isEmpty() || documents.length == 0) {
+			return;
+		}
+
+		lock.readLock().lock();
+		try {
+			if (documentCount == 0) {
+				return;
+			}
+			float averageLength = (float) totalLength / documentCount;
+			for (int gram : Arrays.stream(grams(key, false)).distinct().toArray()) {
+				Posting posting = postings.get(gram);
+				if (posting == null) {
+					continue;
+				}
+				float idf = (float) Math.log(1 + (documentCount - posting.size + 0.5) / (posting.size + 0.5));
+				int from = 0;
+				for (int i = 0; i < documents.length && from < posting.size; i++) {
+					int document = documents[i];
+					int found = seek(posting, from, document);
+					if (found < 0) {
+						from = -found - 1;
+						continue;
+					}
+					from = found + 1;
+					int frequency = posting.frequencies == null ? 1 : posting.frequencies[found] & 0xFF;
+					float norm = K1 * (1 - B + B * lengths[document] / averageLength);
+					scores[i] += boost * idf * frequency * (K1 + 1) / (frequency + norm);
+				}
+			}
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return documentCount;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 정렬된 두 목록의 합집합
+	 */
+	public static int[] union(int[] a, int[] b) {
+		int[] result = new int[a.length + b.length];
+		int i = 0;
+		int j = 0;
+		int size = 0;
+		while (i < a.length && j < b.length) {
+			if (a[i] < b[j]) {
+				result[size++] = a[i++];
+			} else if (a[i] > b[j]) {
+				result[size++] = b[j++];
+			} else {
+				result[size++] = a[i++];
+				j++;
+			}
+		}
+		while (i < a.length) {
+			result[size++] = a[i++];
+		}
+		while (j < b.length) {
+			result[size++] = b[j++];
+		}
+		return Arrays.copyOf(result, size);
+	}
+
+	// 현재 후보 중 목록에 있는 문서만 남김 (후보가 적으므로 목록 쪽을 지수 탐색)
+	private static int intersect(int[] candidates, int size, Posting posting) {
+		int kept = 0;
+		int from = 0;
+		for (int i = 0; i < size && from < posting.size; i++) {
+			int document = candidates[i];
+			int found = seek(posting, from, document);
+			if (found >= 0) {
+				candidates[kept++] = document;
+				from = found + 1;
+			} else {
+				from = -found - 1;
+			}
+		}
+		return kept;
+	}
+
+	// from 이후에서 문서를 지수 탐색 (Arrays.binarySearch와 같은 반환값)
+	private static int seek(Posting posting, int from, int document) {
+		int bound = 1;
+		while (from + bound < posting.size && posting.documents[from + bound] < document) {
+			bound <<= 1;
+		}
+		return Arrays.binarySearch(posting.documents, from, Math.min(from + bound + 1, posting.size), document);
+	}
+
+	/**
+	 * 색인 시에는 1-gram과 2-gram을 모두, 검색 시에는 한 글자면 1-gram, 그 외에는 2-gram만 사용
+	 * 같은 gram이 여러 번 나오면 그대로 중복해서 돌려줌
+	 */
+	private static int[] grams(String key, boolean forIndex) {
+		if (!forIndex && key.length() == 1) {
+			return new int[] {key.charAt(0)};
+		}
+		int bigramCount = Math.max(0, key.length() - 1);
+		int[] grams = new int[forIndex ? bigramCount + key.length() : bigramCount];
+		int count = 0;
+		for (int i = 0; i < bigramCount; i++) {
+			grams[count++] = key.charAt(i) << 16 | key.charAt(i + 1);
+		}
+		if (forIndex) {
+			for (int i = 0; i < key.length(); i++) {
+				grams[count++] = key.charAt(i);
+			}
+		}
+		return grams;
+	}
+
+	private static class Posting {
+		private int[] documents = new int[2];
+		// 문서별 출현 횟수 (255에서 멈춤, 원문을 보관하는 색인만)
+		private byte[] frequencies;
+		private int size;
+
+		private Posting(boolean withFrequencies) {
+			this.frequencies = withFrequencies ? new byte[2] : null;
+		}
+
+		// 대부분 ID 순서대로 추가되므로 끝에 붙이고, 아닌 경우만 자리를 찾아 끼워 넣음
+		private void add(int document, int frequency) {
+			int index = size;
+			if (size > 0 && documents[size - 1] >= document) {
+				index = Arrays.binarySearch(documents, 0, size, document);
+				if (index >= 0) {
+					return;
+				}
+				index = -index - 1;
+			}
+			if (size == documents.length) {
+				documents = Arrays.copyOf(documents, size * 2);
+				if (frequencies != null) {
+					frequencies = Arrays.copyOf(frequencies, size * 2);
+				}
+			}
+			System.arraycopy(documents, index, documents, index + 1, size - index);
+			documents[index] = document;
+			if (frequencies != null) {
+				System.arraycopy(frequencies, index, frequencies, index + 1, size - index);
+				frequencies[index] = (byte) Math.min(frequency, 255);
+			}
+			size++;
+		}
+	}
+}
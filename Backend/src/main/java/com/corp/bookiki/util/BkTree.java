@@ -0,0 +1,114 @@
+package com.corp.bookiki.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 편집 거리 기반 BK-tree
+ * 삼각 부등식을 이용해 질의 문자열과 거리 radius 이내인 문자열만 후보로 탐색함
+ */
+public class BkTree {
+
+	private Node root;
+	private int size;
+
+	public void add(String value) {
+		if (value == null) {
+			return;
+		}
+		if (root == null) {
+			root = new Node(value);
+			size++;
+			return;
+		}
+
+		Node node = root;
+		while (true) {
+			int distance = LevenshteinDistance.distance(value, node.value);
+			if (distance == 0) {
+				return;
+			}
+			Node child = node.child(distance);
+			if (child == null) {
+				node.addChild(distance, new Node(value));
+				size++;
+				return;
+			}
+			node = child;
+		}
+	}
+
+	/**
+	 * 질의 문자열과 편집 거리가 radius 이하인 문자열 조회
+	 */
+	public List<String> search(String query, int radius) {
+		List<String> result = new ArrayList<>();
+		if (root == null || query == null) {
+			return result;
+		}
+
+		List<Node> stack = new ArrayList<>();
+		stack.add(root);
+		while (!stack.isEmpty()) {
+			Node node = stack.remove(stack.size() - 1);
+
+			// 자식 간선 중 가장 큰 거리 + radius 까지만 알면 되므로 그 이상은 계산하지 않음
+			int distance = LevenshteinDistance.distance(query, node.value, node.maxChildDistance + radius);
+			if (distance <= radius) {
+				result.add(node.value);
+			}
+
+			int low = distance - radius;
+			int high = distance + radius;
+			for (int i = 0; i < node.childCount; i++) {
+				int edge = node.childDistances[i];
+				if (edge >= low && edge <= high) {
+					stack.add(node.children[i]);
+				}
+			}
+		}
+		return result;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	private static class Node {
+		private final String value;
+		private int[] childDistances = new int[0];
+		private Node[] children = new Node[0];
+		private int childCount;
+		private int maxChildDistance;
+
+		private Node(String value) {
+			this.value = value;
+		}
+
+		private Node child(int distance) {
+			for (int i = 0; i < childCount; i++) {
+				if (childDistances[i] == distance) {
+					return children[i];
+				}
+			}
+			return null;
+		}
+
+		private void addChild(int distance, Node child) {
+			if (childCount == children.length) {
+				int capacity = Math.max(4, childCount * 2);
+				childDistances = Arrays.copyOf(childDistances, capacity);
+				children = Arrays.copyOf(children, capacity);
+			}
+			childDistances[childCount] = distance;
+			children[childCount] = child;
+			childCount++;
+			maxChildDistance = Math.max(maxChildDistance, distance);
+		}
+	}
+}
@@ -0,0 +1,153 @@
+package com.corp.bookiki.util;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntUnaryOperator;
+
+/**
+ * 점수가 늘기만 하는 ID들 중 상위 K개를 계속 유지하는 최소 힙 (루트 = K개 중 가장 낮은 순위)
+ * 힙 안의 위치를 따로 기억하므로 점수가 늘어난 ID 하나를 반영하는 데 O(log K)
+ * 점수는 호출하는 쪽이 들고 있고(score), 점수가 같으면 ID가 작은 쪽을 앞에 둠 (TopK와 같은 순서)
+ * 동기화하지 않으므로 호출하는 쪽에서 잠금을 잡아야 함
+ */
+public final class BoundedTopK {
+
+	private final int capacity;
+	private final IntUnaryOperator score;
+	private final int[] heap;
+	private int size;
+
+	// ID -> 힙 안의 위치
+	private final Map<Integer, Integer> positions = new HashMap<>();
+
+	public BoundedTopK(int capacity, IntUnaryOperator score) {
+		this.capacity = capacity;
+		this.score = score;
+		this.heap = new int[capacity];
+	}
+
+	/**
+	 * 새 ID를 넣거나 점수가 늘어난 ID를 반영 (점수가 줄어든 경우에는 쓰면 안 됨)
+	 * @return 힙에 들어 있으면 true
+	 */
+	public boolean offer(int id) {
+		Integer position = positions.get(id);
+		if (position != null) {
+			// 점수가 늘면 순위가 올라가므로 루트에서 멀어짐
+			siftDown(position);
+			return true;
+		}
+		if (size < capacity) {
+			place(id, size);
+			siftUp(size++);
+			return true;
+		}
+		if (capacity == 0 || !lower(heap[0], id)) {
+			return false;
+		}
+		positions.remove(heap[0]);
+		place(id, 0);
+		siftDown(0);
+		return true;
+	}
+
+	/**
+	 * @return 힙에 들어 있어서 뺐으면 true (빠진 자리를 채울 ID는 호출하는 쪽이 다시 넣어야 함)
+	 */
+	public boolean remove(int id) {
+		Integer position = positions.remove(id);
+		if (position == null) {
+			return false;
+		}
+		size--;
+		if (position < size) {
+			place(heap[size], position);
+			siftDown(position);
+			siftUp(position);
+		}
+		return true;
+	}
+
+	public boolean contains(int id) {
+		return positions.containsKey(id);
+	}
+
+	public int size() {
+		return size;
+	}
+
+	// 가득 찼으면 힙 밖에 순위가 더 낮은 ID가 있을 수 있음
+	public boolean isFull() {
+		return size == capacity;
+	}
+
+	public int capacity() {
+		return capacity;
+	}
+
+	public void clear() {
+		size = 0;
+		positions.clear();
+	}
+
+	/**
+	 * 점수 내림차순 ID (K개 정렬이므로 O(K log K))
+	 */
+	public int[] sorted() {
+		Integer[] ids = new Integer[size];
+		for (int i = 0; i < size; i++) {
+			ids[i] = heap[i];
+		}
+		Arrays.sort(ids, (a, b) -> lower(a, b) ? 1 : lower(b, a) ? -1 : 0);
+		int[] result = new int[size];
+		for (int i = 0; i < size; i++) {
+			result[i] = ids[i];
+		}
+		return result;
+	}
+
+	private void place(int id, int position) {
+		heap[position] = id;
+		positions.put(id, position);
+	}
+
+	private void siftUp(int position) {
+		int id = heap[position];
+		while (position > 0) {
+			int parent = (position - 1) >>> 1;
+			if (!lower(id, heap[parent])) {
+				break;
+			}
+			place(heap[parent], position);
+			position = parent;
+		}
+		place(id, position);
+	}
+
+	private void siftDown(int position) {
+		int id = heap[position];
+		while (true) {
+			int child = 2 * position + 1;
+			if (child >= size) {
+				break;
+			}
+			if (child + 1 < size && lower(heap[child + 1], heap[child])) {
+				child++;
+			}
+			if (!lower(heap[child], id)) {
+				break;
+			}
+			place(heap[child], position);
+			position = child;
+		}
+		place(id, position);
+	}
+
+	// a가 b보다 순위가 낮으면 true
+	private boolean lower(int a, int b) {
+		int scoreA = score.applyAsInt(a);
+		int scoreB = score.applyAsInt(b);
+		return scoreA < scoreB || (scoreA == scoreB && a > b);
+	}
+}
@@ -0,0 +1,84 @@
+package com.corp.bookiki.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import com.corp.bookiki.global.error.code.ErrorCode;
+import com.corp.bookiki.global.error.exception.BusinessException;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 커서 기반 페이지네이션용 커서 변환
+ * 마지막으로 받은 행의 (정렬 기준 값, ID)를 "정렬값|ID" 형태로 묶어 URL-safe Base64로 인코딩함
+ * 클라이언트는 내용을 해석하지 않고 다음 요청에 그대로 돌려보내면 됨
+ */
+public final class CursorUtil {
+
+	// 한 번에 조회할 수 있는 최대 개수
+	public static final int MAX_SIZE = 100;
+
+	private static final char SEPARATOR = '|';
+
+	private CursorUtil() {
+	}
+
+	// ID만으로 정렬하는 목록의 커서
+	public static String encode(int id) {
+		return encode(null, id);
+	}
+
+	public static String encode(LocalDateTime sortKey, int id) {
+		String raw = (sortKey == null ? "" : sortKey.toString()) + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * @return 커서가 없으면 null (첫 페이지)
+	 * @throws BusinessException 형식이 잘못된 커서
+	 */
+	public static Cursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.lastIndexOf(SEPARATOR);
+			if (separator < 0) {
+				throw new BusinessException(ErrorCode.INVALID_CURSOR);
+			}
+			LocalDateTime sortKey = separator == 0 ? null : LocalDateTime.parse(raw.substring(0, separator));
+			return new Cursor(sortKey, Integer.parseInt(raw.substring(separator + 1)));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new BusinessException(ErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	/**
+	 * 정렬 기준 값이 있어야 하는 목록의 커서
+	 * @return 커서가 없으면 null (첫 페이지)
+	 */
+	public static Cursor decodeWithSortKey(String cursor) {
+		Cursor decoded = decode(cursor);
+		if (decoded != null && decoded.getSortKey() == null) {
+			throw new BusinessException(ErrorCode.INVALID_CURSOR);
+		}
+		return decoded;
+	}
+
+	// 요청 개수를 1 ~ MAX_SIZE로 맞춤
+	public static int size(int size) {
+		return Math.min(Math.max(size, 1), MAX_SIZE);
+	}
+
+	@Getter
+	@AllArgsConstructor(access = AccessLevel.PRIVATE)
+	public static class Cursor {
+		private final LocalDateTime sortKey;
+		private final int id;
+	}
+}
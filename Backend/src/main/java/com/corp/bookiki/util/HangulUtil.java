@@ -0,0 +1,97 @@
+package com.corp.bookiki.util;
+
+/**
+ * 한글 문자열 처리 유틸
+ * 완성형 음절(가~힣)을 초성/중성/종성 자모로 분해해, OCR이 자모 하나를 잘못 읽은 경우에도 대부분의 글자가 일치하도록 함
+ */
+public final class HangulUtil {
+
+	private static final char SYLLABLE_BEGIN = 0xAC00;
+	private static final char SYLLABLE_END = 0xD7A3;
+	private static final int JUNGSUNG_COUNT = 21;
+	private static final int JONGSUNG_COUNT = 28;
+
+	private static final char[] CHOSUNG = {
+		'ㄱ', 'ㄲ', 'ㄴ', 'ㄷ', 'ㄸ', 'ㄹ', 'ㅁ', 'ㅂ', 'ㅃ', 'ㅅ', 'ㅆ', 'ㅇ', 'ㅈ', 'ㅉ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+	};
+
+	private static final char[] JUNGSUNG = {
+		'ㅏ', 'ㅐ', 'ㅑ', 'ㅒ', 'ㅓ', 'ㅔ', 'ㅕ', 'ㅖ', 'ㅗ', 'ㅘ', 'ㅙ', 'ㅚ', 'ㅛ', 'ㅜ', 'ㅝ', 'ㅞ', 'ㅟ', 'ㅠ', 'ㅡ', 'ㅢ', 'ㅣ'
+	};
+
+	// 0번은 받침 없음
+	private static final char[] JONGSUNG = {
+		0, 'ㄱ', 'ㄲ', 'ㄳ', 'ㄴ', 'ㄵ', 'ㄶ', 'ㄷ', 'ㄹ', 'ㄺ', 'ㄻ', 'ㄼ', 'ㄽ', 'ㄾ', 'ㄿ', 'ㅀ', 'ㅁ', 'ㅂ', 'ㅄ', 'ㅅ', 'ㅆ',
+		'ㅇ', 'ㅈ', 'ㅊ', 'ㅋ', 'ㅌ', 'ㅍ', 'ㅎ'
+	};
+
+	private HangulUtil() {
+	}
+
+	public static boolean isSyllable(char c) {
+		return c >= SYLLABLE_BEGIN && c <= SYLLABLE_END;
+	}
+
+	/**
+	 * 비교용 정규화: 소문자로 바꾸고 글자/숫자 이외의 문자(공백, 문장부호 등)는 제거
+	 */
+	public static String normalize(CharSequence text) {
+		if (text == null) {
+			return "";
+		}
+		StringBuilder sb = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (Character.isLetterOrDigit(c)) {
+				sb.append(Character.toLowerCase(c));
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 초성 검색용 정규화: 완성형 음절은 초성으로 바꾸고 그 외에는 normalize와 같음
+	 * 예) "클린 코드" -> "ㅋㄹㅋㄷ", "Real MySQL 8.0" -> "realmysql80"
+	 */
+	public static String chosung(CharSequence text) {
+		if (text == null) {
+			return "";
+		}
+		StringBuilder sb = new StringBuilder(text.length());
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (isSyllable(c)) {
+				sb.append(CHOSUNG[(c - SYLLABLE_BEGIN) / (JUNGSUNG_COUNT * JONGSUNG_COUNT)]);
+			} else if (Character.isLetterOrDigit(c)) {
+				sb.append(Character.toLowerCase(c));
+			}
+		}
+		return sb.toString();
+	}
+
+	/**
+	 * 완성형 한글 음절을 자모로 분해 (한글이 아닌 문자는 그대로 유지)
+	 * 예) "자바의" -> "ㅈㅏㅂㅏㅇㅢ"
+	 */
+	public static String decompose(CharSequence text) {
+		if (text == null) {
+			return "";
+		}
+		StringBuilder sb = new StringBuilder(text.length() * 3);
+		for (int i = 0; i < text.length(); i++) {
+			char c = text.charAt(i);
+			if (!isSyllable(c)) {
+				sb.append(c);
+				continue;
+			}
+			int index = c - SYLLABLE_BEGIN;
+			sb.append(CHOSUNG[index / (JUNGSUNG_COUNT * JONGSUNG_COUNT)]);
+			sb.append(JUNGSUNG[(index % (JUNGSUNG_COUNT * JONGSUNG_COUNT)) / JONGSUNG_COUNT]);
+			int jongsung = index % JONGSUNG_COUNT;
+			if (jongsung != 0) {
+				sb.append(JONGSUNG[jongsung]);
+			}
+		}
+		return sb.toString();
+	}
+}
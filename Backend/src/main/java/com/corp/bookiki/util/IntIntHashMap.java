@@ -0,0 +1,115 @@
+package com.corp.bookiki.util;
+
+import java.util.Arrays;
+
+/**
+ * int -> int 맵 (개방 주소법, 선형 탐사)
+ * 키와 값을 int 배열에 그대로 두므로 HashMap&lt;Integer, Integer&gt;처럼 항목마다 객체를 만들지 않음
+ * 키는 0 이상만 허용하며 (-1 = 빈 칸), 삭제는 지원하지 않음
+ * 동기화하지 않으므로 호출하는 쪽에서 잠금을 잡아야 함
+ */
+public final class IntIntHashMap {
+
+	private static final int EMPTY = -1;
+	private static final float LOAD_FACTOR = 0.5f;
+
+	private int[] keys;
+	private int[] values;
+	private int size;
+
+	public IntIntHashMap() {
+		this(8);
+	}
+
+	public IntIntHashMap(int expectedSize) {
+		int capacity = Integer.highestOneBit(Math.max(4, (int) (expectedSize / LOAD_FACTOR)) - 1) << 1;
+		keys = new int[capacity];
+		values = new int[capacity];
+		Arrays.fill(keys, EMPTY);
+	}
+
+	/**
+	 * @return 키가 없으면 0
+	 */
+	public int get(int key) {
+		int mask = keys.length - 1;
+		for (int slot = mix(key) & mask; ; slot = (slot + 1) & mask) {
+			if (keys[slot] == key) {
+				return values[slot];
+			}
+			if (keys[slot] == EMPTY) {
+				return 0;
+			}
+		}
+	}
+
+	/**
+	 * 값에 delta를 더함 (키가 없으면 0에서 시작)
+	 * @return 더한 뒤의 값
+	 */
+	public int addTo(int key, int delta) {
+		if (key < 0) {
+			throw new IllegalArgumentException("key must not be negative: " + key);
+		}
+		if (size + 1 > keys.length * LOAD_FACTOR) {
+			resize(keys.length << 1);
+		}
+		int mask = keys.length - 1;
+		int slot = mix(key) & mask;
+		while (keys[slot] != EMPTY && keys[slot] != key) {
+			slot = (slot + 1) & mask;
+		}
+		if (keys[slot] == EMPTY) {
+			keys[slot] = key;
+			size++;
+		}
+		values[slot] += delta;
+		return values[slot];
+	}
+
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * 모든 항목을 순서 없이 넘김
+	 */
+	public void forEach(IntIntConsumer consumer) {
+		for (int slot = 0; slot < keys.length; slot++) {
+			if (keys[slot] != EMPTY) {
+				consumer.accept(keys[slot], values[slot]);
+			}
+		}
+	}
+
+	private void resize(int capacity) {
+		int[] oldKeys = keys;
+		int[] oldValues = values;
+		keys = new int[capacity];
+		values = new int[capacity];
+		Arrays.fill(keys, EMPTY);
+		int mask = capacity - 1;
+		for (int i = 0; i < oldKeys.length; i++) {
+			if (oldKeys[i] == EMPTY) {
+				continue;
+			}
+			int slot = mix(oldKeys[i]) & mask;
+			while (keys[slot] != EMPTY) {
+				slot = (slot + 1) & mask;
+			}
+			keys[slot] = oldKeys[i];
+			values[slot] = oldValues[i];
+		}
+	}
+
+	// 연속된 ID가 한 곳에 몰리지 않도록 비트를 섞음
+	private static int mix(int key) {
+		int hash = key * 0x9E3779B9;
+		return hash ^ (hash >>> 16);
+	}
+
+	@FunctionalInterface
+	public interface IntIntConsumer {
+		void accept(int key, int value);
+	}
+}
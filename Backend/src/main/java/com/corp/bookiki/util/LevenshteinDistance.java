@@ -0,0 +1,96 @@
+package com.corp.bookiki.util;
+
+/**
+ * 상한이 있는 Levenshtein 편집 거리 계산
+ * 대각선 주변 |i - j| <= maxDistance 구간만 계산하고, 상한을 넘는 순간 바로 종료함
+ * 스레드별로 재사용하는 두 줄짜리 버퍼를 사용하므로 호출마다 배열을 만들지 않음
+ */
+public final class LevenshteinDistance {
+
+	private static final ThreadLocal<int[][]> BUFFER = ThreadLocal.withInitial(() -> new int[2][64]);
+
+	private LevenshteinDistance() {
+	}
+
+	/**
+	 * 두 문자열의 편집 거리 (상한 없음)
+	 */
+	public static int distance(CharSequence s1, CharSequence s2) {
+		return distance(s1, s2, Integer.MAX_VALUE);
+	}
+
+	/**
+	 * 두 문자열의 편집 거리
+	 * @param s1 첫 번째 문자열
+	 * @param s2 두 번째 문자열
+	 * @param maxDistance 관심 있는 최대 거리
+	 * @return 편집 거리, maxDistance를 넘으면 maxDistance + 1
+	 */
+	public static int distance(CharSequence s1, CharSequence s2, int maxDistance) {
+		if (s1 == null) s1 = "";
+		if (s2 == null) s2 = "";
+
+		// 항상 짧은 문자열을 a로 사용
+		CharSequence a = s1.length() <= s2.length() ? s1 : s2;
+		CharSequence b = s1.length() <= s2.length() ? s2 : s1;
+		int n = a.length();
+		int m = b.length();
+
+		int k = Math.min(maxDistance, m);
+		if (m - n > k) {
+			return k + 1;
+		}
+		if (n == 0) {
+			return m;
+		}
+
+		int[][] rows = buffer(m + 1);
+		int[] prev = rows[0];
+		int[] curr = rows[1];
+		int outOfBand = k + 1;
+
+		for (int j = 0; j <= m; j++) {
+			prev[j] = j <= k ? j : outOfBand;
+		}
+
+		for (int i = 1; i <= n; i++) {
+			int from = Math.max(1, i - k);
+			int to = Math.min(m, i + k);
+			char ac = a.charAt(i - 1);
+
+			curr[from - 1] = from == 1 && i <= k ? i : outOfBand;
+			int rowMin = curr[from - 1];
+
+			for (int j = from; j <= to; j++) {
+				int cost = ac == b.charAt(j - 1) ? 0 : 1;
+				int value = Math.min(prev[j - 1] + cost, Math.min(prev[j], curr[j - 1]) + 1);
+				curr[j] = Math.min(value, outOfBand);
+				rowMin = Math.min(rowMin, curr[j]);
+			}
+			if (to < m) {
+				curr[to + 1] = outOfBand;
+			}
+
+			// 어떤 경로도 이 행을 지나야 하므로 행 최솟값이 상한을 넘으면 더 볼 필요가 없음
+			if (rowMin > k) {
+				return outOfBand;
+			}
+
+			int[] swap = prev;
+			prev = curr;
+			curr = swap;
+		}
+
+		return Math.min(prev[m], outOfBand);
+	}
+
+	private static int[][] buffer(int size) {
+		int[][] rows = BUFFER.get();
+		if (rows[0].length < size) {
+			int capacity = Math.max(size, rows[0].length * 2);
+			rows = new int[][] {new int[capacity], new int[capacity]};
+			BUFFER.set(rows);
+		}
+		return rows;
+	}
+}
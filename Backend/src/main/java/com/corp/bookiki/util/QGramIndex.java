@@ -0,0 +1,270 @@
+package com.corp.bookiki.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import lombok.Getter;
+
+/**
+ * 한글 자모 단위 q-gram 역색인 기반 유사 문자열 검색
+ * 1. 질의와 공유하는 q-gram 수가 많은 문서를 후보로 상위 K개만 추림 (유사도 하한으로 필요한 최소 공유 수를 계산해 걸러냄)
+ * 2. 후보만 상한이 있는 편집 거리로 다시 계산해 유사도 순으로 정렬
+ * 문서는 언제든 추가할 수 있고, 검색과 추가는 읽기/쓰기 락으로 분리함
+ */
+public class QGramIndex {
+
+	// 문자열 앞뒤 경계 표시 (짧은 문자열도 q-gram이 생기도록 함)
+	private static final char PADDING = '\u0001';
+
+	private final int q;
+	private final int candidateLimit;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// key: q-gram, value: 해당 q-gram을 가진 문서 번호 목록
+	private final Map<String, Posting> postings = new HashMap<>();
+	// key: 외부 ID, value: 내부 문서 번호
+	private final Map<Integer, Integer> documentsById = new HashMap<>();
+
+	private int[] externalIds = new int[256];
+	private String[] texts = new String[256];
+	private String[] keys = new String[256];
+	private int documentCount;
+
+	// 검색마다 문서 수만큼의 배열을 만들지 않도록 스레드별로 재사용
+	private final ThreadLocal<int[]> counters = ThreadLocal.withInitial(() -> new int[0]);
+
+	public QGramIndex(int q, int candidateLimit) {
+		this.q = q;
+		this.candidateLimit = candidateLimit;
+	}
+
+	/**
+	 * 문서 추가 (같은 ID가 이미 있으면 무시)
+	 */
+	public void add(int id, String text) {
+		String key = toKey(text);
+		if (key.isEmpty()) {
+			return;
+		}
+
+		lock.writeLock().lock();
+		try {
+			if (documentsById.containsKey(id)) {
+				return;
+			}
+			if (documentCount == externalIds.length) {
+				int capacity = documentCount * 2;
+				externalIds = Arrays.copyOf(externalIds, capacity);
+				texts = Arrays.copyOf(texts, capacity);
+				keys = Arrays.copyOf(keys, capacity);
+			}
+
+			int document = documentCount++;
+			externalIds[document] = id;
+			texts[document] = text;
+			keys[document] = key;
+			documentsById.put(id, document);
+
+			for (String gram : grams(key)) {
+				postings.computeIfAbsent(gram, g -> new Posting()).add(document);
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 유사 문자열 검색
+	 * @param text 질의 문자열
+	 * @param limit 최대 결과 수
+	 * @param minSimilarity 최소 유사도 (0~1, 1 - 편집 거리 / 긴 문자열 길이)
+	 * @return 유사도 내림차순 결과
+	 */
+	public List<Match> search(String text, int limit, double minSimilarity) {
+		String key = toKey(text);
+		if (key.isEmpty() || limit <= 0) {
+			return new ArrayList<>();
+		}
+
+		lock.readLock().lock();
+		try {
+			int[] candidates = findCandidates(key, minSimilarity);
+
+			List<Match> matches = new ArrayList<>(candidates.length);
+			for (int document : candidates) {
+				String documentKey = keys[document];
+				int maxLength = Math.max(key.length(), documentKey.length());
+				int maxDistance = (int) Math.floor((1 - minSimilarity) * maxLength);
+
+				int distance = LevenshteinDistance.distance(key, documentKey, maxDistance);
+				if (distance > maxDistance) {
+					continue;
+				}
+				double similarity = 1 - (double) distance / maxLength;
+				matches.add(new Match(externalIds[document], texts[document], similarity));
+			}
+
+			matches.sort((a, b) -> Double.compare(b.getSimilarity(), a.getSimilarity()));
+			return matches.size() > limit ? new ArrayList<>(matches.subList(0, limit)) : matches;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return documentCount;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 공유 q-gram 수 기준 상위 후보 문서 번호
+	private int[] findCandidates(String key, double minSimilarity) {
+		int[] counts = counters.get();
+		if (counts.length < documentCount) {
+			counts = new int[Math.max(documentCount, counts.length * 2)];
+			counters.set(counts);
+		}
+
+		// 질의에 없는 q-gram은 빈 목록으로 두고, 짧은 목록부터 처리
+		Set<String> grams = grams(key);
+		int gramCount = grams.size();
+		Posting[] lists = new Posting[gramCount];
+		int index = 0;
+		for (String gram : grams) {
+			lists[index++] = postings.getOrDefault(gram, Posting.EMPTY);
+		}
+		Arrays.sort(lists, (a, b) -> Integer.compare(a.size, b.size));
+
+		// 편집 한 번은 최대 q개의 q-gram을 바꾸므로, 유사도를 만족하는 문서는 최소 required개의 q-gram을 공유해야 함
+		// (유사도 s를 만족하는 문서 길이는 질의 길이 / s 이하이므로 허용 편집 수도 그에 맞춰 계산)
+		int maxEdits = minSimilarity <= 0 ? gramCount : (int) Math.floor((1 - minSimilarity) / minSimilarity * key.length());
+		int required = Math.max(1, gramCount - q * maxEdits);
+
+		// required개를 공유하는 문서는 가장 짧은 (gramCount - required + 1)개 목록 중 하나에는 반드시 있음
+		int prefix = gramCount - required + 1;
+
+		int[] touched = new int[64];
+		int touchedCount = 0;
+		for (int i = 0; i < prefix; i++) {
+			Posting posting = lists[i];
+			for (int j = 0; j < posting.size; j++) {
+				int document = posting.documents[j];
+				if (counts[document]++ == 0) {
+					if (touchedCount == touched.length) {
+						touched = Arrays.copyOf(touched, touchedCount * 2);
+					}
+					touched[touchedCount++] = document;
+				}
+			}
+		}
+
+		// 나머지 긴 목록은 이미 후보가 된 문서만 확인 (목록은 문서 번호 오름차순)
+		for (int i = prefix; i < gramCount; i++) {
+			Posting posting = lists[i];
+			int remaining = gramCount - i;
+			if (posting.size < touchedCount) {
+				for (int j = 0; j < posting.size; j++) {
+					int document = posting.documents[j];
+					if (counts[document] > 0) {
+						counts[document]++;
+					}
+				}
+			} else {
+				for (int t = 0; t < touchedCount; t++) {
+					int document = touched[t];
+					if (counts[document] + remaining >= required && posting.contains(document)) {
+						counts[document]++;
+					}
+				}
+			}
+		}
+
+		// 공유 q-gram 수가 가장 많은 K개 (최소 힙)
+		int[] scores = counts;
+		PriorityQueue<Integer> heap = new PriorityQueue<>(candidateLimit + 1,
+			(a, b) -> scores[a] != scores[b] ? Integer.compare(scores[a], scores[b]) : Integer.compare(b, a));
+		for (int i = 0; i < touchedCount; i++) {
+			int document = touched[i];
+			if (scores[document] < required) {
+				continue;
+			}
+			if (heap.size() < candidateLimit) {
+				heap.add(document);
+			} else if (scores[document] > scores[heap.peek()]) {
+				heap.poll();
+				heap.add(document);
+			}
+		}
+
+		int[] candidates = heap.stream().mapToInt(Integer::intValue).toArray();
+
+		// 다음 검색을 위해 사용한 칸만 초기화
+		for (int i = 0; i < touchedCount; i++) {
+			counts[touched[i]] = 0;
+		}
+		return candidates;
+	}
+
+	private Set<String> grams(String key) {
+		StringBuilder padded = new StringBuilder(key.length() + 2 * (q - 1));
+		for (int i = 0; i < q - 1; i++) {
+			padded.append(PADDING);
+		}
+		padded.append(key);
+		for (int i = 0; i < q - 1; i++) {
+			padded.append(PADDING);
+		}
+
+		Set<String> grams = new LinkedHashSet<>();
+		for (int i = 0; i + q <= padded.length(); i++) {
+			grams.add(padded.substring(i, i + q));
+		}
+		return grams;
+	}
+
+	private static String toKey(String text) {
+		return HangulUtil.decompose(HangulUtil.normalize(text));
+	}
+
+	@Getter
+	public static class Match {
+		private final int id;
+		private final String text;
+		private final double similarity;
+
+		public Match(int id, String text, double similarity) {
+			this.id = id;
+			this.text = text;
+			this.similarity = similarity;
+		}
+	}
+
+	private static class Posting {
+		private static final Posting EMPTY = new Posting();
+
+		private int[] documents = new int[4];
+		private int size;
+
+		private boolean contains(int document) {
+			return Arrays.binarySearch(documents, 0, size, document) >= 0;
+		}
+
+		private void add(int document) {
+			if (size == documents.length) {
+				documents = Arrays.copyOf(documents, size * 2);
+			}
+			documents[size++] = document;
+		}
+	}
+}
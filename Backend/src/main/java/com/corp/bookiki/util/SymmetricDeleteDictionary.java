@@ -0,0 +1,201 @@
+package com.corp.bookiki.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntConsumer;
+
+import lombok.Getter;
+
+/**
+ * 대칭 삭제(symmetric delete) 방식 맞춤법 교정 사전 (SymSpell)
+ * 단어를 추가할 때 앞부분(prefixLength 글자)에서 글자를 최대 maxDistance개 지운 변형을 모두 색인하고,
+ * 질의도 같은 방식으로 지운 변형만 찾아보므로 사전 크기와 무관하게 질의 길이와 거리로 정해지는 횟수만 조회함
+ * 한글은 자모로 분해해 비교하므로 받침 하나를 잘못 입력한 경우 거리 1이 됨
+ * 삭제 변형은 문자열 대신 해시값으로 보관하고, 후보는 항상 실제 편집 거리로 다시 확인함
+ */
+public class SymmetricDeleteDictionary {
+
+	private static final int[] EMPTY = {0};
+
+	// 키 길이에 따른 허용 거리 (키 3글자마다 1, 짧은 단어가 엉뚱한 단어로 바뀌지 않도록)
+	private static final int LENGTH_PER_DISTANCE = 3;
+
+	private final int maxDistance;
+	private final int prefixLength;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// 단어 ID가 인덱스 (처음 추가된 표기, 비교용 키, 빈도)
+	private final List<String> words = new ArrayList<>();
+	private final List<String> keys = new ArrayList<>();
+	private int[] counts = new int[16];
+
+	// key: 비교용 키, value: 단어 ID
+	private final Map<String, Integer> idsByKey = new HashMap<>();
+
+	// key: 삭제 변형의 해시값, value: 단어 ID 목록 (0번 칸은 개수)
+	private final Map<Integer, int[]> deletes = new HashMap<>();
+
+	/**
+	 * @param maxDistance 최대 편집 거리 (자모 기준)
+	 * @param prefixLength 삭제 변형을 만들 앞부분 길이 (자모 기준, 길수록 정확하지만 색인이 커짐)
+	 */
+	public SymmetricDeleteDictionary(int maxDistance, int prefixLength) {
+		this.maxDistance = maxDistance;
+		this.prefixLength = Math.max(prefixLength, maxDistance + 1);
+	}
+
+	/**
+	 * 단어 추가 (이미 있는 단어면 빈도만 더함)
+	 */
+	public void add(String word, int count) {
+		String key = toKey(word);
+		if (key.isEmpty()) {
+			return;
+		}
+
+		lock.writeLock().lock();
+		try {
+			Integer id = idsByKey.get(key);
+			if (id != null) {
+				counts[id] += count;
+				return;
+			}
+			id = words.size();
+			words.add(word.trim());
+			keys.add(key);
+			if (id == counts.length) {
+				counts = Arrays.copyOf(counts, id * 2);
+			}
+			counts[id] = count;
+			idsByKey.put(key, id);
+			int wordId = id;
+			variants(key, maxDistance, hash -> {
+				int[] ids = deletes.get(hash);
+				if (ids == null) {
+					ids = new int[4];
+					deletes.put(hash, ids);
+				} else if (ids[ids[0]] == wordId) {
+					// 같은 글자가 연속되면 같은 변형이 여러 번 나옴
+					return;
+				} else if (ids[0] + 1 == ids.length) {
+					ids = Arrays.copyOf(ids, ids.length * 2);
+					deletes.put(hash, ids);
+				}
+				ids[++ids[0]] = wordId;
+			});
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 편집 거리가 가까운 단어 조회
+	 * 사전에 있는 단어면 그 단어만 돌려줌
+	 * @param limit 최대 결과 수
+	 * @return 거리 오름차순, 같은 거리면 빈도 내림차순
+	 */
+	public List<Suggestion> lookup(String word, int limit) {
+		String key = toKey(word);
+		if (key.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+		int distance = Math.min(maxDistance, key.length() / LENGTH_PER_DISTANCE);
+
+		lock.readLock().lock();
+		try {
+			Integer exact = idsByKey.get(key);
+			if (exact != null) {
+				return List.of(toSuggestion(exact, 0));
+			}
+
+			List<Suggestion> result = new ArrayList<>();
+			Set<Integer> checked = new HashSet<>();
+			variants(key, distance, hash -> {
+				int[] ids = deletes.getOrDefault(hash, EMPTY);
+				for (int i = 1; i <= ids[0]; i++) {
+					int id = ids[i];
+					if (!checked.add(id)) {
+						continue;
+					}
+					String candidate = keys.get(id);
+					if (Math.abs(candidate.length() - key.length()) > distance) {
+						continue;
+					}
+					int candidateDistance = LevenshteinDistance.distance(key, candidate, distance);
+					if (candidateDistance <= distance) {
+						result.add(toSuggestion(id, candidateDistance));
+					}
+				}
+			});
+			result.sort(Comparator.comparingInt(Suggestion::getDistance)
+				.thenComparing(Comparator.comparingInt(Suggestion::getCount).reversed())
+				.thenComparing(Suggestion::getWord));
+			return result.size() > limit ? result.subList(0, limit) : result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return words.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	private Suggestion toSuggestion(int id, int distance) {
+		return new Suggestion(words.get(id), distance, counts[id]);
+	}
+
+	// 앞부분에서 글자를 0~distance개 지운 변형(자신 포함)의 해시값 (String.hashCode와 같은 값)
+	private void variants(String key, int distance, IntConsumer consumer) {
+		char[] prefix = key.substring(0, Math.min(key.length(), prefixLength)).toCharArray();
+		variants(prefix, prefix.length, 0, distance, consumer);
+	}
+
+	// from 이후 위치만 지워 같은 위치 조합을 다른 순서로 두 번 만들지 않음
+	private static void variants(char[] chars, int length, int from, int distance, IntConsumer consumer) {
+		int hash = 0;
+		for (int i = 0; i < length; i++) {
+			hash = 31 * hash + chars[i];
+		}
+		consumer.accept(hash);
+		if (distance == 0 || length <= 1) {
+			return;
+		}
+		char[] deleted = new char[length - 1];
+		for (int i = from; i < length; i++) {
+			System.arraycopy(chars, 0, deleted, 0, i);
+			System.arraycopy(chars, i + 1, deleted, i, length - i - 1);
+			variants(deleted, length - 1, i, distance - 1, consumer);
+		}
+	}
+
+	// 소문자로 바꾸고 문장부호를 지운 뒤 한글을 자모로 분해
+	private static String toKey(String word) {
+		return HangulUtil.decompose(HangulUtil.normalize(word));
+	}
+
+	@Getter
+	public static class Suggestion {
+		private final String word;
+		private final int distance;
+		private final int count;
+
+		public Suggestion(String word, int distance, int count) {
+			this.word = word;
+			this.distance = distance;
+			this.count = count;
+		}
+	}
+}
@@ -0,0 +1,89 @@
+package com.corp.bookiki.util;
+
+/**
+ * 점수 상위 K개 선택
+ * 크기 K의 최소 힙(루트 = 현재 K개 중 가장 낮은 순위)만 유지하므로 후보 n개에 대해 O(n log K), 추가 메모리는 K개
+ * 점수가 같으면 ID가 작은 쪽을 앞에 둠
+ */
+public final class TopK {
+
+	private static final int[] EMPTY = new int[0];
+
+	private TopK() {
+	}
+
+	/**
+	 * @param ids 후보 ID
+	 * @param scores ids와 같은 순서의 점수
+	 * @param k 선택할 개수
+	 * @return 점수 내림차순 ID (최대 k개)
+	 */
+	public static int[] select(int[] ids, float[] scores, int k) {
+		int size = Math.min(k, ids.length);
+		if (size <= 0) {
+			return EMPTY;
+		}
+
+		// 후보의 위치를 담는 힙
+		int[] heap = new int[size];
+		int heapSize = 0;
+		for (int i = 0; i < ids.length; i++) {
+			if (heapSize < size) {
+				heap[heapSize] = i;
+				siftUp(heap, heapSize++, ids, scores);
+			} else if (lower(heap[0], i, ids, scores)) {
+				heap[0] = i;
+				siftDown(heap, heapSize, ids, scores);
+			}
+		}
+
+		// 가장 낮은 순위부터 꺼내 뒤에서부터 채움
+		int[] result = new int[heapSize];
+		for (int i = heapSize - 1; i >= 0; i--) {
+			result[i] = ids[heap[0]];
+			heap[0] = heap[i];
+			siftDown(heap, i, ids, scores);
+		}
+		return result;
+	}
+
+	// a의 순위가 b보다 낮은지 (점수가 낮거나, 같으면 ID가 큼)
+	private static boolean lower(int a, int b, int[] ids, float[] scores) {
+		return scores[a] < scores[b] || scores[a] == scores[b] && ids[a] > ids[b];
+	}
+
+	private static void siftUp(int[] heap, int index, int[] ids, float[] scores) {
+		while (index > 0) {
+			int parent = (index - 1) >> 1;
+			if (!lower(heap[index], heap[parent], ids, scores)) {
+				return;
+			}
+			swap(heap, index, parent);
+			index = parent;
+		}
+	}
+
+	private static void siftDown(int[] heap, int size, int[] ids, float[] scores) {
+		int index = 0;
+		while (true) {
+			int child = index * 2 + 1;
+			if (child >= size) {
+				return;
+			}
+			if (child + 1 < size && lower(heap[child + 1], heap[child], ids, scores)) {
+				child++;
+			}
+			if (!lower(heap[child], heap[index], ids, scores)) {
+				return;
+			}
+			swap(heap, index, child);
+			index = child;
+		}
+	}
+
+	private static void swap(int[] heap, int a, int b) {
+		int temp = heap[a];
+		heap[a] = heap[b];
+		heap[b] = temp;
+	}
+}
@@ -0,0 +1,381 @@
+package com.corp.bookiki.util;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 가중치 기반 접두사 자동완성
+ * 문자열을 정규화(HangulUtil.normalize)한 키 순으로 정렬해 하나의 char 배열에 이어 붙여 보관하므로, 접두사가 같은 항목은 연속된 구간이 됨
+ * 구간은 이진 탐색으로 찾고, 구간 내 가중치 상위 K개는 최댓값 위치를 담은 세그먼트 트리에서 구간을 나눠 가며 꺼냄 (O(K log n))
+ * 정렬 키는 보관하지 않고 비교할 때 원문을 정규화하며, 항목마다 객체를 만들지 않아 10만 건 기준 수 MB 이내로 유지됨
+ * 초기 적재는 대기 목록에 모두 모은 뒤 flush()에서 한 번 정렬하고,
+ * 이후 추가되는 항목은 대기 목록에 모았다가 일정 개수가 되면 기존 배열과 병합해 다시 만듦
+ */
+public class WeightedPrefixIndex {
+
+	private static final int[] EMPTY = new int[0];
+
+	// flush() 이후 대기 목록이 이 크기가 되면 정렬 배열에 병합
+	private static final int MERGE_THRESHOLD = 64;
+
+	private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+	// 정렬된 항목: 원문은 texts[offsets[i]..offsets[i + 1])
+	private char[] texts = new char[0];
+	private int[] offsets = {0};
+	private int[] payloads = EMPTY;
+	private int[] weights = EMPTY;
+	private int size;
+
+	// tree[size + i] = i, tree[node] = 자식 중 가중치가 큰 항목 위치
+	private int[] tree = EMPTY;
+
+	// key: payload, value: 정렬 배열의 위치 (-1 = 대기 목록 또는 없음)
+	private int[] positionByPayload = EMPTY;
+
+	// 아직 병합하지 않은 항목
+	private final List<String> pendingTexts = new ArrayList<>();
+	private final List<String> pendingKeys = new ArrayList<>();
+	private int[] pendingPayloads = new int[MERGE_THRESHOLD];
+	private int[] pendingWeights = new int[MERGE_THRESHOLD];
+
+	// 초기 적재가 끝났는지 여부 (끝나기 전에는 병합하지 않음)
+	private boolean flushed;
+
+	/**
+	 * 항목 추가
+	 * @param text 원문 (정규화한 값이 비어 있으면 무시)
+	 * @param payload 항목 식별자 (0 이상, 같은 값을 두 번 추가하지 않음)
+	 * @param weight 초기 가중치
+	 */
+	public void add(String text, int payload, int weight) {
+		String key = HangulUtil.normalize(text);
+		if (key.isEmpty() || payload < 0) {
+			return;
+		}
+		lock.writeLock().lock();
+		try {
+			int pending = pendingTexts.size();
+			if (pending == pendingPayloads.length) {
+				pendingPayloads = Arrays.copyOf(pendingPayloads, pending * 2);
+				pendingWeights = Arrays.copyOf(pendingWeights, pending * 2);
+			}
+			pendingTexts.add(text);
+			pendingKeys.add(key);
+			pendingPayloads[pending] = payload;
+			pendingWeights[pending] = weight;
+			if (flushed && pendingTexts.size() >= MERGE_THRESHOLD) {
+				merge();
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 대기 중인 항목을 정렬 배열에 병합 (초기 적재 후 한 번 호출)
+	 */
+	public void flush() {
+		lock.writeLock().lock();
+		try {
+			if (!pendingTexts.isEmpty()) {
+				merge();
+			}
+			flushed = true;
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 항목의 가중치 증가
+	 */
+	public void addWeight(int payload, int delta) {
+		lock.writeLock().lock();
+		try {
+			int position = payload < positionByPayload.length ? positionByPayload[payload] : -1;
+			if (position >= 0) {
+				weights[position] += delta;
+				for (int node = (position + size) >> 1; node > 0; node >>= 1) {
+					tree[node] = better(tree[node << 1], tree[node << 1 | 1]);
+				}
+				return;
+			}
+			for (int i = 0; i < pendingTexts.size(); i++) {
+				if (pendingPayloads[i] == payload) {
+					pendingWeights[i] += delta;
+					return;
+				}
+			}
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	/**
+	 * 정규화한 키가 정확히 일치하는 항목의 payload
+	 * @return 없으면 -1
+	 */
+	public int find(String text) {
+		String key = HangulUtil.normalize(text);
+		if (key.isEmpty()) {
+			return -1;
+		}
+		lock.readLock().lock();
+		try {
+			for (int position = lowerBound(key); position < size && compare(position, key) == 0; position++) {
+				if (keyLength(position) == key.length()) {
+					return payloads[position];
+				}
+			}
+			int pending = pendingKeys.indexOf(key);
+			return pending < 0 ? -1 : pendingPayloads[pending];
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 접두사가 일치하는 항목 중 가중치 상위 limit개 (가중치가 같으면 키 순)
+	 */
+	public List<Suggestion> suggest(CharSequence prefix, int limit) {
+		String key = HangulUtil.normalize(prefix);
+		if (key.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+		lock.readLock().lock();
+		try {
+			List<Suggestion> result = new ArrayList<>(limit);
+			int from = lowerBound(key);
+			int to = upperBound(key, from);
+			if (from < to) {
+				// 원소: {구간 시작, 구간 끝, 구간 최댓값 위치}
+				PriorityQueue<int[]> ranges = new PriorityQueue<>(
+					(a, b) -> a[2] == b[2] ? 0 : better(a[2], b[2]) == a[2] ? -1 : 1);
+				ranges.add(new int[] {from, to, argmax(from, to)});
+				while (!ranges.isEmpty() && result.size() < limit) {
+					int[] range = ranges.poll();
+					int best = range[2];
+					result.add(new Suggestion(text(best), payloads[best], weights[best]));
+					if (range[0] < best) {
+						ranges.add(new int[] {range[0], best, argmax(range[0], best)});
+					}
+					if (best + 1 < range[1]) {
+						ranges.add(new int[] {best + 1, range[1], argmax(best + 1, range[1])});
+					}
+				}
+			}
+			for (int i = 0; i < pendingKeys.size(); i++) {
+				if (pendingKeys.get(i).startsWith(key)) {
+					result.add(new Suggestion(pendingTexts.get(i), pendingPayloads[i], pendingWeights[i]));
+				}
+			}
+			if (!pendingKeys.isEmpty()) {
+				result.sort(Comparator.comparingInt(Suggestion::getWeight).reversed());
+				if (result.size() > limit) {
+					return new ArrayList<>(result.subList(0, limit));
+				}
+			}
+			return result;
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return size + pendingTexts.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	// 대기 목록을 정렬한 뒤 정렬 배열과 한 번에 병합
+	private void merge() {
+		int pendingCount = pendingTexts.size();
+		Integer[] order = new Integer[pendingCount];
+		for (int i = 0; i < pendingCount; i++) {
+			order[i] = i;
+		}
+		Arrays.sort(order, Comparator.comparing(pendingKeys::get));
+
+		int total = size + pendingCount;
+		int pendingChars = 0;
+		for (String text : pendingTexts) {
+			pendingChars += text.length();
+		}
+		char[] mergedTexts = new char[texts.length + pendingChars];
+		int[] mergedOffsets = new int[total + 1];
+		int[] mergedPayloads = new int[total];
+		int[] mergedWeights = new int[total];
+
+		int i = 0;
+		int j = 0;
+		int charCount = 0;
+		for (int k = 0; k < total; k++) {
+			boolean takeExisting = j == pendingCount
+				|| i < size && compare(i, pendingKeys.get(order[j])) < 0;
+			if (takeExisting) {
+				int length = offsets[i + 1] - offsets[i];
+				System.arraycopy(texts, offsets[i], mergedTexts, charCount, length);
+				charCount += length;
+				mergedPayloads[k] = payloads[i];
+				mergedWeights[k] = weights[i];
+				i++;
+			} else {
+				String text = pendingTexts.get(order[j]);
+				text.getChars(0, text.length(), mergedTexts, charCount);
+				charCount += text.length();
+				mergedPayloads[k] = pendingPayloads[order[j]];
+				mergedWeights[k] = pendingWeights[order[j]];
+				j++;
+			}
+			mergedOffsets[k + 1] = charCount;
+		}
+
+		texts = mergedTexts;
+		offsets = mergedOffsets;
+		payloads = mergedPayloads;
+		weights = mergedWeights;
+		size = total;
+		pendingTexts.clear();
+		pendingKeys.clear();
+		pendingPayloads = new int[MERGE_THRESHOLD];
+		pendingWeights = new int[MERGE_THRESHOLD];
+		buildTree();
+	}
+
+	private void buildTree() {
+		tree = new int[size * 2];
+		for (int i = 0; i < size; i++) {
+			tree[size + i] = i;
+		}
+		for (int node = size - 1; node > 0; node--) {
+			tree[node] = better(tree[node << 1], tree[node << 1 | 1]);
+		}
+
+		int maxPayload = -1;
+		for (int i = 0; i < size; i++) {
+			maxPayload = Math.max(maxPayload, payloads[i]);
+		}
+		positionByPayload = new int[maxPayload + 1];
+		Arrays.fill(positionByPayload, -1);
+		for (int i = 0; i < size; i++) {
+			positionByPayload[payloads[i]] = i;
+		}
+	}
+
+	// [from, to) 구간에서 가중치가 가장 큰 위치
+	private int argmax(int from, int to) {
+		int best = from;
+		for (int l = from + size, r = to + size; l < r; l >>= 1, r >>= 1) {
+			if ((l & 1) == 1) {
+				best = better(best, tree[l++]);
+			}
+			if ((r & 1) == 1) {
+				best = better(best, tree[--r]);
+			}
+		}
+		return best;
+	}
+
+	private int better(int a, int b) {
+		if (weights[a] != weights[b]) {
+			return weights[a] > weights[b] ? a : b;
+		}
+		return Math.min(a, b);
+	}
+
+	// 키가 접두사 이상인 첫 위치
+	private int lowerBound(String key) {
+		int low = 0;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (compare(mid, key) < 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	// 접두사로 시작하는 구간의 끝
+	private int upperBound(String key, int from) {
+		int low = from;
+		int high = size;
+		while (low < high) {
+			int mid = (low + high) >>> 1;
+			if (compare(mid, key) <= 0) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+		return low;
+	}
+
+	/**
+	 * 위치의 정규화 키와 접두사 비교
+	 * @return 키가 접두사로 시작하면 0, 그 외에는 사전 순 비교 결과
+	 */
+	private int compare(int position, String prefix) {
+		int k = 0;
+		for (int c = offsets[position]; c < offsets[position + 1] && k < prefix.length(); c++) {
+			char ch = texts[c];
+			if (!Character.isLetterOrDigit(ch)) {
+				continue;
+			}
+			ch = Character.toLowerCase(ch);
+			char expected = prefix.charAt(k++);
+			if (ch != expected) {
+				return ch < expected ? -1 : 1;
+			}
+		}
+		return k == prefix.length() ? 0 : -1;
+	}
+
+	private int keyLength(int position) {
+		int length = 0;
+		for (int c = offsets[position]; c < offsets[position + 1]; c++) {
+			if (Character.isLetterOrDigit(texts[c])) {
+				length++;
+			}
+		}
+		return length;
+	}
+
+	private String text(int position) {
+		return new String(texts, offsets[position], offsets[position + 1] - offsets[position]);
+	}
+
+	public static class Suggestion {
+		private final String text;
+		private final int payload;
+		private final int weight;
+
+		public Suggestion(String text, int payload, int weight) {
+			this.text = text;
+			this.payload = payload;
+			this.weight = weight;
+		}
+
+		public String getText() {
+			return text;
+		}
+
+		public int getPayload() {
+			return payload;
+		}
+
+		public int getWeight() {
+			return weight;
+		}
+	}
+}
@@ -0,0 +1,21 @@
+-- 도서 검색용 MySQL ngram FULLTEXT 인덱스 (bookiki.search.fulltext.enabled=true일 때 필요)
+-- 애플리케이션은 시작 시 인덱스가 있는지만 확인하고, 하나라도 없으면 LIKE 조회를 사용함
+-- 인덱스를 만드는 동안 book_informations 쓰기가 막히므로 사용량이 적은 시간에 한 번 실행
+-- (InnoDB는 FULLTEXT 인덱스를 한 문장에 하나씩만 만들 수 있고, 첫 인덱스는 테이블을 다시 만듦)
+-- MATCH의 컬럼 목록은 인덱스의 컬럼 목록과 같아야 하므로 컬럼을 바꾸면 BookInformationFulltextRepository도 함께 바꿔야 함
+
+ALTER TABLE book_informations ADD FULLTEXT INDEX ft_book_info_title (title) WITH PARSER ngram;
+ALTER TABLE book_informations ADD FULLTEXT INDEX ft_book_info_author (author) WITH PARSER ngram;
+ALTER TABLE book_informations ADD FULLTEXT INDEX ft_book_info_publisher (publisher) WITH PARSER ngram;
+ALTER TABLE book_informations ADD FULLTEXT INDEX ft_book_info_title_description (title, description) WITH PARSER ngram;
+ALTER TABLE book_informations ADD FULLTEXT INDEX ft_book_info_title_author (title, author) WITH PARSER ngram;
+ALTER TABLE book_informations ADD FULLTEXT INDEX ft_book_info_title_author_publisher (title, author, publisher) WITH PARSER ngram;
+
+-- 되돌리기
+-- ALTER TABLE book_informations
+--     DROP INDEX ft_book_info_title,
+--     DROP INDEX ft_book_info_author,
+--     DROP INDEX ft_book_info_publisher,
+--     DROP INDEX ft_book_info_title_description,
+--     DROP INDEX ft_book_info_title_author,
+--     DROP INDEX ft_book_info_title_author_publisher;
@@ -0,0 +1,500 @@
+package com.corp.bookiki.benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Random;
+import java.util.Set;
+
+import javax.sql.DataSource;
+
+import com.corp.bookiki.bookinformation.entity.Category;
+
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 벤치마크용 도서/대출 데이터 합성기
+ * users, book_informations, book_items, book_histories, favorites, notifications를 지정한 규모로 채움
+ * 대출/관심 도서는 Zipf 분포(소수의 인기 도서에 몰림), 사용자 활동도 Zipf 분포를 따르며 제목/저자/출판사는 한글로 만듦
+ * JPA를 거치지 않고 JDBC 배치 INSERT로 넣고, ID를 직접 지정하므로 생성된 ID를 다시 조회하지 않음 (H2, MySQL 모두 지원)
+ * MySQL은 URL에 rewriteBatchedStatements=true가 있어야 배치가 다중 행 INSERT로 바뀜 (없으면 connect에서 붙임)
+ */
+@Slf4j
+public class CatalogDataGenerator {
+
+	// 한 번에 보내는 배치 크기
+	private static final int BATCH_SIZE = 5_000;
+
+	// 대출 기간 (일), 넘기면 연체로 기록
+	private static final int LOAN_DAYS = 14;
+
+	private static final String[] TITLE_WORDS = {
+		"자바", "스프링", "정석", "클린", "코드", "데이터", "설계", "알고리즘", "파이썬", "운영체제",
+		"네트워크", "객체지향", "대규모", "시스템", "입문", "완벽", "가이드", "실전", "프로그래밍", "개발",
+		"웹", "서비스", "테스트", "리팩터링", "모던", "함수형", "도메인", "아키텍처", "보안", "클라우드",
+		"역사", "철학", "심리학", "경제", "사회", "과학", "우주", "여행", "요리", "소설",
+		"시", "에세이", "한국", "세계", "미술", "음악", "건강", "마음", "습관", "리더십"
+	};
+	private static final String[] TITLE_SUFFIXES = {"", "", "", " 이야기", " 첫걸음", " 교과서", " 바이블", " 노트", " 수업", " 강의"};
+	private static final String[] SURNAMES = {"김", "이", "박", "최", "정", "강", "조", "윤", "장", "임", "한", "오", "서", "신", "권"};
+	private static final String[] NAME_SYLLABLES = {
+		"민", "서", "지", "현", "준", "우", "예", "하", "도", "윤", "수", "연", "진", "영", "호", "은", "성", "재", "유", "아"
+	};
+	private static final String[] PUBLISHER_WORDS = {
+		"한빛", "길벗", "위키", "인사이트", "도우", "책만", "비제이", "영진", "생능", "에이콘",
+		"민음", "문학", "창비", "김영", "열린", "푸른", "새봄", "별빛", "하늘", "바다"
+	};
+	private static final String[] PUBLISHER_SUFFIXES = {"출판", "미디어", "북스", "사", "출판사"};
+	private static final Category[] CATEGORIES = Category.values();
+	private static final String[] NOTIFICATION_TYPES = {"반납 기한", "연체 알림", "관심 도서 대출 가능", "문의사항 답변 등록"};
+
+	private final DataSource dataSource;
+	private final Scale scale;
+	private final Random random;
+	private final LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS);
+
+	public CatalogDataGenerator(DataSource dataSource, Scale scale) {
+		this.dataSource = dataSource;
+		this.scale = scale;
+		this.random = new Random(scale.getSeed());
+	}
+
+	/**
+	 * 합성 규모 (기본값은 로컬에서 수 초 안에 끝나는 크기)
+	 */
+	@Getter
+	@Builder
+	public static class Scale {
+		@Builder.Default
+		private final int users = 1_000;
+		@Builder.Default
+		private final int bookInformations = 20_000;
+		// 도서 정보당 최대 보유 권수 (1 ~ 이 값)
+		@Builder.Default
+		private final int maxCopies = 3;
+		@Builder.Default
+		private final int histories = 200_000;
+		@Builder.Default
+		private final int favorites = 20_000;
+		@Builder.Default
+		private final int notifications = 50_000;
+		// 대출 기록을 펼칠 기간 (오늘 이전 일 수)
+		@Builder.Default
+		private final int days = 365;
+		// 현재 대출 중인 도서 비율
+		@Builder.Default
+		private final double borrowedRatio = 0.05;
+		// 인기 분포 지수 (클수록 소수 도서에 몰림)
+		@Builder.Default
+		private final double zipfExponent = 1.0;
+		@Builder.Default
+		private final long seed = 42L;
+
+		/**
+		 * bookiki.seed.* 시스템 프로퍼티로 만든 규모
+		 */
+		public static Scale fromSystemProperties() {
+			return Scale.builder()
+				.users(Integer.getInteger("bookiki.seed.users", 1_000))
+				.bookInformations(Integer.getInteger("bookiki.seed.books", 20_000))
+				.maxCopies(Integer.getInteger("bookiki.seed.max-copies", 3))
+				.histories(Integer.getInteger("bookiki.seed.histories", 200_000))
+				.favorites(Integer.getInteger("bookiki.seed.favorites", 20_000))
+				.notifications(Integer.getInteger("bookiki.seed.notifications", 50_000))
+				.days(Integer.getInteger("bookiki.seed.days", 365))
+				.borrowedRatio(Double.parseDouble(System.getProperty("bookiki.seed.borrowed-ratio", "0.05")))
+				.zipfExponent(Double.parseDouble(System.getProperty("bookiki.seed.zipf", "1.0")))
+				.seed(Long.getLong("bookiki.seed.seed", 42L))
+				.build();
+		}
+	}
+
+	/**
+	 * 생성 결과 (각 테이블의 첫 ID와 개수, 테이블별 소요 시간)
+	 */
+	@Getter
+	public static class Result {
+		private int firstUserId;
+		private int firstBookInformationId;
+		private int firstBookItemId;
+		private int bookItemCount;
+		private int historyCount;
+		private int favoriteCount;
+		private int notificationCount;
+		private long elapsedMillis;
+		// 인기 순위 -> 도서 정보 번호 (0부터), 벤치마크에서 인기 도서를 고를 때 사용
+		private int[] popularityOrder;
+	}
+
+	public Result generate() throws SQLException {
+		long startedAt = System.currentTimeMillis();
+		Result result = new Result();
+		try (Connection connection = dataSource.getConnection()) {
+			boolean autoCommit = connection.getAutoCommit();
+			connection.setAutoCommit(false);
+			try {
+				boolean h2 = connection.getMetaData().getDatabaseProductName().toLowerCase().contains("h2");
+
+				result.firstUserId = nextId(connection, "users");
+				result.firstBookInformationId = nextId(connection, "book_informations");
+				result.firstBookItemId = nextId(connection, "book_items");
+
+				timed("users", scale.getUsers(), () -> insertUsers(connection, result.firstUserId));
+				timed("book_informations", scale.getBookInformations(),
+					() -> insertBookInformations(connection, result.firstBookInformationId));
+
+				// 도서 정보 번호 -> 첫 도서 아이템 번호 (마지막 칸은 전체 권수)
+				int[] firstCopy = new int[scale.getBookInformations() + 1];
+				for (int book = 0; book < scale.getBookInformations(); book++) {
+					firstCopy[book + 1] = firstCopy[book] + 1 + random.nextInt(Math.max(scale.getMaxCopies(), 1));
+				}
+				result.bookItemCount = firstCopy[scale.getBookInformations()];
+
+				// 인기 순위는 도서 정보 번호와 무관하게 섞음 (ID가 작을수록 인기가 많아지지 않도록)
+				result.popularityOrder = shuffledRange(scale.getBookInformations());
+				ZipfSampler bookSampler = new ZipfSampler(scale.getBookInformations(), scale.getZipfExponent());
+				ZipfSampler userSampler = new ZipfSampler(scale.getUsers(), scale.getZipfExponent() * 0.8);
+				int[] userOrder = shuffledRange(scale.getUsers());
+
+				boolean[] borrowed = new boolean[result.bookItemCount];
+				for (int item = 0; item < borrowed.length; item++) {
+					borrowed[item] = random.nextDouble() < scale.getBorrowedRatio();
+				}
+
+				timed("book_items", result.bookItemCount,
+					() -> insertBookItems(connection, result.firstBookInformationId, result.firstBookItemId, firstCopy,
+						borrowed));
+				timed("book_histories", scale.getHistories(),
+					() -> result.historyCount = insertHistories(connection, result, firstCopy, borrowed, bookSampler,
+						userSampler, userOrder));
+				timed("favorites", scale.getFavorites(),
+					() -> result.favoriteCount = insertFavorites(connection, result, firstCopy, bookSampler, userSampler,
+						userOrder));
+				timed("notifications", scale.getNotifications(),
+					() -> result.notificationCount = insertNotifications(connection, result.firstUserId, userSampler,
+						userOrder));
+
+				// H2는 ID를 직접 넣어도 IDENTITY 시퀀스가 따라오지 않으므로 다음 값을 맞춤 (MySQL은 AUTO_INCREMENT가 자동으로 올라감)
+				if (h2) {
+					for (String table : new String[] {"users", "book_informations", "book_items", "book_histories",
+						"favorites", "notifications"}) {
+						restartIdentity(connection, table);
+					}
+				}
+				connection.commit();
+			} catch (SQLException | RuntimeException e) {
+				connection.rollback();
+				throw e;
+			} finally {
+				connection.setAutoCommit(autoCommit);
+			}
+		}
+		result.elapsedMillis = System.currentTimeMillis() - startedAt;
+		log.info("합성 데이터 생성 완료 - 사용자 {}, 도서 정보 {}, 도서 {}, 대출 기록 {}, 관심 도서 {}, 알림 {}, {}ms",
+			scale.getUsers(), scale.getBookInformations(), result.bookItemCount, result.historyCount,
+			result.favoriteCount, result.notificationCount, result.elapsedMillis);
+		return result;
+	}
+
+	private void insertUsers(Connection connection, int firstId) throws SQLException {
+		Timestamp createdAt = Timestamp.valueOf(now.minusDays(scale.getDays()));
+		try (Batch batch = new Batch(connection, """
+			INSERT INTO users (id, email, password, user_name, company_id, role, created_at, updated_at, active_at,
+			provider, deleted) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)""")) {
+			PreparedStatement statement = batch.statement;
+			for (int user = 0; user < scale.getUsers(); user++) {
+				int id = firstId + user;
+				statement.setInt(1, id);
+				statement.setString(2, "seed" + id + "@bookiki.test");
+				// 로그인에 쓰지 않는 값 (BCrypt 형식만 맞춤)
+				statement.setString(3, "$2a$10$seedseedseedseedseedseOq3Xr8m1l0c7G3pK5v8Y2uQf9Zs6Hh4a");
+				statement.setString(4, randomName());
+				statement.setString(5, "SEED" + id);
+				statement.setString(6, "USER");
+				statement.setTimestamp(7, createdAt);
+				statement.setTimestamp(8, createdAt);
+				statement.setTimestamp(9, createdAt);
+				statement.setString(10, "BOOKIKI");
+				statement.setBoolean(11, false);
+				batch.add();
+			}
+		}
+	}
+
+	private void insertBookInformations(Connection connection, int firstId) throws SQLException {
+		String[] publishers = new String[Math.max(scale.getBookInformations() / 100, 20)];
+		for (int i = 0; i < publishers.length; i++) {
+			publishers[i] = PUBLISHER_WORDS[i % PUBLISHER_WORDS.length]
+				+ PUBLISHER_SUFFIXES[(i / PUBLISHER_WORDS.length) % PUBLISHER_SUFFIXES.length]
+				+ (i < PUBLISHER_WORDS.length * PUBLISHER_SUFFIXES.length ? "" : String.valueOf(i));
+		}
+		// 출판사도 일부 대형 출판사에 몰림
+		ZipfSampler publisherSampler = new ZipfSampler(publishers.length, 1.0);
+		String[] authors = new String[Math.max(scale.getBookInformations() / 3, 1)];
+		for (int i = 0; i < authors.length; i++) {
+			authors[i] = randomName();
+		}
+
+		try (Batch batch = new Batch(connection, """
+			INSERT INTO book_informations (id, title, author, publisher, isbn, published_at, description, category)
+			VALUES (?, ?, ?, ?, ?, ?, ?, ?)""")) {
+			PreparedStatement statement = batch.statement;
+			for (int book = 0; book < scale.getBookInformations(); book++) {
+				int id = firstId + book;
+				String title = randomTitle();
+				statement.setInt(1, id);
+				statement.setString(2, title);
+				statement.setString(3, authors[random.nextInt(authors.length)]);
+				statement.setString(4, publishers[publisherSampler.next(random)]);
+				statement.setString(5, String.format("979%010d", id));
+				statement.setTimestamp(6, Timestamp.valueOf(now.minusDays(random.nextInt(3_650))));
+				statement.setString(7, title + "에 대한 " + TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " "
+					+ TITLE_WORDS[random.nextInt(TITLE_WORDS.length)] + " 소개");
+				// 약 5%는 아직 분류되지 않은 도서
+				if (random.nextInt(20) == 0) {
+					statement.setNull(8, Types.INTEGER);
+				} else {
+					Category category = CATEGORIES[random.nextInt(CATEGORIES.length)];
+					statement.setInt(8, category.getCode());
+				}
+				batch.add();
+			}
+		}
+	}
+
+	private void insertBookItems(Connection connection, int firstInformationId, int firstItemId, int[] firstCopy,
+		boolean[] borrowed) throws SQLException {
+		Timestamp purchasedAt = Timestamp.valueOf(now.minusDays(scale.getDays() + 1L));
+		try (Batch batch = new Batch(connection, """
+			INSERT INTO book_items (id, book_information_id, purchase_at, status_type, updated_at, deleted)
+			VALUES (?, ?, ?, ?, ?, ?)""")) {
+			PreparedStatement statement = batch.statement;
+			for (int book = 0; book < scale.getBookInformations(); book++) {
+				for (int item = firstCopy[book]; item < firstCopy[book + 1]; item++) {
+					statement.setInt(1, firstItemId + item);
+					statement.setInt(2, firstInformationId + book);
+					statement.setTimestamp(3, purchasedAt);
+					statement.setString(4, borrowed[item] ? "BORROWED" : "AVAILABLE");
+					statement.setTimestamp(5, purchasedAt);
+					statement.setBoolean(6, false);
+					batch.add();
+				}
+			}
+		}
+	}
+
+	/**
+	 * 반납된 대출 기록은 대출 시각 순으로 기간 전체에 고르게 펼치고, 도서는 Zipf 분포로 고름
+	 * 대출 중인 도서는 최근 대출 기간 안에 반납되지 않은 기록을 하나씩 더함 (같은 도서의 열린 기록은 하나뿐)
+	 */
+	private int insertHistories(Connection connection, Result result, int[] firstCopy, boolean[] borrowed,
+		ZipfSampler bookSampler, ZipfSampler userSampler, int[] userOrder) throws SQLException {
+		long spanSeconds = (scale.getDays() - 1L) * 24 * 60 * 60;
+		LocalDateTime start = now.minusDays(scale.getDays());
+		int count = 0;
+		try (Batch batch = new Batch(connection, """
+			INSERT INTO book_histories (book_item_id, user_id, borrowed_at, returned_at, overdue)
+			VALUES (?, ?, ?, ?, ?)""")) {
+			PreparedStatement statement = batch.statement;
+			for (int i = 0; i < scale.getHistories(); i++) {
+				int book = result.popularityOrder[bookSampler.next(random)];
+				int item = firstCopy[book] + random.nextInt(firstCopy[book + 1] - firstCopy[book]);
+				LocalDateTime borrowedAt = start.plusSeconds(spanSeconds * i / Math.max(scale.getHistories(), 1));
+				// 대부분 기한 안에 반납하고 일부는 연체
+				int loanDays = random.nextInt(10) == 0 ? LOAN_DAYS + 1 + random.nextInt(14) : 1 + random.nextInt(LOAN_DAYS);
+				statement.setInt(1, result.firstBookItemId + item);
+				statement.setInt(2, result.firstUserId + userOrder[userSampler.next(random)]);
+				statement.setTimestamp(3, Timestamp.valueOf(borrowedAt));
+				statement.setTimestamp(4, Timestamp.valueOf(borrowedAt.plusDays(loanDays).plusSeconds(random.nextInt(3_600))));
+				statement.setBoolean(5, loanDays > LOAN_DAYS);
+				batch.add();
+				count++;
+			}
+			for (int item = 0; item < borrowed.length; item++) {
+				if (!borrowed[item]) {
+					continue;
+				}
+				statement.setInt(1, result.firstBookItemId + item);
+				statement.setInt(2, result.firstUserId + userOrder[userSampler.next(random)]);
+				statement.setTimestamp(3, Timestamp.valueOf(now.minusMinutes(random.nextInt(LOAN_DAYS * 24 * 60))));
+				statement.setNull(4, Types.TIMESTAMP);
+				statement.setBoolean(5, false);
+				batch.add();
+				count++;
+			}
+		}
+		return count;
+	}
+
+	// (사용자, 도서) 쌍이 겹치지 않도록 걸러내며, 인기 도서가 자주 뽑힘
+	private int insertFavorites(Connection connection, Result result, int[] firstCopy, ZipfSampler bookSampler,
+		ZipfSampler userSampler, int[] userOrder) throws SQLException {
+		int target = (int) Math.min(scale.getFavorites(), (long) scale.getUsers() * result.bookItemCount);
+		Set<Long> pairs = new HashSet<>(target * 2);
+		int attempts = 0;
+		try (Batch batch = new Batch(connection, """
+			INSERT INTO favorites (user_id, book_item_id, created_at) VALUES (?, ?, ?)""")) {
+			PreparedStatement statement = batch.statement;
+			while (pairs.size() < target && attempts++ < target * 10) {
+				int user = userOrder[userSampler.next(random)];
+				int book = result.popularityOrder[bookSampler.next(random)];
+				int item = firstCopy[book] + random.nextInt(firstCopy[book + 1] - firstCopy[book]);
+				if (!pairs.add((long) user * result.bookItemCount + item)) {
+					continue;
+				}
+				statement.setInt(1, result.firstUserId + user);
+				statement.setInt(2, result.firstBookItemId + item);
+				statement.setTimestamp(3, Timestamp.valueOf(now.minusMinutes(random.nextInt(scale.getDays() * 24 * 60))));
+				batch.add();
+			}
+		}
+		return pairs.size();
+	}
+
+	private int insertNotifications(Connection connection, int firstUserId, ZipfSampler userSampler, int[] userOrder)
+		throws SQLException {
+		long spanSeconds = (long) scale.getDays() * 24 * 60 * 60;
+		LocalDateTime start = now.minusDays(scale.getDays());
+		try (Batch batch = new Batch(connection, """
+			INSERT INTO notifications (user_id, content, notification_type, notification_status, created_at)
+			VALUES (?, ?, ?, ?, ?)""")) {
+			PreparedStatement statement = batch.statement;
+			for (int i = 0; i < scale.getNotifications(); i++) {
+				LocalDateTime createdAt = start.plusSeconds(spanSeconds * i / Math.max(scale.getNotifications(), 1));
+				String type = NOTIFICATION_TYPES[random.nextInt(NOTIFICATION_TYPES.length)];
+				statement.setInt(1, firstUserId + userOrder[userSampler.next(random)]);
+				statement.setString(2, randomTitle() + " - " + type);
+				statement.setString(3, type);
+				// 오래된 알림일수록 읽은 상태
+				statement.setString(4, random.nextInt(scale.getNotifications()) < i ? "UNREAD" : "READ");
+				statement.setTimestamp(5, Timestamp.valueOf(createdAt));
+				batch.add();
+			}
+		}
+		return scale.getNotifications();
+	}
+
+	private String randomTitle() {
+		int wordCount = 1 + random.nextInt(3);
+		StringBuilder title = new StringBuilder();
+		for (int i = 0; i < wordCount; i++) {
+			if (i > 0) {
+				title.append(' ');
+			}
+			title.append(TITLE_WORDS[random.nextInt(TITLE_WORDS.length)]);
+		}
+		return title.append(TITLE_SUFFIXES[random.nextInt(TITLE_SUFFIXES.length)]).toString();
+	}
+
+	private String randomName() {
+		return SURNAMES[random.nextInt(SURNAMES.length)]
+			+ NAME_SYLLABLES[random.nextInt(NAME_SYLLABLES.length)]
+			+ NAME_SYLLABLES[random.nextInt(NAME_SYLLABLES.length)];
+	}
+
+	private int[] shuffledRange(int size) {
+		int[] values = new int[size];
+		for (int i = 0; i < size; i++) {
+			values[i] = i;
+		}
+		for (int i = size - 1; i > 0; i--) {
+			int j = random.nextInt(i + 1);
+			int temp = values[i];
+			values[i] = values[j];
+			values[j] = temp;
+		}
+		return values;
+	}
+
+	private static int nextId(Connection connection, String table) throws SQLException {
+		try (Statement statement = connection.createStatement();
+			 ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM " + table)) {
+			resultSet.next();
+			return resultSet.getInt(1);
+		}
+	}
+
+	private static void restartIdentity(Connection connection, String table) throws SQLException {
+		int next = nextId(connection, table);
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + next);
+		}
+	}
+
+	private void timed(String table, int rows, SqlAction action) throws SQLException {
+		long startedAt = System.currentTimeMillis();
+		action.run();
+		long elapsed = Math.max(System.currentTimeMillis() - startedAt, 1);
+		log.info("{} {}건 - {}ms ({} rows/s)", table, rows, elapsed, rows * 1000L / elapsed);
+	}
+
+	@FunctionalInterface
+	private interface SqlAction {
+		void run() throws SQLException;
+	}
+
+	// BATCH_SIZE마다 보내고, 닫을 때 남은 행을 보냄
+	private static class Batch implements AutoCloseable {
+		private final PreparedStatement statement;
+		private int pending;
+
+		private Batch(Connection connection, String sql) throws SQLException {
+			this.statement = connection.prepareStatement(sql);
+		}
+
+		private void add() throws SQLException {
+			statement.addBatch();
+			if (++pending == BATCH_SIZE) {
+				statement.executeBatch();
+				pending = 0;
+			}
+		}
+
+		@Override
+		public void close() throws SQLException {
+			try {
+				if (pending > 0) {
+					statement.executeBatch();
+				}
+			} finally {
+				statement.close();
+			}
+		}
+	}
+
+	/**
+	 * Zipf 분포 표본 (순위 0이 가장 자주 뽑힘)
+	 * 누적 분포를 미리 계산해 두고 이진 탐색으로 뽑음 (표본 하나에 O(log n))
+	 */
+	static class ZipfSampler {
+		private final double[] cumulative;
+
+		ZipfSampler(int size, double exponent) {
+			cumulative = new double[Math.max(size, 1)];
+			double sum = 0;
+			for (int rank = 0; rank < cumulative.length; rank++) {
+				sum += 1 / Math.pow(rank + 1, exponent);
+				cumulative[rank] = sum;
+			}
+			for (int rank = 0; rank < cumulative.length; rank++) {
+				cumulative[rank] /= sum;
+			}
+		}
+
+		int next(Random random) {
+			int index = Arrays.binarySearch(cumulative, random.nextDouble());
+			int rank = index >= 0 ? index : -index - 1;
+			return Math.min(rank, cumulative.length - 1);
+		}
+	}
+}
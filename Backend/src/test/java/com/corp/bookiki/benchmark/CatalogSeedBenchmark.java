@@ -0,0 +1,90 @@
+package com.corp.bookiki.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.sql.SQLException;
+
+import javax.sql.DataSource;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 합성 데이터 적재 (기본은 테스트용 H2, bookiki.seed.url을 주면 해당 DB)
+ * 기본 test 작업에서는 제외되며 ./gradlew seedData 로 실행
+ *
+ * 시스템 프로퍼티 (bookiki.seed.*)
+ * - users / books / max-copies / histories / favorites / notifications: 생성할 행 수
+ * - days / borrowed-ratio / zipf / seed: 분포 조건
+ * - url / username / password: 적재할 DB (MySQL은 스키마가 이미 만들어져 있어야 함)
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest(properties = {
+	"spring.jpa.show-sql=false",
+	"logging.level.com.corp.bookiki=INFO",
+	"logging.level.org.hibernate.SQL=WARN",
+	"logging.level.org.hibernate.type.descriptor.sql=WARN"
+})
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class CatalogSeedBenchmark {
+
+	@Autowired
+	private DataSource dataSource;
+
+	@Test
+	@DisplayName("합성 데이터 적재 시간 측정")
+	void seed() throws SQLException {
+		CatalogDataGenerator.Scale scale = CatalogDataGenerator.Scale.fromSystemProperties();
+		DataSource target = targetDataSource();
+
+		CatalogDataGenerator.Result result = new CatalogDataGenerator(target, scale).generate();
+
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(target);
+		long histories = jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM book_histories WHERE user_id >= ?", Long.class, result.getFirstUserId());
+		long openHistories = jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM book_histories WHERE user_id >= ? AND returned_at IS NULL", Long.class,
+			result.getFirstUserId());
+		long borrowedItems = jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM book_items WHERE id >= ? AND status_type = 'BORROWED'", Long.class,
+			result.getFirstBookItemId());
+		long rows = scale.getUsers() + scale.getBookInformations() + result.getBookItemCount()
+			+ result.getHistoryCount() + result.getFavoriteCount() + result.getNotificationCount();
+
+		log.info("=== 합성 데이터 적재 결과 ===");
+		log.info("대출 기록 {}건 (대출 중 {}건), 대출 중 도서 {}권", histories, openHistories, borrowedItems);
+		log.info("전체 {}행, {}ms ({} rows/s)", rows, result.getElapsedMillis(),
+			rows * 1000L / Math.max(result.getElapsedMillis(), 1));
+
+		assertThat(histories).isEqualTo(result.getHistoryCount());
+		assertThat(openHistories).isEqualTo(borrowedItems);
+		// ID를 직접 넣은 뒤에도 자동 생성 ID로 새 행을 넣을 수 있어야 함
+		jdbcTemplate.update("INSERT INTO notifications (user_id, content, notification_type, notification_status, "
+			+ "created_at) VALUES (?, '적재 확인', '반납 기한', 'UNREAD', CURRENT_TIMESTAMP)", result.getFirstUserId());
+	}
+
+	private DataSource targetDataSource() {
+		String url = System.getProperty("bookiki.seed.url");
+		if (url == null || url.isBlank()) {
+			return dataSource;
+		}
+		// MySQL 드라이버는 이 옵션이 있어야 배치를 다중 행 INSERT로 보냄
+		if (url.startsWith("jdbc:mysql") && !url.contains("rewriteBatchedStatements")) {
+			url += (url.contains("?") ? "&" : "?") + "rewriteBatchedStatements=true";
+		}
+		return new DriverManagerDataSource(url, System.getProperty("bookiki.seed.username", "root"),
+			System.getProperty("bookiki.seed.password", ""));
+	}
+}
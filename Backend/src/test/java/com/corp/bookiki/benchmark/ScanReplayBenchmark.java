@@ -0,0 +1,285 @@
+package com.corp.bookiki.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.corp.bookiki.bookhistory.dto.BookReturnRequest;
+import com.corp.bookiki.bookhistory.repository.ScanStateRedisRepository;
+import com.corp.bookiki.bookhistory.service.BookReturnService;
+import com.corp.bookiki.bookhistory.service.MisplacedBookIndex;
+import com.corp.bookiki.bookhistory.service.ScanStateStore;
+import com.corp.bookiki.bookinformation.service.BookTitleMatcher;
+import com.corp.bookiki.bookitem.service.BookCategoryMap;
+import com.corp.bookiki.bookitem.service.BookStatusBitmap;
+import com.corp.bookiki.global.lock.RedisLock;
+import com.corp.bookiki.notice.service.NoticeService;
+import com.corp.bookiki.notification.service.NotificationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 스캔 반납 파이프라인 부하 측정 (H2)
+ * 기본 test 작업에서는 제외되며 ./gradlew scanReplay 로 실행
+ *
+ * 시스템 프로퍼티 (bookiki.replay.*)
+ * - input: 기록된 스캔 요청 파일 (JSON Lines, bookiki.scan.record.path로 기록), 없으면 합성
+ * - output: 합성한 스캔 요청을 저장할 파일
+ * - shelves / books-per-shelf / churn / scans / seed: 합성 조건
+ * - rate: 초당 스캔 수 (0이면 최대 속도)
+ * - warmup: 측정에서 제외할 앞쪽 스캔 수
+ */
+@Slf4j
+@Tag("benchmark")
+@DataJpaTest(properties = {
+	"spring.jpa.show-sql=false",
+	"spring.jpa.properties.hibernate.generate_statistics=true",
+	"logging.level.com.corp.bookiki=INFO",
+	"logging.level.org.hibernate.SQL=WARN",
+	"logging.level.org.hibernate.type.descriptor.sql=WARN",
+	"logging.level.org.hibernate.stat=WARN",
+	"logging.level.org.springframework.transaction=WARN"
+})
+@ActiveProfiles("test")
+@Import({BookReturnService.class, ScanStateStore.class, BookTitleMatcher.class, BookStatusBitmap.class,
+	MisplacedBookIndex.class, BookCategoryMap.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ScanReplayBenchmark {
+
+	private static final String STATION_ID = "replay";
+
+	@Autowired
+	private BookReturnService bookReturnService;
+
+	@Autowired
+	private BookTitleMatcher bookTitleMatcher;
+
+	@Autowired
+	private BookStatusBitmap bookStatusBitmap;
+
+	@Autowired
+	private BookCategoryMap bookCategoryMap;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@MockBean
+	private NotificationService notificationService;
+
+	@MockBean
+	private NoticeService noticeService;
+
+	@MockBean
+	private ScanStateRedisRepository scanStateRedisRepository;
+
+	@MockBean
+	private RedisLock redisLock;
+
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Test
+	@DisplayName("스캔 요청 재생 부하 측정")
+	void replay() throws IOException {
+		int shelves = Integer.getInteger("bookiki.replay.shelves", 20);
+		int booksPerShelf = Integer.getInteger("bookiki.replay.books-per-shelf", 50);
+		double churn = Double.parseDouble(System.getProperty("bookiki.replay.churn", "0.02"));
+		int scans = Integer.getInteger("bookiki.replay.scans", 300);
+		long seed = Long.getLong("bookiki.replay.seed", 42L);
+		double rate = Double.parseDouble(System.getProperty("bookiki.replay.rate", "0"));
+		int warmup = Integer.getInteger("bookiki.replay.warmup", 20);
+		String input = System.getProperty("bookiki.replay.input");
+		String output = System.getProperty("bookiki.replay.output");
+
+		List<String> payloads = new ArrayList<>();
+		List<List<Integer>> borrows = new ArrayList<>();
+
+		if (input != null) {
+			// 기록된 요청은 도서/책장 ID가 운영 DB 기준이므로 시딩 없이 요청 처리 비용만 측정
+			payloads.addAll(Files.readAllLines(Path.of(input), StandardCharsets.UTF_8));
+			payloads.forEach(payload -> borrows.add(List.of()));
+			log.info("기록된 스캔 요청 {}건 재생 - {}", payloads.size(), input);
+		} else {
+			ScanWorkloadGenerator generator = new ScanWorkloadGenerator(shelves, booksPerShelf, churn, seed);
+			int[] shelfIds = seedShelves(generator);
+			int[] bookItemIds = seedBooks(generator);
+			for (int i = 0; i < scans; i++) {
+				ScanWorkloadGenerator.ScanStep step = generator.next(STATION_ID, shelfIds, bookItemIds);
+				payloads.add(step.getPayload());
+				borrows.add(step.getBorrowedBeforeScan().stream().map(book -> bookItemIds[book]).toList());
+			}
+			log.info("스캔 요청 합성 - 책장 {}개 x {}권, churn {}, 스캔 {}회", shelves, booksPerShelf, churn, scans);
+			if (output != null) {
+				writePayloads(Path.of(output), payloads);
+			}
+		}
+
+		bookTitleMatcher.loadIndex();
+		bookStatusBitmap.load();
+		bookCategoryMap.load();
+
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		long[] latencies = new long[payloads.size()];
+		long[] queries = new long[payloads.size()];
+		int failures = 0;
+
+		long intervalNanos = rate > 0 ? (long) (TimeUnit.SECONDS.toNanos(1) / rate) : 0;
+		long startedAt = System.nanoTime();
+		long measuredStartedAt = startedAt;
+
+		for (int i = 0; i < payloads.size(); i++) {
+			// 대출은 사용자 요청이므로 측정에서 제외
+			simulateBorrows(borrows.get(i));
+			BookReturnRequest request = objectMapper.readValue(payloads.get(i), BookReturnRequest.class);
+
+			// 목표 속도에 맞춰 예정된 시각까지 대기하고, 지연 시간은 예정 시각 기준으로 측정 (처리가 밀린 시간 포함)
+			long scheduledAt = intervalNanos > 0 ? startedAt + intervalNanos * i : System.nanoTime();
+			while (System.nanoTime() < scheduledAt) {
+				Thread.onSpinWait();
+			}
+			if (i == warmup) {
+				measuredStartedAt = scheduledAt;
+			}
+
+			statistics.clear();
+			try {
+				bookReturnService.processScanResults(request);
+			} catch (RuntimeException e) {
+				failures++;
+				log.warn("스캔 처리 실패 - {}번째: {}", i, e.getMessage());
+			}
+			latencies[i] = System.nanoTime() - scheduledAt;
+			queries[i] = statistics.getPrepareStatementCount();
+		}
+		long elapsedNanos = System.nanoTime() - measuredStartedAt;
+
+		report(Arrays.copyOfRange(latencies, Math.min(warmup, latencies.length), latencies.length),
+			Arrays.copyOfRange(queries, Math.min(warmup, queries.length), queries.length),
+			elapsedNanos, failures);
+
+		assertThat(failures).isZero();
+	}
+
+	private void report(long[] latencies, long[] queries, long elapsedNanos, int failures) {
+		if (latencies.length == 0) {
+			log.info("측정된 스캔이 없습니다.");
+			return;
+		}
+		long[] sorted = latencies.clone();
+		Arrays.sort(sorted);
+		double totalQueries = Arrays.stream(queries).sum();
+
+		log.info("==== 스캔 재생 결과 ====");
+		log.info("스캔 수: {}, 실패: {}", latencies.length, failures);
+		log.info("지연 시간 p50: {}ms, p99: {}ms, max: {}ms",
+			millis(percentile(sorted, 0.50)), millis(percentile(sorted, 0.99)), millis(sorted[sorted.length - 1]));
+		log.info("스캔당 쿼리 수 평균: {}, 최대: {}",
+			String.format("%.1f", totalQueries / queries.length), Arrays.stream(queries).max().orElse(0));
+		log.info("처리량: {} scans/s",
+			String.format("%.1f", latencies.length / (elapsedNanos / (double) TimeUnit.SECONDS.toNanos(1))));
+	}
+
+	private static long percentile(long[] sorted, double percentile) {
+		int index = (int) Math.ceil(percentile * sorted.length) - 1;
+		return sorted[Math.max(0, Math.min(index, sorted.length - 1))];
+	}
+
+	private static String millis(long nanos) {
+		return String.format("%.2f", nanos / 1_000_000.0);
+	}
+
+	private int[] seedShelves(ScanWorkloadGenerator generator) {
+		List<Object[]> rows = new ArrayList<>();
+		for (int shelf = 0; shelf < generator.getShelfCount(); shelf++) {
+			rows.add(new Object[] {shelf / 5 + 1, shelf % 5 + 1, ScanWorkloadGenerator.shelfCategory(shelf)});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO shelves (shelf_number, line_number, category) VALUES (?, ?, ?)", rows);
+		return jdbcTemplate.queryForList("SELECT id FROM shelves ORDER BY id", Integer.class).stream()
+			.mapToInt(Integer::intValue)
+			.toArray();
+	}
+
+	private int[] seedBooks(ScanWorkloadGenerator generator) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+		List<Object[]> informations = new ArrayList<>();
+		for (int book = 0; book < generator.getBookCount(); book++) {
+			informations.add(new Object[] {generator.getTitles().get(book), "저자" + (book % 100),
+				String.format("979%010d", book), generator.getBookCategories()[book]});
+		}
+		jdbcTemplate.batchUpdate("INSERT INTO book_informations (title, author, isbn, category) VALUES (?, ?, ?, ?)",
+			informations);
+		int[] informationIds = jdbcTemplate.queryForList("SELECT id FROM book_informations ORDER BY id", Integer.class)
+			.stream()
+			.mapToInt(Integer::intValue)
+			.toArray();
+
+		List<Object[]> items = new ArrayList<>();
+		for (int book = 0; book < generator.getBookCount(); book++) {
+			items.add(new Object[] {informationIds[book], "AVAILABLE", false, now, now});
+		}
+		jdbcTemplate.batchUpdate(
+			"INSERT INTO book_items (book_information_id, status_type, deleted, purchase_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+			items);
+		int[] bookItemIds = jdbcTemplate.queryForList("SELECT id FROM book_items ORDER BY id", Integer.class).stream()
+			.mapToInt(Integer::intValue)
+			.toArray();
+
+		simulateBorrows(generator.getInitiallyBorrowed().stream().map(book -> bookItemIds[book]).toList());
+		return bookItemIds;
+	}
+
+	private void simulateBorrows(List<Integer> bookItemIds) {
+		if (bookItemIds.isEmpty()) {
+			return;
+		}
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		List<Object[]> statusRows = new ArrayList<>();
+		List<Object[]> historyRows = new ArrayList<>();
+		for (Integer bookItemId : bookItemIds) {
+			statusRows.add(new Object[] {bookItemId});
+			historyRows.add(new Object[] {bookItemId, now, false});
+		}
+		jdbcTemplate.batchUpdate("UPDATE book_items SET status_type = 'BORROWED' WHERE id = ?", statusRows);
+		jdbcTemplate.batchUpdate("INSERT INTO book_histories (book_item_id, borrowed_at, overdue) VALUES (?, ?, ?)",
+			historyRows);
+	}
+
+	private void writePayloads(Path path, List<String> payloads) throws IOException {
+		try (BufferedWriter writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+			for (String payload : payloads) {
+				writer.write(payload);
+				writer.newLine();
+			}
+		}
+		log.info("합성한 스캔 요청 저장 - {}", path);
+	}
+}
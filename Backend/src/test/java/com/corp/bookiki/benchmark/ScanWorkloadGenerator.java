@@ -0,0 +1,182 @@
+package com.corp.bookiki.benchmark;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.Getter;
+
+/**
+ * 스캔 부하 합성기
+ * N개 책장 x M권 도서를 배치한 뒤, 스캔마다 churn 비율만큼 도서가 대출되어 빠지고 대출 중이던 도서가 반납되어 꽂힘
+ * 반납 도서 일부는 다른 카테고리 책장에 꽂히고(오배치), 일부는 QR 없이 OCR 텍스트로만 인식됨
+ * 도서/책장은 0부터 시작하는 번호로 다루고, 실제 ID는 재생 시 시딩한 ID로 바꿔 사용함
+ */
+public class ScanWorkloadGenerator {
+
+	static final int CATEGORY_COUNT = 10;
+
+	private static final String[] WORDS = {
+		"자바", "스프링", "정석", "클린", "코드", "데이터", "설계", "알고리즘", "파이썬", "운영체제",
+		"네트워크", "객체지향", "대규모", "시스템", "입문", "완벽", "가이드", "실전", "프로그래밍", "개발",
+		"웹", "서비스", "테스트", "리팩터링", "모던", "함수형", "도메인", "아키텍처", "보안", "클라우드"
+	};
+
+	private static final double MISPLACED_RATIO = 0.1;
+	private static final double OCR_ONLY_RATIO = 0.05;
+
+	@Getter
+	private final int shelfCount;
+	private final int booksPerShelf;
+	private final double churn;
+	private final Random random;
+	private final ObjectMapper objectMapper = new ObjectMapper();
+
+	@Getter
+	private final int bookCount;
+	@Getter
+	private final List<String> titles = new ArrayList<>();
+	@Getter
+	private final int[] bookCategories;
+	// 처음부터 대출 중인 도서 번호
+	@Getter
+	private final List<Integer> initiallyBorrowed = new ArrayList<>();
+
+	private final List<List<Integer>> shelves = new ArrayList<>();
+	private final Deque<Integer> borrowed = new ArrayDeque<>();
+
+	public ScanWorkloadGenerator(int shelfCount, int booksPerShelf, double churn, long seed) {
+		this.shelfCount = shelfCount;
+		this.booksPerShelf = booksPerShelf;
+		this.churn = churn;
+		this.random = new Random(seed);
+
+		// 책장 용량의 20%는 처음부터 대출 중
+		int placedCount = shelfCount * booksPerShelf;
+		this.bookCount = placedCount + Math.max(1, placedCount / 5);
+		this.bookCategories = new int[bookCount];
+
+		for (int shelf = 0; shelf < shelfCount; shelf++) {
+			shelves.add(new ArrayList<>());
+		}
+		for (int book = 0; book < bookCount; book++) {
+			titles.add(randomTitle(book));
+			if (book < placedCount) {
+				int shelf = book % shelfCount;
+				bookCategories[book] = shelfCategory(shelf);
+				shelves.get(shelf).add(book);
+			} else {
+				bookCategories[book] = shelfCategory(random.nextInt(shelfCount));
+				borrowed.add(book);
+				initiallyBorrowed.add(book);
+			}
+		}
+	}
+
+	public static int shelfCategory(int shelf) {
+		return shelf % CATEGORY_COUNT;
+	}
+
+	/**
+	 * 다음 스캔 생성
+	 * @param stationId 스테이션 ID
+	 * @param shelfIds 책장 번호 -> 실제 책장 ID
+	 * @param bookItemIds 도서 번호 -> 실제 도서 ID
+	 */
+	public ScanStep next(String stationId, int[] shelfIds, int[] bookItemIds) {
+		List<Integer> borrowedBeforeScan = new ArrayList<>();
+		List<String> ocrResults = new ArrayList<>();
+		Set<Integer> ocrOnly = new HashSet<>();
+
+		for (int shelf = 0; shelf < shelfCount; shelf++) {
+			List<Integer> books = shelves.get(shelf);
+			int moves = churnCount();
+
+			// 대출되어 빠지는 도서
+			for (int i = 0; i < moves && !books.isEmpty(); i++) {
+				Integer book = books.remove(random.nextInt(books.size()));
+				borrowedBeforeScan.add(book);
+				borrowed.addLast(book);
+			}
+
+			// 반납되어 꽂히는 도서 (가장 오래 대출된 도서부터)
+			for (int i = 0; i < moves && borrowed.size() > borrowedBeforeScan.size(); i++) {
+				Integer book = borrowed.pollFirst();
+				int target = random.nextDouble() < MISPLACED_RATIO ? random.nextInt(shelfCount) : homeShelf(book);
+				shelves.get(target).add(book);
+				ocrResults.add(titles.get(book));
+				if (random.nextDouble() < OCR_ONLY_RATIO) {
+					ocrOnly.add(book);
+				}
+			}
+		}
+
+		Map<String, Object> payload = new LinkedHashMap<>();
+		payload.put("stationId", stationId);
+		payload.put("ocrResults", ocrResults);
+
+		Map<String, List<Integer>> shelfBookItemsMap = new LinkedHashMap<>();
+		shelfBookItemsMap.put("0", List.of(0));
+		for (int shelf = 0; shelf < shelfCount; shelf++) {
+			List<Integer> ids = new ArrayList<>();
+			for (Integer book : shelves.get(shelf)) {
+				// QR을 읽지 못한 도서는 OCR 결과에만 포함
+				if (!ocrOnly.contains(book)) {
+					ids.add(bookItemIds[book]);
+				}
+			}
+			shelfBookItemsMap.put(String.valueOf(shelfIds[shelf]), ids);
+		}
+		payload.put("shelfBookItemsMap", shelfBookItemsMap);
+
+		try {
+			return new ScanStep(objectMapper.writeValueAsString(payload), borrowedBeforeScan);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException(e);
+		}
+	}
+
+	private int churnCount() {
+		double expected = churn * booksPerShelf;
+		int count = (int) expected;
+		return random.nextDouble() < expected - count ? count + 1 : count;
+	}
+
+	// 도서 카테고리와 같은 카테고리의 책장 중 하나
+	private int homeShelf(int book) {
+		int category = bookCategories[book];
+		int candidates = (shelfCount - 1 - category) / CATEGORY_COUNT + 1;
+		return category + CATEGORY_COUNT * random.nextInt(candidates);
+	}
+
+	private String randomTitle(int book) {
+		int wordCount = 2 + random.nextInt(3);
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < wordCount; i++) {
+			sb.append(WORDS[random.nextInt(WORDS.length)]).append(' ');
+		}
+		return sb.append(book + 1).toString();
+	}
+
+	@Getter
+	public static class ScanStep {
+		// BookReturnRequest JSON
+		private final String payload;
+		// 스캔 전에 대출 처리할 도서 번호
+		private final List<Integer> borrowedBeforeScan;
+
+		public ScanStep(String payload, List<Integer> borrowedBeforeScan) {
+			this.payload = payload;
+			this.borrowedBeforeScan = borrowedBeforeScan;
+		}
+	}
+}
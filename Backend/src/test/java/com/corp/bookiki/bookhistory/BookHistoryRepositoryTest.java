@@ -310,4 +310,62 @@ class BookHistoryRepositoryTest {
 		assertThat(result.get(0).getUser().getEmail()).isEqualTo(user.getEmail());
 		assertThat(result.get(0).getReturnedAt()).isNull();
 	}
-}
\ No newline at end of file
+
+	@Test
+	void returnAllByBookItemIds() {
+		entityManager.persist(bookInformation);
+		entityManager.persist(user);
+		entityManager.persist(bookItem);
+
+		bookHistoryRepository.save(bookHistory);
+		entityManager.flush();
+		entityManager.clear();
+
+		int updated = bookHistoryRepository.returnAllByBookItemIds(List.of(bookItem.getId()), now);
+		entityManager.clear();
+
+		assertThat(updated).isEqualTo(1);
+		assertThat(bookHistoryRepository.findByBookItemIdAndReturnedAtIsNull(bookItem.getId())).isEmpty();
+	}
+
+	@Test
+	void findRecentBookInformationIdsForUser() {
+		BookInformationEntity otherInformation = BookInformationEntity.builder()
+			.title("Effective Java")
+			.author("Joshua Bloch")
+			.isbn("978-0134685991")
+			.build();
+		BookItemEntity otherItem = BookItemEntity.builder()
+			.bookInformation(otherInformation)
+			.purchaseAt(now)
+			.bookStatus(BookStatus.AVAILABLE)
+			.updatedAt(now)
+			.build();
+		entityManager.persist(bookInformation);
+		entityManager.persist(otherInformation);
+		entityManager.persist(user);
+		entityManager.persist(bookItem);
+		entityManager.persist(otherItem);
+
+		// 같은 도서를 두 번 대출해도 한 번만, 기간 밖의 대출은 제외
+		bookHistoryRepository.save(BookHistoryEntity.builder().bookItem(bookItem).user(user)
+			.borrowedAt(now.minusDays(10)).build());
+		bookHistoryRepository.save(BookHistoryEntity.builder().bookItem(otherItem).user(user)
+			.borrowedAt(now.minusDays(5)).build());
+		bookHistoryRepository.save(BookHistoryEntity.builder().bookItem(bookItem).user(user)
+			.borrowedAt(now.minusDays(1)).build());
+		bookHistoryRepository.save(BookHistoryEntity.builder().bookItem(otherItem).user(user)
+			.borrowedAt(now.minusDays(60)).build());
+		entityManager.flush();
+		entityManager.clear();
+
+		List<Integer> result = bookHistoryRepository.findRecentBookInformationIdsForUser(user.getId(),
+			now.minusDays(30), now, Limit.of(5));
+
+		assertThat(result).containsExactly(bookInformation.getId(), otherInformation.getId());
+		assertThat(bookHistoryRepository.findRecentBookInformationIdsForUser(user.getId(),
+			now.minusDays(30), now, Limit.of(1))).containsExactly(bookInformation.getId());
+		assertThat(bookHistoryRepository.findRecentBookInformationIdsForUser(user.getId(),
+			now.minusDays(90), now.minusDays(40), Limit.of(5))).containsExactly(otherInformation.getId());
+	}
+}
@@ -0,0 +1,217 @@
+package com.corp.bookiki.bookhistory.analytics;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.*;
+import static org.springframework.security.test.web.servlet.setup.SecurityMockMvcConfigurers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.jpa.mapping.JpaMetamodelMappingContext;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.corp.bookiki.bookhistory.controller.BorrowAnalyticsController;
+import com.corp.bookiki.bookhistory.dto.BorrowAnalyticsBookResponse;
+import com.corp.bookiki.bookhistory.dto.BorrowTrendResponse;
+import com.corp.bookiki.bookhistory.dto.CategoryBorrowCountResponse;
+import com.corp.bookiki.bookhistory.enitity.TrendInterval;
+import com.corp.bookiki.bookhistory.service.BorrowAnalyticsService;
+import com.corp.bookiki.global.config.SecurityConfig;
+import com.corp.bookiki.global.config.TestSecurityBeansConfig;
+import com.corp.bookiki.global.error.code.ErrorCode;
+import com.corp.bookiki.global.error.exception.BookHistoryException;
+import com.corp.bookiki.jwt.service.JwtService;
+import com.corp.bookiki.user.entity.Role;
+import com.corp.bookiki.user.entity.UserEntity;
+import com.corp.bookiki.user.repository.UserRepository;
+
+import io.jsonwebtoken.Claims;
+import jakarta.servlet.http.Cookie;
+import lombok.extern.slf4j.Slf4j;
+
+@WebMvcTest(BorrowAnalyticsController.class)
+@Import({SecurityConfig.class, TestSecurityBeansConfig.class})
+@MockBean(JpaMetamodelMappingContext.class)
+@Slf4j
+class BorrowAnalyticsControllerTest {
+
+	@Autowired
+	private WebApplicationContext context;
+
+	@Autowired
+	private MockMvc mockMvc;
+
+	@MockBean
+	private BorrowAnalyticsService borrowAnalyticsService;
+
+	@Autowired
+	private JwtService jwtService;
+
+	@Autowired
+	private UserRepository userRepository;
+
+	private UserEntity testUserEntity;
+	private UserEntity testAdminEntity;
+	private String testUserEmail;
+	private String testAdminEmail;
+
+	@BeforeEach
+	void setup() {
+		// 일반 사용자 설정
+		testUserEmail = "user@example.com";
+		testUserEntity = UserEntity.builder()
+			.email(testUserEmail)
+			.userName("Test User")
+			.role(Role.USER)
+			.build();
+		ReflectionTestUtils.setField(testUserEntity, "id", 2);
+
+		// 관리자 설정
+		testAdminEmail = "admin@example.com";
+		testAdminEntity = UserEntity.builder()
+			.email(testAdminEmail)
+			.userName("Admin User")
+			.role(Role.ADMIN)
+			.build();
+		ReflectionTestUtils.setField(testAdminEntity, "id", 1);
+
+		// 일반 사용자 Claims 설정
+		Claims userClaims = mock(Claims.class);
+		given(userClaims.getSubject()).willReturn("user:" + testUserEmail);
+		given(userClaims.getExpiration()).willReturn(new Date(System.currentTimeMillis() + 3600000));
+		given(userClaims.get("authorities", String.class)).willReturn("ROLE_USER");
+
+		// 관리자 Claims 설정
+		Claims adminClaims = mock(Claims.class);
+		given(adminClaims.getSubject()).willReturn("user:" + testAdminEmail);
+		given(adminClaims.getExpiration()).willReturn(new Date(System.currentTimeMillis() + 3600000));
+		given(adminClaims.get("authorities", String.class)).willReturn("ROLE_USER,ROLE_ADMIN");
+
+		// JWT Service 모킹
+		given(jwtService.validateToken(eq("user-jwt-token"))).willReturn(true);
+		given(jwtService.validateToken(eq("admin-jwt-token"))).willReturn(true);
+		given(jwtService.extractAllClaims(eq("user-jwt-token"))).willReturn(userClaims);
+		given(jwtService.extractAllClaims(eq("admin-jwt-token"))).willReturn(adminClaims);
+		given(jwtService.extractEmail(eq("user-jwt-token"))).willReturn(testUserEmail);
+		given(jwtService.extractEmail(eq("admin-jwt-token"))).willReturn(testAdminEmail);
+		given(jwtService.isTokenExpired(anyString())).willReturn(false);
+
+		// UserRepository 모킹
+		given(userRepository.findByEmail(eq(testUserEmail)))
+			.willReturn(Optional.of(testUserEntity));
+		given(userRepository.findByEmail(eq(testAdminEmail)))
+			.willReturn(Optional.of(testAdminEntity));
+
+		mockMvc = MockMvcBuilders
+			.webAppContextSetup(context)
+			.apply(springSecurity())
+			.build();
+	}
+
+	@Test
+	@DisplayName("관리자는 기간별 대출 많은 도서 조회 성공")
+	void getTopBooks_Success() throws Exception {
+		// Given
+		BorrowAnalyticsBookResponse response = new BorrowAnalyticsBookResponse(7, "자바의 정석", "남궁성", 0,
+			"test-image.jpg", 42L);
+		given(borrowAnalyticsService.getTopBooks(eq(LocalDate.of(2025, 1, 1)), eq(LocalDate.of(2025, 1, 31)), eq(5)))
+			.willReturn(List.of(response));
+
+		// When & Then
+		mockMvc.perform(get("/api/admin/analytics/books/top")
+				.param("periodType", "CUSTOM")
+				.param("startDate", "2025-01-01")
+				.param("endDate", "2025-01-31")
+				.param("size", "5")
+				.cookie(getAdminJwtCookie())
+				.contentType(MediaType.APPLICATION_JSON))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].bookInformationId").value(7))
+			.andExpect(jsonPath("$[0].title").value("자바의 정석"))
+			.andExpect(jsonPath("$[0].borrowCount").value(42));
+	}
+
+	@Test
+	@DisplayName("관리자는 월별 카테고리 대출 추이 조회 성공")
+	void getCategoryTrend_Success() throws Exception {
+		// Given
+		BorrowTrendResponse response = new BorrowTrendResponse(LocalDate.of(2025, 1, 1), 3L,
+			List.of(new CategoryBorrowCountResponse(0, "컴퓨터과학", 3L)));
+		given(borrowAnalyticsService.getCategoryTrend(any(LocalDate.class), any(LocalDate.class),
+			eq(TrendInterval.MONTH))).willReturn(List.of(response));
+
+		// When & Then
+		mockMvc.perform(get("/api/admin/analytics/categories/trend")
+				.param("periodType", "LAST_YEAR")
+				.param("interval", "MONTH")
+				.cookie(getAdminJwtCookie())
+				.contentType(MediaType.APPLICATION_JSON))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].totalCount").value(3))
+			.andExpect(jsonPath("$[0].categories[0].categoryName").value("컴퓨터과학"));
+	}
+
+	@Test
+	@DisplayName("기간이 잘못되면 400 응답")
+	void getCategoryTrend_WhenInvalidPeriod_Returns400() throws Exception {
+		// Given
+		given(borrowAnalyticsService.getCategoryTrend(any(), any(), any()))
+			.willThrow(new BookHistoryException(ErrorCode.INVALID_INPUT_VALUE_AFTER_DATE));
+
+		// When & Then
+		mockMvc.perform(get("/api/admin/analytics/categories/trend")
+				.param("periodType", "CUSTOM")
+				.param("startDate", "2025-02-01")
+				.param("endDate", "2025-01-01")
+				.cookie(getAdminJwtCookie())
+				.contentType(MediaType.APPLICATION_JSON))
+			.andDo(print())
+			.andExpect(status().isBadRequest());
+	}
+
+	@Test
+	@DisplayName("일반 사용자는 대출 통계 조회 불가")
+	void getTopBooks_WhenUser_Returns403() throws Exception {
+		mockMvc.perform(get("/api/admin/analytics/books/top")
+				.param("periodType", "LAST_MONTH")
+				.cookie(getUserJwtCookie())
+				.contentType(MediaType.APPLICATION_JSON))
+			.andDo(print())
+			.andExpect(status().isForbidden());
+	}
+
+	private Cookie getUserJwtCookie() {
+		Cookie accessTokenCookie = new Cookie("access_token", "user-jwt-token");
+		accessTokenCookie.setPath("/");
+		return accessTokenCookie;
+	}
+
+	private Cookie getAdminJwtCookie() {
+		Cookie accessTokenCookie = new Cookie("access_token", "admin-jwt-token");
+		accessTokenCookie.setPath("/");
+		return accessTokenCookie;
+	}
+}
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.corp.bookiki.bookhistory.analytics;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.corp.bookiki.bookhistory.dto.BorrowAnalyticsBookResponse;
+import com.corp.bookiki.bookhistory.dto.BorrowTrendResponse;
+import com.corp.bookiki.bookhistory.enitity.CategoryBorrowDailyEntity;
+import com.corp.bookiki.bookhistory.enitity.TrendInterval;
+import com.corp.bookiki.bookhistory.repository.BookBorrowDailyRepository;
+import com.corp.bookiki.bookhistory.repository.CategoryBorrowDailyRepository;
+import com.corp.bookiki.bookhistory.service.BorrowAnalyticsService;
+import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookinformation.entity.Category;
+import com.corp.bookiki.bookinformation.repository.BookInformationRepository;
+import com.corp.bookiki.global.error.code.ErrorCode;
+import com.corp.bookiki.global.error.exception.BookHistoryException;
+
+@ExtendWith(MockitoExtension.class)
+class BorrowAnalyticsServiceTest {
+
+	@InjectMocks
+	private BorrowAnalyticsService borrowAnalyticsService;
+
+	@Mock
+	private BookBorrowDailyRepository bookBorrowDailyRepository;
+
+	@Mock
+	private CategoryBorrowDailyRepository categoryBorrowDailyRepository;
+
+	@Mock
+	private BookInformationRepository bookInformationRepository;
+
+	private static CategoryBorrowDailyEntity categoryRow(LocalDate date, int category, int count) {
+		CategoryBorrowDailyEntity row = mock(CategoryBorrowDailyEntity.class);
+		given(row.getBorrowDate()).willReturn(date);
+		given(row.getCategory()).willReturn(category);
+		given(row.getBorrowCount()).willReturn(count);
+		return row;
+	}
+
+	@Test
+	@DisplayName("대출 많은 도서는 집계 합계 순서대로 도서 정보를 붙이고, 삭제된 도서 정보는 제외")
+	void getTopBooks_Success() {
+		LocalDate start = LocalDate.of(2025, 1, 1);
+		LocalDate end = LocalDate.of(2025, 12, 31);
+		BookInformationEntity bookInformation = BookInformationEntity.builder()
+			.title("자바의 정석")
+			.author("남궁성")
+			.isbn("978-0000000001")
+			.category(0)
+			.build();
+		ReflectionTestUtils.setField(bookInformation, "id", 7);
+
+		given(bookBorrowDailyRepository.sumByBookInformation(start, end, Limit.of(100)))
+			.willReturn(List.of(new Object[] {7, 42L}, new Object[] {8, 3L}));
+		given(bookInformationRepository.findAllById(List.of(7, 8))).willReturn(List.of(bookInformation));
+
+		List<BorrowAnalyticsBookResponse> result = borrowAnalyticsService.getTopBooks(start, end, 500);
+
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).getBookInformationId()).isEqualTo(7);
+		assertThat(result.get(0).getTitle()).isEqualTo("자바의 정석");
+		assertThat(result.get(0).getBorrowCount()).isEqualTo(42L);
+	}
+
+	@Test
+	@DisplayName("카테고리 추이는 구간별로 합산하고 대출이 없는 구간도 0으로 채움")
+	void getCategoryTrend_WeeklyBuckets() {
+		// 2025-01-06은 월요일
+		LocalDate start = LocalDate.of(2025, 1, 6);
+		LocalDate end = LocalDate.of(2025, 1, 26);
+		List<CategoryBorrowDailyEntity> rows = List.of(
+			categoryRow(LocalDate.of(2025, 1, 6), 0, 2),
+			categoryRow(LocalDate.of(2025, 1, 12), 0, 3),
+			categoryRow(LocalDate.of(2025, 1, 20), CategoryBorrowDailyEntity.NO_CATEGORY, 1)
+		);
+		given(categoryBorrowDailyRepository.findByBorrowDateBetweenOrderByBorrowDate(start, end)).willReturn(rows);
+
+		List<BorrowTrendResponse> result = borrowAnalyticsService.getCategoryTrend(start, end, TrendInterval.WEEK);
+
+		assertThat(result).extracting(BorrowTrendResponse::getPeriodStart)
+			.containsExactly(LocalDate.of(2025, 1, 6), LocalDate.of(2025, 1, 13), LocalDate.of(2025, 1, 20));
+		assertThat(result).extracting(BorrowTrendResponse::getTotalCount).containsExactly(5L, 0L, 1L);
+		assertThat(result.get(0).getCategories()).hasSize(Category.values().length + 1);
+		assertThat(result.get(0).getCategories().get(0).getBorrowCount()).isEqualTo(5L);
+		assertThat(result.get(2).getCategories().get(Category.values().length).getCategory()).isNull();
+		assertThat(result.get(2).getCategories().get(Category.values().length).getBorrowCount()).isEqualTo(1L);
+	}
+
+	@Test
+	@DisplayName("시작일이 종료일보다 늦으면 예외")
+	void getCategoryTrend_WhenInvalidPeriod_ThenThrow() {
+		assertThatThrownBy(() -> borrowAnalyticsService.getCategoryTrend(LocalDate.of(2025, 2, 1),
+			LocalDate.of(2025, 1, 1), TrendInterval.DAY))
+			.isInstanceOf(BookHistoryException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE_AFTER_DATE);
+		then(categoryBorrowDailyRepository).should(never()).findByBorrowDateBetweenOrderByBorrowDate(any(), any());
+	}
+}
@@ -0,0 +1,159 @@
+package com.corp.bookiki.bookhistory.analytics;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.corp.bookiki.bookhistory.service.BorrowRollupSchedular;
+import com.corp.bookiki.bookhistory.service.BorrowRollupService;
+import com.corp.bookiki.global.lock.RedisLock;
+
+@ExtendWith(MockitoExtension.class)
+class BorrowRollupSchedularTest {
+
+	private static final String FINALIZED_DATE_KEY = "ROLLUP:BORROW:FINALIZED_DATE";
+
+	@InjectMocks
+	private BorrowRollupSchedular borrowRollupSchedular;
+
+	@Mock
+	private BorrowRollupService borrowRollupService;
+
+	@Mock
+	private RedisLock redisLock;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	private LocalDate today;
+
+	@BeforeEach
+	void setUp() {
+		today = LocalDate.now();
+		ReflectionTestUtils.setField(borrowRollupSchedular, "backfillDays", 70);
+		ReflectionTestUtils.setField(borrowRollupSchedular, "lockLeaseMillis", 600000L);
+		lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+	}
+
+	private void finalizedUntil(LocalDate date) {
+		given(valueOperations.get(FINALIZED_DATE_KEY)).willReturn(date == null ? null : date.toString());
+	}
+
+	@Test
+	@DisplayName("집계가 없으면 backfill-days 전부터 오늘까지 31일씩 나눠 집계하고, 전날까지 확정으로 기록한 뒤 락을 해제")
+	void backfill_WhenEmpty_ThenRollsUpInChunks() {
+		given(redisLock.tryLock("ROLLUP:BORROW:BACKFILL", Duration.ofMillis(600000L))).willReturn("token");
+		given(borrowRollupService.findLastRollupDate()).willReturn(null);
+
+		borrowRollupSchedular.backfill();
+
+		InOrder inOrder = inOrder(borrowRollupService, valueOperations, redisLock);
+		inOrder.verify(borrowRollupService).rollup(today.minusDays(69), today.minusDays(39));
+		inOrder.verify(borrowRollupService).rollup(today.minusDays(38), today.minusDays(8));
+		inOrder.verify(borrowRollupService).rollup(today.minusDays(7), today);
+		inOrder.verify(valueOperations).set(FINALIZED_DATE_KEY, today.minusDays(1).toString());
+		inOrder.verify(redisLock).unlock("ROLLUP:BORROW:BACKFILL", "token");
+		verify(borrowRollupService, times(3)).rollup(any(), any());
+	}
+
+	@Test
+	@DisplayName("마지막 집계일이 있으면 그날부터 오늘까지만 다시 집계")
+	void backfill_WhenRolledUpBefore_ThenStartsFromLastDate() {
+		given(redisLock.tryLock(any(), any())).willReturn("token");
+		given(borrowRollupService.findLastRollupDate()).willReturn(today.minusDays(2));
+		finalizedUntil(today.minusDays(3));
+
+		borrowRollupSchedular.backfill();
+
+		verify(borrowRollupService).rollup(today.minusDays(2), today);
+		verify(borrowRollupService, times(1)).rollup(any(), any());
+	}
+
+	@Test
+	@DisplayName("오늘 집계는 있지만 전날이 확정되지 않았으면 전날부터 다시 집계")
+	void backfill_WhenYesterdayNotFinalized_ThenStartsFromYesterday() {
+		given(redisLock.tryLock(any(), any())).willReturn("token");
+		given(borrowRollupService.findLastRollupDate()).willReturn(today);
+		finalizedUntil(today.minusDays(2));
+
+		borrowRollupSchedular.backfill();
+
+		verify(borrowRollupService).rollup(today.minusDays(1), today);
+	}
+
+	@Test
+	@DisplayName("전날 확정을 건너뛰었으면 오늘 갱신 주기에서 확정하지 않은 날부터 전날까지 다시 집계")
+	void rollupToday_WhenFinalizeMissed_ThenFinalizesFirst() {
+		given(redisLock.tryLock(any(), any())).willReturn("finalize-token", "today-token");
+		finalizedUntil(today.minusDays(3));
+
+		borrowRollupSchedular.rollupToday();
+
+		InOrder inOrder = inOrder(borrowRollupService, valueOperations, redisLock);
+		inOrder.verify(redisLock).tryLock(eq("ROLLUP:BORROW:FINALIZE"), any());
+		inOrder.verify(borrowRollupService).rollup(today.minusDays(2), today.minusDays(1));
+		inOrder.verify(valueOperations).set(FINALIZED_DATE_KEY, today.minusDays(1).toString());
+		inOrder.verify(redisLock).unlock("ROLLUP:BORROW:FINALIZE", "finalize-token");
+		inOrder.verify(redisLock).tryLock(eq("ROLLUP:BORROW:TODAY"), any());
+		inOrder.verify(borrowRollupService).rollupTodayIfChanged();
+		inOrder.verify(redisLock).unlock("ROLLUP:BORROW:TODAY", "today-token");
+	}
+
+	@Test
+	@DisplayName("전날까지 확정되어 있으면 오늘 집계만 갱신")
+	void rollupToday_WhenFinalized_ThenOnlyToday() {
+		given(redisLock.tryLock(eq("ROLLUP:BORROW:TODAY"), any())).willReturn("token");
+		finalizedUntil(today.minusDays(1));
+
+		borrowRollupSchedular.rollupToday();
+
+		verify(borrowRollupService).rollupTodayIfChanged();
+		verify(borrowRollupService, never()).rollup(any(), any());
+		verify(redisLock, never()).tryLock(eq("ROLLUP:BORROW:FINALIZE"), any());
+	}
+
+	@Test
+	@DisplayName("다른 노드가 락을 잡고 있으면 집계하지 않음")
+	void jobs_WhenLockedByOtherNode_ThenSkip() {
+		given(redisLock.tryLock(any(), any())).willReturn(null);
+		finalizedUntil(null);
+
+		borrowRollupSchedular.backfill();
+		borrowRollupSchedular.rollupYesterday();
+		borrowRollupSchedular.rollupToday();
+
+		verifyNoInteractions(borrowRollupService);
+		verify(redisLock, never()).unlock(any(), any());
+		verify(valueOperations, never()).set(any(), any());
+	}
+
+	@Test
+	@DisplayName("집계가 실패해도 락을 해제")
+	void rollupToday_WhenFails_ThenUnlocks() {
+		given(redisLock.tryLock(any(), any())).willReturn("token");
+		finalizedUntil(today.minusDays(1));
+		given(borrowRollupService.rollupTodayIfChanged()).willThrow(new IllegalStateException("DB 오류"));
+
+		assertThatThrownBy(() -> borrowRollupSchedular.rollupToday()).isInstanceOf(IllegalStateException.class);
+
+		verify(redisLock).unlock("ROLLUP:BORROW:TODAY", "token");
+	}
+}
@@ -0,0 +1,180 @@
+package com.corp.bookiki.bookhistory.analytics;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.corp.bookiki.bookhistory.enitity.BookHistoryEntity;
+import com.corp.bookiki.bookhistory.enitity.CategoryBorrowDailyEntity;
+import com.corp.bookiki.bookhistory.repository.BookBorrowDailyRepository;
+import com.corp.bookiki.bookhistory.repository.CategoryBorrowDailyRepository;
+import com.corp.bookiki.bookhistory.service.BorrowRollupService;
+import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookitem.entity.BookItemEntity;
+import com.corp.bookiki.bookitem.entity.BookStatus;
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
+import com.corp.bookiki.user.entity.Provider;
+import com.corp.bookiki.user.entity.Role;
+import com.corp.bookiki.user.entity.UserEntity;
+
+import jakarta.persistence.EntityManager;
+
+@DataJpaTest
+@Transactional
+@ActiveProfiles("test")
+@Import(BorrowRollupService.class)
+class BorrowRollupServiceTest {
+
+	@Autowired
+	private BorrowRollupService borrowRollupService;
+
+	@Autowired
+	private BookBorrowDailyRepository bookBorrowDailyRepository;
+
+	@Autowired
+	private CategoryBorrowDailyRepository categoryBorrowDailyRepository;
+
+	@Autowired
+	private EntityManager entityManager;
+
+	private LocalDate today;
+	private BookInformationEntity computerBook;
+	private BookInformationEntity uncategorizedBook;
+	private UserEntity user;
+	private BookItemEntity firstCopy;
+
+	@BeforeEach
+	void setUp() {
+		today = LocalDate.now();
+
+		user = UserEntity.builder()
+			.email("rollup@bookiki.com")
+			.password("password123")
+			.userName("Rollup User")
+			.companyId("EMP100")
+			.role(Role.USER)
+			.provider(Provider.BOOKIKI)
+			.createdAt(LocalDateTime.now())
+			.updatedAt(LocalDateTime.now())
+			.build();
+		entityManager.persist(user);
+
+		computerBook = persistBookInformation("자바의 정석", "978-0000000001", 0);
+		uncategorizedBook = persistBookInformation("이름 없는 책", "978-0000000002", null);
+		firstCopy = persistBookItem(computerBook);
+		BookItemEntity secondCopy = persistBookItem(computerBook);
+		BookItemEntity otherItem = persistBookItem(uncategorizedBook);
+
+		persistHistory(firstCopy, user, today.atTime(9, 0));
+		persistHistory(secondCopy, user, today.atTime(10, 0));
+		persistHistory(otherItem, user, today.atTime(11, 0));
+		persistHistory(firstCopy, user, today.minusDays(1).atTime(23, 59));
+		entityManager.flush();
+	}
+
+	private BookInformationEntity persistBookInformation(String title, String isbn, Integer category) {
+		BookInformationEntity bookInformation = BookInformationEntity.builder()
+			.title(title)
+			.author("저자")
+			.isbn(isbn)
+			.category(category)
+			.build();
+		entityManager.persist(bookInformation);
+		return bookInformation;
+	}
+
+	private BookItemEntity persistBookItem(BookInformationEntity bookInformation) {
+		BookItemEntity bookItem = BookItemEntity.builder()
+			.bookInformation(bookInformation)
+			.purchaseAt(LocalDateTime.now())
+			.bookStatus(BookStatus.AVAILABLE)
+			.updatedAt(LocalDateTime.now())
+			.build();
+		entityManager.persist(bookItem);
+		return bookItem;
+	}
+
+	private void persistHistory(BookItemEntity bookItem, UserEntity user, LocalDateTime borrowedAt) {
+		entityManager.persist(BookHistoryEntity.builder()
+			.bookItem(bookItem)
+			.user(user)
+			.borrowedAt(borrowedAt)
+			.build());
+	}
+
+	private long borrowCountOn(LocalDate date) {
+		return bookBorrowDailyRepository.sumByBookInformation(date, date, Limit.of(10)).stream()
+			.mapToLong(row -> ((Number) row[1]).longValue())
+			.sum();
+	}
+
+	@Test
+	@DisplayName("대출 기록을 날짜 x 도서 정보, 날짜 x 카테고리로 집계")
+	void insertRollup_GroupsByDateAndBookInformation() {
+		assertThat(borrowRollupService.rollup(today.minusDays(1), today)).isEqualTo(3);
+
+		List<Object[]> topBooks = bookBorrowDailyRepository.sumByBookInformation(today.minusDays(1), today,
+			Limit.of(10));
+		assertThat(topBooks).hasSize(2);
+		assertThat(((Number) topBooks.get(0)[0]).intValue()).isEqualTo(computerBook.getId());
+		assertThat(((Number) topBooks.get(0)[1]).longValue()).isEqualTo(3L);
+		assertThat(((Number) topBooks.get(1)[0]).intValue()).isEqualTo(uncategorizedBook.getId());
+
+		List<CategoryBorrowDailyEntity> categories = categoryBorrowDailyRepository
+			.findByBorrowDateBetweenOrderByBorrowDate(today, today);
+		assertThat(categories)
+			.extracting(CategoryBorrowDailyEntity::getCategory, CategoryBorrowDailyEntity::getBorrowCount)
+			.containsExactlyInAnyOrder(tuple(0, 2), tuple(CategoryBorrowDailyEntity.NO_CATEGORY, 1));
+		assertThat(borrowRollupService.findLastRollupDate()).isEqualTo(today);
+	}
+
+	@Test
+	@DisplayName("같은 기간을 다시 집계해도 중복되지 않고, 범위 밖 날짜는 유지")
+	void insertRollup_WhenRepeated_ThenReplacesRange() {
+		borrowRollupService.rollup(today.minusDays(1), today);
+		borrowRollupService.rollup(today, today);
+
+		assertThat(categoryBorrowDailyRepository.findByBorrowDateBetweenOrderByBorrowDate(today, today)).hasSize(2);
+		assertThat(categoryBorrowDailyRepository.findByBorrowDateBetweenOrderByBorrowDate(today.minusDays(1),
+			today.minusDays(1)))
+			.extracting(CategoryBorrowDailyEntity::getBorrowCount)
+			.containsExactly(1);
+	}
+
+	@Test
+	@DisplayName("오늘 집계는 마지막 집계 이후 대출 이벤트가 있을 때만 다시 계산")
+	void rollupTodayIfChanged_OnlyAfterBorrow() {
+		borrowRollupService.onBookStatusChanged(
+			BookStatusChangedEvent.of(firstCopy.getId(), BookStatus.AVAILABLE, BookStatus.BORROWED));
+		assertThat(borrowRollupService.rollupTodayIfChanged()).isTrue();
+		assertThat(borrowCountOn(today)).isEqualTo(3L);
+
+		persistHistory(firstCopy, user, today.atTime(12, 0));
+		entityManager.flush();
+		// 반납은 대출로 보지 않음
+		borrowRollupService.onBookStatusChanged(
+			BookStatusChangedEvent.of(firstCopy.getId(), BookStatus.BORROWED, BookStatus.AVAILABLE));
+
+		assertThat(borrowRollupService.rollupTodayIfChanged()).isFalse();
+		assertThat(borrowCountOn(today)).isEqualTo(3L);
+
+		borrowRollupService.onBookStatusChanged(
+			BookStatusChangedEvent.of(firstCopy.getId(), BookStatus.AVAILABLE, BookStatus.BORROWED));
+
+		assertThat(borrowRollupService.rollupTodayIfChanged()).isTrue();
+		assertThat(borrowCountOn(today)).isEqualTo(4L);
+		assertThat(borrowCountOn(today.minusDays(1))).isZero();
+	}
+}
@@ -14,12 +14,14 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.corp.bookiki.bookhistory.dto.BookBorrowResponse;
 import com.corp.bookiki.bookhistory.enitity.BookHistoryEntity;
 import com.corp.bookiki.bookhistory.repository.BookHistoryRepository;
 import com.corp.bookiki.bookhistory.service.BookBorrowService;
 import com.corp.bookiki.bookhistory.service.BookHistoryService;
+import com.corp.bookiki.bookhistory.service.BookLeaderboardService;
 import com.corp.bookiki.bookitem.entity.BookItemEntity;
 import com.corp.bookiki.bookitem.repository.BookItemRepository;
 import com.corp.bookiki.global.error.code.ErrorCode;
@@ -27,6 +29,7 @@ import com.corp.bookiki.global.error.exception.BookHistoryException;
 import com.corp.bookiki.loanpolicy.dto.LoanPolicyResponse;
 import com.corp.bookiki.loanpolicy.entity.LoanPolicyEntity;
 import com.corp.bookiki.loanpolicy.service.LoanPolicyService;
+import com.corp.bookiki.recommendation.service.CoBorrowIndex;
 import com.corp.bookiki.user.entity.UserEntity;
 import com.corp.bookiki.user.repository.UserRepository;
 
@@ -51,6 +54,15 @@ class BookBorrowServiceTest {
 	@Mock
 	private BookHistoryService bookHistoryService;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private BookLeaderboardService bookLeaderboardService;
+
+	@Mock
+	private CoBorrowIndex coBorrowIndex;
+
 	@Nested
 	@DisplayName("도서 대출 서비스 테스트")
 	class BorrowBook {
@@ -95,6 +107,8 @@ class BookBorrowServiceTest {
 			assertThat(response.getUserId()).isEqualTo(userId);
 			verify(bookHistoryRepository).save(any(BookHistoryEntity.class));
 			verify(bookItem).borrow();
+			verify(bookLeaderboardService).recordBorrow(bookItemId);
+			verify(coBorrowIndex).recordBorrow(userId, bookItem);
 		}
 	}
 }
\ No newline at end of file
@@ -0,0 +1,133 @@
+package com.corp.bookiki.bookhistory.bookranking;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.corp.bookiki.bookhistory.repository.BookHistoryRepository;
+import com.corp.bookiki.bookhistory.service.BookBorrowCounter;
+import com.corp.bookiki.bookitem.entity.BookStatus;
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
+
+@ExtendWith(MockitoExtension.class)
+class BookBorrowCounterTest {
+
+	@InjectMocks
+	private BookBorrowCounter bookBorrowCounter;
+
+	@Mock
+	private BookHistoryRepository bookHistoryRepository;
+
+	private void load(Object[]... rows) {
+		given(bookHistoryRepository.streamBookItemIdAndBorrowedAtSince(any(LocalDateTime.class)))
+			.willReturn(Stream.of(rows));
+		bookBorrowCounter.load();
+	}
+
+	@Test
+	@DisplayName("시작 시 최근 한 달 대출 기록으로 순위를 만들고 기간이 지난 대출은 제외")
+	void load_BuildsRankingFromHistories() {
+		LocalDateTime now = LocalDateTime.now();
+
+		load(
+			new Object[] {1, now.minusDays(1)},
+			new Object[] {2, now.minusDays(2)},
+			new Object[] {2, now.minusDays(27)},
+			new Object[] {3, now.minusDays(40)}
+		);
+
+		BookBorrowCounter.Ranking ranking = bookBorrowCounter.top();
+		assertThat(bookBorrowCounter.isReady()).isTrue();
+		assertThat(ranking.getBookItemIds()).containsExactly(2, 1);
+		assertThat(ranking.getCounts()).containsExactly(2, 1);
+	}
+
+	@Test
+	@DisplayName("대출 이벤트마다 순위를 갱신하고 상위 10권만 유지")
+	void onBookStatusChanged_WhenBorrowed_ThenUpdatesTop() {
+		load();
+		for (int bookItemId = 1; bookItemId <= 12; bookItemId++) {
+			bookBorrowCounter.record(bookItemId, LocalDateTime.now());
+		}
+
+		bookBorrowCounter.onBookStatusChanged(BookStatusChangedEvent.of(12, BookStatus.AVAILABLE, BookStatus.BORROWED));
+		// 반납과 관리자 상태 변경은 대출로 세지 않음
+		bookBorrowCounter.onBookStatusChanged(BookStatusChangedEvent.of(List.of(11), BookStatus.BORROWED, BookStatus.AVAILABLE));
+		bookBorrowCounter.onBookStatusChanged(BookStatusChangedEvent.of(11, null, BookStatus.BORROWED));
+
+		BookBorrowCounter.Ranking ranking = bookBorrowCounter.top();
+		assertThat(ranking.getBookItemIds()).containsExactly(12, 1, 2, 3, 4, 5, 6, 7, 8, 9);
+		assertThat(ranking.getCounts()[0]).isEqualTo(2);
+		assertThat(bookBorrowCounter.getCount(11)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("날짜가 바뀌면 한 달 전 같은 날짜보다 이전 칸을 비우고 순위를 다시 계산")
+	void record_WhenDayAdvances_ThenExpiresOldBuckets() {
+		load();
+		int year = LocalDate.now().getYear() + 1;
+		while (Year.isLeap(year)) {
+			year++;
+		}
+
+		bookBorrowCounter.record(1, LocalDate.of(year, 2, 28).atStartOfDay());
+		bookBorrowCounter.record(1, LocalDate.of(year, 2, 28).atStartOfDay());
+		bookBorrowCounter.record(2, LocalDate.of(year, 3, 30).atStartOfDay());
+		// 3월 31일의 한 달 전은 2월 28일이므로 31일이 지났어도 기간 안
+		bookBorrowCounter.record(3, LocalDate.of(year, 3, 31).atStartOfDay());
+		assertThat(bookBorrowCounter.getCount(1)).isEqualTo(2);
+
+		bookBorrowCounter.record(3, LocalDate.of(year, 4, 1).atStartOfDay());
+
+		assertThat(bookBorrowCounter.getCount(1)).isZero();
+		assertThat(bookBorrowCounter.getCount(2)).isEqualTo(1);
+		assertThat(bookBorrowCounter.getCount(3)).isEqualTo(2);
+		assertThat(bookBorrowCounter.top().getBookItemIds()).containsExactly(3, 2);
+	}
+
+	@Test
+	@DisplayName("다시 불러오는 동안 받은 대출/삭제는 새 카운터에 다시 반영")
+	void load_WhenEventsDuringLoad_ThenKept() {
+		LocalDateTime now = LocalDateTime.now();
+		given(bookHistoryRepository.streamBookItemIdAndBorrowedAtSince(any(LocalDateTime.class)))
+			.willReturn(Stream.<Object[]>of(new Object[] {1, now}, new Object[] {2, now}, new Object[] {2, now})
+				.peek(row -> {
+					if ((Integer) row[0] == 1) {
+						bookBorrowCounter.onBookStatusChanged(
+							BookStatusChangedEvent.of(3, BookStatus.AVAILABLE, BookStatus.BORROWED));
+						bookBorrowCounter.onBookStatusChanged(BookStatusChangedEvent.deleted(1));
+					}
+				}));
+
+		bookBorrowCounter.load();
+
+		assertThat(bookBorrowCounter.top().getBookItemIds()).containsExactly(2, 3);
+		assertThat(bookBorrowCounter.getCount(1)).isZero();
+		assertThat(bookBorrowCounter.getCount(3)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("삭제된 도서는 순위에서 제외")
+	void onBookStatusChanged_WhenDeleted_ThenRemoved() {
+		LocalDateTime now = LocalDateTime.now();
+		load(new Object[] {1, now}, new Object[] {1, now}, new Object[] {2, now});
+
+		bookBorrowCounter.onBookStatusChanged(BookStatusChangedEvent.deleted(1));
+
+		assertThat(bookBorrowCounter.top().getBookItemIds()).containsExactly(2);
+		assertThat(bookBorrowCounter.getCount(1)).isZero();
+	}
+}
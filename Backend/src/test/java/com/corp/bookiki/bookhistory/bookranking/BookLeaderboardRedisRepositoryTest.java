@@ -0,0 +1,63 @@
+package com.corp.bookiki.bookhistory.bookranking;
+
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentMatchers;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.connection.zset.Aggregate;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.corp.bookiki.bookhistory.repository.BookLeaderboardRedisRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BookLeaderboardRedisRepositoryTest {
+
+	@InjectMocks
+	private BookLeaderboardRedisRepository bookLeaderboardRedisRepository;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private StringRedisConnection connection;
+
+	@Test
+	@DisplayName("지난 날짜 key는 덮어쓰고, 오늘 key는 지우지 않고 도서별 큰 값으로 합침")
+	void replaceDaily_WhenToday_ThenMergesWithoutDelete() {
+		LocalDate today = LocalDate.of(2024, 5, 2);
+		given(redisTemplate.executePipelined(ArgumentMatchers.<RedisCallback<Object>>any())).willAnswer(invocation -> {
+			RedisCallback<?> callback = invocation.getArgument(0);
+			callback.doInRedis(connection);
+			return null;
+		});
+		Map<LocalDate, Map<Integer, Integer>> countsByDay = new LinkedHashMap<>();
+		countsByDay.put(today.minusDays(1), Map.of(2, 1));
+		countsByDay.put(today, Map.of(1, 2));
+
+		bookLeaderboardRedisRepository.replaceDaily("BORROW", countsByDay, today, 60);
+
+		InOrder inOrder = inOrder(connection);
+		inOrder.verify(connection).del("LEADERBOARD:BORROW:20240501");
+		inOrder.verify(connection).zAdd("LEADERBOARD:BORROW:20240501", 1, "2");
+		inOrder.verify(connection).expire("LEADERBOARD:BORROW:20240501", 60);
+		inOrder.verify(connection).del("LEADERBOARD:BORROW:20240502:SEED");
+		inOrder.verify(connection).zAdd("LEADERBOARD:BORROW:20240502:SEED", 2, "1");
+		inOrder.verify(connection).zUnionStore("LEADERBOARD:BORROW:20240502", Aggregate.MAX, new int[] {1, 1},
+			"LEADERBOARD:BORROW:20240502", "LEADERBOARD:BORROW:20240502:SEED");
+		inOrder.verify(connection).del("LEADERBOARD:BORROW:20240502:SEED");
+		inOrder.verify(connection).expire("LEADERBOARD:BORROW:20240502", 60);
+		verify(connection, never()).del("LEADERBOARD:BORROW:20240502");
+	}
+}
@@ -0,0 +1,175 @@
+package com.corp.bookiki.bookhistory.bookranking;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.DefaultTypedTuple;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.corp.bookiki.bookhistory.repository.BookHistoryRepository;
+import com.corp.bookiki.bookhistory.repository.BookLeaderboardRedisRepository;
+import com.corp.bookiki.bookhistory.service.BookBorrowCounter;
+import com.corp.bookiki.bookhistory.service.BookLeaderboardService;
+
+@ExtendWith(MockitoExtension.class)
+class BookLeaderboardServiceTest {
+
+	@InjectMocks
+	private BookLeaderboardService bookLeaderboardService;
+
+	@Mock
+	private BookLeaderboardRedisRepository bookLeaderboardRedisRepository;
+
+	@Mock
+	private BookHistoryRepository bookHistoryRepository;
+
+	private void enable() {
+		ReflectionTestUtils.setField(bookLeaderboardService, "enabled", true);
+		ReflectionTestUtils.setField(bookLeaderboardService, "windowDays", 30);
+		ReflectionTestUtils.setField(bookLeaderboardService, "unionTtlSeconds", 60L);
+	}
+
+	@Test
+	@DisplayName("Redis 순위를 사용하지 않으면 대출을 반영하지 않음")
+	void recordBorrow_WhenDisabled_ThenNoRedisCall() {
+		bookLeaderboardService.recordBorrow(1);
+
+		verifyNoInteractions(bookLeaderboardRedisRepository);
+	}
+
+	@Test
+	@DisplayName("대출과 좋아요를 오늘 key에 반영하고, Redis 오류는 대출/좋아요 처리로 전파하지 않음")
+	void record_WhenEnabled_ThenIncrementsToday() {
+		enable();
+		willThrow(new IllegalStateException("redis down")).given(bookLeaderboardRedisRepository)
+			.increment(anyString(), anyInt(), any(LocalDate.class), anyInt(), anyLong());
+
+		assertThatCode(() -> {
+			bookLeaderboardService.recordBorrow(1);
+			bookLeaderboardService.recordFavorite(2);
+		}).doesNotThrowAnyException();
+
+		verify(bookLeaderboardRedisRepository).increment(BookLeaderboardService.BORROW, 1, LocalDate.now(), 1, 31L * 24 * 60 * 60);
+		verify(bookLeaderboardRedisRepository).increment(BookLeaderboardService.FAVORITE, 2, LocalDate.now(), 1, 31L * 24 * 60 * 60);
+	}
+
+	@Test
+	@DisplayName("좋아요를 켰다 끄면 좋아요한 날의 key에서 되돌려 순위가 그대로임")
+	void recordUnfavorite_AfterFavorite_ThenBoardUnchanged() {
+		enable();
+		LocalDate favoritedDay = LocalDate.now().minusDays(3);
+		Map<String, Integer> board = new HashMap<>();
+		willAnswer(invocation -> board.merge(invocation.getArgument(2) + ":" + invocation.getArgument(1),
+			invocation.<Integer>getArgument(3), Integer::sum))
+			.given(bookLeaderboardRedisRepository)
+			.increment(eq(BookLeaderboardService.FAVORITE), anyInt(), any(LocalDate.class), anyInt(), anyLong());
+		board.put(favoritedDay + ":7", 1);
+
+		bookLeaderboardService.recordFavorite(7);
+		bookLeaderboardService.recordUnfavorite(7, LocalDateTime.now());
+		bookLeaderboardService.recordUnfavorite(7, favoritedDay.atTime(10, 0));
+
+		assertThat(board).containsOnly(entry(LocalDate.now() + ":7", 0), entry(favoritedDay + ":7", 0));
+		// 지난 날의 key는 그날 기준으로 남은 기간만큼만 유지
+		verify(bookLeaderboardRedisRepository).increment(BookLeaderboardService.FAVORITE, 7, favoritedDay, -1,
+			28L * 24 * 60 * 60);
+	}
+
+	@Test
+	@DisplayName("기간이 지난 좋아요를 취소하면 순위를 바꾸지 않음")
+	void recordUnfavorite_WhenOutsideWindow_ThenNoRedisCall() {
+		enable();
+
+		bookLeaderboardService.recordUnfavorite(7, LocalDateTime.now().minusDays(30));
+
+		verifyNoInteractions(bookLeaderboardRedisRepository);
+	}
+
+	@Test
+	@DisplayName("최근 기간 순위를 도서 아이템 ID와 횟수로 변환")
+	void top_ConvertsTuples() {
+		enable();
+		Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+		tuples.add(new DefaultTypedTuple<>("7", 5.0));
+		tuples.add(new DefaultTypedTuple<>("3", 2.0));
+		given(bookLeaderboardRedisRepository.findTop(BookLeaderboardService.BORROW, LocalDate.now(), 30, 10, 60L))
+			.willReturn(tuples);
+
+		BookBorrowCounter.Ranking ranking = bookLeaderboardService.top(BookLeaderboardService.BORROW, 10);
+
+		assertThat(ranking.getBookItemIds()).containsExactly(7, 3);
+		assertThat(ranking.getCounts()).containsExactly(5, 2);
+	}
+
+	@Test
+	@DisplayName("모두 취소되어 0 이하로 남은 항목은 순위에서 제외")
+	void top_SkipsNonPositiveScores() {
+		enable();
+		Set<ZSetOperations.TypedTuple<String>> tuples = new LinkedHashSet<>();
+		tuples.add(new DefaultTypedTuple<>("7", 1.0));
+		tuples.add(new DefaultTypedTuple<>("3", 0.0));
+		tuples.add(new DefaultTypedTuple<>("5", -1.0));
+		given(bookLeaderboardRedisRepository.findTop(BookLeaderboardService.FAVORITE, LocalDate.now(), 30, 10, 60L))
+			.willReturn(tuples);
+
+		BookBorrowCounter.Ranking ranking = bookLeaderboardService.top(BookLeaderboardService.FAVORITE, 10);
+
+		assertThat(ranking.getBookItemIds()).containsExactly(7);
+		assertThat(ranking.getCounts()).containsExactly(1);
+	}
+
+	@Test
+	@DisplayName("처음 켤 때 한 노드만 최근 대출 기록을 일 단위로 모아 채움")
+	@SuppressWarnings("unchecked")
+	void seedBorrows_WhenFirstNode_ThenReplacesDailyCounts() {
+		enable();
+		LocalDate today = LocalDate.now();
+		given(bookLeaderboardRedisRepository.claimSeeding(eq(BookLeaderboardService.BORROW), anyLong())).willReturn(true);
+		given(bookHistoryRepository.streamBookItemIdAndBorrowedAtSince(today.minusDays(29).atStartOfDay()))
+			.willReturn(Stream.of(
+				new Object[] {1, today.atTime(10, 0)},
+				new Object[] {1, today.atTime(11, 0)},
+				new Object[] {2, today.minusDays(1).atTime(9, 0)}
+			));
+
+		bookLeaderboardService.seedBorrows();
+
+		ArgumentCaptor<Map<LocalDate, Map<Integer, Integer>>> captor = ArgumentCaptor.forClass(Map.class);
+		verify(bookLeaderboardRedisRepository).replaceDaily(eq(BookLeaderboardService.BORROW), captor.capture(), eq(today),
+			anyLong());
+		assertThat(captor.getValue()).containsEntry(today, Map.of(1, 2))
+			.containsEntry(today.minusDays(1), Map.of(2, 1));
+		verify(bookLeaderboardRedisRepository).markSeeded(BookLeaderboardService.BORROW, 31L * 24 * 60 * 60);
+	}
+
+	@Test
+	@DisplayName("채우다 실패하면 선점을 풀어 다른 노드가 다시 채울 수 있음")
+	void seedBorrows_WhenFails_ThenReleasesClaim() {
+		enable();
+		given(bookLeaderboardRedisRepository.claimSeeding(eq(BookLeaderboardService.BORROW), anyLong())).willReturn(true);
+		given(bookHistoryRepository.streamBookItemIdAndBorrowedAtSince(any(LocalDateTime.class)))
+			.willThrow(new IllegalStateException("db down"));
+
+		assertThatThrownBy(() -> bookLeaderboardService.seedBorrows()).isInstanceOf(IllegalStateException.class);
+
+		verify(bookLeaderboardRedisRepository).releaseSeeding(BookLeaderboardService.BORROW);
+		verify(bookLeaderboardRedisRepository, never()).markSeeded(anyString(), anyLong());
+	}
+}
@@ -31,6 +31,7 @@ import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 import org.springframework.web.context.WebApplicationContext;
 
 import com.corp.bookiki.bookhistory.controller.BookRankingController;
+import com.corp.bookiki.bookhistory.dto.BookFavoriteRankingResponse;
 import com.corp.bookiki.bookhistory.dto.BookRankingResponse;
 import com.corp.bookiki.bookhistory.service.BookRankingService;
 import com.corp.bookiki.global.config.SecurityConfig;
@@ -171,6 +172,24 @@ class BookRankingControllerTest {
 			.andExpect(status().isNotFound());
 	}
 
+	@Test
+	@DisplayName("도서 좋아요 랭킹 조회 성공")
+	void getFavoriteRanking_Success() throws Exception {
+		// Given
+		given(bookRankingService.getFavoriteRanking()).willReturn(List.of(
+			new BookFavoriteRankingResponse(1, "Test Book", "Test Author", 100, "test-image.jpg", 3L)
+		));
+
+		// When & Then
+		mockMvc.perform(get("/api/books/ranking/favorites")
+				.cookie(getUserJwtCookie())
+				.contentType(MediaType.APPLICATION_JSON))
+			.andDo(print())
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$[0].bookItemId").value(1))
+			.andExpect(jsonPath("$[0].favoriteCount").value(3));
+	}
+
 	private Cookie getUserJwtCookie() {
 		Cookie accessTokenCookie = new Cookie("access_token", "user-jwt-token");
 		accessTokenCookie.setPath("/");
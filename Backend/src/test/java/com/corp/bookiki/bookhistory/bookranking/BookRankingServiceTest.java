@@ -8,7 +8,6 @@ import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -17,13 +16,18 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 
+import com.corp.bookiki.bookhistory.dto.BookFavoriteRankingResponse;
 import com.corp.bookiki.bookhistory.dto.BookRankingResponse;
 import com.corp.bookiki.bookhistory.repository.BookHistoryRepository;
+import com.corp.bookiki.bookhistory.service.BookBorrowCounter;
+import com.corp.bookiki.bookhistory.service.BookLeaderboardService;
 import com.corp.bookiki.bookhistory.service.BookRankingService;
 import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
 import com.corp.bookiki.bookitem.entity.BookItemEntity;
 import com.corp.bookiki.bookitem.repository.BookItemRepository;
+import com.corp.bookiki.favorite.repository.FavoriteRepository;
 
 @ExtendWith(MockitoExtension.class)
 class BookRankingServiceTest {
@@ -36,6 +40,15 @@ class BookRankingServiceTest {
 	@Mock
 	private BookItemRepository bookItemRepository;
 
+	@Mock
+	private BookBorrowCounter bookBorrowCounter;
+
+	@Mock
+	private BookLeaderboardService bookLeaderboardService;
+
+	@Mock
+	private FavoriteRepository favoriteRepository;
+
 	@Mock
 	private BookInformationEntity bookInformation;
 
@@ -48,6 +61,7 @@ class BookRankingServiceTest {
 		when(bookInformation.getCategory()).thenReturn(100);
 		when(bookInformation.getImage()).thenReturn("test-image.jpg");
 		when(bookItem.getBookInformation()).thenReturn(bookInformation);
+		when(bookItem.getId()).thenReturn(1);
 	}
 
 	@Test
@@ -67,8 +81,8 @@ class BookRankingServiceTest {
 			any(LocalDateTime.class)
 		)).thenReturn(rankingRows);
 
-		when(bookItemRepository.findByIdWithBookInformation(bookItemId))
-			.thenReturn(Optional.of(bookItem));
+		when(bookItemRepository.findAllWithBookInformationByIds(List.of(bookItemId)))
+			.thenReturn(List.of(bookItem));
 
 		// When
 		List<BookRankingResponse> result = bookRankingService.getBookRanking();
@@ -84,4 +98,87 @@ class BookRankingServiceTest {
 		assertThat(response.getImage()).isEqualTo("test-image.jpg");
 		assertThat(response.getBorrowCount()).isEqualTo(borrowCount);
 	}
-}
\ No newline at end of file
+
+	@Test
+	@DisplayName("카운터가 로드되면 대출 기록을 집계하지 않고 카운터 순위로 조회")
+	void getBookRanking_WhenCounterReady_ThenNoAggregation() {
+		// Given
+		when(bookInformation.getTitle()).thenReturn("Test Book");
+		when(bookBorrowCounter.isReady()).thenReturn(true);
+		when(bookBorrowCounter.top()).thenReturn(new BookBorrowCounter.Ranking(new int[] {1, 2}, new int[] {7, 3}));
+		// 2번 도서는 삭제되어 조회되지 않음
+		when(bookItemRepository.findAllWithBookInformationByIds(List.of(1, 2)))
+			.thenReturn(List.of(bookItem));
+
+		// When
+		List<BookRankingResponse> result = bookRankingService.getBookRanking();
+
+		// Then
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).getBookItemId()).isEqualTo(1);
+		assertThat(result.get(0).getTitle()).isEqualTo("Test Book");
+		assertThat(result.get(0).getBorrowCount()).isEqualTo(7L);
+		verify(bookHistoryRepository, never()).findTopMostBorrowedBooks(any(), any());
+	}
+
+	@Test
+	@DisplayName("Redis 순위를 사용하면 노드별 카운터 대신 Redis 순위로 조회")
+	void getBookRanking_WhenLeaderboardEnabled_ThenUsesRedis() {
+		// Given
+		when(bookInformation.getTitle()).thenReturn("Test Book");
+		when(bookLeaderboardService.isEnabled()).thenReturn(true);
+		when(bookLeaderboardService.top(BookLeaderboardService.BORROW, BookBorrowCounter.TOP_SIZE))
+			.thenReturn(new BookBorrowCounter.Ranking(new int[] {1}, new int[] {12}));
+		when(bookItemRepository.findAllWithBookInformationByIds(List.of(1)))
+			.thenReturn(List.of(bookItem));
+
+		// When
+		List<BookRankingResponse> result = bookRankingService.getBookRanking();
+
+		// Then
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).getBorrowCount()).isEqualTo(12L);
+		verify(bookBorrowCounter, never()).top();
+	}
+
+	@Test
+	@DisplayName("Redis 오류 시 노드별 카운터 순위로 조회")
+	void getBookRanking_WhenRedisFails_ThenFallsBackToCounter() {
+		// Given
+		when(bookInformation.getTitle()).thenReturn("Test Book");
+		when(bookLeaderboardService.isEnabled()).thenReturn(true);
+		when(bookLeaderboardService.top(anyString(), anyInt())).thenThrow(new IllegalStateException("redis down"));
+		when(bookBorrowCounter.isReady()).thenReturn(true);
+		when(bookBorrowCounter.top()).thenReturn(new BookBorrowCounter.Ranking(new int[] {1}, new int[] {4}));
+		when(bookItemRepository.findAllWithBookInformationByIds(List.of(1)))
+			.thenReturn(List.of(bookItem));
+
+		// When
+		List<BookRankingResponse> result = bookRankingService.getBookRanking();
+
+		// Then
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).getBorrowCount()).isEqualTo(4L);
+	}
+
+	@Test
+	@DisplayName("Redis 순위를 사용하지 않으면 좋아요 기록을 집계하여 좋아요 순위 조회")
+	void getFavoriteRanking_WhenLeaderboardDisabled_ThenAggregates() {
+		// Given
+		when(bookInformation.getTitle()).thenReturn("Test Book");
+		List<Object[]> rows = new ArrayList<>();
+		rows.add(new Object[] {1, 3L});
+		when(favoriteRepository.findTopFavoritedSince(any(LocalDateTime.class), any(Limit.class)))
+			.thenReturn(rows);
+		when(bookItemRepository.findAllWithBookInformationByIds(List.of(1)))
+			.thenReturn(List.of(bookItem));
+
+		// When
+		List<BookFavoriteRankingResponse> result = bookRankingService.getFavoriteRanking();
+
+		// Then
+		assertThat(result).hasSize(1);
+		assertThat(result.get(0).getBookItemId()).isEqualTo(1);
+		assertThat(result.get(0).getFavoriteCount()).isEqualTo(3L);
+	}
+}
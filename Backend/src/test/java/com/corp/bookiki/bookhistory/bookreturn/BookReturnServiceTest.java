@@ -1,4 +1,298 @@
 package com.corp.bookiki.bookhistory.bookreturn;
 
-public class BookReturnServiceTest {
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.corp.bookiki.bookhistory.dto.ScanSnapshot;
+import com.corp.bookiki.bookhistory.repository.ScanStateRedisRepository;
+import com.corp.bookiki.bookhistory.service.BookReturnService;
+import com.corp.bookiki.bookhistory.service.MisplacedBookIndex;
+import com.corp.bookiki.bookhistory.service.ScanStateStore;
+import com.corp.bookiki.bookinformation.service.BookTitleMatcher;
+import com.corp.bookiki.bookitem.entity.BookStatus;
+import com.corp.bookiki.bookitem.service.BookCategoryMap;
+import com.corp.bookiki.bookitem.service.BookStatusBitmap;
+import com.corp.bookiki.global.error.code.ErrorCode;
+import com.corp.bookiki.global.error.exception.BookHistoryException;
+import com.corp.bookiki.global.lock.RedisLock;
+import com.corp.bookiki.notice.service.NoticeService;
+import com.corp.bookiki.notification.entity.NotificationInformation;
+import com.corp.bookiki.notification.service.NotificationService;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * 스캔 반납 파이프라인 통합 테스트 (H2)
+ * 서비스의 트랜잭션이 실제로 커밋/롤백되어야 스캔 상태 확정 여부를 확인할 수 있으므로 테스트 트랜잭션을 쓰지 않고 매번 데이터를 지움
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Import({BookReturnService.class, ScanStateStore.class, BookTitleMatcher.class, BookStatusBitmap.class,
+	MisplacedBookIndex.class, BookCategoryMap.class})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookReturnServiceTest {
+
+	private static final String STATION_ID = "test-station";
+
+	@Autowired
+	private BookReturnService bookReturnService;
+
+	@Autowired
+	private BookTitleMatcher bookTitleMatcher;
+
+	@Autowired
+	private ScanStateStore scanStateStore;
+
+	@Autowired
+	private BookStatusBitmap bookStatusBitmap;
+
+	@Autowired
+	private BookCategoryMap bookCategoryMap;
+
+	@Autowired
+	private JdbcTemplate jdbcTemplate;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	@MockBean
+	private NotificationService notificationService;
+
+	@MockBean
+	private NoticeService noticeService;
+
+	@MockBean
+	private ScanStateRedisRepository scanStateRedisRepository;
+
+	@MockBean
+	private RedisLock redisLock;
+
+	private int shelfId;
+	private int availableBookId;
+	private int borrowedBookId;
+
+	// 스테이션 상태는 컨텍스트가 살아 있는 동안 남으므로 테스트마다 다른 스테이션을 사용
+	private String stationId;
+	private static int stationSequence;
+
+	@BeforeEach
+	void setUp() {
+		stationId = STATION_ID + "-" + (++stationSequence);
+		jdbcTemplate.update("INSERT INTO shelves (shelf_number, line_number, category) VALUES (1, 1, 0)");
+		shelfId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM shelves", Integer.class);
+
+		availableBookId = insertBook("클린 코드", "9788966260959", BookStatus.AVAILABLE);
+		borrowedBookId = insertBook("토비의 스프링", "9788960773431", BookStatus.BORROWED);
+		jdbcTemplate.update("INSERT INTO book_histories (book_item_id, borrowed_at, overdue) VALUES (?, ?, ?)",
+			borrowedBookId, Timestamp.valueOf(LocalDateTime.now().minusDays(3)), false);
+
+		bookTitleMatcher.loadIndex();
+		bookStatusBitmap.load();
+		bookCategoryMap.load();
+	}
+
+	@AfterEach
+	void tearDown() {
+		jdbcTemplate.update("DELETE FROM misplaced_books");
+		jdbcTemplate.update("DELETE FROM book_histories");
+		jdbcTemplate.update("DELETE FROM book_items");
+		jdbcTemplate.update("DELETE FROM book_informations");
+		jdbcTemplate.update("DELETE FROM shelves");
+	}
+
+	@Test
+	@DisplayName("대출 중인 도서가 책장에 꽂히면 도서 상태와 열린 대출 이력을 한 번에 반납 처리")
+	void processScanResults_WhenBorrowedBookScanned_ThenReturns() {
+		// when
+		bookReturnService.processScanResults(scan(availableBookId, borrowedBookId));
+
+		// then
+		assertThat(statusOf(borrowedBookId)).isEqualTo(BookStatus.AVAILABLE.name());
+		assertThat(statusOf(availableBookId)).isEqualTo(BookStatus.AVAILABLE.name());
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM book_histories WHERE book_item_id = ? AND returned_at IS NULL",
+			Integer.class, borrowedBookId)).isZero();
+		// 커밋된 상태 변경은 상태 비트맵에도 반영됨
+		assertThat(bookStatusBitmap.filterStatus(new int[] {borrowedBookId}, BookStatus.AVAILABLE))
+			.containsExactly(borrowedBookId);
+		verify(notificationService).addFavoriteBookAvailableNotification(
+			NotificationInformation.FAVORITE_BOOK_AVAILABLE, "토비의 스프링", borrowedBookId);
+	}
+
+	@Test
+	@DisplayName("이전 스캔과 같은 책장은 반납 쿼리를 보내지 않음")
+	void processScanResults_WhenShelfUnchanged_ThenNoQueries() {
+		// given
+		bookReturnService.processScanResults(scan(availableBookId, borrowedBookId));
+		Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		statistics.clear();
+
+		// when
+		bookReturnService.processScanResults(scan(borrowedBookId, availableBookId));
+
+		// then
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+	}
+
+	@Test
+	@DisplayName("트랜잭션이 롤백되면 스캔 변경분을 확정하지 않아 다음 스캔에서 다시 반납 처리")
+	void processScanResults_WhenRolledBack_ThenDeltaNotAccepted() {
+		// given
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+		transactionTemplate.executeWithoutResult(status -> {
+			bookReturnService.processScanResults(scan(borrowedBookId));
+			status.setRollbackOnly();
+		});
+		assertThat(statusOf(borrowedBookId)).isEqualTo(BookStatus.BORROWED.name());
+
+		// when
+		bookReturnService.processScanResults(scan(borrowedBookId));
+
+		// then
+		assertThat(statusOf(borrowedBookId)).isEqualTo(BookStatus.AVAILABLE.name());
+	}
+
+	@Test
+	@DisplayName("재시작 등으로 이전 스냅샷이 없는 책장을 처음 스캔하면, 그 사이 빠진 오배치 도서 기록을 지움")
+	void processScanResults_WhenFirstScanAfterRestart_ThenClearsStaleMisplaced() {
+		// given (이전 실행에서 기록된 오배치 도서 두 권 중 한 권만 아직 책장에 꽂혀 있음)
+		int staleBookId = insertBook("리팩터링", "9791162242742", BookStatus.AVAILABLE);
+		int misplacedBookId = insertBook("데이터베이스 개론", "9788968481475", BookStatus.AVAILABLE);
+		jdbcTemplate.update("UPDATE book_informations SET category = 8 WHERE id = "
+			+ "(SELECT book_information_id FROM book_items WHERE id = ?)", misplacedBookId);
+		bookCategoryMap.load();
+		insertMisplaced(staleBookId);
+		insertMisplaced(misplacedBookId);
+
+		// when
+		bookReturnService.processScanResults(scan(availableBookId, misplacedBookId));
+
+		// then
+		assertThat(jdbcTemplate.queryForList("SELECT book_item_id FROM misplaced_books", Integer.class))
+			.containsExactly(misplacedBookId);
+	}
+
+	@Test
+	@DisplayName("Redis 사용 시 스테이션 락을 Redis에 잡고, 커밋 후 상태를 저장한 뒤에 놓음")
+	void processScanResults_WhenRedisEnabled_ThenHoldsStationLockUntilSaved() {
+		// given
+		ReflectionTestUtils.setField(scanStateStore, "redisEnabled", true);
+		given(redisLock.tryLock(eq("SCAN:STATION:" + stationId), any(Duration.class))).willReturn("token");
+		TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+
+		try {
+			// when
+			transactionTemplate.executeWithoutResult(status -> {
+				bookReturnService.processScanResults(scan(borrowedBookId));
+				// 커밋 전에는 락을 놓지 않음
+				verify(redisLock, never()).unlock(anyString(), anyString());
+			});
+		} finally {
+			ReflectionTestUtils.setField(scanStateStore, "redisEnabled", false);
+		}
+
+		// then
+		InOrder inOrder = inOrder(scanStateRedisRepository, redisLock);
+		inOrder.verify(scanStateRedisRepository).save(any());
+		inOrder.verify(redisLock).unlock("SCAN:STATION:" + stationId, "token");
+		assertThat(statusOf(borrowedBookId)).isEqualTo(BookStatus.AVAILABLE.name());
+	}
+
+	@Test
+	@DisplayName("QR로 반납된 도서가 없으면 OCR 텍스트와 제목이 유사한 대출 중인 도서를 반납 처리")
+	void processScanResults_WhenOcrMatches_ThenReturnsByTitle() {
+		// when
+		bookReturnService.processScanResults(
+			new ScanSnapshot(stationId, 0, new int[0], new int[0][], List.of("토비의 스프링")));
+
+		// then
+		assertThat(statusOf(borrowedBookId)).isEqualTo(BookStatus.AVAILABLE.name());
+		assertThat(jdbcTemplate.queryForObject(
+			"SELECT COUNT(*) FROM book_histories WHERE book_item_id = ? AND returned_at IS NULL",
+			Integer.class, borrowedBookId)).isZero();
+		verify(notificationService, never()).addQrScanErrorNotification(any(), anyString());
+	}
+
+	@Test
+	@DisplayName("카메라 오류가 보고된 스캔은 관리자에게 알리고 CAMERA_ERROR로 거절")
+	void validateCameraStatus_WhenCameraError_ThenNotifiesAndThrows() {
+		ScanSnapshot snapshot = new ScanSnapshot(stationId, 1, new int[0], new int[0][], List.of());
+
+		assertThatThrownBy(() -> bookReturnService.validateCameraStatus(snapshot))
+			.isInstanceOf(BookHistoryException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.CAMERA_ERROR);
+		verify(notificationService).addCameraErrorNotification(NotificationInformation.CAMERA_ERROR);
+	}
+
+	@Test
+	@DisplayName("다른 노드에서 대출된 도서도 분실 의심 도서로 판단하도록 책장의 도서 상태를 DB에서 확인")
+	@SuppressWarnings("unchecked")
+	void lostBooksAlarms_WhenChangedOnAnotherNode_ThenUsesDatabaseStatus() {
+		// given
+		bookReturnService.processScanResults(scan(availableBookId, borrowedBookId));
+		// 이 노드를 거치지 않은 대출 (상태 변경 이벤트 없음)
+		jdbcTemplate.update("UPDATE book_items SET status_type = 'BORROWED' WHERE id = ?", availableBookId);
+
+		// when
+		bookReturnService.lostBooksAlarms();
+
+		// then (앞선 테스트의 스테이션 상태도 남아 있으므로 이 테스트의 도서만 확인)
+		ArgumentCaptor<List<Integer>> captor = ArgumentCaptor.forClass(List.class);
+		verify(notificationService).addLostBookNotification(captor.capture());
+		assertThat(captor.getValue()).contains(availableBookId).doesNotContain(borrowedBookId);
+	}
+
+	private ScanSnapshot scan(int... bookItemIds) {
+		return new ScanSnapshot(stationId, 0, new int[] {shelfId}, new int[][] {bookItemIds}, List.of());
+	}
+
+	private int insertBook(String title, String isbn, BookStatus status) {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		jdbcTemplate.update("INSERT INTO book_informations (title, author, isbn, category) VALUES (?, ?, ?, ?)",
+			title, "테스트 저자", isbn, 0);
+		Integer bookInformationId = jdbcTemplate.queryForObject("SELECT MAX(id) FROM book_informations", Integer.class);
+		jdbcTemplate.update(
+			"INSERT INTO book_items (book_information_id, status_type, deleted, purchase_at, updated_at) VALUES (?, ?, ?, ?, ?)",
+			bookInformationId, status.name(), false, now, now);
+		return jdbcTemplate.queryForObject("SELECT MAX(id) FROM book_items", Integer.class);
+	}
+
+	private void insertMisplaced(int bookItemId) {
+		jdbcTemplate.update(
+			"INSERT INTO misplaced_books (book_item_id, shelf_id, shelf_category, expected_category, detected_at) VALUES (?, ?, ?, ?, ?)",
+			bookItemId, shelfId, 0, 8, Timestamp.valueOf(LocalDateTime.now().minusDays(1)));
+	}
+
+	private String statusOf(int bookItemId) {
+		return jdbcTemplate.queryForObject("SELECT status_type FROM book_items WHERE id = ?", String.class, bookItemId);
+	}
 }
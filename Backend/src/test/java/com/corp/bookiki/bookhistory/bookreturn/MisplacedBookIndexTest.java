@@ -0,0 +1,109 @@
+package com.corp.bookiki.bookhistory.bookreturn;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.corp.bookiki.bookhistory.enitity.MisplacedBookEntity;
+import com.corp.bookiki.bookhistory.repository.MisplacedBookRepository;
+import com.corp.bookiki.bookhistory.service.MisplacedBookIndex;
+import com.corp.bookiki.bookitem.entity.BookStatus;
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
+import com.corp.bookiki.bookitem.service.BookCategoryMap;
+
+@ExtendWith(MockitoExtension.class)
+class MisplacedBookIndexTest {
+
+	@InjectMocks
+	private MisplacedBookIndex misplacedBookIndex;
+
+	@Mock
+	private MisplacedBookRepository misplacedBookRepository;
+
+	@Mock
+	private BookCategoryMap bookCategoryMap;
+
+	@Test
+	@DisplayName("카테고리가 다른 도서만 오배치로 저장하고, 올바르게 꽂힌 도서는 색인에서 제외")
+	@SuppressWarnings("unchecked")
+	void update_WhenMixedCategories_ThenSaveMisplacedOnly() {
+		given(bookCategoryMap.getCategories(new int[] {10, 11, 12})).willReturn(new int[] {0, 8, 0});
+		given(misplacedBookRepository.findAllById(List.of(11))).willReturn(List.of());
+
+		int result = misplacedBookIndex.update("default", 1, 0, new int[] {10, 11, 12}, new int[] {20});
+
+		assertThat(result).isEqualTo(1);
+		verify(misplacedBookRepository).deleteByShelfIdAndBookItemIds(1, List.of(20));
+		verify(misplacedBookRepository).deleteByBookItemIds(List.of(10, 12));
+
+		ArgumentCaptor<List<MisplacedBookEntity>> captor = ArgumentCaptor.forClass(List.class);
+		verify(misplacedBookRepository).saveAll(captor.capture());
+		assertThat(captor.getValue()).singleElement().satisfies(entity -> {
+			assertThat(entity.getBookItemId()).isEqualTo(11);
+			assertThat(entity.getShelfId()).isEqualTo(1);
+			assertThat(entity.getExpectedCategory()).isEqualTo(8);
+		});
+	}
+
+	@Test
+	@DisplayName("이미 오배치로 기록된 도서가 다른 책장에서 발견되면 위치만 갱신")
+	void update_WhenAlreadyMisplaced_ThenRelocate() {
+		MisplacedBookEntity existing = MisplacedBookEntity.builder()
+			.bookItemId(11)
+			.shelfId(1)
+			.shelfCategory(0)
+			.expectedCategory(8)
+			.stationId("default")
+			.detectedAt(LocalDateTime.now().minusDays(1))
+			.build();
+		given(bookCategoryMap.getCategories(new int[] {11})).willReturn(new int[] {8});
+		given(misplacedBookRepository.findAllById(List.of(11))).willReturn(List.of(existing));
+
+		misplacedBookIndex.update("station-2", 2, 3, new int[] {11}, new int[0]);
+
+		assertThat(existing.getShelfId()).isEqualTo(2);
+		assertThat(existing.getShelfCategory()).isEqualTo(3);
+		assertThat(existing.getStationId()).isEqualTo("station-2");
+		verify(misplacedBookRepository, never()).deleteByShelfIdAndBookItemIds(any(), any());
+	}
+
+	@Test
+	@DisplayName("책장 카테고리가 없으면 오배치로 보지 않음")
+	void update_WhenShelfHasNoCategory_ThenNothingMisplaced() {
+		given(bookCategoryMap.getCategories(new int[] {10})).willReturn(new int[] {5});
+
+		int result = misplacedBookIndex.update("default", 1, null, new int[] {10}, new int[0]);
+
+		assertThat(result).isZero();
+		verify(misplacedBookRepository, never()).saveAll(any());
+	}
+
+	@Test
+	@DisplayName("처음 스캔한 책장은 이번 스캔에 없는 도서의 기록을 지우고, 빈 책장이면 모두 지움")
+	void retainOnShelf_WhenFirstScan_ThenDeletesOthers() {
+		misplacedBookIndex.retainOnShelf(1, new int[] {10, 11});
+		misplacedBookIndex.retainOnShelf(2, new int[0]);
+
+		verify(misplacedBookRepository).deleteByShelfIdAndBookItemIdsNotIn(1, List.of(10, 11));
+		verify(misplacedBookRepository).deleteByShelfId(2);
+	}
+
+	@Test
+	@DisplayName("삭제된 도서는 기록에서 제외하고, 다른 상태 변경은 무시")
+	void onBookStatusChanged_WhenDeleted_ThenDeletes() {
+		misplacedBookIndex.onBookStatusChanged(BookStatusChangedEvent.of(11, BookStatus.AVAILABLE, BookStatus.BORROWED));
+		misplacedBookIndex.onBookStatusChanged(BookStatusChangedEvent.deleted(11));
+
+		verify(misplacedBookRepository, times(1)).deleteByBookItemIds(List.of(11));
+	}
+}
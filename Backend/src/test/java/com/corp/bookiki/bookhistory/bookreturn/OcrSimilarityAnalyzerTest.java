@@ -0,0 +1,66 @@
+package com.corp.bookiki.bookhistory.bookreturn;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.corp.bookiki.bookhistory.service.OcrSimilarityAnalyzer;
+import com.corp.bookiki.util.BkTree;
+import com.corp.bookiki.util.LevenshteinDistance;
+
+class OcrSimilarityAnalyzerTest {
+
+	@Test
+	@DisplayName("편집 거리는 상한을 넘으면 상한 + 1을 반환")
+	void distance_WhenExceedsMax_ThenMaxPlusOne() {
+		assertThat(LevenshteinDistance.distance("자바의 정석", "자바의 정석")).isZero();
+		assertThat(LevenshteinDistance.distance("자바의 정석", "자바외 정석")).isEqualTo(1);
+		assertThat(LevenshteinDistance.distance("클린 코드", "리팩터링 2판")).isEqualTo(6);
+		assertThat(LevenshteinDistance.distance("클린 코드", "리팩터링 2판", 3)).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("OCR 오인식 정도의 차이는 같은 텍스트로 판단")
+	void isOcrResultSimilar_WhenSmallTypo_ThenTrue() {
+		assertThat(OcrSimilarityAnalyzer.isOcrResultSimilar("이것이 자바다", "이것이 자바디")).isTrue();
+		assertThat(OcrSimilarityAnalyzer.isOcrResultSimilar("오브젝트", "오브잭트")).isTrue();
+		assertThat(OcrSimilarityAnalyzer.isOcrResultSimilar("오브젝트", "객체지향의 사실과 오해")).isFalse();
+		assertThat(OcrSimilarityAnalyzer.isOcrResultSimilar(null, "오브젝트")).isFalse();
+	}
+
+	@Test
+	@DisplayName("BK-tree 탐색 결과는 전수 비교 결과와 동일")
+	void search_WhenComparedWithLinearScan_ThenSame() {
+		List<String> titles = List.of("자바의 정석", "자바의 정삭", "클린 코드", "클린 아키텍처", "오브젝트", "오브잭트",
+			"모던 자바 인 액션", "이펙티브 자바", "테스트 주도 개발", "도메인 주도 설계");
+		BkTree tree = new BkTree();
+		titles.forEach(tree::add);
+
+		List<String> expected = new ArrayList<>();
+		for (String title : titles) {
+			if (LevenshteinDistance.distance("자바의 정석", title) <= 2) {
+				expected.add(title);
+			}
+		}
+
+		assertThat(tree.search("자바의 정석", 2)).containsExactlyInAnyOrderElementsOf(expected);
+	}
+
+	@Test
+	@DisplayName("이전 OCR 결과가 많아도 새로 등장한 텍스트만 반환")
+	void findNewOcrTexts_WhenManyPreviousResults_ThenOnlyNew() {
+		List<String> previous = new ArrayList<>();
+		for (int i = 0; i < 40; i++) {
+			previous.add("자바 ORM 표준 JPA " + i + "권");
+		}
+
+		List<String> result = OcrSimilarityAnalyzer.findNewOcrTexts(previous,
+			List.of("자바 ORM 표준 JPA 3권", "자바 ORM 표준 JPA 7궈", "데이터 중심 애플리케이션 설계"));
+
+		assertThat(result).containsExactly("데이터 중심 애플리케이션 설계");
+	}
+}
@@ -0,0 +1,79 @@
+package com.corp.bookiki.bookhistory.bookreturn;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.corp.bookiki.bookhistory.dto.ScanSnapshot;
+import com.corp.bookiki.bookhistory.service.BookReturnService;
+import com.corp.bookiki.bookhistory.service.ScanIngestionQueue;
+import com.corp.bookiki.bookhistory.service.ScanPayloadRecorder;
+import com.corp.bookiki.global.error.code.ErrorCode;
+import com.corp.bookiki.global.error.exception.BookHistoryException;
+
+// 워커 스레드를 시작하지 않으므로 등록된 스캔은 대기열에 남음
+@ExtendWith(MockitoExtension.class)
+class ScanIngestionQueueTest {
+
+	@InjectMocks
+	private ScanIngestionQueue scanIngestionQueue;
+
+	@Mock
+	private BookReturnService bookReturnService;
+
+	@Mock
+	private ScanPayloadRecorder scanPayloadRecorder;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(scanIngestionQueue, "capacity", 1);
+	}
+
+	@Test
+	@DisplayName("카메라 오류 스캔은 대기열에 넣지 않고 요청에서 바로 CAMERA_ERROR로 거절")
+	void enqueue_WhenCameraError_ThenRejectedBeforeQueueing() {
+		// given
+		scanIngestionQueue.enqueue(snapshot("station-1", 0));
+		ScanSnapshot cameraError = snapshot("station-1", 1);
+		willThrow(new BookHistoryException(ErrorCode.CAMERA_ERROR))
+			.given(bookReturnService).validateCameraStatus(cameraError);
+
+		// when & then
+		assertThatThrownBy(() -> scanIngestionQueue.enqueue(cameraError))
+			.isInstanceOf(BookHistoryException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.CAMERA_ERROR);
+		// 대기 중인 정상 스캔을 덮어쓰지 않음
+		assertThat(scanIngestionQueue.getDepth()).isEqualTo(1);
+		assertThat(scanIngestionQueue.getMetrics().getCoalesced()).isZero();
+		verify(scanPayloadRecorder, never()).record(cameraError);
+	}
+
+	@Test
+	@DisplayName("대기열이 가득 차면 새 스테이션의 스캔을 SCAN_QUEUE_FULL로 거절")
+	void enqueue_WhenFull_ThenRejected() {
+		// given
+		scanIngestionQueue.enqueue(snapshot("station-1", 0));
+
+		// when & then
+		assertThatThrownBy(() -> scanIngestionQueue.enqueue(snapshot("station-2", 0)))
+			.isInstanceOf(BookHistoryException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.SCAN_QUEUE_FULL);
+		assertThat(scanIngestionQueue.getMetrics().getDropped()).isEqualTo(1);
+		verify(bookReturnService, times(2)).validateCameraStatus(any());
+	}
+
+	private ScanSnapshot snapshot(String stationId, int cameraStatus) {
+		return new ScanSnapshot(stationId, cameraStatus, new int[] {1}, new int[][] {{10}}, List.of());
+	}
+}
@@ -0,0 +1,70 @@
+package com.corp.bookiki.bookhistory.bookreturn;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.corp.bookiki.bookhistory.dto.ScanSnapshot;
+import com.corp.bookiki.bookhistory.service.ScanPayloadCodec;
+import com.corp.bookiki.bookhistory.service.StationScanState;
+import com.corp.bookiki.global.error.exception.BookHistoryException;
+
+class ScanPayloadCodecTest {
+
+	@Test
+	@DisplayName("인코딩한 스캔 결과를 그대로 디코딩")
+	void decode_WhenEncoded_ThenSameSnapshot() {
+		ScanSnapshot snapshot = new ScanSnapshot("floor2-camera1", 0,
+			new int[] {1, 2, 300},
+			new int[][] {{5, 3, 100000}, {}, {7, 7, 8}},
+			List.of("클린 코드", "객체지향의 사실과 오해"));
+
+		ScanSnapshot decoded = ScanPayloadCodec.decode(ScanPayloadCodec.encode(snapshot));
+
+		assertThat(decoded.getStationId()).isEqualTo("floor2-camera1");
+		assertThat(decoded.getCameraStatus()).isZero();
+		assertThat(decoded.getShelfIds()).containsExactly(1, 2, 300);
+		assertThat(decoded.getShelfBookItemIds()[0]).containsExactly(5, 3, 100000);
+		assertThat(decoded.getShelfBookItemIds()[1]).isEmpty();
+		assertThat(decoded.getShelfBookItemIds()[2]).containsExactly(7, 7, 8);
+		assertThat(decoded.getOcrResults()).containsExactly("클린 코드", "객체지향의 사실과 오해");
+	}
+
+	@Test
+	@DisplayName("스테이션 ID가 비어 있으면 기본 스테이션으로 처리")
+	void decode_WhenNoStation_ThenDefault() {
+		ScanSnapshot snapshot = new ScanSnapshot("", 1, new int[0], new int[0][], List.of());
+
+		assertThat(ScanPayloadCodec.decode(ScanPayloadCodec.encode(snapshot)).getStationId())
+			.isEqualTo(StationScanState.DEFAULT_STATION_ID);
+	}
+
+	@Test
+	@DisplayName("잘린 요청이나 잘못된 헤더는 예외 발생")
+	void decode_WhenMalformed_ThenThrows() {
+		byte[] encoded = ScanPayloadCodec.encode(new ScanSnapshot("a", 0,
+			new int[] {1}, new int[][] {{1, 2, 3}}, List.of("오브젝트")));
+
+		assertThatThrownBy(() -> ScanPayloadCodec.decode(Arrays.copyOf(encoded, encoded.length - 2)))
+			.isInstanceOf(BookHistoryException.class);
+		assertThatThrownBy(() -> ScanPayloadCodec.decode(new byte[] {'{', '}', 1}))
+			.isInstanceOf(BookHistoryException.class);
+	}
+
+	@Test
+	@DisplayName("정렬된 도서 ID는 JSON보다 훨씬 작게 인코딩")
+	void encode_WhenSortedIds_ThenCompact() {
+		int[] bookItemIds = new int[100];
+		for (int i = 0; i < bookItemIds.length; i++) {
+			bookItemIds[i] = 10000 + i * 3;
+		}
+		ScanSnapshot snapshot = new ScanSnapshot("default", 0, new int[] {1}, new int[][] {bookItemIds}, List.of());
+
+		// JSON은 도서 ID마다 6바이트 ("10000,"), 바이너리는 첫 값을 제외하면 1바이트
+		assertThat(ScanPayloadCodec.encode(snapshot).length).isLessThan(120);
+	}
+}
@@ -0,0 +1,74 @@
+package com.corp.bookiki.bookhistory.bookreturn;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+
+import com.corp.bookiki.bookhistory.repository.ScanStateRedisRepository;
+import com.corp.bookiki.bookhistory.service.StationScanState;
+
+@ExtendWith(MockitoExtension.class)
+class ScanStateRedisRepositoryTest {
+
+	@InjectMocks
+	private ScanStateRedisRepository scanStateRedisRepository;
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private RedisOperations<String, String> operations;
+
+	@Mock
+	private HashOperations<String, Object, Object> hashOperations;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private SetOperations<String, String> setOperations;
+
+	@Test
+	@DisplayName("책장 해시를 지우고 다시 쓰는 명령을 MULTI/EXEC 한 번으로 묶어 저장")
+	@SuppressWarnings("unchecked")
+	void save_ThenSingleTransaction() {
+		// given
+		StationScanState state = new StationScanState("station-1");
+		state.getShelfScanDiffEngine().restore(1, new int[] {10, 11});
+		state.updatePreviousOcrResults(List.of("클린 코드"));
+		given(redisTemplate.execute(any(SessionCallback.class)))
+			.willAnswer(invocation -> ((SessionCallback<?>)invocation.getArgument(0)).execute(operations));
+		given(operations.<Object, Object>opsForHash()).willReturn(hashOperations);
+		given(operations.opsForValue()).willReturn(valueOperations);
+		given(operations.opsForSet()).willReturn(setOperations);
+
+		// when
+		scanStateRedisRepository.save(state);
+
+		// then
+		InOrder inOrder = inOrder(operations, hashOperations, valueOperations, setOperations);
+		inOrder.verify(operations).multi();
+		inOrder.verify(operations).delete("SCAN:STATION:station-1:SHELF");
+		inOrder.verify(hashOperations).putAll("SCAN:STATION:station-1:SHELF", Map.of("1", "10,11"));
+		inOrder.verify(valueOperations).set("SCAN:STATION:station-1:OCR", "클린 코드");
+		inOrder.verify(setOperations).add("SCAN:STATIONS", "station-1");
+		inOrder.verify(operations).exec();
+		verify(redisTemplate, never()).delete(anyString());
+	}
+}
@@ -0,0 +1,73 @@
+package com.corp.bookiki.bookhistory.bookreturn;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.Duration;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.corp.bookiki.bookhistory.repository.ScanStateRedisRepository;
+import com.corp.bookiki.bookhistory.service.ScanStateStore;
+import com.corp.bookiki.global.error.code.ErrorCode;
+import com.corp.bookiki.global.error.exception.BookHistoryException;
+import com.corp.bookiki.global.lock.RedisLock;
+
+@ExtendWith(MockitoExtension.class)
+class ScanStateStoreTest {
+
+	@InjectMocks
+	private ScanStateStore scanStateStore;
+
+	@Mock
+	private ScanStateRedisRepository scanStateRedisRepository;
+
+	@Mock
+	private RedisLock redisLock;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(scanStateStore, "redisEnabled", true);
+		ReflectionTestUtils.setField(scanStateStore, "lockLeaseMillis", 30000L);
+		ReflectionTestUtils.setField(scanStateStore, "lockWaitMillis", 1000L);
+	}
+
+	@Test
+	@DisplayName("다른 노드가 스테이션 락을 놓을 때까지 기다렸다가 잡음")
+	void acquireStationLock_WhenHeldByOtherNode_ThenRetries() {
+		given(redisLock.tryLock(eq("SCAN:STATION:station-1"), eq(Duration.ofMillis(30000))))
+			.willReturn(null, null, "token");
+
+		assertThat(scanStateStore.acquireStationLock("station-1")).isEqualTo("token");
+		verify(redisLock, times(3)).tryLock(anyString(), any());
+	}
+
+	@Test
+	@DisplayName("기다리는 동안 락을 잡지 못하면 SCAN_STATION_BUSY")
+	void acquireStationLock_WhenNeverReleased_ThenBusy() {
+		ReflectionTestUtils.setField(scanStateStore, "lockWaitMillis", 0L);
+		given(redisLock.tryLock(anyString(), any())).willReturn(null);
+
+		assertThatThrownBy(() -> scanStateStore.acquireStationLock("station-1"))
+			.isInstanceOf(BookHistoryException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.SCAN_STATION_BUSY);
+	}
+
+	@Test
+	@DisplayName("Redis를 사용하지 않으면 노드 안의 락만 사용")
+	void acquireStationLock_WhenRedisDisabled_ThenNoRedisLock() {
+		ReflectionTestUtils.setField(scanStateStore, "redisEnabled", false);
+
+		assertThat(scanStateStore.acquireStationLock("station-1")).isNull();
+		scanStateStore.releaseStationLock("station-1", null);
+		verifyNoInteractions(redisLock);
+	}
+}
@@ -0,0 +1,82 @@
+package com.corp.bookiki.bookhistory.bookreturn;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.corp.bookiki.bookhistory.service.ShelfScanDiffEngine;
+
+class ShelfScanDiffEngineTest {
+
+	private ShelfScanDiffEngine shelfScanDiffEngine;
+
+	@BeforeEach
+	void setUp() {
+		shelfScanDiffEngine = new ShelfScanDiffEngine();
+	}
+
+	@Test
+	@DisplayName("첫 스캔에서는 모든 도서가 추가된 것으로 계산")
+	void diff_WhenFirstScan_ThenAllAdded() {
+		ShelfScanDiffEngine.Delta delta = shelfScanDiffEngine.diff(1, List.of(3, 1, 2, 2));
+
+		assertThat(delta.getAdded()).containsExactly(1, 2, 3);
+		assertThat(delta.getRemoved()).isEmpty();
+		assertThat(delta.isInitial()).isTrue();
+	}
+
+	@Test
+	@DisplayName("변화가 없는 책장은 빈 델타를 반환")
+	void diff_WhenNothingMoved_ThenEmpty() {
+		shelfScanDiffEngine.accept(shelfScanDiffEngine.diff(1, List.of(1, 2, 3)));
+
+		ShelfScanDiffEngine.Delta delta = shelfScanDiffEngine.diff(1, List.of(3, 2, 1));
+
+		assertThat(delta.isEmpty()).isTrue();
+		assertThat(delta.isInitial()).isFalse();
+	}
+
+	@Test
+	@DisplayName("저장소에서 복원한 책장은 첫 스캔으로 보지 않음")
+	void diff_WhenRestored_ThenNotInitial() {
+		shelfScanDiffEngine.restore(1, new int[0]);
+
+		ShelfScanDiffEngine.Delta delta = shelfScanDiffEngine.diff(1, List.of(1));
+
+		assertThat(delta.isInitial()).isFalse();
+		assertThat(delta.getAdded()).containsExactly(1);
+	}
+
+	@Test
+	@DisplayName("추가/제거된 도서만 계산")
+	void diff_WhenBooksMoved_ThenOnlyDelta() {
+		shelfScanDiffEngine.accept(shelfScanDiffEngine.diff(1, List.of(1, 2, 3)));
+
+		ShelfScanDiffEngine.Delta delta = shelfScanDiffEngine.diff(1, List.of(2, 3, 4, 5));
+
+		assertThat(delta.getAdded()).containsExactly(4, 5);
+		assertThat(delta.getRemoved()).containsExactly(1);
+	}
+
+	@Test
+	@DisplayName("accept 하기 전에는 스냅샷이 갱신되지 않음")
+	void diff_WhenNotAccepted_ThenSnapshotUnchanged() {
+		shelfScanDiffEngine.diff(1, List.of(1, 2));
+
+		assertThat(shelfScanDiffEngine.getSnapshot(1)).isEmpty();
+		assertThat(shelfScanDiffEngine.diff(1, List.of(1, 2)).getAdded()).containsExactly(1, 2);
+	}
+
+	@Test
+	@DisplayName("전체 스냅샷은 모든 책장의 도서를 합쳐서 반환")
+	void getAllSnapshotBookItemIds() {
+		shelfScanDiffEngine.accept(shelfScanDiffEngine.diff(1, List.of(1, 2)));
+		shelfScanDiffEngine.accept(shelfScanDiffEngine.diff(2, List.of(5, 3)));
+
+		assertThat(shelfScanDiffEngine.getAllSnapshotBookItemIds()).containsExactly(1, 2, 3, 5);
+	}
+}
@@ -219,7 +219,8 @@ class BookHistoryControllerTest {
 			eq(startDate),
 			eq(endDate),
 			eq(false),
-			any(Pageable.class)
+			any(Pageable.class),
+			eq(false)
 		)).willReturn(page);
 
 		mockMvc.perform(get("/api/user/book-histories")
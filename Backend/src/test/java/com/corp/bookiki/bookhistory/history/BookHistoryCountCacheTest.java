@@ -0,0 +1,96 @@
+package com.corp.bookiki.bookhistory.history;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.corp.bookiki.bookhistory.service.BookHistoryCountCache;
+import com.corp.bookiki.bookitem.entity.BookStatus;
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
+import com.corp.bookiki.global.dto.ApproximatePage;
+
+class BookHistoryCountCacheTest {
+
+	private static final String KEY = BookHistoryCountCache.key("findAllForUser", 1, null);
+
+	private BookHistoryCountCache cache;
+	private AtomicInteger countCalls;
+
+	@BeforeEach
+	void setUp() {
+		cache = new BookHistoryCountCache();
+		ReflectionTestUtils.setField(cache, "ttlSeconds", 30L);
+		ReflectionTestUtils.setField(cache, "maxEntries", 100);
+		countCalls = new AtomicInteger();
+	}
+
+	private LongSupplier counter(long total) {
+		return () -> {
+			countCalls.incrementAndGet();
+			return total;
+		};
+	}
+
+	private static boolean isApproximate(Page<?> page) {
+		return page instanceof ApproximatePage<?> approximatePage && approximatePage.isApproximate();
+	}
+
+	@Test
+	@DisplayName("마지막 페이지면 COUNT 조회 없이 전체 개수 계산")
+	void toPage_WhenLastPage_ThenNoCount() {
+		Page<String> page = cache.toPage(List.of("a"), PageRequest.of(2, 2), KEY, false, counter(100));
+
+		assertThat(page.getTotalElements()).isEqualTo(5);
+		assertThat(isApproximate(page)).isFalse();
+		assertThat(countCalls).hasValue(0);
+	}
+
+	@Test
+	@DisplayName("같은 조건은 캐시된 개수를 쓰고, 조건 문자열의 앞뒤 공백은 무시")
+	void toPage_WhenCached_ThenCountOnce() {
+		cache.toPage(List.of("a", "b"), PageRequest.of(0, 2), KEY, false, counter(10));
+		Page<String> page = cache.toPage(List.of("c", "d"), PageRequest.of(1, 2),
+			BookHistoryCountCache.key("findAllForUser", " 1 ", ""), false, counter(10));
+
+		assertThat(page.getTotalElements()).isEqualTo(10);
+		assertThat(countCalls).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("대출 기록이 바뀌면 다시 세고, approximate면 이전 개수를 근사값으로 반환")
+	void toPage_WhenInvalidated_ThenRecountOrApproximate() {
+		cache.toPage(List.of("a", "b"), PageRequest.of(0, 2), KEY, false, counter(10));
+		cache.onBookStatusChanged(BookStatusChangedEvent.of(1, BookStatus.AVAILABLE, BookStatus.BORROWED));
+
+		Page<String> approximate = cache.toPage(List.of("a", "b"), PageRequest.of(0, 2), KEY, true, counter(11));
+		assertThat(approximate.getTotalElements()).isEqualTo(10);
+		assertThat(isApproximate(approximate)).isTrue();
+		assertThat(countCalls).hasValue(1);
+
+		Page<String> exact = cache.toPage(List.of("a", "b"), PageRequest.of(0, 2), KEY, false, counter(11));
+		assertThat(exact.getTotalElements()).isEqualTo(11);
+		assertThat(isApproximate(exact)).isFalse();
+		assertThat(countCalls).hasValue(2);
+	}
+
+	@Test
+	@DisplayName("approximate 페이지를 변환해도 근사 여부 유지")
+	void map_KeepsApproximate() {
+		Page<String> page = cache.toPage(List.of("a", "b"), PageRequest.of(0, 2), KEY, true, counter(10));
+
+		Page<Integer> mapped = page.map(String::length);
+
+		assertThat(mapped.getTotalElements()).isEqualTo(3);
+		assertThat(isApproximate(mapped)).isTrue();
+		assertThat(countCalls).hasValue(0);
+	}
+}
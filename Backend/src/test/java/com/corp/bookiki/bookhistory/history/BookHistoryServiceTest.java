@@ -15,7 +15,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -25,16 +27,22 @@ import org.springframework.test.util.ReflectionTestUtils;
 import com.corp.bookiki.bookhistory.dto.BookHistoryResponse;
 import com.corp.bookiki.bookhistory.enitity.BookHistoryEntity;
 import com.corp.bookiki.bookhistory.repository.BookHistoryRepository;
+import com.corp.bookiki.bookhistory.service.BookHistoryCountCache;
 import com.corp.bookiki.bookhistory.service.BookHistoryService;
 import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookinformation.repository.BookInformationFulltextRepository;
 import com.corp.bookiki.bookitem.entity.BookItemEntity;
 import com.corp.bookiki.bookitem.entity.BookStatus;
+import com.corp.bookiki.global.dto.ApproximatePage;
+import com.corp.bookiki.global.dto.CursorResponse;
 import com.corp.bookiki.global.error.code.ErrorCode;
 import com.corp.bookiki.global.error.exception.BookHistoryException;
+import com.corp.bookiki.global.error.exception.BusinessException;
 import com.corp.bookiki.user.dto.AuthUser;
 import com.corp.bookiki.user.entity.Provider;
 import com.corp.bookiki.user.entity.Role;
 import com.corp.bookiki.user.entity.UserEntity;
+import com.corp.bookiki.util.CursorUtil;
 
 @ExtendWith(MockitoExtension.class)
 class BookHistoryServiceTest {
@@ -44,6 +52,12 @@ class BookHistoryServiceTest {
 	@Mock
 	private BookHistoryRepository bookHistoryRepository;
 
+	@Mock
+	private BookInformationFulltextRepository bookInformationFulltextRepository;
+
+	@Spy
+	private BookHistoryCountCache bookHistoryCountCache = new BookHistoryCountCache();
+
 	private UserEntity testUser;
 	private BookItemEntity testBookItem;
 	private BookHistoryEntity testBookHistory;
@@ -166,6 +180,167 @@ class BookHistoryServiceTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("관리자용 대출 기록 커서 조회 테스트")
+	class AdminBookHistoriesByCursorTest {
+		@Test
+		@DisplayName("한 건 더 조회되면 마지막 기록으로 다음 커서를 만듦")
+		void getAdminBookHistoriesByCursor_WhenMoreRows_ThenNextCursor() {
+			// Given
+			LocalDate startDate = now.toLocalDate().minusDays(7);
+			LocalDate endDate = now.toLocalDate();
+			BookHistoryEntity older = BookHistoryEntity.builder()
+				.bookItem(testBookItem)
+				.user(testUser)
+				.borrowedAt(now.minusDays(1))
+				.overdue(false)
+				.build();
+			ReflectionTestUtils.setField(older, "id", 2);
+
+			given(bookHistoryRepository.findAllBookHistoriesForAdminBefore(
+				any(LocalDateTime.class), any(LocalDateTime.class), any(), any(), any(), isNull(), isNull(),
+				eq(Limit.of(2))
+			)).willReturn(List.of(testBookHistory, older));
+
+			// When
+			CursorResponse<BookHistoryResponse> result = bookHistoryService.getAdminBookHistoriesByCursor(
+				startDate, endDate, null, null, null, null, 1);
+
+			// Then
+			assertThat(result.getContent()).hasSize(1);
+			assertThat(result.isHasNext()).isTrue();
+			CursorUtil.Cursor cursor = CursorUtil.decode(result.getNextCursor());
+			assertThat(cursor.getSortKey()).isEqualTo(now);
+			assertThat(cursor.getId()).isEqualTo(testBookHistory.getId());
+		}
+
+		@Test
+		@DisplayName("커서의 대출 일시와 ID 다음부터 조회")
+		void getAdminBookHistoriesByCursor_WhenCursor_ThenSeekFromCursor() {
+			// Given
+			LocalDate startDate = now.toLocalDate().minusDays(7);
+			LocalDate endDate = now.toLocalDate();
+			given(bookHistoryRepository.findAllBookHistoriesForAdminBefore(
+				any(LocalDateTime.class), any(LocalDateTime.class), any(), any(), any(), eq(now), eq(7),
+				eq(Limit.of(21))
+			)).willReturn(List.of(testBookHistory));
+
+			// When
+			CursorResponse<BookHistoryResponse> result = bookHistoryService.getAdminBookHistoriesByCursor(
+				startDate, endDate, null, null, null, CursorUtil.encode(now, 7), 20);
+
+			// Then
+			assertThat(result.getContent()).hasSize(1);
+			assertThat(result.isHasNext()).isFalse();
+			assertThat(result.getNextCursor()).isNull();
+		}
+
+		@Test
+		@DisplayName("형식이 잘못된 커서는 예외 발생")
+		void getAdminBookHistoriesByCursor_WhenInvalidCursor_ThenThrowsException() {
+			// When & Then
+			assertThatThrownBy(() -> bookHistoryService.getAdminBookHistoriesByCursor(
+				now.toLocalDate(), now.toLocalDate(), null, null, null, "not-a-cursor", 20))
+				.isInstanceOf(BusinessException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+			// 정렬 기준 값이 없는 커서 (ID 정렬 목록의 커서)
+			assertThatThrownBy(() -> bookHistoryService.getAdminBookHistoriesByCursor(
+				now.toLocalDate(), now.toLocalDate(), null, null, null, CursorUtil.encode(7), 20))
+				.isInstanceOf(BusinessException.class)
+				.hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_CURSOR);
+		}
+	}
+
+	@Nested
+	@DisplayName("관리자용 대출 기록 도서 검색 테스트")
+	class SearchAdminBookHistoriesTest {
+		@Test
+		@DisplayName("FULLTEXT 검색을 사용할 수 없으면 LIKE 조회")
+		void searchAdminBookHistories_WhenFulltextUnavailable_ThenLike() {
+			// Given
+			LocalDate startDate = now.toLocalDate().minusDays(7);
+			LocalDate endDate = now.toLocalDate();
+			given(bookInformationFulltextRepository.isAvailable()).willReturn(false);
+			given(bookHistoryRepository.searchBookHistory(
+				any(LocalDateTime.class), any(LocalDateTime.class), eq("Test"), eq(testPageable)))
+				.willReturn(List.of(testBookHistory));
+
+			// When
+			Page<BookHistoryResponse> result = bookHistoryService.searchAdminBookHistories(
+				startDate, endDate, " Test ", testPageable);
+
+			// Then
+			assertThat(result.getContent()).hasSize(1);
+			assertThat(result.getTotalElements()).isEqualTo(1);
+			verify(bookInformationFulltextRepository, never()).findBookHistoryIds(any(), any(), any(), anyLong(), anyInt());
+			// 첫 페이지가 다 차지 않았으므로 COUNT 조회 없음
+			verify(bookHistoryRepository, never()).countSearchBookHistory(any(), any(), any());
+		}
+
+		@Test
+		@DisplayName("LIKE 조회의 전체 개수는 캐시해 같은 조건에서 다시 세지 않음")
+		void searchAdminBookHistories_WhenSameFilter_ThenCountCached() {
+			// Given
+			ReflectionTestUtils.setField(bookHistoryCountCache, "ttlSeconds", 30L);
+			ReflectionTestUtils.setField(bookHistoryCountCache, "maxEntries", 100);
+			LocalDate startDate = now.toLocalDate().minusDays(7);
+			LocalDate endDate = now.toLocalDate();
+			Pageable pageable = PageRequest.of(0, 1);
+			given(bookInformationFulltextRepository.isAvailable()).willReturn(false);
+			given(bookHistoryRepository.searchBookHistory(
+				any(LocalDateTime.class), any(LocalDateTime.class), eq("Test"), any(Pageable.class)))
+				.willReturn(List.of(testBookHistory));
+			given(bookHistoryRepository.countSearchBookHistory(
+				any(LocalDateTime.class), any(LocalDateTime.class), eq("Test")))
+				.willReturn(5L);
+
+			// When
+			Page<BookHistoryResponse> first = bookHistoryService.searchAdminBookHistories(
+				startDate, endDate, "Test", pageable);
+			Page<BookHistoryResponse> second = bookHistoryService.searchAdminBookHistories(
+				startDate, endDate, "Test ", pageable.next());
+
+			// Then
+			assertThat(first.getTotalElements()).isEqualTo(5);
+			assertThat(second.getTotalElements()).isEqualTo(5);
+			verify(bookHistoryRepository, times(1)).countSearchBookHistory(any(), any(), any());
+		}
+
+		@Test
+		@DisplayName("FULLTEXT 검색 결과 ID 순서대로 대출 기록 반환")
+		void searchAdminBookHistories_WhenFulltextAvailable_ThenOrderedByIds() {
+			// Given
+			LocalDate startDate = now.toLocalDate().minusDays(7);
+			LocalDate endDate = now.toLocalDate();
+			BookHistoryEntity older = BookHistoryEntity.builder()
+				.bookItem(testBookItem)
+				.user(testUser)
+				.borrowedAt(now.minusDays(3))
+				.overdue(false)
+				.build();
+			ReflectionTestUtils.setField(older, "id", 2);
+
+			given(bookInformationFulltextRepository.isAvailable()).willReturn(true);
+			given(bookInformationFulltextRepository.findBookHistoryIds(
+				any(LocalDateTime.class), any(LocalDateTime.class), eq("+\"Test\" +\"Book\""), eq(0L), eq(20)))
+				.willReturn(List.of(1, 2));
+			given(bookInformationFulltextRepository.countBookHistories(
+				any(LocalDateTime.class), any(LocalDateTime.class), eq("+\"Test\" +\"Book\"")))
+				.willReturn(2L);
+			given(bookHistoryRepository.findAllWithDetailsByIds(List.of(1, 2)))
+				.willReturn(List.of(older, testBookHistory));
+
+			// When
+			Page<BookHistoryResponse> result = bookHistoryService.searchAdminBookHistories(
+				startDate, endDate, "Test Book", testPageable);
+
+			// Then
+			assertThat(result.getTotalElements()).isEqualTo(2);
+			assertThat(result.getContent()).extracting(BookHistoryResponse::getId).containsExactly(1, 2);
+			verify(bookHistoryRepository, never()).searchBookHistory(any(), any(), any(), any());
+		}
+	}
+
 	@Nested
 	@DisplayName("사용자 대출 기록 조회 테스트")
 	class UserBookHistoriesTest {
@@ -176,15 +351,13 @@ class BookHistoryServiceTest {
 			LocalDate startDate = now.toLocalDate().minusDays(7);
 			LocalDate endDate = now.toLocalDate();
 
-			Page<BookHistoryEntity> mockPage = new PageImpl<>(List.of(testBookHistory));
-
-			given(bookHistoryRepository.findAllForUser(
+			given(bookHistoryRepository.findPageForUser(
 				eq(testUser.getId()),
 				any(LocalDateTime.class),
 				any(LocalDateTime.class),
 				eq(false),
 				eq(testPageable)
-			)).willReturn(mockPage);
+			)).willReturn(List.of(testBookHistory));
 
 			// When
 			Page<BookHistoryResponse> result = bookHistoryService.getUserBookHistories(
@@ -196,7 +369,7 @@ class BookHistoryServiceTest {
 			assertThat(result.getContent()).hasSize(1);
 			assertThat(result.getContent().get(0).getUserId()).isEqualTo(testUser.getId());
 
-			verify(bookHistoryRepository).findAllForUser(
+			verify(bookHistoryRepository).findPageForUser(
 				eq(testUser.getId()),
 				any(LocalDateTime.class),
 				any(LocalDateTime.class),
@@ -205,6 +378,30 @@ class BookHistoryServiceTest {
 			);
 		}
 
+		@Test
+		@DisplayName("approximateTotal이면 캐시가 없을 때 COUNT 조회 없이 추정 개수 반환")
+		void getUserBookHistories_WhenApproximate_ThenSkipsCount() {
+			// Given
+			LocalDate startDate = now.toLocalDate().minusDays(7);
+			LocalDate endDate = now.toLocalDate();
+			Pageable pageable = PageRequest.of(0, 1);
+			given(bookHistoryRepository.findPageForUser(
+				eq(testUser.getId()), any(LocalDateTime.class), any(LocalDateTime.class), isNull(), eq(pageable)
+			)).willReturn(List.of(testBookHistory));
+
+			// When
+			Page<BookHistoryResponse> result = bookHistoryService.getUserBookHistories(
+				testUser.getId(), startDate, endDate, null, pageable, true
+			);
+
+			// Then
+			assertThat(result.getTotalElements()).isEqualTo(2);
+			assertThat(result.hasNext()).isTrue();
+			assertThat(result).isInstanceOfSatisfying(ApproximatePage.class,
+				page -> assertThat(page.isApproximate()).isTrue());
+			verify(bookHistoryRepository, never()).countAllForUser(any(), any(), any(), any());
+		}
+
 		@Test
 		@DisplayName("사용자 대출 기록 조회 중 리포지토리 오류 발생")
 		void getUserBookHistories_RepositoryError() {
@@ -212,7 +409,7 @@ class BookHistoryServiceTest {
 			LocalDate startDate = now.toLocalDate().minusDays(7);
 			LocalDate endDate = now.toLocalDate();
 
-			given(bookHistoryRepository.findAllForUser(
+			given(bookHistoryRepository.findPageForUser(
 				eq(testUser.getId()),
 				any(LocalDateTime.class),
 				any(LocalDateTime.class),
@@ -0,0 +1,80 @@
+package com.corp.bookiki.bookinformation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatchers;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.corp.bookiki.bookinformation.repository.BookInformationFulltextRepository;
+
+class BookInformationFulltextRepositoryTest {
+
+	private final NamedParameterJdbcTemplate namedJdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+
+	private BookInformationFulltextRepository mysqlRepositoryWithIndexes(String... indexNames) {
+		given(namedJdbcTemplate.getJdbcTemplate()).willReturn(jdbcTemplate);
+		given(jdbcTemplate.execute(ArgumentMatchers.<ConnectionCallback<String>>any())).willReturn("MySQL");
+		given(namedJdbcTemplate.queryForList(anyString(), any(MapSqlParameterSource.class), eq(String.class)))
+			.willReturn(List.of(indexNames));
+		BookInformationFulltextRepository repository = new BookInformationFulltextRepository(namedJdbcTemplate);
+		ReflectionTestUtils.setField(repository, "enabled", true);
+		return repository;
+	}
+
+	@Test
+	@DisplayName("시작 시 인덱스가 모두 있으면 FULLTEXT 검색 사용 (인덱스를 만들지 않음)")
+	void verifyIndexes_WhenAllExist_ThenAvailable() {
+		BookInformationFulltextRepository repository = mysqlRepositoryWithIndexes("ft_book_info_title",
+			"ft_book_info_author", "ft_book_info_publisher", "ft_book_info_title_description",
+			"ft_book_info_title_author", "ft_book_info_title_author_publisher");
+
+		repository.verifyIndexes();
+
+		assertThat(repository.isAvailable()).isTrue();
+		verify(jdbcTemplate, never()).execute(anyString());
+	}
+
+	@Test
+	@DisplayName("인덱스가 하나라도 없으면 만들지 않고 LIKE 조회 사용")
+	void verifyIndexes_WhenMissing_ThenUnavailable() {
+		BookInformationFulltextRepository repository = mysqlRepositoryWithIndexes("ft_book_info_title");
+
+		repository.verifyIndexes();
+
+		assertThat(repository.isAvailable()).isFalse();
+		verify(jdbcTemplate, never()).execute(anyString());
+	}
+
+	@Test
+	@DisplayName("단어마다 필수 구문 검색으로 변환")
+	void toBooleanQuery_WhenWords_ThenRequiredPhrases() {
+		assertThat(BookInformationFulltextRepository.toBooleanQuery(" 자바의  정석 "))
+			.isEqualTo("+\"자바의\" +\"정석\"");
+	}
+
+	@Test
+	@DisplayName("BOOLEAN MODE 연산자는 제거")
+	void toBooleanQuery_WhenOperators_ThenRemoved() {
+		assertThat(BookInformationFulltextRepository.toBooleanQuery("-스프링* \"부트\""))
+			.isEqualTo("+\"스프링\" +\"부트\"");
+	}
+
+	@Test
+	@DisplayName("ngram 크기보다 짧은 단어가 있으면 FULLTEXT로 찾을 수 없음")
+	void toBooleanQuery_WhenShortToken_ThenNull() {
+		assertThat(BookInformationFulltextRepository.toBooleanQuery("자 바")).isNull();
+		assertThat(BookInformationFulltextRepository.toBooleanQuery("   ")).isNull();
+		assertThat(BookInformationFulltextRepository.toBooleanQuery(null)).isNull();
+	}
+}
@@ -18,6 +18,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpEntity;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
@@ -26,6 +27,7 @@ import org.springframework.web.client.RestTemplate;
 
 import com.corp.bookiki.bookinformation.dto.BookInformationResponse;
 import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookinformation.event.BookInformationChangedEvent;
 import com.corp.bookiki.bookinformation.repository.BookInformationRepository;
 import com.corp.bookiki.bookinformation.service.BookInformationService;
 import com.corp.bookiki.global.error.exception.BookInformationException;
@@ -55,6 +57,9 @@ class BookInformationServiceTest {
 	@Mock
 	private GeminiService geminiService;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
 	@Nested
 	@DisplayName("도서 정보 추가 테스트")
 	class AddBookInformation {
@@ -103,6 +108,8 @@ class BookInformationServiceTest {
 
 			// verify
 			verify(bookInformationRepository).save(any(BookInformationEntity.class));
+			// 색인은 커밋된 뒤 이벤트로 반영
+			verify(eventPublisher).publishEvent(any(BookInformationChangedEvent.class));
 
 			HttpHeaders headers = entityCaptor.getValue().getHeaders();
 			assertNotNull(headers.get("X-Naver-Client-Id"));
@@ -0,0 +1,74 @@
+package com.corp.bookiki.bookinformation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookinformation.repository.BookInformationRepository;
+import com.corp.bookiki.bookinformation.service.BookTitleMatcher;
+import com.corp.bookiki.util.QGramIndex;
+
+@ExtendWith(MockitoExtension.class)
+class BookTitleMatcherTest {
+
+	@InjectMocks
+	private BookTitleMatcher bookTitleMatcher;
+
+	@Mock
+	private BookInformationRepository bookInformationRepository;
+
+	@BeforeEach
+	void setUp() {
+		given(bookInformationRepository.findAllIdAndTitle()).willReturn(List.of(
+			new Object[] {1, "자바의 정석"},
+			new Object[] {2, "이것이 자바다"},
+			new Object[] {3, "객체지향의 사실과 오해"},
+			new Object[] {4, "클린 코드"}
+		));
+		bookTitleMatcher.loadIndex();
+	}
+
+	@Test
+	@DisplayName("OCR 오인식이 있어도 가장 유사한 제목을 찾음")
+	void match_WhenOcrTypo_ThenFindsTitle() {
+		List<QGramIndex.Match> matches = bookTitleMatcher.match("객체지항의 사실과오해", 3, 0.85);
+
+		assertThat(matches).isNotEmpty();
+		assertThat(matches.get(0).getId()).isEqualTo(3);
+		assertThat(matches.get(0).getSimilarity()).isGreaterThanOrEqualTo(0.85);
+	}
+
+	@Test
+	@DisplayName("유사도가 임계값보다 낮으면 결과 없음")
+	void match_WhenNotSimilar_ThenEmpty() {
+		assertThat(bookTitleMatcher.match("데이터 중심 애플리케이션 설계", 3, 0.85)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("새로 추가된 도서 정보도 바로 검색됨")
+	void add_WhenNewBook_ThenSearchable() {
+		BookInformationEntity bookInformation = BookInformationEntity.builder()
+			.title("오브젝트")
+			.author("조영호")
+			.isbn("9791158391409")
+			.build();
+		ReflectionTestUtils.setField(bookInformation, "id", 5);
+
+		bookTitleMatcher.add(bookInformation);
+
+		assertThat(bookTitleMatcher.match("오브잭트", 1, 0.8))
+			.extracting(QGramIndex.Match::getId)
+			.containsExactly(5);
+	}
+}
@@ -9,6 +9,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
@@ -150,6 +151,24 @@ class BookItemRepositoryTest {
 		assertThat(bookItemRepository.searchBooks("TITLE", "test", pageRequest).getContent()).hasSize(1);
 	}
 
+	@Test
+	void findByDeletedFalseAfter_ShouldSeekFromLastId() {
+		// given
+		BookItemEntity first = bookItemRepository.save(createBookItem(false));
+		bookItemRepository.save(createBookItem(true));
+		BookItemEntity second = bookItemRepository.save(createBookItem(false));
+		BookItemEntity third = bookItemRepository.save(createBookItem(false));
+
+		// when
+		List<BookItemEntity> firstPage = bookItemRepository.findByDeletedFalseAfter(null, Limit.of(2));
+		List<BookItemEntity> nextPage = bookItemRepository.findByDeletedFalseAfter(
+			firstPage.get(firstPage.size() - 1).getId(), Limit.of(2));
+
+		// then
+		assertThat(firstPage).extracting(BookItemEntity::getId).containsExactly(first.getId(), second.getId());
+		assertThat(nextPage).extracting(BookItemEntity::getId).containsExactly(third.getId());
+	}
+
 	private BookItemEntity createBookItem(boolean deleted) {
 		return BookItemEntity.builder()
 			.purchaseAt(LocalDateTime.now())
@@ -12,6 +12,8 @@ import com.corp.bookiki.bookitem.dto.BookItemDisplayResponse;
 import com.corp.bookiki.bookitem.dto.BookItemListResponse;
 import com.corp.bookiki.bookitem.dto.BookItemRequest;
 import com.corp.bookiki.bookitem.dto.BookItemResponse;
+import com.corp.bookiki.bookitem.dto.BookSpellingResponse;
+import com.corp.bookiki.bookitem.dto.BookSuggestResponse;
 import com.corp.bookiki.bookitem.entity.BookItemEntity;
 import com.corp.bookiki.bookitem.entity.BookStatus;
 import com.corp.bookiki.bookitem.enums.SearchType;
@@ -19,6 +21,7 @@ import com.corp.bookiki.bookitem.service.BookItemService;
 import com.corp.bookiki.global.config.SecurityConfig;
 import com.corp.bookiki.global.config.TestSecurityBeansConfig;
 import com.corp.bookiki.global.config.WebMvcConfig;
+import com.corp.bookiki.global.dto.CursorResponse;
 import com.corp.bookiki.global.error.code.ErrorCode;
 import com.corp.bookiki.global.error.exception.BookItemException;
 import com.corp.bookiki.global.resolver.CurrentUserArgumentResolver;
@@ -548,6 +551,85 @@ class BookItemControllerTest {
 		}
 	}
 
+	@Nested
+	@DisplayName("검색어 자동완성 테스트")
+	class SuggestBooks {
+		@Test
+		@WithMockUser
+		@DisplayName("입력 중인 검색어로 추천 목록 조회 성공")
+		void suggestBooks_WhenKeyword_ThenReturnsSuggestions() throws Exception {
+			// given
+			BookSuggestResponse suggestion = BookSuggestResponse.builder()
+				.type(SearchType.TITLE)
+				.text("클린 코드")
+				.bookInformationId(1)
+				.borrowCount(12)
+				.build();
+			given(bookItemService.suggestBooks("클린", 10)).willReturn(List.of(suggestion));
+
+			// when & then
+			mockMvc.perform(get("/api/books/suggest")
+					.param("keyword", "클린")
+					.cookie(getUserJwtCookie()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$[0].type").value("TITLE"))
+				.andExpect(jsonPath("$[0].text").value("클린 코드"))
+				.andExpect(jsonPath("$[0].borrowCount").value(12));
+		}
+	}
+
+	@Nested
+	@DisplayName("도서 목록 커서 조회 테스트")
+	class SelectBooksByCursor {
+		@Test
+		@WithMockUser
+		@DisplayName("다음 커서와 함께 도서 목록 조회 성공")
+		void selectBooksByCursor_WhenMoreBooks_ThenReturnsNextCursor() throws Exception {
+			// given
+			BookItemListResponse book = new BookItemListResponse();
+			book.setId(1);
+			book.setTitle("클린 코드");
+			CursorResponse<BookItemListResponse> response = CursorResponse.<BookItemListResponse>builder()
+				.content(List.of(book))
+				.nextCursor("fDE")
+				.hasNext(true)
+				.build();
+			given(bookItemService.selectBooksByCursor(null, 20)).willReturn(response);
+
+			// when & then
+			mockMvc.perform(get("/api/books/cursor")
+					.cookie(getUserJwtCookie()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.content[0].title").value("클린 코드"))
+				.andExpect(jsonPath("$.nextCursor").value("fDE"))
+				.andExpect(jsonPath("$.hasNext").value(true));
+		}
+	}
+
+	@Nested
+	@DisplayName("검색어 맞춤법 교정 테스트")
+	class CorrectSpelling {
+		@Test
+		@WithMockUser
+		@DisplayName("오타가 있는 검색어의 교정 검색어 조회 성공")
+		void correctSpelling_WhenTypo_ThenReturnsSuggestion() throws Exception {
+			// given
+			BookSpellingResponse response = BookSpellingResponse.builder()
+				.keyword("자바의 정섞")
+				.suggestion("자바의 정석")
+				.build();
+			given(bookItemService.correctSpelling("자바의 정섞")).willReturn(response);
+
+			// when & then
+			mockMvc.perform(get("/api/books/spelling")
+					.param("keyword", "자바의 정섞")
+					.cookie(getUserJwtCookie()))
+				.andExpect(status().isOk())
+				.andExpect(jsonPath("$.keyword").value("자바의 정섞"))
+				.andExpect(jsonPath("$.suggestion").value("자바의 정석"));
+		}
+	}
+
 	private Cookie getUserJwtCookie() {
 		Cookie accessTokenCookie = new Cookie("access_token", "user-jwt-token");
 		accessTokenCookie.setPath("/");
@@ -0,0 +1,83 @@
+package com.corp.bookiki.bookitem.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookinformation.event.BookInformationChangedEvent;
+import com.corp.bookiki.bookitem.repository.BookItemRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BookCategoryMapTest {
+
+	@InjectMocks
+	private BookCategoryMap bookCategoryMap;
+
+	@Mock
+	private BookItemRepository bookItemRepository;
+
+	@BeforeEach
+	void setUp() {
+		given(bookItemRepository.streamIdAndCategory()).willReturn(Stream.of(
+			new Object[] {1, 0},
+			new Object[] {2, 8},
+			new Object[] {3, null}
+		));
+		bookCategoryMap.load();
+	}
+
+	@Test
+	@DisplayName("로드된 도서는 DB 조회 없이 카테고리 반환")
+	void getCategories_WhenLoaded_ThenNoQuery() {
+		int[] result = bookCategoryMap.getCategories(new int[] {2, 1, 3});
+
+		assertThat(result).containsExactly(8, 0, BookCategoryMap.NO_CATEGORY);
+		verify(bookItemRepository, never()).findIdAndCategoryByIds(any());
+	}
+
+	@Test
+	@DisplayName("맵에 없는 도서만 한 번에 조회해 채움")
+	void getCategories_WhenMissing_ThenLoadOnce() {
+		given(bookItemRepository.findIdAndCategoryByIds(List.of(5000)))
+			.willReturn(List.<Object[]>of(new Object[] {5000, 4}));
+
+		assertThat(bookCategoryMap.getCategories(new int[] {1, 5000})).containsExactly(0, 4);
+		assertThat(bookCategoryMap.getCategory(5000)).isEqualTo(4);
+		verify(bookItemRepository, times(1)).findIdAndCategoryByIds(any());
+	}
+
+	@Test
+	@DisplayName("도서 정보의 카테고리가 바뀌면 해당 도서 정보의 도서들을 새 카테고리로 바꿈")
+	void onBookInformationChanged_WhenCategoryChanged_ThenBookItemsUpdated() {
+		BookInformationEntity bookInformation = BookInformationEntity.builder().title("클린 코드").category(5).build();
+		ReflectionTestUtils.setField(bookInformation, "id", 7);
+		given(bookItemRepository.findIdsByBookInformationId(7)).willReturn(List.of(1, 3));
+
+		bookCategoryMap.onBookInformationChanged(BookInformationChangedEvent.categoryChanged(bookInformation));
+
+		assertThat(bookCategoryMap.getCategories(new int[] {1, 2, 3})).containsExactly(5, 8, 5);
+		verify(bookItemRepository, never()).findIdAndCategoryByIds(any());
+	}
+
+	@Test
+	@DisplayName("새로 등록된 도서 정보는 도서가 없으므로 조회하지 않음")
+	void onBookInformationChanged_WhenAdded_ThenNoQuery() {
+		BookInformationEntity bookInformation = BookInformationEntity.builder().title("클린 코드").category(5).build();
+
+		bookCategoryMap.onBookInformationChanged(BookInformationChangedEvent.added(bookInformation));
+
+		verify(bookItemRepository, never()).findIdsByBookInformationId(any());
+	}
+}
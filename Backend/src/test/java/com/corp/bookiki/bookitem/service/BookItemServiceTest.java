@@ -1,6 +1,10 @@
 package com.corp.bookiki.bookitem.service;
 
 import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookinformation.entity.Category;
+import com.corp.bookiki.bookinformation.repository.BookInformationFulltextRepository;
+import com.corp.bookiki.bookitem.dto.BookFacetResponse;
+import com.corp.bookiki.bookitem.dto.BookFacetSearchResponse;
 import com.corp.bookiki.bookitem.dto.BookItemDisplayResponse;
 import com.corp.bookiki.bookitem.dto.BookItemListResponse;
 import com.corp.bookiki.bookitem.dto.BookItemResponse;
@@ -18,6 +22,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -25,13 +31,19 @@ import org.springframework.data.domain.Sort;
 import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.verify;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 
 @Slf4j
 @ExtendWith(MockitoExtension.class)
@@ -43,6 +55,27 @@ class BookItemServiceTest {
 	@Mock
 	private BookItemRepository bookItemRepository;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private BookSearchIndex bookSearchIndex;
+
+	@Mock
+	private BookInformationFulltextRepository bookInformationFulltextRepository;
+
+	@Mock
+	private BookSuggestIndex bookSuggestIndex;
+
+	@Mock
+	private BookStatusBitmap bookStatusBitmap;
+
+	@Mock
+	private BookSpellingIndex bookSpellingIndex;
+
+	@Mock
+	private PopularBookIndex popularBookIndex;
+
 	@Nested
 	@DisplayName("도서 아이템 목록 조회 테스트")
 	class selectBooksByKeyword {
@@ -131,6 +164,118 @@ class BookItemServiceTest {
 				verify(bookItemRepository).searchBooks(type.name(), keyword, pageRequest);
 			}
 
+			@Test
+			@DisplayName("검색 색인이 준비되면 색인으로 찾은 페이지의 도서만 조회")
+			void searchBooks_WhenIndexReady_ThenLoadPageByIds() {
+				// given
+				SearchType type = SearchType.TITLE;
+				String keyword = "자바";
+
+				BookInformationEntity bookInfo = BookInformationEntity.builder()
+						.title("자바의 정석")
+						.author("남궁성")
+						.isbn("1234567890")
+						.build();
+				ReflectionTestUtils.setField(bookInfo, "id", 1);
+
+				BookItemEntity first = BookItemEntity.builder()
+						.bookInformation(bookInfo)
+						.bookStatus(BookStatus.AVAILABLE)
+						.deleted(false)
+						.build();
+				ReflectionTestUtils.setField(first, "id", 3);
+				BookItemEntity second = BookItemEntity.builder()
+						.bookInformation(bookInfo)
+						.bookStatus(BookStatus.AVAILABLE)
+						.deleted(false)
+						.build();
+				ReflectionTestUtils.setField(second, "id", 7);
+
+				given(bookSearchIndex.isReady()).willReturn(true);
+				given(bookSearchIndex.searchBookItems(type, keyword, 0, 2))
+						.willReturn(new BookSearchIndex.ItemPage(new int[] {3, 7}, 5));
+				given(bookItemRepository.findAllWithBookInformationByIds(List.of(3, 7)))
+						.willReturn(List.of(second, first));
+
+				// when
+				Page<BookItemListResponse> result = bookItemService.selectBooks(type, keyword, 0, 2);
+
+				// then
+				assertThat(result.getTotalElements()).isEqualTo(5);
+				assertThat(result.getContent()).extracting(BookItemListResponse::getId).containsExactly(3, 7);
+				verify(bookItemRepository, never()).searchBooks(any(), any(), any());
+			}
+
+			@Test
+			@DisplayName("검색 결과와 분류/상태/출판사별 도서 수를 함께 반환")
+			void selectBooksWithFacets_ThenResultsAndFacets() {
+				// given
+				BookInformationEntity bookInfo = BookInformationEntity.builder()
+						.title("자바의 정석")
+						.author("남궁성")
+						.publisher("도우출판")
+						.isbn("9788994492032")
+						.category(0)
+						.build();
+				BookItemEntity bookItem = BookItemEntity.builder()
+						.bookInformation(bookInfo)
+						.bookStatus(BookStatus.AVAILABLE)
+						.deleted(false)
+						.build();
+				ReflectionTestUtils.setField(bookItem, "id", 3);
+
+				int[] categoryCounts = new int[Category.values().length + 1];
+				categoryCounts[0] = 2;
+				categoryCounts[Category.values().length] = 1;
+				RoaringBitmap bookItemIds = RoaringBitmap.bitmapOf(3, 7, 9);
+				BookSearchIndex.Facets facets = new BookSearchIndex.Facets(categoryCounts,
+						new String[] {"도우출판"}, new int[] {3}, bookItemIds);
+				Map<BookStatus, Integer> statusCounts = new EnumMap<>(BookStatus.class);
+				statusCounts.put(BookStatus.AVAILABLE, 2);
+				statusCounts.put(BookStatus.BORROWED, 1);
+				statusCounts.put(BookStatus.UNAVAILABLE, 0);
+
+				given(bookSearchIndex.isReady()).willReturn(true);
+				given(bookStatusBitmap.isReady()).willReturn(true);
+				given(bookSearchIndex.searchBookItemsWithFacets(SearchType.TITLE, "자바", 0, 1, 10))
+						.willReturn(new BookSearchIndex.ItemPage(new int[] {3}, 3, facets));
+				given(bookItemRepository.findAllWithBookInformationByIds(List.of(3))).willReturn(List.of(bookItem));
+				given(bookStatusBitmap.countByStatus(bookItemIds)).willReturn(statusCounts);
+
+				// when
+				BookFacetSearchResponse result = bookItemService.selectBooksWithFacets(SearchType.TITLE, " 자바 ", 0, 1, 10);
+
+				// then
+				assertThat(result.getBooks().getTotalElements()).isEqualTo(3);
+				assertThat(result.getBooks().getContent()).extracting(BookItemListResponse::getId).containsExactly(3);
+				assertThat(result.getCategories()).extracting(BookFacetResponse::getValue).containsExactly("0", null);
+				assertThat(result.getCategories()).extracting(BookFacetResponse::getCount).containsExactly(2, 1);
+				// 도서가 없는 상태(UNAVAILABLE)는 분류 집계처럼 제외
+				assertThat(result.getStatuses()).extracting(BookFacetResponse::getValue)
+						.containsExactly("AVAILABLE", "BORROWED");
+				assertThat(result.getStatuses()).extracting(BookFacetResponse::getCount).containsExactly(2, 1);
+				assertThat(result.getPublishers()).extracting(BookFacetResponse::getName).containsExactly("도우출판");
+			}
+
+			@Test
+			@DisplayName("검색 색인이 없으면 집계 검색은 예외 발생")
+			void selectBooksWithFacets_WhenIndexNotReady_ThenThrowException() {
+				assertThatThrownBy(() -> bookItemService.selectBooksWithFacets(SearchType.TITLE, "자바", 0, 10, 10))
+						.isInstanceOf(BookItemException.class)
+						.hasFieldOrPropertyWithValue("errorCode", ErrorCode.FACET_SEARCH_UNAVAILABLE);
+			}
+
+			@Test
+			@DisplayName("도서 상태 비트맵을 불러오기 전이면 집계 검색은 예외 발생")
+			void selectBooksWithFacets_WhenStatusBitmapNotReady_ThenThrowException() {
+				given(bookSearchIndex.isReady()).willReturn(true);
+
+				assertThatThrownBy(() -> bookItemService.selectBooksWithFacets(SearchType.TITLE, "자바", 0, 10, 10))
+						.isInstanceOf(BookItemException.class)
+						.hasFieldOrPropertyWithValue("errorCode", ErrorCode.FACET_SEARCH_UNAVAILABLE);
+				verify(bookSearchIndex, never()).searchBookItemsWithFacets(any(), any(), anyLong(), anyInt(), anyInt());
+			}
+
 			@Test
 			void searchBooks_WithEmptyResult_ShouldThrowException() {
 				// given
@@ -148,6 +293,16 @@ class BookItemServiceTest {
 
 				verify(bookItemRepository).searchBooks(type.name(), keyword, pageRequest);
 			}
+
+			@Test
+			@DisplayName("검색 색인이 없으면 초성 검색은 LIKE로 처리하지 않고 예외 발생")
+			void searchBooks_WhenChosungWithoutIndex_ThenThrowException() {
+				assertThatThrownBy(() -> bookItemService.selectBooks(SearchType.CHOSUNG, "ㅋㄹㅋㄷ", 0, 10))
+						.isInstanceOf(BookItemException.class)
+						.hasFieldOrPropertyWithValue("errorCode", ErrorCode.CHOSUNG_SEARCH_UNAVAILABLE);
+
+				verify(bookItemRepository, never()).searchBooks(any(), any(), any());
+			}
 		}
 
 		@Nested
@@ -255,4 +410,137 @@ class BookItemServiceTest {
 			}
 		}
 	}
-}
\ No newline at end of file
+
+	@Nested
+	@DisplayName("키워드 기반 추천 테스트")
+	class GetRecommendedBooksByKeywords {
+		@Test
+		@DisplayName("검색 색인이 준비되면 관련도 순으로 도서마다 대출 가능한 한 권씩 추천")
+		void getRecommendedBooksByKeywords_WhenIndexReady_ThenRankedAvailableBooks() {
+			// given
+			BookInformationEntity bookInfo = BookInformationEntity.builder()
+					.title("자바의 정석")
+					.author("남궁성")
+					.isbn("1234567890")
+					.build();
+			ReflectionTestUtils.setField(bookInfo, "id", 1);
+			BookItemEntity first = BookItemEntity.builder()
+					.bookInformation(bookInfo)
+					.bookStatus(BookStatus.AVAILABLE)
+					.deleted(false)
+					.build();
+			ReflectionTestUtils.setField(first, "id", 4);
+			BookItemEntity second = BookItemEntity.builder()
+					.bookInformation(bookInfo)
+					.bookStatus(BookStatus.AVAILABLE)
+					.deleted(false)
+					.build();
+			ReflectionTestUtils.setField(second, "id", 7);
+
+			List<String> keywords = List.of("자바", "객체지향");
+			given(bookSearchIndex.isReady()).willReturn(true);
+			given(bookSearchIndex.rankBookInformationIds(keywords, 6)).willReturn(new int[] {2, 1});
+			given(bookSearchIndex.getBookItemIds(2)).willReturn(new int[] {7});
+			given(bookSearchIndex.getBookItemIds(1)).willReturn(new int[] {3, 4});
+			given(bookStatusBitmap.filterStatus(new int[] {7, 3, 4}, BookStatus.AVAILABLE)).willReturn(new int[] {4, 7});
+			given(bookItemRepository.findAllWithBookInformationByIds(List.of(7, 4))).willReturn(List.of(first, second));
+
+			// when
+			List<BookItemListResponse> result = bookItemService.getRecommendedBooksByKeywords(keywords, 2);
+
+			// then
+			assertThat(result).extracting(BookItemListResponse::getId).containsExactly(7, 4);
+			verify(bookItemRepository, never()).findRecommendedBooksByKeyword(any(), any());
+		}
+
+		@Test
+		@DisplayName("검색 색인이 없으면 도서 정보 순서대로 대출 가능한 가장 작은 ID의 도서를 DB에서 조회")
+		void getAvailableBooksByBookInformationIds_WhenIndexNotReady_ThenQueriesAvailableBooks() {
+			// given
+			BookInformationEntity java = BookInformationEntity.builder().title("자바의 정석").build();
+			ReflectionTestUtils.setField(java, "id", 1);
+			BookInformationEntity spring = BookInformationEntity.builder().title("토비의 스프링").build();
+			ReflectionTestUtils.setField(spring, "id", 2);
+			BookItemEntity javaLater = BookItemEntity.builder().bookInformation(java).build();
+			ReflectionTestUtils.setField(javaLater, "id", 8);
+			BookItemEntity javaFirst = BookItemEntity.builder().bookInformation(java).build();
+			ReflectionTestUtils.setField(javaFirst, "id", 3);
+			BookItemEntity springItem = BookItemEntity.builder().bookInformation(spring).build();
+			ReflectionTestUtils.setField(springItem, "id", 5);
+
+			given(bookSearchIndex.isReady()).willReturn(false);
+			given(bookItemRepository.findByBookInformationIdsAndStatus(List.of(2, 9, 1), BookStatus.AVAILABLE))
+					.willReturn(List.of(javaLater, springItem, javaFirst));
+
+			// when
+			List<BookItemListResponse> result = bookItemService.getAvailableBooksByBookInformationIds(
+					new int[] {2, 9, 1}, 5);
+
+			// then
+			assertThat(result).extracting(BookItemListResponse::getId).containsExactly(5, 3);
+		}
+	}
+
+	@Nested
+	@DisplayName("인기 도서 조회 테스트")
+	class GetPopularBooksByCategory {
+		@Test
+		@DisplayName("인기 도서 색인이 준비되면 후보 중 대출 가능한 도서를 대출 횟수 순으로 반환")
+		void getPopularBooksByCategory_WhenIndexReady_ThenAvailableCandidates() {
+			// given
+			BookInformationEntity bookInfo = BookInformationEntity.builder()
+					.title("자바의 정석")
+					.author("남궁성")
+					.isbn("1234567890")
+					.category(0)
+					.build();
+			BookItemEntity first = BookItemEntity.builder()
+					.bookInformation(bookInfo)
+					.bookStatus(BookStatus.AVAILABLE)
+					.deleted(false)
+					.build();
+			ReflectionTestUtils.setField(first, "id", 9);
+			BookItemEntity second = BookItemEntity.builder()
+					.bookInformation(bookInfo)
+					.bookStatus(BookStatus.AVAILABLE)
+					.deleted(false)
+					.build();
+			ReflectionTestUtils.setField(second, "id", 2);
+
+			given(popularBookIndex.isReady()).willReturn(true);
+			given(popularBookIndex.getTopK()).willReturn(100);
+			given(popularBookIndex.top(0)).willReturn(new int[] {5, 9, 2, 7});
+			// 5번은 대출 중
+			given(bookStatusBitmap.filterStatus(new int[] {5, 9, 2, 7}, BookStatus.AVAILABLE))
+					.willReturn(new int[] {2, 7, 9});
+			given(bookItemRepository.findAllWithBookInformationByIds(List.of(9, 2))).willReturn(List.of(second, first));
+
+			// when
+			List<BookItemListResponse> result = bookItemService.getPopularBooksByCategory(0, 2);
+
+			// then
+			assertThat(result).extracting(BookItemListResponse::getId).containsExactly(9, 2);
+			verify(bookItemRepository, never()).findPopularBooks(any(), any(), any());
+		}
+
+		@Test
+		@DisplayName("잘린 후보 안에서 대출 가능한 도서가 모자라면 대출 기록으로 집계")
+		void getPopularBooksByCategory_WhenCandidatesShort_ThenAggregate() {
+			// given
+			given(popularBookIndex.isReady()).willReturn(true);
+			given(popularBookIndex.getTopK()).willReturn(100);
+			given(popularBookIndex.top(null)).willReturn(new int[] {5});
+			given(popularBookIndex.isTruncated(null)).willReturn(true);
+			given(bookStatusBitmap.filterStatus(new int[] {5}, BookStatus.AVAILABLE)).willReturn(new int[0]);
+			given(bookItemRepository.findPopularBooks(null, BookStatus.AVAILABLE, PageRequest.of(0, 3)))
+					.willReturn(List.of());
+
+			// when
+			List<BookItemListResponse> result = bookItemService.getPopularBooksByCategory(null, 3);
+
+			// then
+			assertThat(result).isEmpty();
+			verify(bookItemRepository).findPopularBooks(null, BookStatus.AVAILABLE, PageRequest.of(0, 3));
+		}
+	}
+}
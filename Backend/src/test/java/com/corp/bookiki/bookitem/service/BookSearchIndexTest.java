@@ -0,0 +1,263 @@
+package com.corp.bookiki.bookitem.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookinformation.event.BookInformationChangedEvent;
+import com.corp.bookiki.bookinformation.repository.BookInformationRepository;
+import com.corp.bookiki.bookitem.entity.BookStatus;
+import com.corp.bookiki.bookitem.enums.SearchType;
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
+import com.corp.bookiki.bookitem.repository.BookItemRepository;
+import com.corp.bookiki.util.BigramIndex;
+
+@ExtendWith(MockitoExtension.class)
+class BookSearchIndexTest {
+
+	@InjectMocks
+	private BookSearchIndex bookSearchIndex;
+
+	@Mock
+	private BookInformationRepository bookInformationRepository;
+
+	@Mock
+	private BookItemRepository bookItemRepository;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(bookSearchIndex, "enabled", true);
+
+		given(bookInformationRepository.streamSearchFields()).willReturn(Stream.of(
+			new Object[] {1, "자바의 정석", "남궁성", "도우출판", "자바 입문서"},
+			new Object[] {2, "이펙티브 자바", "조슈아 블로크", "인사이트", "자바 프로그래밍 가이드"},
+			new Object[] {3, "클린 코드", "로버트 C. 마틴", "인사이트", "읽기 좋은 코드를 작성하는 방법"},
+			new Object[] {4, "바의 정자", "김작가", "출판사", null}
+		));
+		// 3번은 미분류, 4번은 알 수 없는 분류 코드
+		given(bookInformationRepository.streamCategories()).willReturn(Stream.of(
+			new Object[] {1, 0},
+			new Object[] {2, 8},
+			new Object[] {4, 99}
+		));
+		given(bookItemRepository.streamIdAndBookInformationIdByDeletedFalse()).willReturn(Stream.of(
+			new Object[] {10, 1},
+			new Object[] {11, 1},
+			new Object[] {12, 2},
+			new Object[] {13, 3},
+			new Object[] {14, 4}
+		));
+		bookSearchIndex.load();
+	}
+
+	@Test
+	@DisplayName("공백과 대소문자를 무시하고 부분 문자열로 검색")
+	void searchBookInformationIds_WhenTitle_ThenSubstringMatch() {
+		assertThat(bookSearchIndex.isReady()).isTrue();
+		assertThat(bookSearchIndex.searchBookInformationIds(SearchType.TITLE, "자바")).containsExactly(1, 2);
+		assertThat(bookSearchIndex.searchBookInformationIds(SearchType.TITLE, "클린코드")).containsExactly(3);
+		assertThat(bookSearchIndex.searchBookInformationIds(SearchType.AUTHOR, "c. 마")).containsExactly(3);
+	}
+
+	@Test
+	@DisplayName("2-gram은 모두 있지만 연속되지 않은 제목은 제외")
+	void searchBookInformationIds_WhenBigramsNotAdjacent_ThenExcluded() {
+		// "바의 정자"는 "의정"을 포함하지만 "자바의정"은 포함하지 않음
+		assertThat(bookSearchIndex.searchBookInformationIds(SearchType.TITLE, "자바의정")).containsExactly(1);
+	}
+
+	@Test
+	@DisplayName("키워드 검색은 제목과 설명을 함께 검색")
+	void searchBookInformationIds_WhenKeyword_ThenTitleOrDescription() {
+		assertThat(bookSearchIndex.searchBookInformationIds(SearchType.KEYWORD, "코드")).containsExactly(3);
+		assertThat(bookSearchIndex.searchBookInformationIds(SearchType.KEYWORD, "프로그래밍")).containsExactly(2);
+	}
+
+	@Test
+	@DisplayName("설명도 2-gram은 모두 있지만 연속되지 않으면 제외하고, 긴 설명은 끝까지 검색")
+	void searchBookInformationIds_WhenKeywordInDescription_ThenVerifiedAgainstText() {
+		BookInformationEntity bookInformation = BookInformationEntity.builder()
+			.title("바자회 안내")
+			.author("김작가")
+			.publisher("출판사")
+			.isbn("9791162242027")
+			.description("자바 바자회 소개 " + "가".repeat(1000) + " 마지막 문단")
+			.build();
+		ReflectionTestUtils.setField(bookInformation, "id", 5);
+		bookSearchIndex.onBookInformationChanged(BookInformationChangedEvent.added(bookInformation));
+
+		// "자바바자회"는 "자바", "바자"를 모두 포함하지만 "자바자"는 포함하지 않음
+		assertThat(bookSearchIndex.searchBookInformationIds(SearchType.KEYWORD, "자바자")).isEmpty();
+		assertThat(bookSearchIndex.searchBookInformationIds(SearchType.KEYWORD, "마지막 문단")).containsExactly(5);
+	}
+
+	@Test
+	@DisplayName("도서 아이템 단위로 페이지를 나누고 전체 개수를 계산")
+	void searchBookItems_WhenPaged_ThenSliceAndTotal() {
+		BookSearchIndex.ItemPage first = bookSearchIndex.searchBookItems(SearchType.TITLE, "자바", 0, 2);
+		BookSearchIndex.ItemPage second = bookSearchIndex.searchBookItems(SearchType.TITLE, "자바", 2, 2);
+
+		assertThat(first.getBookItemIds()).containsExactly(10, 11);
+		assertThat(second.getBookItemIds()).containsExactly(12);
+		assertThat(first.getTotal()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("검색 결과 전체의 분류/출판사별 도서 수와 도서 아이템 ID를 함께 반환")
+	void searchBookItemsWithFacets_WhenKeyword_ThenCountsOverAllResults() {
+		BookSearchIndex.ItemPage page = bookSearchIndex.searchBookItemsWithFacets(SearchType.TITLE, "자바", 0, 1, 10);
+
+		assertThat(page.getBookItemIds()).containsExactly(10);
+		assertThat(page.getTotal()).isEqualTo(3);
+		BookSearchIndex.Facets facets = page.getFacets();
+		assertThat(facets.getCategoryCounts()).containsExactly(2, 0, 0, 0, 0, 0, 0, 0, 1, 0, 0);
+		assertThat(facets.getPublishers()).containsExactly("도우출판", "인사이트");
+		assertThat(facets.getPublisherCounts()).containsExactly(2, 1);
+		assertThat(facets.getBookItemIds().toArray()).containsExactly(10, 11, 12);
+	}
+
+	@Test
+	@DisplayName("도서 정보의 분류가 바뀌면 분류별 도서 수에 새 분류로 반영")
+	void onBookInformationChanged_WhenCategoryChanged_ThenFacetsUpdated() {
+		BookInformationEntity bookInformation = BookInformationEntity.builder()
+			.title("이펙티브 자바")
+			.author("조슈아 블로크")
+			.publisher("인사이트")
+			.category(0)
+			.build();
+		ReflectionTestUtils.setField(bookInformation, "id", 2);
+
+		bookSearchIndex.onBookInformationChanged(BookInformationChangedEvent.categoryChanged(bookInformation));
+
+		BookSearchIndex.Facets facets = bookSearchIndex.searchBookItemsWithFacets(SearchType.TITLE, "자바", 0, 1, 10)
+			.getFacets();
+		assertThat(facets.getCategoryCounts()).containsExactly(3, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0);
+		// 분류만 바뀌므로 다른 필드는 다시 색인하지 않음
+		assertThat(bookSearchIndex.searchBookInformationIds(SearchType.TITLE, "이펙티브")).containsExactly(2);
+	}
+
+	@Test
+	@DisplayName("키워드가 없으면 전체 도서를 집계하고 미분류는 마지막 칸에 셈")
+	void searchBookItemsWithFacets_WhenBlankKeyword_ThenAllBooks() {
+		BookSearchIndex.ItemPage page = bookSearchIndex.searchBookItemsWithFacets(SearchType.KEYWORD, " ", 0, 10, 1);
+
+		assertThat(page.getTotal()).isEqualTo(5);
+		assertThat(page.getFacets().getCategoryCounts()).containsExactly(2, 0, 0, 0, 0, 0, 0, 0, 1, 0, 2);
+		// 도서 수가 같으면 먼저 색인된 출판사
+		assertThat(page.getFacets().getPublishers()).containsExactly("도우출판");
+		assertThat(bookSearchIndex.searchBookItems(SearchType.TITLE, "자바", 0, 1).getFacets()).isNull();
+	}
+
+	@Test
+	@DisplayName("키워드 검색 결과는 설명보다 제목이 일치하는 도서를 먼저 반환")
+	void searchBookItems_WhenKeyword_ThenRankedByRelevance() {
+		BookInformationEntity bookInformation = BookInformationEntity.builder()
+			.title("좋은 코드를 작성하는 방법")
+			.author("김작가")
+			.publisher("출판사")
+			.isbn("9791162242026")
+			.build();
+		ReflectionTestUtils.setField(bookInformation, "id", 5);
+		bookSearchIndex.addBookInformation(bookInformation);
+		bookSearchIndex.addBookItem(15, 5);
+
+		// 3번은 설명에서만, 5번은 제목에서 일치
+		BookSearchIndex.ItemPage page = bookSearchIndex.searchBookItems(SearchType.KEYWORD, "작성하는 방법", 0, 10);
+
+		assertThat(page.getBookItemIds()).containsExactly(15, 13);
+		assertThat(page.getTotal()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("여러 키워드의 점수를 합산해 상위 도서 정보를 고름")
+	void rankBookInformationIds_WhenKeywords_ThenTopByScore() {
+		assertThat(bookSearchIndex.rankBookInformationIds(List.of("클린", "마틴"), 10)).containsExactly(3);
+		assertThat(bookSearchIndex.rankBookInformationIds(List.of("자바", "정석"), 1)).containsExactly(1);
+	}
+
+	@Test
+	@DisplayName("초성으로 제목과 저자를 검색")
+	void searchBookInformationIds_WhenChosung_ThenTitleOrAuthor() {
+		assertThat(bookSearchIndex.searchBookInformationIds(SearchType.CHOSUNG, "ㅋㄹㅋㄷ")).containsExactly(3);
+		assertThat(bookSearchIndex.searchBookInformationIds(SearchType.CHOSUNG, "ㅈㅂ")).containsExactly(1, 2);
+		// 저자 초성 (남궁성)
+		assertThat(bookSearchIndex.searchBookInformationIds(SearchType.CHOSUNG, "ㄴㄱㅅ")).containsExactly(1);
+		// 완성형 글자가 섞여도 초성으로 비교
+		assertThat(bookSearchIndex.searchBookInformationIds(SearchType.CHOSUNG, "클ㄹ ㅋ")).containsExactly(3);
+	}
+
+	@Test
+	@DisplayName("추가/삭제 이벤트로 도서가 색인에 반영")
+	void addAndDelete_ThenIndexUpdated() {
+		BookInformationEntity bookInformation = BookInformationEntity.builder()
+			.title("모던 자바 인 액션")
+			.author("라울-게이브리얼 우르마")
+			.publisher("한빛미디어")
+			.isbn("9791162242025")
+			.build();
+		ReflectionTestUtils.setField(bookInformation, "id", 5);
+
+		bookSearchIndex.onBookInformationChanged(BookInformationChangedEvent.added(bookInformation));
+		bookSearchIndex.onBookStatusChanged(BookStatusChangedEvent.added(15, 5, BookStatus.AVAILABLE));
+		bookSearchIndex.onBookStatusChanged(BookStatusChangedEvent.deleted(10));
+
+		BookSearchIndex.ItemPage page = bookSearchIndex.searchBookItems(SearchType.TITLE, "자바", 0, 10);
+		assertThat(page.getBookItemIds()).containsExactly(11, 12, 15);
+		assertThat(page.getTotal()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("불러오는 동안 커밋된 추가/삭제는 불러온 뒤 반영하고 같은 도서 정보를 두 번 색인하지 않음")
+	void load_WhenChangedDuringLoad_ThenReplayedAfterLoad() {
+		BookSearchIndex reloading = new BookSearchIndex(bookInformationRepository, bookItemRepository);
+		ReflectionTestUtils.setField(reloading, "enabled", true);
+		BookInformationEntity bookInformation = BookInformationEntity.builder()
+			.title("모던 자바 인 액션")
+			.author("라울-게이브리얼 우르마")
+			.publisher("한빛미디어")
+			.isbn("9791162242025")
+			.build();
+		ReflectionTestUtils.setField(bookInformation, "id", 5);
+
+		// 5번 도서 정보는 스트림이 읽은 뒤 등록 이벤트도 도착함
+		given(bookInformationRepository.streamSearchFields()).willReturn(Stream.<Object[]>of(
+			new Object[] {1, "자바의 정석", "남궁성", "도우출판", "자바 입문서"},
+			new Object[] {5, "모던 자바 인 액션", "라울-게이브리얼 우르마", "한빛미디어", null}
+		).peek(row -> {
+			if (row[0].equals(5)) {
+				reloading.onBookInformationChanged(BookInformationChangedEvent.added(bookInformation));
+			}
+		}));
+		given(bookInformationRepository.streamCategories()).willReturn(Stream.empty());
+		// 10번 도서는 스트림이 읽은 직후 삭제가 커밋됨
+		given(bookItemRepository.streamIdAndBookInformationIdByDeletedFalse()).willReturn(Stream.<Object[]>of(
+			new Object[] {10, 1},
+			new Object[] {11, 1}
+		).peek(row -> {
+			if (row[0].equals(10)) {
+				reloading.onBookStatusChanged(BookStatusChangedEvent.deleted(10));
+				reloading.onBookStatusChanged(BookStatusChangedEvent.added(15, 5, BookStatus.AVAILABLE));
+			}
+		}));
+
+		reloading.load();
+
+		assertThat(reloading.isReady()).isTrue();
+		assertThat(reloading.getBookInformationId(10)).isZero();
+		assertThat(reloading.searchBookItems(SearchType.TITLE, "자바", 0, 10).getBookItemIds()).containsExactly(11, 15);
+		assertThat(reloading.searchBookInformationIds(SearchType.TITLE, "모던")).containsExactly(5);
+		assertThat(((BigramIndex) ReflectionTestUtils.getField(reloading, "titles")).size()).isEqualTo(2);
+	}
+}
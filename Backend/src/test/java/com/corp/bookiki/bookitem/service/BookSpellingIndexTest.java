@@ -0,0 +1,79 @@
+package com.corp.bookiki.bookitem.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookinformation.repository.BookInformationRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BookSpellingIndexTest {
+
+	@InjectMocks
+	private BookSpellingIndex bookSpellingIndex;
+
+	@Mock
+	private BookInformationRepository bookInformationRepository;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(bookSpellingIndex, "enabled", true);
+
+		given(bookInformationRepository.streamSuggestFields()).willReturn(Stream.of(
+			new Object[] {1, "자바의 정석", "남궁성", "도우출판"},
+			new Object[] {2, "이펙티브 자바", "조슈아 블로크", "인사이트"},
+			new Object[] {3, "Clean Code", "Robert C. Martin", "Prentice Hall"},
+			new Object[] {4, "Clean Architecture", "Robert C. Martin", "Prentice Hall"},
+			new Object[] {5, "Clear Thinking", "Shane Parrish", "Portfolio"}
+		));
+		bookSpellingIndex.load();
+	}
+
+	@Test
+	@DisplayName("받침을 잘못 입력한 한글 단어 교정")
+	void correct_WhenHangulTypo_ThenCorrected() {
+		assertThat(bookSpellingIndex.correct("자바의 정섞")).isEqualTo("자바의 정석");
+		assertThat(bookSpellingIndex.correct("이팩티브 자바")).isEqualTo("이펙티브 자바");
+	}
+
+	@Test
+	@DisplayName("영문 오타는 가장 가깝고 많이 쓰인 단어로 교정")
+	void correct_WhenEnglishTypo_ThenClosestFrequentWord() {
+		assertThat(bookSpellingIndex.correct("clen code")).isEqualTo("Clean code");
+		assertThat(bookSpellingIndex.correct("architecure")).isEqualTo("Architecture");
+	}
+
+	@Test
+	@DisplayName("모든 단어가 사전에 있거나 가까운 단어가 없으면 교정하지 않음")
+	void correct_WhenNothingToCorrect_ThenNull() {
+		assertThat(bookSpellingIndex.correct("clean code")).isNull();
+		assertThat(bookSpellingIndex.correct("파이썬")).isNull();
+		// 짧은 단어는 다른 단어로 바꾸지 않음
+		assertThat(bookSpellingIndex.correct("cl")).isNull();
+	}
+
+	@Test
+	@DisplayName("새 도서 정보의 단어는 다시 적재하지 않고 바로 교정에 사용")
+	void addBookInformation_WhenAdded_ThenUsedForCorrection() {
+		assertThat(bookSpellingIndex.correct("리펙토링")).isNull();
+
+		bookSpellingIndex.addBookInformation(BookInformationEntity.builder()
+			.title("리팩터링")
+			.author("마틴 파울러")
+			.publisher("한빛미디어")
+			.build());
+
+		assertThat(bookSpellingIndex.correct("리펙터링")).isEqualTo("리팩터링");
+	}
+}
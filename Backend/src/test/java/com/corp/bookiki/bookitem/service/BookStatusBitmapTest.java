@@ -0,0 +1,120 @@
+package com.corp.bookiki.bookitem.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.roaringbitmap.RoaringBitmap;
+
+import com.corp.bookiki.bookitem.entity.BookStatus;
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
+import com.corp.bookiki.bookitem.repository.BookItemRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BookStatusBitmapTest {
+
+	@InjectMocks
+	private BookStatusBitmap bookStatusBitmap;
+
+	@Mock
+	private BookItemRepository bookItemRepository;
+
+	@BeforeEach
+	void setUp() {
+		given(bookItemRepository.streamIdAndStatusByDeletedFalse()).willReturn(Stream.of(
+			new Object[] {1, BookStatus.AVAILABLE},
+			new Object[] {2, BookStatus.AVAILABLE},
+			new Object[] {3, BookStatus.BORROWED},
+			new Object[] {4, BookStatus.UNAVAILABLE}
+		));
+		bookStatusBitmap.load();
+	}
+
+	@Test
+	@DisplayName("스캔된 도서 중 대출 가능 상태가 아닌 도서만 반환")
+	void excludeStatus_WhenScanned_ThenNotAvailable() {
+		int[] result = bookStatusBitmap.excludeStatus(new int[] {4, 1, 3, 5, 1}, BookStatus.AVAILABLE);
+
+		assertThat(result).containsExactly(3, 4, 5);
+	}
+
+	@Test
+	@DisplayName("불러오기가 끝나야 준비 상태가 되고, 불러오기에 실패하면 준비되지 않음")
+	void isReady_WhenLoaded_ThenTrue() {
+		BookStatusBitmap failing = new BookStatusBitmap(bookItemRepository);
+		given(bookItemRepository.streamIdAndStatusByDeletedFalse()).willThrow(new IllegalStateException("DB 오류"));
+
+		assertThatThrownBy(failing::load).isInstanceOf(IllegalStateException.class);
+		assertThat(failing.isReady()).isFalse();
+		assertThat(bookStatusBitmap.isReady()).isTrue();
+	}
+
+	@Test
+	@DisplayName("주어진 도서의 상태별 수")
+	void countByStatus_ThenIntersectionSizes() {
+		Map<BookStatus, Integer> counts = bookStatusBitmap.countByStatus(RoaringBitmap.bitmapOf(1, 3, 5));
+
+		assertThat(counts).containsEntry(BookStatus.AVAILABLE, 1)
+			.containsEntry(BookStatus.BORROWED, 1)
+			.containsEntry(BookStatus.UNAVAILABLE, 0);
+	}
+
+	@Test
+	@DisplayName("대출/반납 이벤트가 비트맵에 반영됨")
+	void onBookStatusChanged_WhenBorrowAndReturn_ThenMoved() {
+		bookStatusBitmap.onBookStatusChanged(BookStatusChangedEvent.of(1, BookStatus.AVAILABLE, BookStatus.BORROWED));
+		bookStatusBitmap.onBookStatusChanged(BookStatusChangedEvent.of(List.of(3), BookStatus.BORROWED, BookStatus.AVAILABLE));
+
+		assertThat(bookStatusBitmap.filterStatus(new int[] {1, 2, 3}, BookStatus.AVAILABLE)).containsExactly(2, 3);
+		assertThat(bookStatusBitmap.count(BookStatus.BORROWED)).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("변경 전 상태가 다르면 반영하지 않음")
+	void onBookStatusChanged_WhenFromStatusMismatch_ThenIgnored() {
+		bookStatusBitmap.onBookStatusChanged(BookStatusChangedEvent.of(List.of(4), BookStatus.BORROWED, BookStatus.AVAILABLE));
+
+		assertThat(bookStatusBitmap.filterStatus(new int[] {4}, BookStatus.UNAVAILABLE)).containsExactly(4);
+	}
+
+	@Test
+	@DisplayName("삭제된 도서는 모든 상태에서 제외")
+	void onBookStatusChanged_WhenDeleted_ThenRemoved() {
+		bookStatusBitmap.onBookStatusChanged(BookStatusChangedEvent.deleted(2));
+
+		assertThat(bookStatusBitmap.count(BookStatus.AVAILABLE)).isEqualTo(1);
+		assertThat(bookStatusBitmap.excludeStatus(new int[] {2}, BookStatus.AVAILABLE)).containsExactly(2);
+	}
+
+	@Test
+	@DisplayName("다시 불러오는 동안 커밋된 상태 변경을 새 비트맵에 다시 반영")
+	void load_WhenEventsDuringLoad_ThenKept() {
+		// 1번 행을 읽은 뒤 1번 도서가 대출되고, 아직 읽지 않은 5번 도서가 반납됨
+		given(bookItemRepository.streamIdAndStatusByDeletedFalse()).willReturn(Stream.of(
+			new Object[] {1, BookStatus.AVAILABLE},
+			new Object[] {5, BookStatus.BORROWED}
+		).peek(row -> {
+			if ((Integer) row[0] == 1) {
+				bookStatusBitmap.onBookStatusChanged(
+					BookStatusChangedEvent.of(1, BookStatus.AVAILABLE, BookStatus.BORROWED));
+				bookStatusBitmap.onBookStatusChanged(
+					BookStatusChangedEvent.of(List.of(5), BookStatus.BORROWED, BookStatus.AVAILABLE));
+			}
+		}));
+
+		bookStatusBitmap.load();
+
+		assertThat(bookStatusBitmap.filterStatus(new int[] {1, 5}, BookStatus.BORROWED)).containsExactly(1);
+		assertThat(bookStatusBitmap.filterStatus(new int[] {1, 5}, BookStatus.AVAILABLE)).containsExactly(5);
+	}
+}
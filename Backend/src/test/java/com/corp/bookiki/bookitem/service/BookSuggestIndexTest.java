@@ -0,0 +1,125 @@
+package com.corp.bookiki.bookitem.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.corp.bookiki.bookhistory.repository.BookHistoryRepository;
+import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookinformation.repository.BookInformationRepository;
+import com.corp.bookiki.bookitem.dto.BookSuggestResponse;
+import com.corp.bookiki.bookitem.entity.BookStatus;
+import com.corp.bookiki.bookitem.enums.SearchType;
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
+import com.corp.bookiki.bookitem.repository.BookItemRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BookSuggestIndexTest {
+
+	@InjectMocks
+	private BookSuggestIndex bookSuggestIndex;
+
+	@Mock
+	private BookInformationRepository bookInformationRepository;
+
+	@Mock
+	private BookHistoryRepository bookHistoryRepository;
+
+	@Mock
+	private BookItemRepository bookItemRepository;
+
+	@Mock
+	private BookSearchIndex bookSearchIndex;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(bookSuggestIndex, "enabled", true);
+
+		given(bookHistoryRepository.countBorrowsGroupByBookInformation()).willReturn(List.of(
+			new Object[] {1, 5L},
+			new Object[] {2, 9L},
+			new Object[] {3, 2L}
+		));
+		given(bookInformationRepository.streamSuggestFields()).willReturn(Stream.of(
+			new Object[] {1, "자바의 정석", "남궁성", "도우출판"},
+			new Object[] {2, "자바 ORM 표준 JPA 프로그래밍", "김영한", "에이콘출판"},
+			new Object[] {3, "이펙티브 자바", "조슈아 블로크, 이복연", "인사이트"},
+			new Object[] {4, "자바스크립트 완벽 가이드", "데이비드 플래너건", "인사이트"}
+		));
+		bookSuggestIndex.load();
+	}
+
+	@Test
+	@DisplayName("접두사가 일치하는 제목을 대출 횟수 순으로 추천")
+	void suggest_WhenTitlePrefix_ThenOrderedByBorrowCount() {
+		List<BookSuggestResponse> result = bookSuggestIndex.suggest("자바", 10);
+
+		assertThat(result).extracting(BookSuggestResponse::getBookInformationId).containsExactly(2, 1, 4);
+		assertThat(result).extracting(BookSuggestResponse::getBorrowCount).containsExactly(9, 5, 0);
+	}
+
+	@Test
+	@DisplayName("저자와 출판사는 해당 도서들의 대출 횟수 합으로 추천")
+	void suggest_WhenAuthorOrPublisher_ThenSummedWeight() {
+		assertThat(bookSuggestIndex.suggest("인사", 10))
+			.extracting(BookSuggestResponse::getType, BookSuggestResponse::getText, BookSuggestResponse::getBorrowCount)
+			.containsExactly(tuple(SearchType.PUBLISHER, "인사이트", 2));
+		assertThat(bookSuggestIndex.suggest("이복", 10))
+			.extracting(BookSuggestResponse::getType, BookSuggestResponse::getText)
+			.containsExactly(tuple(SearchType.AUTHOR, "이복연"));
+	}
+
+	@Test
+	@DisplayName("대출되면 제목/저자/출판사 순위에 바로 반영")
+	void onBookStatusChanged_WhenBorrowed_ThenWeightIncreased() {
+		given(bookSearchIndex.getBookInformationId(40)).willReturn(0);
+		given(bookItemRepository.findBookInformationIdById(40)).willReturn(Optional.of(4));
+
+		for (int i = 0; i < 10; i++) {
+			bookSuggestIndex.onBookStatusChanged(BookStatusChangedEvent.of(40, BookStatus.AVAILABLE, BookStatus.BORROWED));
+		}
+		// 반납은 대출 횟수에 포함하지 않음
+		bookSuggestIndex.onBookStatusChanged(BookStatusChangedEvent.of(40, BookStatus.BORROWED, BookStatus.AVAILABLE));
+
+		assertThat(bookSuggestIndex.suggest("자바", 1))
+			.extracting(BookSuggestResponse::getBookInformationId, BookSuggestResponse::getBorrowCount)
+			.containsExactly(tuple(4, 10));
+		assertThat(bookSuggestIndex.suggest("인사이트", 1))
+			.extracting(BookSuggestResponse::getBorrowCount)
+			.containsExactly(12);
+	}
+
+	@Test
+	@DisplayName("새 도서 정보는 다시 적재하지 않고 바로 추천 대상에 포함")
+	void addBookInformation_WhenAdded_ThenSuggested() {
+		BookInformationEntity bookInformation = BookInformationEntity.builder()
+			.title("클린 코드")
+			.author("로버트 C. 마틴")
+			.publisher("인사이트")
+			.build();
+		ReflectionTestUtils.setField(bookInformation, "id", 5);
+
+		bookSuggestIndex.addBookInformation(bookInformation);
+
+		assertThat(bookSuggestIndex.suggest("클린", 10))
+			.extracting(BookSuggestResponse::getBookInformationId)
+			.containsExactly(5);
+		assertThat(bookSuggestIndex.suggest("로버트", 10))
+			.extracting(BookSuggestResponse::getType)
+			.containsExactly(SearchType.AUTHOR);
+		// 기존 출판사에 합쳐짐
+		assertThat(bookSuggestIndex.suggest("인사이트", 10)).hasSize(1);
+	}
+}
@@ -0,0 +1,129 @@
+package com.corp.bookiki.bookitem.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.corp.bookiki.bookitem.entity.BookStatus;
+import com.corp.bookiki.bookitem.event.BookStatusChangedEvent;
+import com.corp.bookiki.bookitem.repository.BookItemRepository;
+
+@ExtendWith(MockitoExtension.class)
+class PopularBookIndexTest {
+
+	@InjectMocks
+	private PopularBookIndex popularBookIndex;
+
+	@Mock
+	private BookItemRepository bookItemRepository;
+
+	@Mock
+	private BookCategoryMap bookCategoryMap;
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(popularBookIndex, "topK", 3);
+		given(bookItemRepository.streamIdCategoryAndBorrowCount()).willReturn(Stream.of(
+			new Object[] {1, 0, 5L},
+			new Object[] {2, 0, 3L},
+			new Object[] {3, 0, 1L},
+			new Object[] {4, 0, 0L},
+			new Object[] {5, 8, 4L},
+			new Object[] {6, null, 9L}
+		));
+		popularBookIndex.load();
+	}
+
+	private void borrow(int bookItemId) {
+		popularBookIndex.onBookStatusChanged(
+			BookStatusChangedEvent.of(bookItemId, BookStatus.AVAILABLE, BookStatus.BORROWED));
+	}
+
+	@Test
+	@DisplayName("카테고리별, 전체 상위 도서를 대출 횟수 순으로 최대 top-k개 유지")
+	void load_BuildsTopPerCategory() {
+		assertThat(popularBookIndex.top(0)).containsExactly(1, 2, 3);
+		assertThat(popularBookIndex.isTruncated(0)).isTrue();
+		assertThat(popularBookIndex.top(8)).containsExactly(5);
+		assertThat(popularBookIndex.isTruncated(8)).isFalse();
+		// 미분류 도서는 전체에만 들어감
+		assertThat(popularBookIndex.top(null)).containsExactly(6, 1, 5);
+		assertThat(popularBookIndex.top(100)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("대출될 때마다 해당 도서의 순위만 갱신하고, 반납은 세지 않음")
+	void onBookStatusChanged_WhenBorrowed_ThenPromotes() {
+		borrow(4);
+		borrow(4);
+		assertThat(popularBookIndex.top(0)).containsExactly(1, 2, 4);
+
+		borrow(4);
+		borrow(4);
+		popularBookIndex.onBookStatusChanged(BookStatusChangedEvent.of(4, BookStatus.BORROWED, BookStatus.AVAILABLE));
+
+		assertThat(popularBookIndex.top(0)).containsExactly(1, 4, 2);
+		assertThat(popularBookIndex.getBorrowCount(4)).isEqualTo(4);
+	}
+
+	@Test
+	@DisplayName("새 도서는 0회로 추가되고, 삭제된 도서의 빈자리는 다음 순위 도서로 채움")
+	void onBookStatusChanged_WhenAddedOrDeleted() {
+		given(bookCategoryMap.getCategory(5000)).willReturn(8);
+		popularBookIndex.onBookStatusChanged(BookStatusChangedEvent.of(5000, null, BookStatus.AVAILABLE));
+		assertThat(popularBookIndex.top(8)).containsExactly(5, 5000);
+
+		popularBookIndex.onBookStatusChanged(BookStatusChangedEvent.deleted(1));
+
+		assertThat(popularBookIndex.top(0)).containsExactly(2, 3, 4);
+		assertThat(popularBookIndex.top(null)).containsExactly(6, 5, 2);
+	}
+
+	@Test
+	@DisplayName("다시 불러오는 동안 커밋된 대출/삭제는 새 색인에 다시 반영")
+	void load_WhenEventsDuringLoad_ThenKept() {
+		given(bookItemRepository.streamIdCategoryAndBorrowCount()).willReturn(Stream.of(
+			new Object[] {1, 0, 5L},
+			new Object[] {2, 0, 3L},
+			new Object[] {3, 0, 1L},
+			new Object[] {4, 0, 0L}
+		).peek(row -> {
+			if ((Integer) row[0] == 2) {
+				borrow(3);
+				borrow(3);
+				borrow(3);
+				popularBookIndex.onBookStatusChanged(BookStatusChangedEvent.deleted(1));
+			}
+		}));
+
+		popularBookIndex.load();
+
+		assertThat(popularBookIndex.getBorrowCount(3)).isEqualTo(4);
+		assertThat(popularBookIndex.top(0)).containsExactly(3, 2, 4);
+	}
+
+	@Test
+	@DisplayName("다시 불러오는 동안 추가된 새 도서는 카테고리를 조회해 새 색인에 추가")
+	void load_WhenAddedDuringLoad_ThenTrackedWithCategory() {
+		given(bookCategoryMap.getCategory(7)).willReturn(8);
+		given(bookItemRepository.streamIdCategoryAndBorrowCount()).willReturn(Stream.<Object[]>of(
+			new Object[] {5, 8, 4L}
+		).peek(row -> popularBookIndex.onBookStatusChanged(BookStatusChangedEvent.of(7, null, BookStatus.AVAILABLE))));
+
+		popularBookIndex.load();
+		borrow(7);
+
+		assertThat(popularBookIndex.top(8)).containsExactly(5, 7);
+		assertThat(popularBookIndex.getBorrowCount(7)).isEqualTo(1);
+	}
+}
@@ -20,6 +20,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import com.corp.bookiki.bookhistory.service.BookLeaderboardService;
 import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
 import com.corp.bookiki.bookitem.entity.BookItemEntity;
 import com.corp.bookiki.bookitem.repository.BookItemRepository;
@@ -53,6 +54,9 @@ class BookFavoriteServiceTest {
 	@Mock
 	private BookItemRepository bookItemRepository;
 
+	@Mock
+	private BookLeaderboardService bookLeaderboardService;
+
 	@Nested
 	@DisplayName("좋아요 토글 테스트")
 	class ToggleFavorite {
@@ -81,6 +85,7 @@ class BookFavoriteServiceTest {
 			assertThat(result).isEqualTo("좋아요 추가");
 			verify(favoriteRepository).saveAll(anyList());
 			verify(bookItemService).getBooksSameBookInformation(bookItemId);
+			verify(bookLeaderboardService).recordFavorite(100);
 		}
 
 		@Test
@@ -104,6 +109,51 @@ class BookFavoriteServiceTest {
 			verify(favoriteRepository).deleteByUserIdAndBookItemIdIn(userId, bookItemIds);
 			verify(bookItemService).getBooksIdSameBookInformation(bookItemId);
 		}
+
+		@Test
+		@DisplayName("좋아요를 켰다 끄면 같은 대표 도서 아이템 ID로 순위를 되돌림")
+		void toggleFavorite_Twice_ThenRevertsLeaderboard() {
+			// given
+			Integer userId = 2;
+			Integer bookItemId = 101;
+			LocalDateTime favoritedAt = LocalDateTime.now();
+			UserEntity user = createUser(userId);
+
+			given(favoriteRepository.existsByUserIdAndBookItemId(userId, bookItemId))
+				.willReturn(false, true);
+			given(userRepository.findById(userId))
+				.willReturn(Optional.of(user));
+			given(bookItemService.getBooksSameBookInformation(bookItemId))
+				.willReturn(List.of(createBookItem(101), createBookItem(100)));
+			given(bookItemService.getBooksIdSameBookInformation(bookItemId))
+				.willReturn(List.of(101, 100));
+			given(bookLeaderboardService.isEnabled()).willReturn(true);
+			given(favoriteRepository.findFavoritedAt(userId, List.of(101, 100)))
+				.willReturn(favoritedAt);
+
+			// when
+			bookFavoriteService.toggleFavorite(userId, bookItemId);
+			bookFavoriteService.toggleFavorite(userId, bookItemId);
+
+			// then
+			verify(bookLeaderboardService).recordFavorite(100);
+			verify(bookLeaderboardService).recordUnfavorite(100, favoritedAt);
+		}
+
+		@Test
+		@DisplayName("좋아요하지 않은 도서를 취소하면 순위를 바꾸지 않음")
+		void deleteFavorite_WhenNotFavorited_ThenLeaderboardUnchanged() {
+			// given
+			given(bookItemService.getBooksIdSameBookInformation(100)).willReturn(List.of(100));
+			given(bookLeaderboardService.isEnabled()).willReturn(true);
+			given(favoriteRepository.findFavoritedAt(2, List.of(100))).willReturn(null);
+
+			// when
+			bookFavoriteService.deleteFavorite(2, 100);
+
+			// then
+			verify(bookLeaderboardService, never()).recordUnfavorite(anyInt(), any());
+		}
 	}
 
 	@Test
@@ -3,11 +3,14 @@ package com.corp.bookiki.notification;
 import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
@@ -33,6 +36,9 @@ class NotificationRepositoryTest {
 	@Autowired
 	private UserRepository userRepository;
 
+	@Autowired
+	private TestEntityManager entityManager;
+
 	@Test
 	@DisplayName("사용자의 활성 알림 목록 조회 성공")
 	void findActiveNotificationsByUserId_Success() {
@@ -52,6 +58,32 @@ class NotificationRepositoryTest {
 		assertThat(notifications.getContent().get(0).getNotificationStatus()).isNotEqualTo(NotificationStatus.DELETE);
 	}
 
+	@Test
+	@DisplayName("커서 이후의 활성 알림을 최신 순으로 조회")
+	void findActiveNotificationsByUserIdBefore_Success() {
+		// given
+		UserEntity user = createAndSaveUser();
+		NotificationEntity first = createAndSaveNotification(user);
+		NotificationEntity second = createAndSaveNotification(user);
+		NotificationEntity third = createAndSaveNotification(user);
+		NotificationEntity deleted = createAndSaveNotification(user);
+		deleted.delete();
+		// 커서 값은 DB에 저장된 정밀도의 생성 일시로 만들어지므로 다시 조회함
+		entityManager.flush();
+		entityManager.clear();
+
+		// when
+		List<NotificationEntity> firstPage = notificationRepository.findActiveNotificationsByUserIdBefore(
+			user.getId(), null, null, Limit.of(2));
+		NotificationEntity last = firstPage.get(firstPage.size() - 1);
+		List<NotificationEntity> nextPage = notificationRepository.findActiveNotificationsByUserIdBefore(
+			user.getId(), last.getCreatedAt(), last.getId(), Limit.of(2));
+
+		// then
+		assertThat(firstPage).extracting(NotificationEntity::getId).containsExactly(third.getId(), second.getId());
+		assertThat(nextPage).extracting(NotificationEntity::getId).containsExactly(first.getId());
+	}
+
 	private UserEntity createAndSaveUser() {
 		UserEntity user = UserEntity.builder()
 			.email("test@example.com")
@@ -0,0 +1,130 @@
+package com.corp.bookiki.recommendation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.corp.bookiki.bookhistory.repository.BookHistoryRepository;
+import com.corp.bookiki.bookinformation.entity.BookInformationEntity;
+import com.corp.bookiki.bookitem.entity.BookItemEntity;
+import com.corp.bookiki.recommendation.service.CoBorrowIndex;
+
+@ExtendWith(MockitoExtension.class)
+class CoBorrowIndexTest {
+
+	@InjectMocks
+	private CoBorrowIndex coBorrowIndex;
+
+	@Mock
+	private BookHistoryRepository bookHistoryRepository;
+
+	private static final LocalDate START_DATE = LocalDate.of(2026, 9, 17);
+	private static final LocalDate END_DATE = LocalDate.of(2026, 10, 17);
+
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(coBorrowIndex, "historyDays", 365);
+		ReflectionTestUtils.setField(coBorrowIndex, "neighbourCount", 20);
+		ReflectionTestUtils.setField(coBorrowIndex, "minCoCount", 2);
+		ReflectionTestUtils.setField(coBorrowIndex, "maxTitlesPerUser", 200);
+		ReflectionTestUtils.setField(coBorrowIndex, "seedTitles", 5);
+	}
+
+	// 사용자 1, 2는 10, 20, 30 / 사용자 3은 10, 20 / 사용자 4는 10 / 사용자 5는 20, 40
+	private void load() {
+		given(bookHistoryRepository.streamUserIdAndBookInformationIdSince(any(LocalDateTime.class)))
+			.willReturn(Stream.of(
+				new Object[] {1, 10}, new Object[] {1, 20}, new Object[] {1, 30},
+				new Object[] {2, 10}, new Object[] {2, 20}, new Object[] {2, 30},
+				new Object[] {3, 10}, new Object[] {3, 20},
+				new Object[] {4, 10},
+				new Object[] {5, 20}, new Object[] {5, 40}, new Object[] {5, 40}
+			));
+		coBorrowIndex.load();
+	}
+
+	// 사용자가 기간 안에 대출한 도서 정보 ID (최근 대출 순)
+	private int[] recommendForUser(int userId, List<Integer> borrowedInPeriod) {
+		given(bookHistoryRepository.findRecentBookInformationIdsForUser(eq(userId), any(LocalDateTime.class),
+			any(LocalDateTime.class), any())).willReturn(borrowedInPeriod);
+		return coBorrowIndex.recommendForUser(userId, START_DATE, END_DATE, 5);
+	}
+
+	private BookItemEntity createBookItem(int bookItemId, int bookInformationId) {
+		BookInformationEntity bookInformation = BookInformationEntity.builder()
+			.title("테스트 도서")
+			.build();
+		ReflectionTestUtils.setField(bookInformation, "id", bookInformationId);
+		BookItemEntity bookItem = BookItemEntity.builder()
+			.bookInformation(bookInformation)
+			.build();
+		ReflectionTestUtils.setField(bookItem, "id", bookItemId);
+		return bookItem;
+	}
+
+	@Test
+	@DisplayName("함께 대출한 사용자 수가 기준 이상인 도서를 유사도 순으로 이웃으로 둠")
+	void load_BuildsNeighbours() {
+		load();
+
+		assertThat(coBorrowIndex.isReady()).isTrue();
+		assertThat(coBorrowIndex.findNeighbours(10, 5)).containsExactly(20, 30);
+		assertThat(coBorrowIndex.findNeighbours(20, 1)).containsExactly(10);
+		// 한 명만 함께 대출한 도서는 제외
+		assertThat(coBorrowIndex.findNeighbours(40, 5)).isEmpty();
+		assertThat(coBorrowIndex.findNeighbours(9999, 5)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("기간 안에 대출한 도서의 이웃 중 아직 대출하지 않은 도서를 추천")
+	void recommendForUser_ExcludesBorrowedTitles() {
+		load();
+
+		assertThat(recommendForUser(4, List.of(10))).containsExactly(20, 30);
+		assertThat(recommendForUser(3, List.of(20, 10))).containsExactly(30);
+		assertThat(recommendForUser(1, List.of(30, 20, 10))).isEmpty();
+		// 색인에 없는 사용자도 기간 안의 대출 도서로 추천
+		assertThat(recommendForUser(100, List.of(10))).containsExactly(20, 30);
+	}
+
+	@Test
+	@DisplayName("기간 안에 대출한 도서만 추천 기준으로 사용하고, 없으면 추천하지 않음")
+	void recommendForUser_UsesOnlyTitlesInPeriod() {
+		load();
+
+		// 사용자 3은 10, 20을 대출했지만 기간 안에는 대출하지 않음
+		assertThat(recommendForUser(3, List.of())).isEmpty();
+		verify(bookHistoryRepository).findRecentBookInformationIdsForUser(eq(3),
+			eq(START_DATE.atStartOfDay()), eq(END_DATE.atTime(23, 59, 59)), any());
+	}
+
+	@Test
+	@DisplayName("대출될 때마다 사용자의 도서들과 짝지어 이웃을 갱신")
+	void recordBorrow_UpdatesNeighbours() {
+		load();
+
+		coBorrowIndex.recordBorrow(4, createBookItem(100, 40));
+		coBorrowIndex.recordBorrow(3, createBookItem(101, 40));
+		// 같은 사용자가 같은 도서를 다시 대출해도 한 번으로 셈
+		coBorrowIndex.recordBorrow(3, createBookItem(102, 40));
+
+		assertThat(coBorrowIndex.findNeighbours(40, 5)).containsExactly(10, 20);
+		assertThat(coBorrowIndex.findNeighbours(10, 5)).contains(40);
+		assertThat(recommendForUser(4, List.of(40, 10))).contains(20);
+	}
+}
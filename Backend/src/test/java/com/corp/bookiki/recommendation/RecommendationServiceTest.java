@@ -0,0 +1,132 @@
+package com.corp.bookiki.recommendation;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.corp.bookiki.bookhistory.service.BookHistoryService;
+import com.corp.bookiki.bookitem.dto.BookItemListResponse;
+import com.corp.bookiki.bookitem.service.BookItemService;
+import com.corp.bookiki.recommendation.dto.RecommendationRequest;
+import com.corp.bookiki.recommendation.dto.RecommendationResponse;
+import com.corp.bookiki.recommendation.dto.RecommendedBook;
+import com.corp.bookiki.recommendation.service.CoBorrowIndex;
+import com.corp.bookiki.recommendation.service.GeminiService;
+import com.corp.bookiki.recommendation.service.RecommendationService;
+
+@ExtendWith(MockitoExtension.class)
+class RecommendationServiceTest {
+
+	@InjectMocks
+	private RecommendationService recommendationService;
+
+	@Mock
+	private BookItemService bookItemService;
+
+	@Mock
+	private GeminiService geminiService;
+
+	@Mock
+	private BookHistoryService bookHistoryService;
+
+	@Mock
+	private CoBorrowIndex coBorrowIndex;
+
+	private BookItemListResponse createBook(int id, String title) {
+		BookItemListResponse book = new BookItemListResponse();
+		book.setId(id);
+		book.setTitle(title);
+		book.setAuthor("테스트 저자");
+		return book;
+	}
+
+	@Test
+	@DisplayName("함께 대출된 도서로 추천 개수를 채우면 Gemini와 인기 도서를 조회하지 않음")
+	void getRecommendations_WhenCoBorrowSuffices_ThenNoGemini() {
+		// given
+		ReflectionTestUtils.setField(recommendationService, "geminiEnabled", true);
+		given(coBorrowIndex.isReady()).willReturn(true);
+		given(coBorrowIndex.recommendForUser(eq(1), any(), any(), eq(15))).willReturn(new int[] {10, 20, 30, 40, 50});
+		given(bookItemService.getAvailableBooksByBookInformationIds(new int[] {10, 20, 30, 40, 50}, 5))
+			.willReturn(List.of(createBook(1, "가"), createBook(2, "나"), createBook(3, "다"),
+				createBook(4, "라"), createBook(5, "마")));
+
+		RecommendationRequest request = new RecommendationRequest();
+
+		// when
+		RecommendationResponse response = recommendationService.getRecommendations(1, request);
+
+		// then
+		assertThat(response.getRecommendations()).extracting(RecommendedBook::getBookItemId)
+			.containsExactly(1, 2, 3, 4, 5);
+		// 요청 기간에 대출한 도서를 기준으로 추천
+		verify(coBorrowIndex).recommendForUser(1, request.getStartDate(), request.getEndDate(), 15);
+		assertThat(response.getRecommendationReason()).isEqualTo("함께 대출된 도서 기반 추천");
+		verifyNoInteractions(geminiService, bookHistoryService);
+		verify(bookItemService, never()).getPopularBooksByCategory(any(), anyInt());
+	}
+
+	@Test
+	@DisplayName("함께 대출된 도서가 부족하고 Gemini를 사용하지 않으면 겹치지 않는 인기 도서로 채움")
+	void getRecommendations_WhenCoBorrowShort_ThenFillsWithPopular() {
+		// given
+		given(coBorrowIndex.isReady()).willReturn(true);
+		given(coBorrowIndex.recommendForUser(eq(1), any(), any(), eq(15))).willReturn(new int[] {10});
+		given(bookItemService.getAvailableBooksByBookInformationIds(new int[] {10}, 5))
+			.willReturn(List.of(createBook(1, "가")));
+		given(bookItemService.getPopularBooksByCategory(null, 5))
+			.willReturn(List.of(createBook(1, "가"), createBook(7, "가"), createBook(8, "나")));
+
+		// when
+		RecommendationResponse response = recommendationService.getRecommendations(1, new RecommendationRequest());
+
+		// then
+		assertThat(response.getRecommendations()).extracting(RecommendedBook::getBookItemId)
+			.containsExactly(1, 8);
+		assertThat(response.getRecommendationReason()).isEqualTo("함께 대출된 도서 기반 추천");
+		verifyNoInteractions(geminiService);
+	}
+
+	@Test
+	@DisplayName("색인이 준비되지 않았으면 인기 도서로 추천")
+	void getRecommendations_WhenIndexNotReady_ThenPopular() {
+		// given
+		given(coBorrowIndex.isReady()).willReturn(false);
+		given(bookItemService.getPopularBooksByCategory(null, 5))
+			.willReturn(List.of(createBook(8, "나")));
+
+		// when
+		RecommendationResponse response = recommendationService.getRecommendations(1, new RecommendationRequest());
+
+		// then
+		assertThat(response.getRecommendations()).extracting(RecommendedBook::getBookItemId).containsExactly(8);
+		assertThat(response.getRecommendationReason()).isEqualTo("인기 도서 기반 추천");
+	}
+
+	@Test
+	@DisplayName("책을 대출한 사용자가 함께 대출한 도서 조회")
+	void getCoBorrowedBooks_Success() {
+		// given
+		given(bookItemService.getBookInformationId(100)).willReturn(10);
+		given(coBorrowIndex.findNeighbours(10, 15)).willReturn(new int[] {20, 30});
+		given(bookItemService.getAvailableBooksByBookInformationIds(new int[] {20, 30}, 5))
+			.willReturn(List.of(createBook(2, "나"), createBook(3, "다")));
+
+		// when
+		RecommendationResponse response = recommendationService.getCoBorrowedBooks(100, 5);
+
+		// then
+		assertThat(response.getRecommendations()).extracting(RecommendedBook::getBookItemId).containsExactly(2, 3);
+	}
+}
@@ -2,6 +2,7 @@
 import time
 import requests
 import json
+import os
 import base64
 import uuid
 import numpy as np
@@ -14,6 +15,50 @@ from pyzbar.pyzbar import decode
 IMAGE_API_URL = "http://i12a206.p.ssafy.io:8088/api/iot-storage"
 POST_API_URL = "http://i12a206.p.ssafy.io:8088/api/books/return/scan"  # 실제 API URL로 변경
 
+# 바이너리 형식(application/x-bookiki-scan) 전송 여부 (기본: JSON)
+USE_BINARY_PAYLOAD = os.environ.get("BOOKIKI_BINARY_PAYLOAD", "false").lower() == "true"
+STATION_ID = os.environ.get("BOOKIKI_STATION_ID", "")
+
+
+def _varint(value):
+    out = bytearray()
+    value &= 0xFFFFFFFF
+    while value & ~0x7F:
+        out.append((value & 0x7F) | 0x80)
+        value >>= 7
+    out.append(value)
+    return out
+
+
+def _zigzag(value):
+    return ((value << 1) ^ (value >> 31)) & 0xFFFFFFFF
+
+
+def _string(text):
+    data = (text or "").encode("utf-8")
+    return _varint(len(data)) + data
+
+
+def encode_scan_payload(station_id, shelf_book_items_map, ocr_results):
+    """서버 ScanPayloadCodec 형식으로 인코딩 (0번 책장 값은 카메라 상태)"""
+    out = bytearray(b"BK\x01")
+    out += _string(station_id)
+    out += _varint(shelf_book_items_map.get("0", [0])[0])
+    shelves = [(int(k), v) for k, v in shelf_book_items_map.items() if k != "0"]
+    out += _varint(len(shelves))
+    for shelf_id, book_ids in shelves:
+        out += _varint(shelf_id)
+        out += _varint(len(book_ids))
+        previous = 0
+        for book_id in sorted(book_ids):
+            out += _varint(_zigzag(book_id - previous))
+            previous = book_id
+    out += _varint(len(ocr_results))
+    for text in ocr_results:
+        out += _string(text)
+    return bytes(out)
+
+
 # YOLO 모델 로드
 model = YOLO("yolov8m.pt")  # 로컬에 yolov8m.pt가 있다고 가정
 
@@ -239,10 +284,18 @@ while True:
             "shelfBookItemsMap": shelfBookItemsMap  # 3개의  그룹화된 QR 코드 ID
         }
 
-        headers = {"Content-Type": "application/json"}
-        post_resp = requests.post(POST_API_URL, headers=headers, data=json.dumps(post_data))
-
-        if post_resp.status_code == 200:
+        if USE_BINARY_PAYLOAD:
+            headers = {"Content-Type": "application/x-bookiki-scan"}
+            body = encode_scan_payload(STATION_ID, shelfBookItemsMap, spine_ocr_list)
+        else:
+            headers = {"Content-Type": "application/json"}
+            if STATION_ID:
+                post_data["stationId"] = STATION_ID
+            body = json.dumps(post_data)
+        post_resp = requests.post(POST_API_URL, headers=headers, data=body)
+
+        # 서버는 스캔 결과를 큐에 등록한 뒤 202(Accepted)로 응답
+        if post_resp.status_code in (200, 202):
             print("데이터 전송 성공")
         else:
             print("데이터 전송 실패")
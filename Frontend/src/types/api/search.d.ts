@@ -1,4 +1,4 @@
-export type SearchType = 'TITLE' | 'AUTHOR' | 'PUBLISHER';
+export type SearchType = 'TITLE' | 'AUTHOR' | 'PUBLISHER' | 'CHOSUNG';
 
 export interface BookSearchResponse {
   content: BookItem[];
@@ -10,4 +10,5 @@ export interface PageResponse<T> {
     content: T[];  // 실제 데이터 배열
     totalElements: number;  // 전체 데이터 수
     totalPages: number;     // 전체 페이지 수
+    totalApproximate?: boolean;  // 전체 수가 캐시/추정 값인지 여부
 }
\ No newline at end of file
@@ -2,5 +2,6 @@ export enum SearchType {
     TITLE="TITLE",
     AUTHOR="AUTHOR",
     PUBLISHER="PUBLISHER",
-    KEYWORD="KEYWORD"
+    KEYWORD="KEYWORD",
+    CHOSUNG="CHOSUNG"
 }
\ No newline at end of file